@@ -5,6 +5,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
@@ -17,7 +18,20 @@ public @interface RedissonLock {
   RedissonLockKeyType key();
 
   /**
-   * key의 생성값으로 넘겨줄 parameter의 이름을 넣으면 됩니다.
+   * key의 생성값을 SpEL 로 넣으면 됩니다. (ex. "#userId", "#request.meetingId")
+   * 메서드마다 처음 호출될 때 한 번만 해석합니다.
    */
   String value();
+
+  /**
+   * 락을 얻기 위해 기다리는 시간
+   */
+  long waitTime() default 10;
+
+  /**
+   * 락을 얻은 뒤 자동으로 풀리기까지의 시간 (redis 모드에서만 적용)
+   */
+  long leaseTime() default 10;
+
+  TimeUnit timeUnit() default TimeUnit.SECONDS;
 }
@@ -1,6 +1,24 @@
 package com.zerobase.babdeusilbun.annotation;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 락 key 종류 (key 앞에 붙는 prefix 로 구분)
+ */
+@Getter
+@RequiredArgsConstructor
 public enum RedissonLockKeyType {
 
-  PAYMENT
+  PAYMENT("payment:"),
+  MEETING("meeting:"),
+  PURCHASE("purchase:"),
+  STORE("store:"),
+  CHAT_ROOM("chatRoom:");
+
+  private final String prefix;
+
+  public String getKey(Object value) {
+    return prefix + value;
+  }
 }
@@ -1,69 +1,198 @@
 package com.zerobase.babdeusilbun.aspect;
 
 import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
-import static com.zerobase.babdeusilbun.util.RedissonLockUtil.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
-import com.zerobase.babdeusilbun.annotation.RedissonLockKeyType;
 import com.zerobase.babdeusilbun.annotation.RedissonLock;
+import com.zerobase.babdeusilbun.annotation.RedissonLockKeyType;
 import com.zerobase.babdeusilbun.exception.CustomException;
-import java.util.Objects;
-import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 
-@Component
+/**
+ * @RedissonLock 이 붙은 메서드를 락을 얻은 뒤 실행
+ * key 식은 메서드마다 처음 호출될 때 한 번만 해석해 두고, 파라미터를 그대로 쓰는 "#이름" 형태는 SpEL 평가 없이 인자를 바로 사용한다.
+ * 먼저 기다리지 않고 락을 시도하므로 경합이 없으면 Redis 요청 한 번으로 끝난다.
+ * lock.mode 가 local 이면 Redis 대신 서버 메모리의 락(key hash 로 고른 ReentrantLock)을 사용한다. (단일 서버에서만 사용)
+ * 트랜잭션보다 바깥에서 실행되어 커밋이 끝난 뒤 락을 푼다.
+ *
+ * 측정값 (tag: key 종류, mode)
+ * lock.wait: 락을 얻기까지 걸린 시간 (result: acquired / timeout)
+ * lock.hold: 락을 쥐고 있던 시간
+ * lock.contended: 바로 얻지 못하고 기다린 횟수
+ */
+@Slf4j
 @Aspect
-@RequiredArgsConstructor
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
 public class RedissonLockAspect {
 
+  private static final Pattern PARAMETER_REFERENCE = Pattern.compile("#(\\w+)");
+
   private final RedissonClient redissonClient;
+  private final boolean local;
+  private final ReentrantLock[] stripes;
+
+  private final ExpressionParser parser = new SpelExpressionParser(
+      new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()));
+  private final ParameterNameDiscoverer parameterNameDiscoverer =
+      new DefaultParameterNameDiscoverer();
+
+  private final Map<Method, LockKey> lockKeys = new ConcurrentHashMap<>();
+  private final Map<RedissonLockKeyType, LockMeters> meters =
+      new EnumMap<>(RedissonLockKeyType.class);
+
+  @Autowired
+  public RedissonLockAspect(RedissonClient redissonClient, MeterRegistry meterRegistry,
+      @Value("${lock.mode:redis}") String mode,
+      @Value("${lock.local-stripes:1024}") int localStripes) {
+    this.redissonClient = redissonClient;
+    this.local = "local".equals(mode);
+
+    this.stripes = new ReentrantLock[local ? localStripes : 0];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+
+    for (RedissonLockKeyType type : RedissonLockKeyType.values()) {
+      meters.put(type, LockMeters.of(meterRegistry, type, local ? "local" : "redis"));
+    }
+  }
 
   @Around("@annotation(redissonLock)")
   public Object handleRedissonLockAnnotation(
       ProceedingJoinPoint joinPoint, RedissonLock redissonLock
   ) throws Throwable {
 
-    // 메서드의 파라미터 이름
-    String[] parameterNames = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
-    // 각 파라미터 별 인자
-    Object[] args = joinPoint.getArgs();
-
-    // value로 넘어온 이름의 파라미터 찾음
-    String parameterValue = null;
-    for (int i = 0; i < parameterNames.length; i++) {
-      if (parameterNames[i].equals(redissonLock.value())) {
-        parameterValue = args[i].toString();
-        break;
-      }
+    Object value = getLockKey(joinPoint, redissonLock).resolve(joinPoint.getArgs());
+    validateKeyValue(value);
+
+    String key = redissonLock.key().getKey(value);
+    LockMeters lockMeters = meters.get(redissonLock.key());
+    Lock lock = local ? stripe(key) : redissonClient.getLock(key);
+
+    long waitMillis = redissonLock.timeUnit().toMillis(redissonLock.waitTime());
+    long leaseMillis = redissonLock.timeUnit().toMillis(redissonLock.leaseTime());
+
+    long startedAt = System.nanoTime();
+    boolean isLocked = tryLock(lock, 0, leaseMillis);
+    if (!isLocked) {
+      lockMeters.contended().increment();
+      isLocked = tryLock(lock, waitMillis, leaseMillis);
     }
-    validateParameterValue(parameterValue);
+    long lockedAt = System.nanoTime();
 
-    RLock lock = redissonClient.getLock(getRedissonKey(redissonLock.key(), parameterValue));
+    (isLocked ? lockMeters.acquired() : lockMeters.timeout())
+        .record(lockedAt - startedAt, NANOSECONDS);
+    validateLockTimeout(isLocked);
 
     try {
-      boolean isLocked = lock.tryLock(10, 10, TimeUnit.SECONDS);
+      return joinPoint.proceed();
 
-      validateLockTimeout(isLocked);
+    } finally {
+      unlock(lock, key);
+      lockMeters.hold().record(System.nanoTime() - lockedAt, NANOSECONDS);
+    }
+  }
 
-      return joinPoint.proceed();
+  private LockKey getLockKey(ProceedingJoinPoint joinPoint, RedissonLock redissonLock) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
 
-    } catch (RuntimeException | InterruptedException e) {
-      throw new RuntimeException(e);
+    LockKey lockKey = lockKeys.get(method);
+    if (lockKey != null) {
+      return lockKey;
+    }
+    return lockKeys.computeIfAbsent(method, m -> compile(m, redissonLock.value()));
+  }
 
-    } finally {
+  // key 식 해석 (메서드당 한 번)
+  private LockKey compile(Method method, String value) {
+    String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+    if (parameterNames == null) {
+      throw new IllegalStateException("parameter names are not available. method: " + method);
+    }
+
+    Matcher matcher = PARAMETER_REFERENCE.matcher(value);
+    if (matcher.matches()) {
+      int index = Arrays.asList(parameterNames).indexOf(matcher.group(1));
+      if (index >= 0) {
+        return args -> args[index];
+      }
+    }
+
+    Expression expression = parser.parseExpression(value);
+    return args -> {
+      EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding()
+          .withInstanceMethods()
+          .build();
+      for (int i = 0; i < parameterNames.length; i++) {
+        context.setVariable(parameterNames[i], args[i]);
+      }
+      return expression.getValue(context);
+    };
+  }
+
+  private Lock stripe(String key) {
+    return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+  }
+
+  private boolean tryLock(Lock lock, long waitMillis, long leaseMillis) {
+    try {
+      if (lock instanceof RLock rLock) {
+        return rLock.tryLock(waitMillis, leaseMillis, MILLISECONDS);
+      }
+      return lock.tryLock(waitMillis, MILLISECONDS);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(REDISSON_LOCK_FAIL_OBTAIN);
+    }
+  }
+
+  private void unlock(Lock lock, String key) {
+    try {
       lock.unlock();
+    } catch (IllegalMonitorStateException e) {
+      // lease time 이 지나 이미 풀린 경우
+      log.warn("lock was released before the method finished. key: {}", key);
     }
   }
 
   // 파라미터로 넘어온 값이 올바른지 확인
-  private void validateParameterValue(String parameterValue) {
-    if (parameterValue == null) {
+  private void validateKeyValue(Object value) {
+    if (value == null) {
       throw new CustomException(REDISSON_LOCK_FAIL_OBTAIN);
     }
   }
@@ -75,14 +204,24 @@ public class RedissonLockAspect {
     }
   }
 
-  private String getRedissonKey(RedissonLockKeyType redissonLockKeyType, String parameterValue) {
+  @FunctionalInterface
+  private interface LockKey {
 
-    if (Objects.requireNonNull(redissonLockKeyType) == RedissonLockKeyType.PAYMENT) {
-      return getPaymentLockKey(parameterValue);
-    }
-
-    throw new CustomException(REDISSON_LOCK_FAIL_OBTAIN);
+    Object resolve(Object[] args);
   }
 
-
+  private record LockMeters(Timer acquired, Timer timeout, Timer hold, Counter contended) {
+
+    static LockMeters of(MeterRegistry registry, RedissonLockKeyType type, String mode) {
+      return new LockMeters(
+          Timer.builder("lock.wait").tag("key", type.name()).tag("mode", mode)
+              .tag("result", "acquired").register(registry),
+          Timer.builder("lock.wait").tag("key", type.name()).tag("mode", mode)
+              .tag("result", "timeout").register(registry),
+          Timer.builder("lock.hold").tag("key", type.name()).tag("mode", mode)
+              .register(registry),
+          Counter.builder("lock.contended").tag("key", type.name()).tag("mode", mode)
+              .register(registry));
+    }
+  }
 }
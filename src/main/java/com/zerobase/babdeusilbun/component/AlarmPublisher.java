@@ -0,0 +1,39 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.domain.AlarmOutbox;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import com.zerobase.babdeusilbun.repository.AlarmOutboxRepository;
+import com.zerobase.babdeusilbun.util.JsonUtility;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 발행
+ * 호출한 트랜잭션 안에서 알림 묶음을 아웃박스 한 행으로 저장하고 (커밋되어야만 발송된다)
+ * 실제 알림 테이블 저장과 웹소켓 전송은 AlarmDispatcher 가 비동기로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class AlarmPublisher {
+
+  private final AlarmOutboxRepository alarmOutboxRepository;
+  private final ObjectMapper objectMapper;
+
+  public void publish(List<AlarmDto.Message> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    alarmOutboxRepository.save(
+        AlarmOutbox.builder()
+            .payload(JsonUtility.write(objectMapper, messages))
+            .build()
+    );
+  }
+
+}
@@ -0,0 +1,104 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.zerobase.babdeusilbun.domain.IndividualPurchase;
+import com.zerobase.babdeusilbun.domain.Purchase;
+import com.zerobase.babdeusilbun.domain.TeamPurchase;
+import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장바구니 합계 (메뉴 수, paymentPrice 합계, 첫 메뉴 이름)
+ * 공동 주문은 모임에, 개별 주문은 주문과 모임(모임 전체 합계)에 누적해 두고
+ * 결제 요청, 장바구니 조회에서는 메뉴를 불러와 다시 계산하지 않고 그대로 읽는다.
+ * 현재 값을 읽지 않고 증감하는 UPDATE 한 문장으로 반영하므로 동시에 담아도 합계가 어긋나지 않는다.
+ * 합계 컬럼이 추가되기 전에 담긴 장바구니는 시작할 때 한 번 채운다.
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class CartTotals {
+
+  private final MeetingRepository meetingRepository;
+  private final PurchaseRepository purchaseRepository;
+
+  // 메뉴가 있는데 합계가 0 인 장바구니만 다시 계산 (채운 뒤에는 해당 행이 없어 아무것도 바꾸지 않음)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int purchases = purchaseRepository.backfillCartTotals();
+    int teamMeetings = meetingRepository.backfillTeamCartTotals();
+    int individualMeetings = meetingRepository.backfillIndividualCartTotals();
+
+    if (purchases + teamMeetings + individualMeetings > 0) {
+      log.info("cart totals backfilled. purchase -> {}, meeting(team) -> {}, meeting(individual) -> {}",
+          purchases, teamMeetings, individualMeetings);
+    }
+  }
+
+  public void addTeamItem(TeamPurchase teamPurchase) {
+    meetingRepository.addTeamCartTotal(teamPurchase.getMeeting().getId(),
+        1, teamPurchase.getPaymentPrice(), teamPurchase.getMenu().getName());
+  }
+
+  /**
+   * 수량 변경 (previousPrice: 변경 전 paymentPrice)
+   */
+  public void changeTeamItem(TeamPurchase teamPurchase, long previousPrice) {
+    long difference = teamPurchase.getPaymentPrice() - previousPrice;
+    if (difference != 0) {
+      meetingRepository.addTeamCartTotal(teamPurchase.getMeeting().getId(), 0, difference, null);
+    }
+  }
+
+  /**
+   * 삭제 (공동 주문이 삭제된 뒤 호출)
+   */
+  public void removeTeamItem(TeamPurchase teamPurchase) {
+    Long meetingId = teamPurchase.getMeeting().getId();
+
+    meetingRepository.addTeamCartTotal(meetingId, -1, -teamPurchase.getPaymentPrice(), null);
+    meetingRepository.refreshTeamFirstItemName(meetingId);
+  }
+
+  public void addIndividualItem(IndividualPurchase individualPurchase) {
+    Purchase purchase = individualPurchase.getPurchase();
+
+    purchaseRepository.addCartTotal(purchase.getId(),
+        1, individualPurchase.getPaymentPrice(), individualPurchase.getMenu().getName());
+    meetingRepository.addIndividualCartTotal(purchase.getMeeting().getId(),
+        individualPurchase.getPaymentPrice());
+  }
+
+  /**
+   * 수량 변경 (previousPrice: 변경 전 paymentPrice)
+   */
+  public void changeIndividualItem(IndividualPurchase individualPurchase, long previousPrice) {
+    long difference = individualPurchase.getPaymentPrice() - previousPrice;
+    if (difference == 0) {
+      return;
+    }
+
+    Purchase purchase = individualPurchase.getPurchase();
+    purchaseRepository.addCartTotal(purchase.getId(), 0, difference, null);
+    meetingRepository.addIndividualCartTotal(purchase.getMeeting().getId(), difference);
+  }
+
+  /**
+   * 삭제 (개별 주문이 삭제된 뒤 호출)
+   */
+  public void removeIndividualItem(IndividualPurchase individualPurchase) {
+    Purchase purchase = individualPurchase.getPurchase();
+
+    purchaseRepository.addCartTotal(purchase.getId(),
+        -1, -individualPurchase.getPaymentPrice(), null);
+    purchaseRepository.refreshFirstItemName(purchase.getId());
+    meetingRepository.addIndividualCartTotal(purchase.getMeeting().getId(),
+        -individualPurchase.getPaymentPrice());
+  }
+}
@@ -0,0 +1,225 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.CHATROOM_NOT_FOUND;
+import static com.zerobase.babdeusilbun.util.TransactionUtility.afterCommit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.ChatDto.Member;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.ChatRoomMemberRepository;
+import com.zerobase.babdeusilbun.repository.ChatRoomRepository;
+import com.zerobase.babdeusilbun.util.JsonUtility;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참여자 목록
+ * Redis hash (chatRoom:members:{채팅방 id}, field: 회원 id, value: 참여자 json) 에 저장하고
+ * 서버마다 메모리에 복사본을 둔다. 채팅 전송 시 권한 확인은 조회 쿼리 없이 이 목록으로 한다.
+ * 입장/퇴장 시 Redis 목록을 지우고 다른 서버의 복사본은 pub/sub 으로 제거한다.
+ * 복사본은 local-ttl-ms 가 지나면 다시 불러오고 (채널 메시지 유실 대비), local-size 를 넘으면 가장 오래 조회하지 않은 채팅방부터 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembership {
+
+  private static final String MEMBERS_KEY_PREFIX = "chatRoom:members:";
+  private static final String MEMBERS_CHANNEL = "chatRoom:members:channel";
+  private static final String VERSION_KEY_PREFIX = "chatRoom:members:version:";
+
+  // DB 에서 불러온 적이 있는 채팅방 표시 (참여자가 없는 채팅방 구분)
+  private static final String LOADED_FIELD = "loaded";
+
+  // 이미 불러온 채팅방만 갱신 (불러오기 전이면 다음 조회 때 DB 에서 불러옴)
+  private static final RedisScript<Long> PUT_IF_LOADED = new DefaultRedisScript<>(
+      "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then "
+          + "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) return 1 end return 0", Long.class);
+
+  private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+      "redis.call('DEL', KEYS[1]) return redis.call('INCR', KEYS[2])", Long.class);
+
+  // 불러오기 시작할 때의 세대 번호와 같을 때만 저장 (그 사이 입장/퇴장이 있었으면 저장하지 않음)
+  private static final RedisScript<Long> PUT_ALL_IF_VERSION = new DefaultRedisScript<>(
+      "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+          + "redis.call('HSET', KEYS[1], unpack(ARGV, 3)) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) return 1", Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ChatRoomMemberRepository chatRoomMemberRepository;
+  private final ChatRoomRepository chatRoomRepository;
+  private final ObjectMapper objectMapper;
+
+  @Value("${chat.membership.local-size:10000}")
+  private int maxLocalSize;
+
+  @Value("${chat.membership.ttl-seconds:86400}")
+  private long ttlSeconds;
+
+  @Value("${chat.membership.local-ttl-ms:30000}")
+  private long localTtlMs;
+
+  // 조회 순서 (access order) 로 유지해 가득 차면 가장 오래 조회하지 않은 채팅방부터 제거
+  private final Map<Long, LocalRoom> rooms = Collections.synchronizedMap(
+      new LinkedHashMap<Long, LocalRoom>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalRoom> eldest) {
+          return size() > maxLocalSize;
+        }
+      });
+
+  // 이 서버에서 복사본을 제거한 횟수 (불러오는 동안 제거되었으면 복사본을 두지 않음)
+  private final AtomicLong evictions = new AtomicLong();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> evictLocal(
+            Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(MEMBERS_CHANNEL));
+  }
+
+  public Optional<Member> getMember(Long chatRoomId, Long userId) {
+    return Optional.ofNullable(getMembers(chatRoomId).get(userId));
+  }
+
+  public boolean isMember(Long chatRoomId, Long userId) {
+    return getMembers(chatRoomId).containsKey(userId);
+  }
+
+  /**
+   * 입장/퇴장 반영 (트랜잭션 안이면 커밋 후)
+   * Redis 목록을 지우고 세대 번호를 올려, 다음 조회 때 커밋된 DB 에서 다시 불러오도록 한다.
+   * 커밋 전에 DB 를 읽은 조회는 세대 번호가 달라 Redis 에 저장하지 못한다.
+   */
+  public void invalidate(Long chatRoomId) {
+    afterCommit(() -> {
+      stringRedisTemplate.execute(INVALIDATE,
+          List.of(membersKey(chatRoomId), versionKey(chatRoomId)));
+      publish(chatRoomId);
+    });
+  }
+
+  /**
+   * 회원 정보 (닉네임, 프로필 이미지) 변경 반영
+   */
+  public void refreshMember(User user) {
+    List<Long> chatRoomIds = chatRoomMemberRepository.findChatRoomIdsByUserId(user.getId());
+
+    afterCommit(() -> chatRoomIds.forEach(chatRoomId -> {
+      Object value = stringRedisTemplate.opsForHash()
+          .get(membersKey(chatRoomId), String.valueOf(user.getId()));
+      if (value != null) {
+        Member member = JsonUtility.read(objectMapper, (String) value, Member.class);
+        member.setNickname(user.getNickname());
+        member.setProfileImage(user.getImage());
+        put(chatRoomId, member);
+      }
+    }));
+  }
+
+  private Map<Long, Member> getMembers(Long chatRoomId) {
+    long now = System.currentTimeMillis();
+
+    LocalRoom room = rooms.get(chatRoomId);
+    if (room != null && room.expiresAt() > now) {
+      return room.members();
+    }
+
+    long evicted = evictions.get();
+    String version = stringRedisTemplate.opsForValue().get(versionKey(chatRoomId));
+    Map<Long, Member> members = loadMembers(chatRoomId, version);
+
+    // 불러오는 동안 입장/퇴장이 있었으면 (세대 번호 변경, 복사본 제거) 이전 목록일 수 있으므로 이번 조회에만 사용
+    if (evicted == evictions.get()
+        && Objects.equals(version, stringRedisTemplate.opsForValue().get(versionKey(chatRoomId)))) {
+      rooms.put(chatRoomId, new LocalRoom(members, now + localTtlMs));
+    }
+    return members;
+  }
+
+  private Map<Long, Member> loadMembers(Long chatRoomId, String version) {
+    String key = membersKey(chatRoomId);
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+
+    Map<Long, Member> members = new ConcurrentHashMap<>();
+    if (entries.containsKey(LOADED_FIELD)) {
+      entries.forEach((field, value) -> {
+        if (!LOADED_FIELD.equals(field)) {
+          members.put(Long.valueOf((String) field),
+              JsonUtility.read(objectMapper, (String) value, Member.class));
+        }
+      });
+      return members;
+    }
+
+    if (!chatRoomRepository.existsById(chatRoomId)) {
+      throw new CustomException(CHATROOM_NOT_FOUND);
+    }
+
+    // 세대 번호, ttl, field, value, field, value ...
+    List<String> args = new ArrayList<>(List.of(
+        version == null ? "0" : version, String.valueOf(ttlSeconds), LOADED_FIELD, "1"));
+    chatRoomMemberRepository.findMembersByChatRoomId(chatRoomId).stream()
+        .map(Member::fromProfile)
+        .forEach(member -> {
+          members.put(member.getUserId(), member);
+          args.add(String.valueOf(member.getUserId()));
+          args.add(JsonUtility.write(objectMapper, member));
+        });
+
+    stringRedisTemplate.execute(PUT_ALL_IF_VERSION,
+        List.of(key, versionKey(chatRoomId)), args.toArray());
+    return members;
+  }
+
+  private void put(Long chatRoomId, Member member) {
+    stringRedisTemplate.execute(PUT_IF_LOADED, List.of(membersKey(chatRoomId)),
+        LOADED_FIELD, String.valueOf(member.getUserId()),
+        JsonUtility.write(objectMapper, member));
+    publish(chatRoomId);
+  }
+
+  // 이 서버의 복사본도 채널 메시지로 제거되어 다음 조회 때 Redis 에서 다시 불러옴
+  private void publish(Long chatRoomId) {
+    evictLocal(chatRoomId);
+    stringRedisTemplate.convertAndSend(MEMBERS_CHANNEL, String.valueOf(chatRoomId));
+  }
+
+  private void evictLocal(Long chatRoomId) {
+    evictions.incrementAndGet();
+    rooms.remove(chatRoomId);
+  }
+
+  private String membersKey(Long chatRoomId) {
+    return MEMBERS_KEY_PREFIX + chatRoomId;
+  }
+
+  private String versionKey(Long chatRoomId) {
+    return VERSION_KEY_PREFIX + chatRoomId;
+  }
+
+  private record LocalRoom(Map<Long, Member> members, long expiresAt) {
+  }
+}
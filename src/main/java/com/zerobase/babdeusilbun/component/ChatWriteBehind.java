@@ -0,0 +1,41 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 지연 저장 (chat.write-behind.enabled)
+ * 켜져 있으면 일반 채팅은 DB 대신 ChatWriteLog 에 기록하고 바로 전송하며,
+ * ChatWriteBehindWriter 가 모아서 저장한다. 입장/퇴장은 참여자 확인에 쓰이므로 바로 저장한다.
+ * 그래서 지연 저장된 채팅은 이후 입장/퇴장보다 chat_id 가 클 수 있으며, 채팅 순서는 보낸 시각 (created_at) 으로 정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatWriteBehind {
+
+  private final ChatWriteLog chatWriteLog;
+
+  @Value("${chat.write-behind.enabled:false}")
+  private boolean enabled;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public LogEntry append(Long chatRoomId, Long userId, ChatType type, String content) {
+    LogEntry entry = LogEntry.builder()
+        .chatRoomId(chatRoomId)
+        .userId(userId)
+        .type(type)
+        .content(content)
+        .createdAt(LocalDateTime.now())
+        .build();
+
+    entry.setLogId(chatWriteLog.append(entry));
+    return entry;
+  }
+}
@@ -0,0 +1,28 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import java.util.List;
+
+/**
+ * 채팅 지연 저장 로그
+ * 전송된 채팅을 먼저 기록하고, ChatWriteBehindWriter 가 모아서 chat 테이블에 저장한 뒤 처리 완료로 표시한다.
+ * 처리 완료 전에 서버가 종료되면 다음 read 에서 같은 항목을 다시 반환한다.
+ * chat.write-behind.type 으로 구현체를 선택한다. (redis: Redis Stream, file: 로컬 파일)
+ */
+public interface ChatWriteLog {
+
+  void initialize();
+
+  String append(LogEntry entry);
+
+  // 처리 완료되지 않은 항목을 기록된 순서대로
+  List<LogEntry> read(int limit);
+
+  void acknowledge(List<LogEntry> entries);
+
+  // 다시 시도해도 저장할 수 없는 항목을 따로 보관 (확인 후 수동 처리)
+  void park(LogEntry entry);
+
+  // 여러 서버가 같은 로그를 공유하는지 (공유하면 한 서버만 저장)
+  boolean isShared();
+}
@@ -0,0 +1,80 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.IAMPORT_UNAVAILABLE;
+
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출 차단기
+ * 연속 실패가 failureThreshold 번이면 openMillis 동안 호출하지 않고 바로 실패(IAMPORT_UNAVAILABLE)한다.
+ * 시간이 지나면 한 번만 시험 호출(half-open)하고, 성공하면 닫히고 실패하면 다시 열린다.
+ */
+public class CircuitBreaker {
+
+  enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final int failureThreshold;
+  private final long openMillis;
+  private final LongSupplier clock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+
+  public CircuitBreaker(int failureThreshold, long openMillis) {
+    this(failureThreshold, openMillis, System::currentTimeMillis);
+  }
+
+  CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+    this.failureThreshold = failureThreshold;
+    this.openMillis = openMillis;
+    this.clock = clock;
+  }
+
+  public <T> T call(Supplier<T> supplier) {
+    acquire();
+
+    try {
+      T result = supplier.get();
+      onSuccess();
+      return result;
+    } catch (RuntimeException e) {
+      onFailure();
+      throw e;
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private synchronized void acquire() {
+    if (state == State.CLOSED) {
+      return;
+    }
+
+    // 열린 상태에서 시간이 지났으면 한 번만 통과, 시험 호출 중에는 차단
+    if (state == State.OPEN && clock.getAsLong() - openedAt >= openMillis) {
+      state = State.HALF_OPEN;
+      return;
+    }
+
+    throw new CustomException(IAMPORT_UNAVAILABLE);
+  }
+
+  private synchronized void onSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+  }
+
+  private synchronized void onFailure() {
+    consecutiveFailures++;
+
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = clock.getAsLong();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일 지연 저장 로그 (Redis 를 쓸 수 없는 환경 / 테스트용)
+ * 채팅을 한 줄씩 json 으로 이어 쓰고, 처리 완료된 위치(byte offset)를 별도 파일에 기록한다.
+ * 항상 처리 완료 위치부터 읽으므로 재시작하거나 저장에 실패하면 같은 항목을 다시 읽는다. 서버마다 파일이 따로 있으므로 공유되지 않는다.
+ * logId 는 "파일 식별자(uuid):항목이 끝나는 위치" 형식이다.
+ * 저장할 수 없는 항목은 같은 형식으로 별도 파일 (.parked) 에 옮겨 둔다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.write-behind.type", havingValue = "file")
+public class FileChatWriteLog implements ChatWriteLog {
+
+  private final ObjectMapper objectMapper;
+  private final Path logPath;
+  private final Path offsetPath;
+  private final Path parkedPath;
+
+  // 로그 파일을 비울 때마다 바뀜 (이전 파일, 다른 서버의 logId 와 구분)
+  private String generation;
+  private long acknowledgedOffset;
+
+  @Autowired
+  public FileChatWriteLog(ObjectMapper objectMapper,
+      @Value("${chat.write-behind.file.path:./chat-write.log}") String path) {
+    this.objectMapper = objectMapper;
+    this.logPath = Path.of(path);
+    this.offsetPath = Path.of(path + ".offset");
+    this.parkedPath = Path.of(path + ".parked");
+  }
+
+  @Override
+  public synchronized void initialize() {
+    try {
+      if (logPath.getParent() != null) {
+        Files.createDirectories(logPath.getParent());
+      }
+      if (Files.notExists(logPath)) {
+        Files.createFile(logPath);
+      }
+
+      if (Files.exists(offsetPath)) {
+        String[] saved = Files.readString(offsetPath).trim().split(":");
+        generation = saved[0];
+        // 파일을 비운 직후 위치를 기록하기 전에 종료된 경우
+        acknowledgedOffset = Math.min(Long.parseLong(saved[1]), Files.size(logPath));
+      } else {
+        generation = UUID.randomUUID().toString();
+        acknowledgedOffset = 0;
+        saveOffset();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized String append(LogEntry entry) {
+    try {
+      Files.write(logPath, toLine(entry), StandardOpenOption.APPEND);
+      return generation + ":" + Files.size(logPath);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized List<LogEntry> read(int limit) {
+    List<LogEntry> entries = new ArrayList<>();
+
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(logPath))) {
+      in.skipNBytes(acknowledgedOffset);
+
+      ByteArrayOutputStream line = new ByteArrayOutputStream();
+      long position = acknowledgedOffset;
+      int b;
+      while (entries.size() < limit && (b = in.read()) != -1) {
+        position++;
+        if (b != '\n') {
+          line.write(b);
+          continue;
+        }
+
+        LogEntry entry = objectMapper.readValue(line.toByteArray(), LogEntry.class);
+        entry.setLogId(generation + ":" + position);
+        entries.add(entry);
+
+        line.reset();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return entries;
+  }
+
+  @Override
+  public synchronized void acknowledge(List<LogEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    String lastLogId = entries.getLast().getLogId();
+    acknowledgedOffset = Long.parseLong(lastLogId.substring(lastLogId.indexOf(':') + 1));
+
+    try {
+      // 모두 처리되었으면 파일을 비움
+      if (acknowledgedOffset >= Files.size(logPath)) {
+        Files.write(logPath, new byte[0], StandardOpenOption.TRUNCATE_EXISTING);
+        generation = UUID.randomUUID().toString();
+        acknowledgedOffset = 0;
+      }
+      saveOffset();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized void park(LogEntry entry) {
+    try {
+      Files.write(parkedPath, toLine(entry), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public boolean isShared() {
+    return false;
+  }
+
+  private byte[] toLine(LogEntry entry) {
+    try {
+      return (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("chat log serialization failed.", e);
+    }
+  }
+
+  private void saveOffset() throws IOException {
+    Files.writeString(offsetPath, generation + ":" + acknowledgedOffset);
+  }
+}
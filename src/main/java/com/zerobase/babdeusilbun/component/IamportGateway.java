@@ -0,0 +1,148 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.IAMPORT_SERVER_ERROR;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.zerobase.babdeusilbun.dto.PaymentDto.PgPayment;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 아임포트 REST API 호출
+ * 결제 확인 요청 스레드가 PG 사 응답을 오래 기다리지 않도록 연결/응답 시간 제한을 두고,
+ * 연속으로 실패하면 차단기(CircuitBreaker)를 열어 일정 시간 호출하지 않는다.
+ * 4xx 응답(결제 없음 등)은 서버가 정상 동작한 것이므로 차단기 실패로 세지 않는다.
+ */
+@Slf4j
+@Component
+public class IamportGateway {
+
+  // 만료 직전의 토큰은 사용하지 않음
+  private static final long TOKEN_EXPIRE_MARGIN_SECONDS = 60;
+
+  private final RestClient restClient;
+  private final CircuitBreaker circuitBreaker;
+  private final String apiKey;
+  private final String secretKey;
+
+  private String accessToken;
+  private long accessTokenExpiredAt;
+
+  @Autowired
+  public IamportGateway(
+      @Value("${imp.api.base-url:https://api.iamport.kr}") String baseUrl,
+      @Value("${imp.api.key}") String apiKey,
+      @Value("${imp.api.secretKey}") String secretKey,
+      @Value("${imp.api.connect-timeout-ms:1000}") long connectTimeoutMillis,
+      @Value("${imp.api.read-timeout-ms:3000}") long readTimeoutMillis,
+      @Value("${imp.api.circuit-breaker.failure-threshold:5}") int failureThreshold,
+      @Value("${imp.api.circuit-breaker.open-ms:10000}") long openMillis) {
+
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMillis));
+    requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+    this.restClient = RestClient.builder()
+        .baseUrl(baseUrl)
+        .requestFactory(requestFactory)
+        .build();
+    this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+    this.apiKey = apiKey;
+    this.secretKey = secretKey;
+  }
+
+  /**
+   * 결제 단건 조회 (imp_uid)
+   */
+  public PgPayment getPayment(String impUid) {
+    JsonNode body = circuitBreaker.call(() -> get("/payments/{impUid}", getAccessToken(), impUid));
+
+    JsonNode payment = verifyResponse(body);
+    if (payment == null) {
+      // 토큰이 만료되었을 수 있으므로 다음 요청 때 새로 발급
+      clearAccessToken();
+      throw new CustomException(IAMPORT_SERVER_ERROR);
+    }
+
+    return PgPayment.builder()
+        .impUid(payment.path("imp_uid").asText(null))
+        .merchantUid(payment.path("merchant_uid").asText(null))
+        .name(payment.path("name").asText(null))
+        .amount(payment.path("amount").asLong())
+        .pgProvider(payment.path("pg_provider").asText(null))
+        .payMethod(payment.path("pay_method").asText(null))
+        .status(payment.path("status").asText(null))
+        .build();
+  }
+
+  private synchronized String getAccessToken() {
+    if (accessToken != null
+        && Instant.now().getEpochSecond() < accessTokenExpiredAt - TOKEN_EXPIRE_MARGIN_SECONDS) {
+      return accessToken;
+    }
+
+    JsonNode token = verifyResponse(post("/users/getToken",
+        Map.of("imp_key", apiKey, "imp_secret", secretKey)));
+    if (token == null) {
+      throw new CustomException(IAMPORT_SERVER_ERROR);
+    }
+
+    accessToken = token.path("access_token").asText();
+    accessTokenExpiredAt = token.path("expired_at").asLong();
+    return accessToken;
+  }
+
+  private synchronized void clearAccessToken() {
+    accessToken = null;
+  }
+
+  private JsonNode get(String uri, String token, Object... uriVariables) {
+    try {
+      return restClient.get()
+          .uri(uri, uriVariables)
+          .header("Authorization", token)
+          .retrieve()
+          .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {})
+          .body(JsonNode.class);
+    } catch (RestClientException e) {
+      log.error("iamport request failed. uri: {}", uri, e);
+      throw new CustomException(IAMPORT_SERVER_ERROR);
+    }
+  }
+
+  private JsonNode post(String uri, Object body) {
+    try {
+      return restClient.post()
+          .uri(uri)
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(body)
+          .retrieve()
+          .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {})
+          .body(JsonNode.class);
+    } catch (RestClientException e) {
+      log.error("iamport request failed. uri: {}", uri, e);
+      throw new CustomException(IAMPORT_SERVER_ERROR);
+    }
+  }
+
+  // code 가 0 이 아니면 실패 (response 없음)
+  private JsonNode verifyResponse(JsonNode body) {
+    if (body == null || body.path("code").asInt(-1) != 0 || !body.hasNonNull("response")) {
+      log.warn("iamport response is not success. message: {}",
+          body == null ? null : body.path("message").asText(null));
+      return null;
+    }
+    return body.path("response");
+  }
+}
@@ -0,0 +1,231 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.zerobase.babdeusilbun.domain.Major;
+import com.zerobase.babdeusilbun.domain.School;
+import com.zerobase.babdeusilbun.dto.MajorDto;
+import com.zerobase.babdeusilbun.dto.SchoolDto;
+import com.zerobase.babdeusilbun.repository.MajorRepository;
+import com.zerobase.babdeusilbun.repository.SchoolRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학교, 학과 자동완성 색인
+ * 거의 바뀌지 않는 기준 데이터이므로 전체를 메모리에 올려두고, 공백을 제거한 이름의 2-gram 으로 검색한다.
+ * 관리용 쓰기 API 가 없어 DB 에 직접 반영되므로 서버마다 주기적으로 다시 적재한다 (lookup.refresh-interval-ms).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LookupIndex {
+  private static final Sort SCHOOL_SORT = Sort.by(Order.asc("name"), Order.asc("campus"));
+  private static final Sort MAJOR_SORT = Sort.by(Order.asc("name"));
+
+  private final SchoolRepository schoolRepository;
+  private final MajorRepository majorRepository;
+  private final TaskScheduler taskScheduler;
+
+  @Value("${lookup.refresh-interval-ms:3600000}")
+  private long refreshIntervalMs;
+
+  private volatile Snapshot<SchoolDto.Information> schools;
+  private volatile Snapshot<MajorDto.Information> majors;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    refresh();
+    taskScheduler.scheduleWithFixedDelay(this::refreshQuietly,
+        Instant.now().plusMillis(refreshIntervalMs), Duration.ofMillis(refreshIntervalMs));
+  }
+
+  public synchronized void refresh() {
+    List<School> schoolList = new ArrayList<>(schoolRepository.findAll());
+    schoolList.sort(Comparator.comparing(School::getName).thenComparing(School::getCampus,
+        Comparator.nullsFirst(Comparator.naturalOrder())));
+    schools = new Snapshot<>(schoolList.stream()
+        .map(school -> new Entry<>(school.getName(),
+            new SchoolDto.Information(school.getId(), school.getName(), school.getCampus())))
+        .toList());
+
+    List<Major> majorList = new ArrayList<>(majorRepository.findAll());
+    majorList.sort(Comparator.comparing(Major::getName));
+    majors = new Snapshot<>(majorList.stream()
+        .map(major -> new Entry<>(major.getName(),
+            new MajorDto.Information(major.getId(), major.getName())))
+        .toList());
+
+    log.info("lookup index loaded. schools: {}, majors: {}", schoolList.size(), majorList.size());
+  }
+
+  // 실패하면 이전 색인을 그대로 사용
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      log.error("lookup index refresh failed.", e);
+    }
+  }
+
+  public Page<SchoolDto.Information> searchSchools(String[] keywords, int page, int size) {
+    if (schools == null) {
+      refresh();
+    }
+    return schools.search(keywords, page, size, SCHOOL_SORT);
+  }
+
+  public Page<MajorDto.Information> searchMajors(String[] keywords, int page, int size) {
+    if (majors == null) {
+      refresh();
+    }
+    return majors.search(keywords, page, size, MAJOR_SORT);
+  }
+
+  /**
+   * 같은 학교의 캠퍼스 목록 (기준 캠퍼스를 맨 앞에 두고 나머지는 이름, 캠퍼스 순)
+   */
+  public Page<SchoolDto.Information> searchCampuses(SchoolDto.Information standard, int page, int size) {
+    if (schools == null) {
+      refresh();
+    }
+
+    List<SchoolDto.Information> matched = new ArrayList<>();
+    boolean hasStandard = false;
+    for (SchoolDto.Information school : schools.values) {
+      if (!school.getName().startsWith(standard.getName())) {
+        continue;
+      }
+
+      if (Objects.equals(school.getId(), standard.getId())) {
+        matched.addFirst(school);
+        hasStandard = true;
+      } else {
+        matched.add(school);
+      }
+    }
+
+    // 다시 적재하기 전에 추가된 학교
+    if (!hasStandard) {
+      matched.addFirst(standard);
+    }
+
+    return toPage(matched, page, size, SCHOOL_SORT);
+  }
+
+  // 페이지 범위를 넘으면 마지막 페이지
+  private static <T> Page<T> toPage(List<T> matched, int page, int size, Sort sort) {
+    if (matched.isEmpty()) {
+      return new PageImpl<>(new ArrayList<>(), PageRequest.of(page, Math.max(size, 1)), 0);
+    }
+
+    int count = matched.size();
+    size = (size <= 0) ? count : size;
+    page = Math.min(page, ((int) Math.ceil((double) count / size)) - 1);
+
+    int from = page * size;
+    List<T> content = matched.subList(from, Math.min(from + size, count));
+
+    return new PageImpl<>(new ArrayList<>(content), PageRequest.of(page, size, sort), count);
+  }
+
+  private record Entry<T>(String name, T value) {
+  }
+
+  /**
+   * 정렬된 항목과 2-gram -> 항목 위치 목록
+   * 위치 목록이 오름차순이므로 검색 결과도 정렬 순서를 그대로 유지한다.
+   */
+  private static class Snapshot<T> {
+    private final List<T> values;
+    private final String[] names;
+    private final Map<String, int[]> postings;
+
+    Snapshot(List<Entry<T>> entries) {
+      this.values = entries.stream().map(Entry::value).toList();
+      this.names = entries.stream().map(entry -> normalize(entry.name())).toArray(String[]::new);
+
+      Map<String, List<Integer>> builder = new HashMap<>();
+      for (int i = 0; i < names.length; i++) {
+        for (String gram : grams(names[i], true)) {
+          builder.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+        }
+      }
+
+      this.postings = new HashMap<>(builder.size());
+      builder.forEach((gram, positions) ->
+          postings.put(gram, positions.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    Page<T> search(String[] keywords, int page, int size, Sort sort) {
+      List<String> queries = Arrays.stream(keywords)
+          .filter(keyword -> keyword != null && !keyword.isBlank())
+          .map(Snapshot::normalize)
+          .toList();
+
+      List<T> matched = new ArrayList<>();
+      if (queries.isEmpty()) {
+        matched.addAll(values);
+      } else {
+        for (int position : candidates(queries)) {
+          if (queries.stream().allMatch(query -> names[position].contains(query))) {
+            matched.add(values.get(position));
+          }
+        }
+      }
+
+      return toPage(matched, page, size, sort);
+    }
+
+    // 가장 짧은 위치 목록을 후보로 사용
+    private int[] candidates(List<String> queries) {
+      int[] shortest = null;
+      for (String query : queries) {
+        for (String gram : grams(query, false)) {
+          int[] positions = postings.getOrDefault(gram, new int[0]);
+          if (shortest == null || positions.length < shortest.length) {
+            shortest = positions;
+          }
+        }
+      }
+      return (shortest == null) ? new int[0] : shortest;
+    }
+
+    // 색인은 1-gram, 2-gram 모두, 검색은 한 글자면 1-gram, 그 외에는 2-gram
+    private static Set<String> grams(String text, boolean all) {
+      Set<String> grams = new LinkedHashSet<>();
+      if (text.length() == 1 || all) {
+        for (int i = 0; i < text.length(); i++) {
+          grams.add(text.substring(i, i + 1));
+        }
+      }
+      for (int i = 0; i + 1 < text.length(); i++) {
+        grams.add(text.substring(i, i + 2));
+      }
+      return grams;
+    }
+
+    private static String normalize(String text) {
+      return (text == null) ? "" : text.replace(" ", "").toLowerCase();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.util.TransactionUtility.afterCommit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.dto.PaymentDto.Pending;
+import com.zerobase.babdeusilbun.util.JsonUtility;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 확인 대기 중인 결제 (payment:pending:{결제 트랜잭션 id})
+ * 결제 요청 시 저장하고 결제 확인이 끝나면 제거한다.
+ * 웹훅은 세션 없이 들어오므로 이 정보로 결제 금액/수단을 검증하고 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingPaymentStore {
+
+  private static final String PENDING_KEY_PREFIX = "payment:pending:";
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${payment.pending.ttl-seconds:3600}")
+  private long ttlSeconds;
+
+  /**
+   * 저장 (트랜잭션 안이면 커밋 후 반영)
+   */
+  public void save(Pending pending) {
+    String value = JsonUtility.write(objectMapper, pending);
+
+    afterCommit(() -> stringRedisTemplate.opsForValue().set(
+        pendingKey(pending.getTemporary().getTransactionId()), value,
+        Duration.ofSeconds(ttlSeconds)));
+  }
+
+  public Optional<Pending> get(String transactionId) {
+    return Optional.ofNullable(stringRedisTemplate.opsForValue().get(pendingKey(transactionId)))
+        .map(value -> JsonUtility.read(objectMapper, value, Pending.class));
+  }
+
+  public void remove(String transactionId) {
+    afterCommit(() -> stringRedisTemplate.delete(pendingKey(transactionId)));
+  }
+
+  private String pendingKey(String transactionId) {
+    return PENDING_KEY_PREFIX + transactionId;
+  }
+}
@@ -0,0 +1,70 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.POINT_SHORTAGE;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_NOT_FOUND;
+
+import com.zerobase.babdeusilbun.domain.Point;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.enums.PointType;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.PointRepository;
+import com.zerobase.babdeusilbun.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 장부
+ * 모든 잔액 변경은 point 테이블에 한 줄씩 추가되고(수정/삭제 없음), users.point 는 조건부 UPDATE 한 문장으로 바뀐다.
+ * 잔액 확인과 차감이 한 문장이므로 분산 락 없이도 동시 요청에서 갱신이 유실되거나 음수가 되지 않는다.
+ * 항상 users 행을 먼저 갱신하므로 같은 회원의 장부 id 는 커밋 순서대로 증가한다.
+ * 잔액 조회는 users.point 한 행을 읽는다.
+ * 같은 트랜잭션 안에서 이미 불러온 User 엔티티의 point 는 갱신되지 않는다.
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class PointLedger {
+
+  private final UserRepository userRepository;
+  private final PointRepository pointRepository;
+
+  /**
+   * 포인트 사용 (잔액이 부족하면 POINT_SHORTAGE)
+   */
+  public Point use(User user, Long amount, String content) {
+    if (amount == null || amount <= 0) {
+      return null;
+    }
+
+    if (userRepository.deductPoint(user.getId(), amount) == 0) {
+      throw new CustomException(POINT_SHORTAGE);
+    }
+
+    return append(user, PointType.MINUS, amount, content);
+  }
+
+  /**
+   * 포인트 적립 (환불 포함)
+   */
+  public Point earn(User user, Long amount, String content) {
+    if (amount == null || amount <= 0) {
+      return null;
+    }
+
+    if (userRepository.addPoint(user.getId(), amount) == 0) {
+      throw new CustomException(USER_NOT_FOUND);
+    }
+
+    return append(user, PointType.PLUS, amount, content);
+  }
+
+  private Point append(User user, PointType type, Long amount, String content) {
+    return pointRepository.save(Point.builder()
+        .user(user)
+        .type(type)
+        .amount(amount)
+        .content(content)
+        .build());
+  }
+}
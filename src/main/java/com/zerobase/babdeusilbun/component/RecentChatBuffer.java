@@ -0,0 +1,138 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.util.TransactionUtility.afterCommit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.dto.ChatDto.Information;
+import com.zerobase.babdeusilbun.dto.CursorDto;
+import com.zerobase.babdeusilbun.util.JsonUtility;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 채팅 (Redis list, chatRoom:recent:{채팅방 id})
+ * 저장된 채팅을 최대 size 개까지 최신순으로 보관하고, 채팅이 없는 채팅방은 ttl 이 지나면 제거된다.
+ * 채팅방을 열 때의 첫 페이지를 DB 조회 없이 응답하며, 부족하면 DB 커서 조회를 사용한다.
+ * 서버 간에 공유되므로 어느 서버에서 전송된 채팅이든 같은 목록에 쌓인다.
+ * 지연 저장(ChatWriteBehind) 을 사용하면 채팅 id 가 저장 시점에 정해지므로 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentChatBuffer {
+
+  private static final String RECENT_KEY_PREFIX = "chatRoom:recent:";
+
+  private static final RedisScript<Long> PUSH = new DefaultRedisScript<>(
+      "redis.call('LPUSH', KEYS[1], ARGV[1]) "
+          + "redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[3]) return 1", Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final ChatWriteBehind chatWriteBehind;
+  private final ObjectMapper objectMapper;
+
+  @Value("${chat.recent-buffer.enabled:true}")
+  private boolean enabled;
+
+  @Value("${chat.recent-buffer.size:50}")
+  private int size;
+
+  @Value("${chat.recent-buffer.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  public boolean isEnabled() {
+    return enabled && !chatWriteBehind.isEnabled();
+  }
+
+  /**
+   * 저장된 채팅 추가 (트랜잭션 안이면 커밋 후 반영)
+   */
+  public void push(Long chatRoomId, Information information) {
+    if (!isEnabled() || information.getChatId() == null) {
+      return;
+    }
+
+    afterCommit(() -> {
+      String key = recentKey(chatRoomId);
+      try {
+        stringRedisTemplate.execute(PUSH, List.of(key),
+            JsonUtility.write(objectMapper, information), String.valueOf(size),
+            String.valueOf(ttlSeconds));
+      } catch (DataAccessException e) {
+        // 빠진 채팅이 있는 목록으로 응답하지 않도록 제거 (다음 채팅부터 다시 쌓임)
+        log.warn("recent chat push failed. chatRoomId -> {}", chatRoomId, e);
+        evict(key);
+      }
+    });
+  }
+
+  /**
+   * 입장 이후 최신 채팅 limit 개
+   * 보관 중인 채팅만으로 첫 페이지를 만들 수 없으면 empty (DB 조회)
+   */
+  public Optional<CursorDto.Response<Information>> getLatest(
+      Long chatRoomId, Long joinedChatId, int limit) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    List<Information> recent;
+    try {
+      recent = stringRedisTemplate.opsForList().range(recentKey(chatRoomId), 0, -1).stream()
+          .map(value -> JsonUtility.read(objectMapper, value, Information.class))
+          .sorted(Comparator.comparing(Information::getChatId).reversed())
+          .toList();
+    } catch (DataAccessException e) {
+      log.warn("recent chat read failed. chatRoomId -> {}", chatRoomId, e);
+      return Optional.empty();
+    }
+
+    List<Information> visible = recent.stream()
+        .filter(information -> information.getChatId() > joinedChatId)
+        .toList();
+
+    if (visible.size() > limit) {
+      List<Information> content = visible.subList(0, limit);
+      return Optional.of(response(content, true, String.valueOf(content.getLast().getChatId())));
+    }
+
+    // 입장 시점이 보관 범위 안에 있으면 더 이전 채팅은 볼 수 없음
+    if (visible.size() < recent.size()) {
+      return Optional.of(response(visible, false, null));
+    }
+
+    return Optional.empty();
+  }
+
+  private CursorDto.Response<Information> response(
+      List<Information> content, boolean hasNext, String nextCursor) {
+    return CursorDto.Response.<Information>builder()
+        .content(content)
+        .size(content.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private void evict(String key) {
+    try {
+      stringRedisTemplate.delete(key);
+    } catch (DataAccessException e) {
+      log.warn("recent chat evict failed. key -> {}", key, e);
+    }
+  }
+
+  private String recentKey(Long chatRoomId) {
+    return RECENT_KEY_PREFIX + chatRoomId;
+  }
+}
@@ -0,0 +1,259 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.ALREADY_EXIST_INDIVIDUAL_PURCHASE;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.ALREADY_EXIST_TEAM_PURCHASE;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PURCHASE_NOT_FOUND;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.TEAM_PURCHASE_FROZEN;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.domain.Menu;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.exception.ErrorCode;
+import com.zerobase.babdeusilbun.util.JsonUtility;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 전 장바구니 (cart.redis.enabled)
+ * 공동 주문은 모임마다, 개별 주문은 주문마다 Redis hash (cart:team:{모임 id} / cart:individual:{주문 id}) 에
+ * 담긴 메뉴를 두고, 담기/수량 변경/삭제는 DB 에 쓰지 않는다. 결제 요청 때 CartMaterializer 가 한 번에 저장한다.
+ *
+ * hash field
+ * line:{순번}: 담긴 메뉴 json, menu:{메뉴 id}: 순번 (같은 메뉴 중복 확인), seq: 마지막 순번,
+ * frozen: 공동 주문 결제 요청 이후 변경 금지
+ *
+ * 담긴 메뉴의 id (lineId) 는 (모임 또는 주문 id << 20) + 순번 이라 id 만으로 hash 를 찾을 수 있다.
+ * 마지막 변경 후 ttl 이 지나면 제거된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCart {
+
+  private static final String TEAM_KEY_PREFIX = "cart:team:";
+  private static final String INDIVIDUAL_KEY_PREFIX = "cart:individual:";
+  private static final String LINE_FIELD_PREFIX = "line:";
+  private static final String MENU_FIELD_PREFIX = "menu:";
+  private static final int SEQ_BITS = 20;
+
+  // 변경 금지면 -1, 이미 담긴 메뉴면 0, 아니면 새 순번
+  private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+      "if redis.call('HEXISTS', KEYS[1], 'frozen') == 1 then return -1 end "
+          + "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then return 0 end "
+          + "local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1) "
+          + "redis.call('HSET', KEYS[1], ARGV[1], seq, 'line:' .. seq, ARGV[2]) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[3]) return seq", Long.class);
+
+  // 변경 금지면 -1, 없는 메뉴면 0
+  private static final RedisScript<Long> UPDATE = new DefaultRedisScript<>(
+      "if redis.call('HEXISTS', KEYS[1], 'frozen') == 1 then return -1 end "
+          + "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return 0 end "
+          + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[3]) return 1", Long.class);
+
+  // 변경 금지면 -1, 없는 메뉴면 0
+  private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+      "if redis.call('HEXISTS', KEYS[1], 'frozen') == 1 then return -1 end "
+          + "if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then return 0 end "
+          + "redis.call('HDEL', KEYS[1], ARGV[2]) return 1", Long.class);
+
+  // 담긴 메뉴가 있을 때만 변경 금지, 담긴 메뉴 수
+  private static final RedisScript<Long> FREEZE = new DefaultRedisScript<>(
+      "local count = 0 "
+          + "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do "
+          + "if string.sub(field, 1, 5) == 'line:' then count = count + 1 end end "
+          + "if count > 0 then redis.call('HSET', KEYS[1], 'frozen', 1) end return count",
+      Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${cart.redis.enabled:false}")
+  private boolean enabled;
+
+  @Value("${cart.redis.ttl-seconds:604800}")
+  private long ttlSeconds;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public CartLine addTeamLine(Long meetingId, Menu menu, Integer quantity) {
+    return add(teamKey(meetingId), meetingId, menu, quantity, ALREADY_EXIST_TEAM_PURCHASE);
+  }
+
+  public CartLine addIndividualLine(Long purchaseId, Menu menu, Integer quantity) {
+    return add(individualKey(purchaseId), purchaseId, menu, quantity,
+        ALREADY_EXIST_INDIVIDUAL_PURCHASE);
+  }
+
+  public Optional<CartLine> getTeamLine(Long lineId) {
+    return getLine(teamKey(ownerId(lineId)), lineId);
+  }
+
+  public Optional<CartLine> getIndividualLine(Long lineId) {
+    return getLine(individualKey(ownerId(lineId)), lineId);
+  }
+
+  public CartLine updateTeamLine(CartLine line, Integer quantity) {
+    return update(teamKey(line.getOwnerId()), line, quantity);
+  }
+
+  public CartLine updateIndividualLine(CartLine line, Integer quantity) {
+    return update(individualKey(line.getOwnerId()), line, quantity);
+  }
+
+  public void removeTeamLine(CartLine line) {
+    remove(teamKey(line.getOwnerId()), line);
+  }
+
+  public void removeIndividualLine(CartLine line) {
+    remove(individualKey(line.getOwnerId()), line);
+  }
+
+  /**
+   * 담긴 순서대로
+   */
+  public List<CartLine> getTeamLines(Long meetingId) {
+    return toLines(meetingId, stringRedisTemplate.opsForHash().entries(teamKey(meetingId)));
+  }
+
+  public List<CartLine> getIndividualLines(Long purchaseId) {
+    return toLines(purchaseId,
+        stringRedisTemplate.opsForHash().entries(individualKey(purchaseId)));
+  }
+
+  /**
+   * 여러 주문의 개별 주문 (한 번에 조회, 주문 순서 -> 담긴 순서)
+   */
+  @SuppressWarnings("unchecked")
+  public List<CartLine> getIndividualLines(List<Long> purchaseIds) {
+    if (purchaseIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+        purchaseIds.forEach(purchaseId ->
+            redisOperations.opsForHash().entries(individualKey(purchaseId)));
+        return null;
+      }
+    });
+
+    Map<Long, List<CartLine>> linesByPurchase = new LinkedHashMap<>();
+    for (int i = 0; i < purchaseIds.size(); i++) {
+      linesByPurchase.put(purchaseIds.get(i),
+          toLines(purchaseIds.get(i), (Map<Object, Object>) results.get(i)));
+    }
+    return linesByPurchase.values().stream().flatMap(List::stream).toList();
+  }
+
+  /**
+   * 공동 주문 변경 금지 후 담긴 메뉴 (이후 담기/수량 변경/삭제는 TEAM_PURCHASE_FROZEN)
+   * 비어 있으면 변경 금지하지 않고 빈 목록
+   */
+  public List<CartLine> freezeTeamLines(Long meetingId) {
+    Long count = stringRedisTemplate.execute(FREEZE, List.of(teamKey(meetingId)));
+    if (count == null || count == 0) {
+      return List.of();
+    }
+    return getTeamLines(meetingId);
+  }
+
+  private CartLine add(String key, Long ownerId, Menu menu, Integer quantity,
+      ErrorCode duplicated) {
+    CartLine line = CartLine.fromMenu(menu, quantity);
+
+    Long seq = stringRedisTemplate.execute(ADD, List.of(key),
+        MENU_FIELD_PREFIX + menu.getId(), JsonUtility.write(objectMapper, line),
+        String.valueOf(ttlSeconds));
+    verifyResult(seq, duplicated);
+
+    return line.toBuilder().lineId(lineId(ownerId, seq)).ownerId(ownerId).build();
+  }
+
+  private Optional<CartLine> getLine(String key, Long lineId) {
+    Object value = stringRedisTemplate.opsForHash().get(key, lineField(lineId));
+    if (value == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(JsonUtility.read(objectMapper, (String) value, CartLine.class).toBuilder()
+        .lineId(lineId).ownerId(ownerId(lineId)).build());
+  }
+
+  private CartLine update(String key, CartLine line, Integer quantity) {
+    if (quantity == null) {
+      return line;
+    }
+    CartLine updated = line.toBuilder().quantity(quantity).build();
+
+    Long result = stringRedisTemplate.execute(UPDATE, List.of(key),
+        lineField(line.getLineId()), JsonUtility.write(objectMapper, updated),
+        String.valueOf(ttlSeconds));
+    verifyResult(result, PURCHASE_NOT_FOUND);
+
+    return updated;
+  }
+
+  private void remove(String key, CartLine line) {
+    Long result = stringRedisTemplate.execute(REMOVE, List.of(key),
+        lineField(line.getLineId()), MENU_FIELD_PREFIX + line.getMenuId());
+    verifyResult(result, PURCHASE_NOT_FOUND);
+  }
+
+  private void verifyResult(Long result, ErrorCode notApplied) {
+    if (result == null || result == 0) {
+      throw new CustomException(notApplied);
+    }
+    if (result < 0) {
+      throw new CustomException(TEAM_PURCHASE_FROZEN);
+    }
+  }
+
+  private List<CartLine> toLines(Long ownerId, Map<Object, Object> entries) {
+    return entries.entrySet().stream()
+        .filter(entry -> ((String) entry.getKey()).startsWith(LINE_FIELD_PREFIX))
+        .map(entry -> {
+          long seq = Long.parseLong(((String) entry.getKey()).substring(LINE_FIELD_PREFIX.length()));
+          return JsonUtility.read(objectMapper, (String) entry.getValue(), CartLine.class).toBuilder()
+              .lineId(lineId(ownerId, seq)).ownerId(ownerId).build();
+        })
+        .sorted(Comparator.comparing(CartLine::getLineId))
+        .toList();
+  }
+
+  private long lineId(Long ownerId, long seq) {
+    return (ownerId << SEQ_BITS) + seq;
+  }
+
+  private long ownerId(Long lineId) {
+    return lineId >> SEQ_BITS;
+  }
+
+  private String lineField(Long lineId) {
+    return LINE_FIELD_PREFIX + (lineId & ((1L << SEQ_BITS) - 1));
+  }
+
+  private String teamKey(Long meetingId) {
+    return TEAM_KEY_PREFIX + meetingId;
+  }
+
+  private String individualKey(Long purchaseId) {
+    return INDIVIDUAL_KEY_PREFIX + purchaseId;
+  }
+}
@@ -0,0 +1,134 @@
+package com.zerobase.babdeusilbun.component;
+
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream 지연 저장 로그
+ * 소비자 그룹으로 읽으므로 읽었지만 처리 완료되지 않은 항목은 pending 목록에 남고,
+ * 저장 담당 서버가 바뀌거나 재시작되면 pending 목록부터 다시 처리한다.
+ * 저장할 수 없는 항목은 별도 스트림 (chat:write-log:parked) 에 옮겨 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.write-behind.type", havingValue = "redis", matchIfMissing = true)
+public class RedisStreamChatWriteLog implements ChatWriteLog {
+
+  private static final String STREAM_KEY = "chat:write-log";
+  private static final String PARKED_STREAM_KEY = "chat:write-log:parked";
+  private static final String GROUP = "chat-writer";
+  // 저장은 분산 락을 얻은 한 서버만 하므로 소비자 이름을 공유해 pending 항목을 이어받는다
+  private static final String CONSUMER = "writer";
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  @Override
+  public void initialize() {
+    try {
+      stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+    } catch (RedisSystemException e) {
+      // 이미 그룹이 있는 경우 (BUSYGROUP)
+      log.debug("chat write log group already exists. stream={}", STREAM_KEY);
+    }
+  }
+
+  @Override
+  public String append(LogEntry entry) {
+    RecordId recordId = stringRedisTemplate.opsForStream()
+        .add(StreamRecords.string(toFields(entry)).withStreamKey(STREAM_KEY));
+    return recordId == null ? null : recordId.getValue();
+  }
+
+  @Override
+  public List<LogEntry> read(int limit) {
+    // 이전에 읽고 처리 완료되지 않은 항목부터 (재처리)
+    List<LogEntry> entries = read(limit, ReadOffset.from("0"));
+    if (!entries.isEmpty()) {
+      return entries;
+    }
+
+    return read(limit, ReadOffset.lastConsumed());
+  }
+
+  private List<LogEntry> read(int limit, ReadOffset readOffset) {
+    List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+        Consumer.from(GROUP, CONSUMER),
+        StreamReadOptions.empty().count(limit),
+        StreamOffset.create(STREAM_KEY, readOffset));
+
+    if (records == null) {
+      return List.of();
+    }
+
+    return records.stream()
+        .filter(record -> !record.getValue().isEmpty())
+        .map(this::toEntry)
+        .toList();
+  }
+
+  @Override
+  public void acknowledge(List<LogEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    String[] recordIds = entries.stream().map(LogEntry::getLogId).toArray(String[]::new);
+    stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, recordIds);
+    stringRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+  }
+
+  @Override
+  public void park(LogEntry entry) {
+    Map<String, String> fields = toFields(entry);
+    fields.put("logId", entry.getLogId());
+
+    stringRedisTemplate.opsForStream()
+        .add(StreamRecords.string(fields).withStreamKey(PARKED_STREAM_KEY));
+  }
+
+  @Override
+  public boolean isShared() {
+    return true;
+  }
+
+  private Map<String, String> toFields(LogEntry entry) {
+    Map<String, String> fields = new HashMap<>();
+    fields.put("chatRoomId", String.valueOf(entry.getChatRoomId()));
+    fields.put("userId", String.valueOf(entry.getUserId()));
+    fields.put("type", entry.getType().name());
+    fields.put("content", String.valueOf(entry.getContent()));
+    fields.put("createdAt", entry.getCreatedAt().toString());
+    return fields;
+  }
+
+  private LogEntry toEntry(MapRecord<String, Object, Object> record) {
+    Map<Object, Object> fields = record.getValue();
+
+    return LogEntry.builder()
+        .logId(record.getId().getValue())
+        .chatRoomId(Long.valueOf((String) fields.get("chatRoomId")))
+        .userId(Long.valueOf((String) fields.get("userId")))
+        .type(ChatType.valueOf((String) fields.get("type")))
+        .content((String) fields.get("content"))
+        .createdAt(LocalDateTime.parse((String) fields.get("createdAt")))
+        .build();
+  }
+}
@@ -0,0 +1,229 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.util.TransactionUtility.afterCommit;
+
+import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.dto.MenuDto.StoreMenuName;
+import com.zerobase.babdeusilbun.repository.MenuRepository;
+import com.zerobase.babdeusilbun.repository.StoreRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장명, 메뉴명 검색 색인
+ * 이름을 공백 제거, 소문자로 정규화한 뒤 글자 단위 1-gram, 2-gram 으로 색인한다.
+ * 한글은 음절 단위로 자르므로 "떡볶이" 는 "떡볶", "볶이" 로 검색되며,
+ * 검색어의 2-gram 교집합을 구한 뒤 원문 포함 여부로 한 번 더 확인해 LIKE '%검색어%' 와 같은 결과를 낸다.
+ * 매장, 메뉴가 바뀌면 refresh 로 커밋 후 pub/sub 을 보내고, 모든 서버가 해당 매장을 DB 에서 다시 읽어 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+  private static final String CHANGED_CHANNEL = "storeSearchIndex:changed";
+
+  private final StoreRepository storeRepository;
+  private final MenuRepository menuRepository;
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // n-gram -> 매장 id
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  // 매장 id -> 색인된 이름 (매장명, 메뉴명)
+  private final Map<Long, Set<String>> documents = new HashMap<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    Map<Long, List<String>> menuNameMap = menuRepository.findAllStoreMenuNames().stream()
+        .collect(Collectors.groupingBy(StoreMenuName::getStoreId,
+            Collectors.mapping(StoreMenuName::getName, Collectors.toList())));
+
+    List<Store> stores = storeRepository.findAllByDeletedAtIsNull();
+    stores.forEach(store -> index(store.getId(), store.getName(),
+        menuNameMap.getOrDefault(store.getId(), List.of())));
+
+    log.info("store search index built. stores: {}, grams: {}", stores.size(), postings.size());
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> reload(
+            Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(CHANGED_CHANNEL));
+  }
+
+  /**
+   * 매장 색인 갱신 (트랜잭션 안이면 커밋 후 반영)
+   * 매장 생성/수정/삭제, 메뉴 변경 시 호출하며 모든 서버에 전파된다.
+   */
+  public void refresh(Long storeId) {
+    afterCommit(() ->
+        stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(storeId)));
+  }
+
+  /**
+   * 매장을 DB 에서 다시 읽어 색인 (삭제된 매장이면 제거)
+   */
+  public void reload(Long storeId) {
+    storeRepository.findByIdAndDeletedAtIsNull(storeId).ifPresentOrElse(
+        store -> index(storeId, store.getName(), menuRepository.findNamesByStore(store)),
+        () -> remove(storeId));
+  }
+
+  /**
+   * 매장의 색인을 매장명과 메뉴명으로 다시 만든다.
+   */
+  public void index(Long storeId, String storeName, Collection<String> menuNames) {
+    Set<String> names = new LinkedHashSet<>();
+    addName(names, storeName);
+    menuNames.forEach(name -> addName(names, name));
+
+    lock.writeLock().lock();
+    try {
+      removeInternal(storeId);
+
+      for (String name : names) {
+        for (String gram : tokenize(name)) {
+          postings.computeIfAbsent(gram, k -> new HashSet<>()).add(storeId);
+        }
+      }
+      documents.put(storeId, names);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long storeId) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(storeId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 매장명 또는 메뉴명에 검색어가 포함된 매장 id 목록
+   * LIKE 검색어에 쓰이던 % 는 무시하며, 무시하고 남는 글자가 없으면 필터 없음 (null)
+   */
+  public Set<Long> search(String keyword) {
+    String query = normalize(keyword);
+    if (query.isEmpty()) {
+      return null;
+    }
+
+    lock.readLock().lock();
+    try {
+      List<Set<Long>> candidates = new ArrayList<>();
+      for (String gram : queryGrams(query)) {
+        Set<Long> storeIds = postings.get(gram);
+        if (storeIds == null) {
+          return Set.of();
+        }
+        candidates.add(storeIds);
+      }
+      candidates.sort(Comparator.comparingInt(Set::size));
+
+      Set<Long> result = new HashSet<>();
+      for (Long storeId : candidates.getFirst()) {
+        if (containsAll(candidates, storeId) && matches(storeId, query)) {
+          result.add(storeId);
+        }
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void removeInternal(Long storeId) {
+    Set<String> names = documents.remove(storeId);
+    if (names == null) {
+      return;
+    }
+
+    for (String name : names) {
+      for (String gram : tokenize(name)) {
+        Set<Long> storeIds = postings.get(gram);
+        if (storeIds != null && storeIds.remove(storeId) && storeIds.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private boolean containsAll(List<Set<Long>> candidates, Long storeId) {
+    for (int i = 1; i < candidates.size(); i++) {
+      if (!candidates.get(i).contains(storeId)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean matches(Long storeId, String query) {
+    return documents.getOrDefault(storeId, Set.of()).stream()
+        .anyMatch(name -> name.contains(query));
+  }
+
+  private void addName(Set<String> names, String name) {
+    String normalized = normalize(name);
+    if (!normalized.isEmpty()) {
+      names.add(normalized);
+    }
+  }
+
+  // 색인: 모든 1-gram, 2-gram
+  private static Set<String> tokenize(String name) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i < name.length(); i++) {
+      grams.add(name.substring(i, i + 1));
+      if (i + 1 < name.length()) {
+        grams.add(name.substring(i, i + 2));
+      }
+    }
+    return grams;
+  }
+
+  // 검색: 한 글자면 1-gram, 그 외에는 2-gram
+  private static Set<String> queryGrams(String query) {
+    if (query.length() == 1) {
+      return Set.of(query);
+    }
+
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + 1 < query.length(); i++) {
+      grams.add(query.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  private static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+
+    return text.replace("%", "").replaceAll("\\s+", "").toLowerCase();
+  }
+}
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
@@ -19,4 +20,16 @@ public class SchedulerConfig {
     return taskScheduler;
   }
 
+  // 아임포트 웹훅 결제 확인 (요청 스레드와 분리)
+  @Bean
+  public ThreadPoolTaskExecutor paymentWebhookExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(1000);
+    executor.setThreadNamePrefix("payment-webhook-");
+    executor.initialize();
+    return executor;
+  }
+
 }
@@ -2,10 +2,12 @@ package com.zerobase.babdeusilbun.controller.chat;
 
 import com.zerobase.babdeusilbun.dto.ChatDto.Information;
 import com.zerobase.babdeusilbun.dto.ChatDto.RoomInformation;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
 import com.zerobase.babdeusilbun.service.ChatService;
 import com.zerobase.babdeusilbun.swagger.annotation.chat.UserChatRoomSwagger.GetChatMessagesOnChatRoomSwagger;
 import com.zerobase.babdeusilbun.swagger.annotation.chat.UserChatRoomSwagger.GetChatRoomsSwagger;
+import com.zerobase.babdeusilbun.swagger.annotation.chat.UserChatRoomSwagger.ReadChatRoomSwagger;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -36,12 +39,22 @@ public class UserChatRoomController {
 
   @GetMapping("/{chatRoomId}")
   @GetChatMessagesOnChatRoomSwagger
-  public ResponseEntity<Page<Information>> getChatMessagesOnChatRoom(
+  public ResponseEntity<CursorDto.Response<Information>> getChatMessagesOnChatRoom(
       @AuthenticationPrincipal CustomUserDetails user,
       @PathVariable("chatRoomId") Long chatRoomId,
-      @RequestParam(name = "page", required = false, defaultValue = "0") int page,
-      @RequestParam(name = "size", required = false, defaultValue = "10") int size) {
+      @RequestParam(name = "before", required = false) Long before,
+      @RequestParam(name = "limit", required = false, defaultValue = "20") int limit) {
+
+    return ResponseEntity.ok(chatService.getChatMessagesOnChatRoom(user.getId(), chatRoomId, before, limit));
+  }
+
+  @PostMapping("/{chatRoomId}/read")
+  @ReadChatRoomSwagger
+  public ResponseEntity<Void> readChatRoom(
+      @AuthenticationPrincipal CustomUserDetails user,
+      @PathVariable("chatRoomId") Long chatRoomId) {
 
-    return ResponseEntity.ok(chatService.getChatMessagesOnChatRoom(user.getId(), chatRoomId, page, size));
+    chatService.readChatRoom(user.getId(), chatRoomId);
+    return ResponseEntity.ok().build();
   }
 }
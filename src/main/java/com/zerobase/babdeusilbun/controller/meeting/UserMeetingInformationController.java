@@ -1,10 +1,12 @@
 package com.zerobase.babdeusilbun.controller.meeting;
 
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.MeetingDto;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.DeliveryFeeResponse;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
 import com.zerobase.babdeusilbun.service.MeetingService;
 import com.zerobase.babdeusilbun.service.PurchaseService;
+import com.zerobase.babdeusilbun.swagger.annotation.meeting.UserMeetingInformationSwagger.GetAllMeetingListByCursorSwagger;
 import com.zerobase.babdeusilbun.swagger.annotation.meeting.UserMeetingInformationSwagger.GetAllMeetingListSwagger;
 import com.zerobase.babdeusilbun.swagger.annotation.meeting.UserMeetingInformationSwagger.GetDeliveryFeeInfoSwagger;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,6 +47,24 @@ public class UserMeetingInformationController {
     );
   }
 
+  @GetMapping("/cursor")
+  @GetAllMeetingListByCursorSwagger
+  public ResponseEntity<CursorDto.Response<MeetingDto>> getAllMeetingListByCursor(
+      @AuthenticationPrincipal CustomUserDetails user,
+      @RequestParam(value = "schoolId", required = false) Long schoolId,
+      @RequestParam("sortCriteria") String sortCriteria,
+      @RequestParam(value = "searchMenu", required = false) String searchMenu,
+      @RequestParam(value = "categoryFilter", required = false) Long categoryFilter,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size,
+      @RequestParam(value = "includeCount", defaultValue = "false") boolean includeCount
+  ) {
+    return ResponseEntity.ok(
+        meetingService.getAllMeetingDtoListByCursor(user.getId(), schoolId, sortCriteria,
+            searchMenu, categoryFilter, cursor, size, includeCount)
+    );
+  }
+
   /**
    * 주문 전 모임 배달비 조회
    */
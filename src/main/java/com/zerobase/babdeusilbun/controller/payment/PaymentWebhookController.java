@@ -0,0 +1,27 @@
+package com.zerobase.babdeusilbun.controller.payment;
+
+import com.zerobase.babdeusilbun.dto.PaymentDto.WebhookRequest;
+import com.zerobase.babdeusilbun.service.PaymentService;
+import com.zerobase.babdeusilbun.swagger.annotation.payment.PaymentWebhookSwagger.ReceiveWebhookSwagger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/payments")
+@RequiredArgsConstructor
+public class PaymentWebhookController {
+  private final PaymentService paymentService;
+
+  @PostMapping("/webhook")
+  @ReceiveWebhookSwagger
+  public ResponseEntity<Void> receiveWebhook(@RequestBody WebhookRequest request) {
+
+    paymentService.receiveWebhook(request);
+
+    return ResponseEntity.ok().build();
+  }
+}
@@ -1,7 +1,9 @@
 package com.zerobase.babdeusilbun.controller.store;
 
+import static com.zerobase.babdeusilbun.swagger.annotation.store.UserStoreInformationSwagger.GetAvailStoreListByCursorSwagger;
 import static com.zerobase.babdeusilbun.swagger.annotation.store.UserStoreInformationSwagger.GetAvailStoreListSwagger;
 
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.StoreDto.Information;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
 import com.zerobase.babdeusilbun.service.StoreService;
@@ -44,4 +46,25 @@ public class UserStoreInformationController {
         storeService.getAvailStoreList(userDetails.getId(), categoryList, searchMenu, schoolId, sortCriteria, pageable)
     );
   }
+
+  /**
+   * 주문 가능 가게 리스트 검색/조회 (커서)
+   */
+  @GetMapping("/users/stores/cursor")
+  @GetAvailStoreListByCursorSwagger
+  public ResponseEntity<CursorDto.Response<Information>> getAvailStoreListByCursor(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(value = "foodCategoryFilter", required = false) List<Long> categoryList,
+      @RequestParam(value = "searchMenu", required = false) String searchMenu,
+      @RequestParam(value = "schoolId", required = false) Long schoolId,
+      @RequestParam("sortCriteria") String sortCriteria,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size
+  ) {
+
+    return ResponseEntity.ok(
+        storeService.getAvailStoreListByCursor(
+            userDetails.getId(), categoryList, searchMenu, schoolId, sortCriteria, cursor, size)
+    );
+  }
 }
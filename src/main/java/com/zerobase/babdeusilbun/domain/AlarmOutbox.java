@@ -0,0 +1,35 @@
+package com.zerobase.babdeusilbun.domain;
+
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 아웃박스
+ * 한 트랜잭션에서 발생한 알림 묶음(AlarmDto.Message 목록의 JSON)을 한 행으로 저장
+ */
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Builder
+public class AlarmOutbox extends BaseEntity{
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "alarm_outbox_id", nullable = false)
+  private Long id;
+
+  @Lob
+  @Column(nullable = false, columnDefinition = "longtext")
+  private String payload;
+
+}
@@ -10,8 +10,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +24,16 @@ import lombok.NoArgsConstructor;
  * 채팅
  */
 @Entity
+@Table(
+    indexes = {
+        // 채팅방별 내역 커서 조회 (보낸 시각 순서라 (created_at, chat_id) 범위)
+        @Index(name = "idx_chat_chat_room_id_created_at",
+            columnList = "chat_room_id, created_at, chat_id"),
+        // 채팅방의 최신 chat_id 조회 (입장 채팅 조회, 지연 저장 후 멤버 last_chat_id 갱신, 멤버 재구성)
+        // 위 인덱스로는 MAX(chat_id) 를 한 번에 찾을 수 없어 유지
+        @Index(name = "idx_chat_chat_room_id_chat_id", columnList = "chat_room_id, chat_id")
+    }
+)
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor
@@ -47,4 +59,8 @@ public class Chat extends BaseEntity{
   @Column(nullable = false)
   private String content;
 
+  // 지연 저장된 채팅의 로그 식별자 (재처리 시 중복 저장 방지)
+  @Column(name = "log_id", unique = true, length = 64)
+  private String logId;
+
 }
@@ -0,0 +1,83 @@
+package com.zerobase.babdeusilbun.domain;
+
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 참여 정보 (조회 전용 비정규화 테이블)
+ * 입장/퇴장, 채팅 저장, 읽음 처리 시 ChatServiceImpl / ChatBulkRepository 에서 갱신한다.
+ * 채팅방 목록은 chat 테이블 대신 이 테이블을 최근 채팅 시각 순으로 조회한다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Builder
+@Table(
+    name = "chat_room_member",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "UK_chat_room_member_room_user",
+            columnNames = {"chat_room_id", "user_id"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_chat_room_member_user_last_chat",
+            columnList = "user_id, active, last_chat_at, chat_room_id")
+    }
+)
+public class ChatRoomMember extends BaseEntity {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "chat_room_member_id", nullable = false)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "chat_room_id", nullable = false)
+  private ChatRoom chatRoom;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  // 참여 중 여부 (퇴장하면 false, 다시 입장하면 true)
+  @Column(nullable = false)
+  private boolean active;
+
+  // 마지막 입장 채팅 id
+  @Column(nullable = false)
+  private Long joinedChatId;
+
+  // 채팅방의 마지막 채팅
+  private Long lastChatId;
+  private LocalDateTime lastChatAt;
+
+  // 마지막으로 읽은 채팅 id 와 그 이후 다른 참여자가 보낸 채팅 수
+  private Long lastReadChatId;
+
+  @Column(nullable = false)
+  private int unreadCount;
+
+  public void rejoin(Long joinedChatId) {
+    this.active = true;
+    this.joinedChatId = joinedChatId;
+    this.lastReadChatId = joinedChatId;
+    this.unreadCount = 0;
+  }
+}
@@ -15,8 +15,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,6 +34,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor
 @Builder
+@Table(
+    name = "meeting",
+    // 모임 목록 커서 조회용 (정렬 기준, meeting_id)
+    indexes = {
+        @Index(name = "idx_meeting_payment_available_dt", columnList = "payment_available_dt, meeting_id"),
+        @Index(name = "idx_meeting_delivered_at", columnList = "delivered_at, meeting_id"),
+        // 마감 처리 대상 조회용
+        @Index(name = "idx_meeting_status_payment_available_dt", columnList = "status, payment_available_dt")
+    }
+)
 public class Meeting extends BaseEntity{
 
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -87,6 +99,19 @@ public class Meeting extends BaseEntity{
 
   private LocalDateTime deletedAt;
 
+  // 장바구니 합계 (CartTotals 에서 UPDATE 문으로만 증감, 엔티티 변경으로는 저장되지 않음)
+  // 공동 주문 메뉴 수, paymentPrice 합계, 첫 메뉴 이름
+  @Column(nullable = false, insertable = false, updatable = false)
+  private Integer teamItemCount;
+  @Column(nullable = false, insertable = false, updatable = false)
+  private Long teamTotalPrice;
+  @Column(insertable = false, updatable = false)
+  private String teamFirstItemName;
+
+  // 모임 전체 개별 주문 paymentPrice 합계
+  @Column(nullable = false, insertable = false, updatable = false)
+  private Long individualTotalPrice;
+
 
   public void updateFromRequest(MeetingRequest.Update request) {
     maxHeadcount = request.getMaxHeadcount();
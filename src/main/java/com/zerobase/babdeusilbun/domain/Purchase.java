@@ -47,6 +47,15 @@ public class Purchase extends BaseEntity{
   @Column(nullable = false)
   private PurchaseStatus status;
 
+  // 개별 주문 장바구니 합계 (CartTotals 에서 UPDATE 문으로만 증감, 엔티티 변경으로는 저장되지 않음)
+  // 메뉴 수, paymentPrice 합계, 첫 메뉴 이름
+  @Column(nullable = false, insertable = false, updatable = false)
+  private Integer itemCount;
+  @Column(nullable = false, insertable = false, updatable = false)
+  private Long totalPrice;
+  @Column(insertable = false, updatable = false)
+  private String firstItemName;
+
   public void cancel() {
     status = CANCEL;
   }
@@ -12,7 +12,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import lombok.AccessLevel;
@@ -29,6 +31,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor
 @Builder
+@Table(
+    name = "store",
+    // 가게 목록 커서 조회용 (정렬 기준, store_id)
+    indexes = {
+        @Index(name = "idx_store_min_delivery_time", columnList = "min_delivery_time, store_id"),
+        @Index(name = "idx_store_delivery_price", columnList = "delivery_price, store_id"),
+        @Index(name = "idx_store_min_purchase_amount", columnList = "min_purchase_amount, store_id")
+    }
+)
 public class Store extends BaseEntity{
 
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
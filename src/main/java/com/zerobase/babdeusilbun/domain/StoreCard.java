@@ -0,0 +1,101 @@
+package com.zerobase.babdeusilbun.domain;
+
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학교별 매장 목록 카드 (조회 전용 비정규화 테이블)
+ * 매장, 카테고리, 메뉴, 대표 이미지 변경 시 StoreCardService 에서 갱신한다.
+ * 카테고리는 store_card_category 에 카드별로 한 행씩 둔다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Builder
+@Table(
+    name = "store_card",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            columnNames = {"store_id", "school_id"}
+        )
+    },
+    indexes = {
+        // 정렬 기준별 커서 조회 (school_id, 정렬 값, store_id)
+        @Index(name = "idx_store_card_school_store", columnList = "school_id, store_id"),
+        @Index(name = "idx_store_card_school_min_delivery_time",
+            columnList = "school_id, min_delivery_time, store_id"),
+        @Index(name = "idx_store_card_school_delivery_price",
+            columnList = "school_id, delivery_price, store_id"),
+        @Index(name = "idx_store_card_school_min_purchase_amount",
+            columnList = "school_id, min_purchase_amount, store_id")
+    }
+)
+public class StoreCard extends BaseEntity {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "store_card_id", nullable = false)
+  private Long id;
+
+  @Column(name = "store_id", nullable = false)
+  private Long storeId;
+
+  @Column(name = "school_id", nullable = false)
+  private Long schoolId;
+
+  @Column(nullable = false)
+  private Long entrepreneurId;
+
+  @Column(nullable = false)
+  private String name;
+
+  @Column(nullable = false)
+  private String description;
+
+  @Column(nullable = false)
+  private Long minPurchaseAmount;
+
+  @Column(nullable = false)
+  private Long deliveryPrice;
+
+  @Column(nullable = false)
+  private Integer minDeliveryTime;
+  @Column(nullable = false)
+  private Integer maxDeliveryTime;
+
+  @Embedded
+  @AttributeOverrides({
+      @AttributeOverride(name = "postal", column = @Column(nullable = false)),
+      @AttributeOverride(name = "streetAddress", column = @Column(nullable = false)),
+      @AttributeOverride(name = "detailAddress", column = @Column(nullable = false))
+  })
+  private Address address;
+
+  @Column(nullable = false)
+  private String phoneNumber;
+
+  @Column(nullable = false)
+  private LocalTime openTime;
+  @Column(nullable = false)
+  private LocalTime closeTime;
+
+  private Long thumbnailImageId;
+
+  private String thumbnailUrl;
+}
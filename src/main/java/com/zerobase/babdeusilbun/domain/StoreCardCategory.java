@@ -0,0 +1,53 @@
+package com.zerobase.babdeusilbun.domain;
+
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 카드 카테고리 (조회 전용 비정규화 테이블)
+ * 카테고리 필터를 (category_id, school_id) 인덱스로 찾도록 카드별 카테고리를 한 행씩 둔다.
+ * 매장 카드와 함께 StoreCardService 에서 갱신한다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Builder
+@Table(
+    name = "store_card_category",
+    indexes = {
+        @Index(name = "idx_store_card_category_category_school",
+            columnList = "category_id, school_id, store_card_id"),
+        @Index(name = "idx_store_card_category_store", columnList = "store_id")
+    }
+)
+public class StoreCardCategory extends BaseEntity {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "store_card_category_id", nullable = false)
+  private Long id;
+
+  @Column(name = "store_card_id", nullable = false)
+  private Long storeCardId;
+
+  @Column(name = "store_id", nullable = false)
+  private Long storeId;
+
+  @Column(name = "school_id", nullable = false)
+  private Long schoolId;
+
+  @Column(name = "category_id", nullable = false)
+  private Long categoryId;
+
+}
@@ -72,7 +72,8 @@ public class User extends BaseEntity{
   @Embedded
   private BankAccount bankAccount;
 
-  @Column(nullable = false)
+  // 잔액 변경은 PointLedger 의 조건부 UPDATE 로만 (엔티티 변경 감지로 덮어쓰지 않음)
+  @Column(nullable = false, updatable = false)
   private Long point;
 
   @Embedded
@@ -114,12 +115,4 @@ public class User extends BaseEntity{
             .accountNumber(account.getAccountNumber())
             .build();
   }
-
-  public void plusPoint(Long amount) {
-    point += amount;
-  }
-
-  public void minusPoint(Long amount) {
-    point -= amount;
-  }
 }
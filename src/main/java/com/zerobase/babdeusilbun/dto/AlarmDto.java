@@ -0,0 +1,90 @@
+package com.zerobase.babdeusilbun.dto;
+
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.ENTREPRENEUR;
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.USER;
+
+import com.zerobase.babdeusilbun.domain.Entrepreneur;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.enums.AlarmTarget;
+import com.zerobase.babdeusilbun.enums.EntrepreneurAlarmType;
+import com.zerobase.babdeusilbun.enums.UserAlarmType;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class AlarmDto {
+
+  /**
+   * 아웃박스에 적재되는 알림 한 건
+   * type 은 대상에 따라 UserAlarmType 또는 EntrepreneurAlarmType 의 이름
+   */
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Builder
+  public static class Message {
+    private AlarmTarget target;
+    private Long recipientId;
+    private String type;
+    private String content;
+
+    public static Message ofUser(User user, UserAlarmType type, String content) {
+      return ofUser(user.getId(), type, content);
+    }
+
+    public static Message ofUser(Long userId, UserAlarmType type, String content) {
+      return Message.builder()
+          .target(USER)
+          .recipientId(userId)
+          .type(type.name())
+          .content(content)
+          .build();
+    }
+
+    public static Message ofEntrepreneur(Entrepreneur entrepreneur, EntrepreneurAlarmType type, String content) {
+      return ofEntrepreneur(entrepreneur.getId(), type, content);
+    }
+
+    public static Message ofEntrepreneur(Long entrepreneurId, EntrepreneurAlarmType type, String content) {
+      return Message.builder()
+          .target(ENTREPRENEUR)
+          .recipientId(entrepreneurId)
+          .type(type.name())
+          .content(content)
+          .build();
+    }
+  }
+
+  /**
+   * 모임 상점의 사업자, 상점 이름 (마감 모임 주문 접수 알림)
+   */
+  public interface StoreOwner {
+    Long getEntrepreneurId();
+    String getStoreName();
+  }
+
+  /**
+   * 웹소켓으로 전송되는 알림
+   */
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Builder
+  public static class Response {
+    private String type;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static Response fromMessage(Message message, LocalDateTime createdAt) {
+      return Response.builder()
+          .type(message.getType())
+          .content(message.getContent())
+          .createdAt(createdAt)
+          .build();
+    }
+  }
+
+}
@@ -2,18 +2,19 @@ package com.zerobase.babdeusilbun.dto;
 
 import com.zerobase.babdeusilbun.domain.Chat;
 import com.zerobase.babdeusilbun.enums.ChatType;
+import com.zerobase.babdeusilbun.enums.PurchaseType;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 
 public class ChatDto {
   @Data
   @Builder
   @NoArgsConstructor
   public static class Information {
+    private Long chatId;
     private Long senderId;
     private String nickname;
     private String profileImage;
@@ -24,6 +25,7 @@ public class ChatDto {
 
     public static Information fromEntity(Chat chat) {
       return Information.builder()
+          .chatId(chat.getId())
           .senderId(chat.getUser().getId())
           .nickname(chat.getUser().getNickname())
           .profileImage(chat.getUser().getImage())
@@ -34,8 +36,49 @@ public class ChatDto {
           .build();
     }
 
-    public Information(Long senderId, String nickname, String profileImage, ChatType type,
-        String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    // 보낸 사람 정보는 참여자 목록의 값 사용 (회원 조회 없음)
+    public static Information fromMember(Chat chat, Member member) {
+      return Information.builder()
+          .chatId(chat.getId())
+          .senderId(member.getUserId())
+          .nickname(member.getNickname())
+          .profileImage(member.getProfileImage())
+          .type(chat.getType())
+          .content(chat.getContent())
+          .createdAt(chat.getCreatedAt())
+          .updatedAt(chat.getUpdatedAt())
+          .build();
+    }
+
+    // 지연 저장된 채팅은 저장 전이므로 chatId 가 없음
+    public static Information fromLogEntry(LogEntry entry, Member member) {
+      return Information.builder()
+          .senderId(member.getUserId())
+          .nickname(member.getNickname())
+          .profileImage(member.getProfileImage())
+          .type(entry.getType())
+          .content(entry.getContent())
+          .createdAt(entry.getCreatedAt())
+          .updatedAt(entry.getCreatedAt())
+          .build();
+    }
+
+    public static Information fromHistory(History history) {
+      return Information.builder()
+          .chatId(history.getChatId())
+          .senderId(history.getSenderId())
+          .nickname(history.getNickname())
+          .profileImage(history.getProfileImage())
+          .type(history.getType())
+          .content(history.getContent())
+          .createdAt(history.getCreatedAt())
+          .updatedAt(history.getUpdatedAt())
+          .build();
+    }
+
+    public Information(Long chatId, Long senderId, String nickname, String profileImage,
+        ChatType type, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+      this.chatId = chatId;
       this.senderId = senderId;
       this.nickname = nickname;
       this.profileImage = profileImage;
@@ -46,11 +89,96 @@ public class ChatDto {
     }
   }
 
-  public interface RoomInformation {
-    @Value("#{target.id}")
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class RoomInformation {
+    private Long chatRoomId;
+    private String name;
+    private Long lastChatId;
+    private LocalDateTime lastChatAt;
+    private int unreadCount;
+
+    public static RoomInformation fromSummary(RoomSummary summary) {
+      return RoomInformation.builder()
+          .chatRoomId(summary.getChatRoomId())
+          .name("[" + summary.getPurchaseType().getDescription() + "] " + summary.getStoreName())
+          .lastChatId(summary.getLastChatId())
+          .lastChatAt(summary.getLastChatAt())
+          .unreadCount(summary.getUnreadCount())
+          .build();
+    }
+  }
+
+  /**
+   * 채팅방 목록 조회 결과 (chat_room_member)
+   */
+  public interface RoomSummary {
     Long getChatRoomId();
-    @Value("#{'[' + target.meeting.purchaseType.getDescription() + '] ' + target.meeting.store.name}")
-    String getName();
+    PurchaseType getPurchaseType();
+    String getStoreName();
+    Long getLastChatId();
+    LocalDateTime getLastChatAt();
+    int getUnreadCount();
+  }
+
+  /**
+   * 채팅방 참여자 (ChatRoomMembership 에 저장)
+   */
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Member {
+    private Long userId;
+    private String nickname;
+    private String profileImage;
+    // 마지막 입장 채팅 id (이후 채팅만 조회 가능)
+    private Long joinedChatId;
+
+    public static Member fromProfile(MemberProfile profile) {
+      return new Member(profile.getUserId(), profile.getNickname(), profile.getProfileImage(),
+          profile.getJoinedChatId());
+    }
+  }
+
+  /**
+   * 지연 저장 로그에 기록된 채팅 (ChatWriteLog)
+   * logId 는 로그에서 읽을 때 채워진다.
+   */
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class LogEntry {
+    private String logId;
+    private Long chatRoomId;
+    private Long userId;
+    private ChatType type;
+    private String content;
+    private LocalDateTime createdAt;
+  }
+
+  public interface MemberProfile {
+    Long getUserId();
+    String getNickname();
+    String getProfileImage();
+    Long getJoinedChatId();
+  }
+
+  /**
+   * 채팅 내역 (보낸 사람 정보를 같은 쿼리로 조회)
+   */
+  public interface History {
+    Long getChatId();
+    Long getSenderId();
+    String getNickname();
+    String getProfileImage();
+    ChatType getType();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
   }
 
   @Data
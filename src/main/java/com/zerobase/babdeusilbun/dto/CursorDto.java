@@ -0,0 +1,56 @@
+package com.zerobase.babdeusilbun.dto;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PARAMETER_INVALID;
+
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class CursorDto {
+
+  /**
+   * 커서 기반 목록 응답
+   * nextCursor 를 다음 요청의 cursor 로 그대로 전달하면 이어지는 목록을 조회한다.
+   */
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class Response<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    // 첫 페이지에서 요청한 경우에만 채워지는 전체 개수 (상한이 있는 근사치)
+    private Long approximateTotal;
+  }
+
+  /**
+   * 디코딩된 커서 (마지막 항목의 정렬 기준 값, 식별자)
+   */
+  public record Key(String sortValue, Long id) {
+
+    public Long longValue() {
+      try {
+        return Long.valueOf(sortValue);
+      } catch (NumberFormatException e) {
+        throw new CustomException(PARAMETER_INVALID);
+      }
+    }
+
+    public LocalDateTime dateTimeValue() {
+      try {
+        return LocalDateTime.parse(sortValue);
+      } catch (DateTimeParseException e) {
+        throw new CustomException(PARAMETER_INVALID);
+      }
+    }
+
+    public boolean hasSortValue() {
+      return sortValue != null && !sortValue.isEmpty();
+    }
+  }
+}
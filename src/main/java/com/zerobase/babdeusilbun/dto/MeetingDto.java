@@ -1,5 +1,7 @@
 package com.zerobase.babdeusilbun.dto;
 
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.enums.MeetingStatus;
 import com.zerobase.babdeusilbun.enums.PurchaseType;
 import jakarta.persistence.Column;
@@ -48,7 +50,40 @@ public class MeetingDto {
 
   private String description;
 
-
-
-
+  public static MeetingDto fromEntity(Meeting meeting, List<StoreImageDto> storeImage) {
+    Store store = meeting.getStore();
+
+    return MeetingDto.builder()
+        .meetingId(meeting.getId())
+        .storeId(store.getId())
+        .storeImage(storeImage)
+        .storeName(store.getName())
+        .purchaseType(meeting.getPurchaseType())
+        .minPurchaseAmount(store.getMinPurchaseAmount())
+        .participantMin(meeting.getMinHeadcount())
+        .participantMax(meeting.getMaxHeadcount())
+        .isEarlyPaymentAvailable(meeting.getIsEarlyPaymentAvailable())
+        .paymentAvailableAt(meeting.getPaymentAvailableDt())
+        .deliveryAddress(DeliveryAddressDto.fromEntity(meeting.getDeliveredAddress()))
+        .metAddress(MetAddressDto.fromEntity(meeting.getMetAddress()))
+        .deliveryFeeRange(
+            calculateFeeRange
+                (store.getDeliveryPrice(), meeting.getMinHeadcount(), meeting.getMaxHeadcount())
+        )
+        .minDeliveryTime(store.getMinDeliveryTime())
+        .maxDeliveryTime(store.getMaxDeliveryTime())
+        .deliveryTimeRange(
+            String.format("%d분 ~ %d분", store.getMinDeliveryTime(), store.getMaxDeliveryTime())
+        )
+        .deliveredAt(meeting.getDeliveredAt())
+        .status(meeting.getStatus())
+        .description(meeting.getDescription())
+        .build();
+  }
+
+  private static String calculateFeeRange(Long amount, int min, int max) {
+    Integer from = (int) ((amount / max) / 10) * 10;
+    Integer to = (int) ((amount / min) / 10) * 10;
+    return String.format("%d원 ~ %d원", from, to);
+  }
 }
@@ -66,4 +66,9 @@ public class MenuDto {
         String getDescription();
         Long getPrice();
     }
+
+    public interface StoreMenuName {
+        Long getStoreId();
+        String getName();
+    }
 }
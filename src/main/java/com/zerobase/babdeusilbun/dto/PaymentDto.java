@@ -1,5 +1,6 @@
 package com.zerobase.babdeusilbun.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.zerobase.babdeusilbun.enums.PaymentGateway;
 import com.zerobase.babdeusilbun.enums.PaymentMethod;
 import java.time.LocalDate;
@@ -97,4 +98,58 @@ public class PaymentDto {
     }
   }
 
+  /**
+   * PG 사 결제 정보 (아임포트 결제 단건 조회 결과)
+   */
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Builder
+  public static class PgPayment {
+
+    private String impUid;
+    private String merchantUid;
+    private String name;
+    private Long amount;
+    private String pgProvider;
+    private String payMethod;
+    private String status;
+
+  }
+
+  /**
+   * 확인 대기 중인 결제 (결제 요청 ~ 확인 사이, 웹훅 처리용)
+   */
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Builder
+  public static class Pending {
+
+    private Long userId;
+    private Long meetingId;
+    private Long purchaseId;
+    private Temporary temporary;
+
+  }
+
+  /**
+   * 아임포트 웹훅 요청
+   */
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Builder
+  public static class WebhookRequest {
+
+    @JsonProperty("imp_uid")
+    private String impUid;
+
+    @JsonProperty("merchant_uid")
+    private String merchantUid;
+
+    private String status;
+
+  }
+
 }
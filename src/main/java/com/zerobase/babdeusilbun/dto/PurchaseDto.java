@@ -1,7 +1,9 @@
 package com.zerobase.babdeusilbun.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
 import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Menu;
 import com.zerobase.babdeusilbun.enums.MeetingStatus;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -40,6 +42,57 @@ public class PurchaseDto {
   }
 
 
+  /**
+   * Redis 장바구니에 담긴 메뉴 (담을 때의 메뉴 정보로 계산)
+   * lineId, ownerId(공동 주문은 모임 id, 개별 주문은 주문 id) 는 저장하지 않고 조회할 때 채운다.
+   */
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Builder(toBuilder = true)
+  public static class CartLine {
+
+    @JsonIgnore
+    private Long lineId;
+    @JsonIgnore
+    private Long ownerId;
+
+    private Long menuId;
+    private String name;
+    private String image;
+    private String description;
+    private Long price;
+    private Integer quantity;
+
+    public static CartLine fromMenu(Menu menu, Integer quantity) {
+      return CartLine.builder()
+          .menuId(menu.getId())
+          .name(menu.getName())
+          .image(menu.getImage())
+          .description(menu.getDescription())
+          .price(menu.getPrice())
+          .quantity(quantity)
+          .build();
+    }
+
+    @JsonIgnore
+    public Long getPaymentPrice() {
+      return price * quantity;
+    }
+
+    public PurchaseResponse.Item toItem() {
+      return PurchaseResponse.Item.builder()
+          .purchaseId(lineId)
+          .menuId(menuId)
+          .name(name)
+          .image(image)
+          .description(description)
+          .price(price)
+          .quantity(quantity)
+          .build();
+    }
+  }
+
   @Getter
   @AllArgsConstructor
   @NoArgsConstructor(access = AccessLevel.PROTECTED)
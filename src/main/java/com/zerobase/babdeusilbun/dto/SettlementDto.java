@@ -0,0 +1,38 @@
+package com.zerobase.babdeusilbun.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class SettlementDto {
+
+  /**
+   * 참여자 한 명의 환급 내역
+   */
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class Refund {
+    private Long purchaseId;
+    private Long purchasePaymentId;
+    private Long userId;
+    private Long amount;
+  }
+
+  /**
+   * 모임 정산 결과
+   * storePaymentAmount 는 모임에서 상점으로 결제해야 하는 금액 (주문 거절 시 0)
+   */
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class Summary {
+    private Long meetingId;
+    private int participantCount;
+    private Long totalRefund;
+    private Long storePaymentAmount;
+    private List<Refund> refunds;
+  }
+
+}
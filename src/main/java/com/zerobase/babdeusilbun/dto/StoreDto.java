@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.querydsl.core.annotations.QueryProjection;
 import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.domain.StoreCard;
 import com.zerobase.babdeusilbun.domain.StoreImage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalTime;
@@ -52,6 +53,30 @@ public class StoreDto {
           .closeTime(store.getCloseTime())
           .build();
     }
+
+    // 목록 카드는 대표 이미지만 포함
+    public static Information fromStoreCard(StoreCard storeCard) {
+      return Information.builder()
+          .storeId(storeCard.getStoreId())
+          .entrepreneurId(storeCard.getEntrepreneurId())
+          .name(storeCard.getName())
+          .image((storeCard.getThumbnailUrl() == null) ? List.of() : List.of(
+              StoreImageDto.builder()
+                  .imageId(storeCard.getThumbnailImageId())
+                  .url(storeCard.getThumbnailUrl())
+                  .build()))
+          .description(storeCard.getDescription())
+          .minPurchasePrice(storeCard.getMinPurchaseAmount())
+          .minDeliveryTime(storeCard.getMinDeliveryTime())
+          .maxDeliveryTime(storeCard.getMaxDeliveryTime())
+          .deliveryTimeRange(storeCard.getMinDeliveryTime() + "분 ~ " + storeCard.getMaxDeliveryTime() + "분")
+          .deliveryPrice(storeCard.getDeliveryPrice())
+          .address(AddressDto.fromEntity(storeCard.getAddress()))
+          .phoneNumber(storeCard.getPhoneNumber())
+          .openTime(storeCard.getOpenTime())
+          .closeTime(storeCard.getCloseTime())
+          .build();
+    }
   }
 
   @Data
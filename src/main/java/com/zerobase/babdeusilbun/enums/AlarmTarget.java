@@ -0,0 +1,16 @@
+package com.zerobase.babdeusilbun.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AlarmTarget {
+
+  USER("이용자"),
+  ENTREPRENEUR("사업자");
+
+  private final String description;
+
+  AlarmTarget(String description) {
+    this.description = description;
+  }
+}
@@ -5,6 +5,7 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import lombok.Getter;
@@ -73,11 +74,13 @@ public enum ErrorCode {
   PURCHASE_STATUS_CANCEL(NOT_FOUND, "this participant cancel that purchase"),
   NO_AUTH_ON_PURCHASE(FORBIDDEN, "no auth to use or modify or delete this purchase"),
   PURCHASE_MEETING_NOT_MATCH(BAD_REQUEST, "purchase and meeting are not match"),
+  PURCHASE_CART_EMPTY(BAD_REQUEST, "there is no menu in cart"),
 
   INVALID_PURCHASE_SEND_TO_STORE(BAD_REQUEST, "cannot send purchase to store."),
 
   // 팀 주문 관련
   ALREADY_EXIST_TEAM_PURCHASE(CONFLICT, "already have team_purchase which user want to enroll."),
+  TEAM_PURCHASE_FROZEN(CONFLICT, "team_purchase cannot be changed after payment is requested."),
 
   // 개별 주문 관련
   ALREADY_EXIST_INDIVIDUAL_PURCHASE(CONFLICT, "already have individual_purchase which user want to enroll."),
@@ -118,6 +121,7 @@ public enum ErrorCode {
 
   // 결제 관련
   IAMPORT_SERVER_ERROR(INTERNAL_SERVER_ERROR, "something wrong occur during connection iamport server"),
+  IAMPORT_UNAVAILABLE(SERVICE_UNAVAILABLE, "iamport server is temporarily unavailable"),
   PAYMENT_STATUS_INVALID(BAD_REQUEST, "this status code is invalid"),
   PAYMENT_GATEWAY_INVALID(BAD_REQUEST, "this pg code is invalid"),
   PAYMENT_METHOD_INVALID(BAD_REQUEST, "this pm code is invalid"),
@@ -128,6 +132,7 @@ public enum ErrorCode {
   // 채팅 관련
   CHATROOM_NOT_FOUND(NOT_FOUND, "couldn't find chatroom."),
   CANNOT_PROCESS_IN_CHATROOM(FORBIDDEN, "user who have already left or never entered cannot process."),
+  CHAT_CONTENT_INVALID(BAD_REQUEST, "chat content must not be null or longer than 255 characters."),
 
   // Redisson 관련
   REDISSON_LOCK_FAIL_OBTAIN(INTERNAL_SERVER_ERROR, "something wrong occur during get redisson lock"),
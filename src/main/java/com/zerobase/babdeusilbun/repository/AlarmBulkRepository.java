@@ -0,0 +1,35 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import com.zerobase.babdeusilbun.util.BulkInsertUtility;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 다건 저장
+ * 알림 테이블은 IDENTITY 키라 JPA 배치 저장이 되지 않으므로 다중 행 INSERT 로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmBulkRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertUserAlarms(List<AlarmDto.Message> messages, LocalDateTime now) {
+    insertAll("user_alarm", "user_id", messages, now);
+  }
+
+  public void insertEntrepreneurAlarms(List<AlarmDto.Message> messages, LocalDateTime now) {
+    insertAll("entrepreneur_alarm", "entrepreneur_id", messages, now);
+  }
+
+  private void insertAll(String table, String recipientColumn, List<AlarmDto.Message> messages,
+      LocalDateTime now) {
+    BulkInsertUtility.insertAll(jdbcTemplate, String.format(
+            "INSERT INTO %s (created_at, updated_at, %s, type, content) VALUES", table, recipientColumn),
+        messages, message -> new Object[]{
+            now, now, message.getRecipientId(), message.getType(), message.getContent()});
+  }
+}
@@ -0,0 +1,15 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.domain.AlarmOutbox;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AlarmOutboxRepository extends JpaRepository<AlarmOutbox, Long> {
+
+  // 오래된 순으로 전송 대기 알림 묶음을 잠금
+  @Query(value = "SELECT * FROM alarm_outbox ORDER BY alarm_outbox_id LIMIT :limit FOR UPDATE",
+      nativeQuery = true)
+  List<AlarmOutbox> lockPendingOutboxes(@Param("limit") int limit);
+}
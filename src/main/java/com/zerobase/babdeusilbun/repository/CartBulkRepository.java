@@ -0,0 +1,46 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
+import com.zerobase.babdeusilbun.util.BulkInsertUtility;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장바구니 다건 저장 (Redis 장바구니를 결제 요청 때 저장)
+ * team_purchase, individual_purchase 는 IDENTITY 키라 JPA 배치 저장이 되지 않으므로 다중 행 INSERT 로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartBulkRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void insertTeamPurchases(Long meetingId, List<CartLine> lines) {
+    insertAll("INSERT INTO team_purchase "
+        + "(created_at, updated_at, meeting_id, menu_id, quantity, payment_price) VALUES",
+        meetingId, lines);
+  }
+
+  /**
+   * 주문의 개별 주문을 모두 지우고 다시 저장
+   */
+  @Transactional
+  public void replaceIndividualPurchases(Long purchaseId, List<CartLine> lines) {
+    jdbcTemplate.update("DELETE FROM individual_purchase WHERE purchase_id = ?", purchaseId);
+
+    insertAll("INSERT INTO individual_purchase "
+        + "(created_at, updated_at, purchase_id, menu_id, quantity, payment_price) VALUES",
+        purchaseId, lines);
+  }
+
+  private void insertAll(String insert, Long ownerId, List<CartLine> lines) {
+    LocalDateTime now = LocalDateTime.now();
+
+    BulkInsertUtility.insertAll(jdbcTemplate, insert, lines, line -> new Object[]{
+        now, now, ownerId, line.getMenuId(), line.getQuantity(), line.getPaymentPrice()});
+  }
+}
@@ -0,0 +1,71 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.util.BulkInsertUtility;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅 다건 저장 (지연 저장)
+ * chat 테이블은 IDENTITY 키라 JPA 배치 저장이 되지 않으므로 다중 행 INSERT 로 저장한다.
+ * 같은 로그 항목이 다시 처리되면 log_id 유니크 키 충돌로 해당 행만 갱신 없이 넘어가고,
+ * 그 밖의 오류 (외래 키, 길이 초과 등) 는 예외로 던져 배치 전체를 되돌리며,
+ * ChatWriteBehindWriter 가 한 건씩 다시 저장해 문제 항목만 따로 보관한다.
+ * 저장과 같은 트랜잭션에서 채팅방별로 chat_room_member 의 마지막 채팅, 안 읽은 수를 한 번씩 갱신한다.
+ * (다시 처리된 항목은 안 읽은 수에 한 번 더 더해질 수 있으며, 읽음 처리 시 0 이 된다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatBulkRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void insertAll(List<LogEntry> entries) {
+    BulkInsertUtility.insertAll(jdbcTemplate, "INSERT INTO chat "
+            + "(created_at, updated_at, chat_room_id, user_id, type, content, log_id) VALUES",
+        " ON DUPLICATE KEY UPDATE log_id = log_id", entries,
+        entry -> new Object[]{entry.getCreatedAt(), entry.getCreatedAt(),
+            entry.getChatRoomId(), entry.getUserId(), entry.getType().name(), entry.getContent(),
+            entry.getLogId()});
+
+    entries.stream()
+        .collect(Collectors.groupingBy(LogEntry::getChatRoomId, LinkedHashMap::new, Collectors.toList()))
+        .forEach(this::updateChatRoomMembers);
+  }
+
+  // 참여자별 안 읽은 수 = 채팅방 채팅 수 - 본인이 보낸 채팅 수
+  private void updateChatRoomMembers(Long chatRoomId, List<LogEntry> entries) {
+    Map<Long, Long> sentCounts = entries.stream()
+        .collect(Collectors.groupingBy(LogEntry::getUserId, Collectors.counting()));
+    LocalDateTime lastChatAt = entries.stream()
+        .map(LogEntry::getCreatedAt)
+        .max(Comparator.naturalOrder())
+        .orElseThrow();
+
+    StringBuilder sql = new StringBuilder("UPDATE chat_room_member SET "
+        + "last_chat_id = GREATEST(COALESCE(last_chat_id, 0), "
+        + "(SELECT MAX(c.chat_id) FROM chat c WHERE c.chat_room_id = ?)), "
+        + "last_chat_at = GREATEST(COALESCE(last_chat_at, ?), ?), "
+        + "unread_count = unread_count + ? - CASE user_id");
+    List<Object> args = new ArrayList<>(List.of(chatRoomId, lastChatAt, lastChatAt, entries.size()));
+
+    sentCounts.forEach((userId, count) -> {
+      sql.append(" WHEN ? THEN ?");
+      args.add(userId);
+      args.add(count);
+    });
+    sql.append(" ELSE 0 END WHERE chat_room_id = ? AND active = true");
+    args.add(chatRoomId);
+
+    jdbcTemplate.update(sql.toString(), args.toArray());
+  }
+}
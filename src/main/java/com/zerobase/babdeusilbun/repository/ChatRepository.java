@@ -1,41 +1,37 @@
 package com.zerobase.babdeusilbun.repository;
 
 import com.zerobase.babdeusilbun.domain.Chat;
-import com.zerobase.babdeusilbun.domain.ChatRoom;
-import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.ChatDto.History;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ChatRepository extends JpaRepository<Chat, Long> {
-  Optional<Chat> findTopByChatRoomAndUserOrderByCreatedAtDesc(ChatRoom chatRoom, User user);
+  Optional<Chat> findTopByChatRoomIdAndUserIdAndTypeOrderByIdDesc(
+      Long chatRoomId, Long userId, ChatType type);
 
-  @Query("SELECT COUNT(c) " +
+  /**
+   * 입장 이후 채팅 중 before 이전 채팅 (최신순)
+   * 지연 저장된 채팅은 나중에 저장된 입장/퇴장보다 chat_id 가 클 수 있으므로 chat_id 가 아니라
+   * 보낸 시각 (created_at, chat_id) 순서로 비교한다. 입장 채팅과 before 채팅의 시각은 id 로 조인해 가져온다.
+   * (chat_room_id, created_at, chat_id) 인덱스 범위 조회라 오래된 내역도 offset 없이 일정한 비용으로 조회
+   */
+  @Query("SELECT c.id AS chatId, u.id AS senderId, u.nickname AS nickname, " +
+      "u.image AS profileImage, c.type AS type, c.content AS content, " +
+      "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
       "FROM Chat c " +
-      "WHERE c.chatRoom = :chatRoom " +
-      "AND c.createdAt > (" +
-      "  SELECT MAX(c2.createdAt) " +
-      "  FROM Chat c2 " +
-      "  WHERE c2.chatRoom = :chatRoom " +
-      "  AND c2.user = :user " +
-      "  AND c2.type = 'ENTER'" +
-      ")")
-  int countChatsInRoomAfterUserEntered(@Param("chatRoom") ChatRoom chatRoom, @Param("user") User user);
-
-  @Query("SELECT c " +
-      "FROM Chat c " +
-      "WHERE c.chatRoom = :chatRoom " +
-      "AND c.createdAt > (" +
-      "  SELECT MAX(c2.createdAt) " +
-      "  FROM Chat c2 " +
-      "  WHERE c2.chatRoom = :chatRoom " +
-      "  AND c2.user = :user " +
-      "  AND c2.type = 'ENTER'" +
-      ") " +
-      "ORDER BY c.createdAt DESC")
-  Page<Chat> findChatsInRoomAfterUserEntered(
-      @Param("chatRoom") ChatRoom chatRoom, @Param("user") User user, Pageable pageable);
+      "JOIN c.user u " +
+      "JOIN Chat j ON j.id = :joinedChatId " +
+      "LEFT JOIN Chat b ON b.id = :before " +
+      "WHERE c.chatRoom.id = :chatRoomId " +
+      "AND (c.createdAt > j.createdAt OR (c.createdAt = j.createdAt AND c.id > j.id)) " +
+      "AND (b.id IS NULL OR c.createdAt < b.createdAt " +
+      "OR (c.createdAt = b.createdAt AND c.id < b.id)) " +
+      "ORDER BY c.createdAt DESC, c.id DESC")
+  List<History> findHistory(@Param("chatRoomId") Long chatRoomId,
+      @Param("joinedChatId") Long joinedChatId, @Param("before") Long before, Pageable pageable);
 }
@@ -0,0 +1,93 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.domain.ChatRoomMember;
+import com.zerobase.babdeusilbun.dto.ChatDto.MemberProfile;
+import com.zerobase.babdeusilbun.dto.ChatDto.RoomSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember, Long> {
+
+  Optional<ChatRoomMember> findByChatRoomIdAndUserId(Long chatRoomId, Long userId);
+
+  // (user_id, active, last_chat_at) 인덱스 범위 조회
+  @Query(value = "SELECT cr.id AS chatRoomId, m.purchaseType AS purchaseType, s.name AS storeName, " +
+      "crm.lastChatId AS lastChatId, crm.lastChatAt AS lastChatAt, crm.unreadCount AS unreadCount " +
+      "FROM ChatRoomMember crm " +
+      "JOIN crm.chatRoom cr " +
+      "JOIN cr.meeting m " +
+      "JOIN m.store s " +
+      "WHERE crm.user.id = :userId " +
+      "AND crm.active = true " +
+      "ORDER BY crm.lastChatAt DESC, cr.id DESC",
+      countQuery = "SELECT COUNT(crm) FROM ChatRoomMember crm " +
+          "WHERE crm.user.id = :userId AND crm.active = true")
+  Page<RoomSummary> findRoomSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+  int countByUserIdAndActiveTrue(Long userId);
+
+  @Query("SELECT u.id AS userId, u.nickname AS nickname, u.image AS profileImage, " +
+      "crm.joinedChatId AS joinedChatId " +
+      "FROM ChatRoomMember crm " +
+      "JOIN crm.user u " +
+      "WHERE crm.chatRoom.id = :chatRoomId " +
+      "AND crm.active = true")
+  List<MemberProfile> findMembersByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+  @Query("SELECT crm.chatRoom.id FROM ChatRoomMember crm " +
+      "WHERE crm.user.id = :userId AND crm.active = true")
+  List<Long> findChatRoomIdsByUserId(@Param("userId") Long userId);
+
+  /**
+   * 채팅 한 건 저장 후 참여자 전체의 마지막 채팅, 보낸 사람을 제외한 안 읽은 수 갱신
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("update ChatRoomMember crm " +
+      "set crm.lastChatId = :chatId, crm.lastChatAt = :chatAt, " +
+      "crm.unreadCount = crm.unreadCount + (case when crm.user.id = :senderId then 0 else 1 end) " +
+      "where crm.chatRoom.id = :chatRoomId and crm.active = true")
+  int updateLastChat(@Param("chatRoomId") Long chatRoomId, @Param("chatId") Long chatId,
+      @Param("chatAt") LocalDateTime chatAt, @Param("senderId") Long senderId);
+
+  @Modifying(flushAutomatically = true)
+  @Query("update ChatRoomMember crm " +
+      "set crm.unreadCount = 0, crm.lastReadChatId = crm.lastChatId " +
+      "where crm.chatRoom.id = :chatRoomId and crm.user.id = :userId and crm.active = true")
+  int markRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+  @Modifying(flushAutomatically = true)
+  @Query("update ChatRoomMember crm set crm.active = false " +
+      "where crm.chatRoom.id = :chatRoomId and crm.user.id = :userId")
+  int deactivate(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+  /**
+   * 기존 채팅 내역으로 참여 정보 생성 (테이블이 비어 있을 때 한 번)
+   * 채팅방별 마지막 채팅을 기준으로 모두 읽은 상태로 만든다.
+   * 참여 여부는 마지막 입장/퇴장 채팅으로 정한다. (지연 저장된 일반 채팅은 퇴장보다 chat_id 가 클 수 있음)
+   */
+  @Modifying
+  @Query(value = "INSERT INTO chat_room_member " +
+      "(created_at, updated_at, chat_room_id, user_id, active, joined_chat_id, " +
+      "last_chat_id, last_chat_at, last_read_chat_id, unread_count) " +
+      "SELECT NOW(6), NOW(6), m.chat_room_id, m.user_id, lc.type <> 'LEAVE', m.joined_chat_id, " +
+      "r.last_chat_id, r.last_chat_at, r.last_chat_id, 0 " +
+      "FROM (" +
+      "  SELECT chat_room_id, user_id, " +
+      "  COALESCE(MAX(CASE WHEN type <> 'CHAT' THEN chat_id END), MAX(chat_id)) AS latest_chat_id, " +
+      "  COALESCE(MAX(CASE WHEN type = 'ENTER' THEN chat_id END), MIN(chat_id)) AS joined_chat_id " +
+      "  FROM chat GROUP BY chat_room_id, user_id" +
+      ") m " +
+      "JOIN chat lc ON lc.chat_id = m.latest_chat_id " +
+      "JOIN (" +
+      "  SELECT chat_room_id, MAX(chat_id) AS last_chat_id, MAX(created_at) AS last_chat_at " +
+      "  FROM chat GROUP BY chat_room_id" +
+      ") r ON r.chat_room_id = m.chat_room_id", nativeQuery = true)
+  int rebuildAll();
+}
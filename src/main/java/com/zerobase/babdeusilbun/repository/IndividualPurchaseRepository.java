@@ -1,9 +1,9 @@
 package com.zerobase.babdeusilbun.repository;
 
 import com.zerobase.babdeusilbun.domain.IndividualPurchase;
-import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Menu;
 import com.zerobase.babdeusilbun.domain.Purchase;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,7 +11,9 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface IndividualPurchaseRepository extends JpaRepository<IndividualPurchase, Long> {
 
@@ -23,12 +25,9 @@ public interface IndividualPurchaseRepository extends JpaRepository<IndividualPu
 
   boolean existsAllByMenuAndPurchase(Menu menu, Purchase purchase);
 
-  Optional<IndividualPurchase> findAllById(Long indiviualPurchaseId);
-
-  @Query("select COALESCE(sum(ip.paymentPrice), 0) "
-        + "from IndividualPurchase ip "
-        + "join Purchase p on ip.purchase = p "
-        + "join Meeting m on p.meeting = m "
-        + "where m = :meeting")
-  Long getMeetingTotalPrice(Meeting meeting);
+  // 수량 변경/삭제용 (장바구니 합계에 반영할 이전 금액을 다른 요청과 겹치지 않게 읽음)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select ip from IndividualPurchase ip where ip.id = :individualPurchaseId")
+  Optional<IndividualPurchase> findForUpdateById(
+      @Param("individualPurchaseId") Long individualPurchaseId);
 }
@@ -2,11 +2,25 @@ package com.zerobase.babdeusilbun.repository;
 
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.MeetingPurchaseTime;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MeetingPurchaseTimeRepository extends JpaRepository<MeetingPurchaseTime, Long> {
   Optional<MeetingPurchaseTime> findByMeeting(Meeting meeting);
+
+  // 모임별 주문 시간 기록 (한 번의 INSERT ... SELECT)
+  @Modifying
+  @Query(value = "INSERT INTO meeting_purchase_time (created_at, updated_at, meeting_id, store_id) "
+      + "SELECT :now, :now, m.meeting_id, m.store_id FROM meeting m "
+      + "WHERE m.meeting_id IN (:meetingIds)",
+      nativeQuery = true)
+  int insertAllByMeetingIds(@Param("meetingIds") List<Long> meetingIds,
+      @Param("now") LocalDateTime now);
 }
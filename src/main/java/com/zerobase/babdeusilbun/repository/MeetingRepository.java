@@ -3,15 +3,18 @@ package com.zerobase.babdeusilbun.repository;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.MenuResponse;
 import com.zerobase.babdeusilbun.enums.MeetingStatus;
 import com.zerobase.babdeusilbun.repository.custom.CustomMeetingRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,6 +33,24 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, CustomM
       + "and m.status != 'MEETING_CANCELLED' and m.status != 'MEETING_COMPLETED' ")
   List<Meeting> findProceedingByParticipant(@Param("participant") User participant);
 
+  // 마감 시간이 지난 모집중 모임 (행 잠금)
+  @Query(value = "SELECT meeting_id FROM meeting "
+      + "WHERE status = 'GATHERING' AND payment_available_dt <= :now "
+      + "ORDER BY payment_available_dt, meeting_id LIMIT :limit FOR UPDATE",
+      nativeQuery = true)
+  List<Long> lockDueMeetingIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  // 모임별 상점 사업자 (마감 모임 주문 접수 알림)
+  @Query("select s.entrepreneur.id as entrepreneurId, s.name as storeName "
+      + "from Meeting m join m.store s where m.id in :ids")
+  List<AlarmDto.StoreOwner> findStoreOwnersByIdIn(@Param("ids") List<Long> ids);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Meeting m set m.status = :to, m.updatedAt = :now "
+      + "where m.id in :ids and m.status = :from")
+  int updateStatusByIdIn(@Param("ids") List<Long> ids, @Param("from") MeetingStatus from,
+      @Param("to") MeetingStatus to, @Param("now") LocalDateTime now);
+
   @Query("select m from Meeting m where m.id = :id")
   @EntityGraph(attributePaths = "store")
   Optional<Meeting> findWithStoreById(@Param("id") Long id);
@@ -93,4 +114,60 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, CustomM
       nativeQuery = true)
   Page<MenuResponse> findAllPurchaseMenuByMeetingAndStatus(@Param("meetingId") Long meetingId,
       @Param("status") String status, Pageable pageable);
+
+  // 공동 주문 장바구니 합계 증감 (첫 메뉴 이름은 비어 있을 때만 채움)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE meeting SET team_item_count = team_item_count + :count, "
+      + "team_total_price = team_total_price + :price, "
+      + "team_first_item_name = COALESCE(team_first_item_name, :name) "
+      + "WHERE meeting_id = :meetingId", nativeQuery = true)
+  int addTeamCartTotal(@Param("meetingId") Long meetingId, @Param("count") int count,
+      @Param("price") long price, @Param("name") String name);
+
+  // 공동 주문 삭제 후 남은 메뉴 중 가장 먼저 담긴 메뉴 이름으로 갱신 (없으면 null)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE meeting SET team_first_item_name = ("
+      + "SELECT mn.name FROM team_purchase tp JOIN menu mn ON mn.menu_id = tp.menu_id "
+      + "WHERE tp.meeting_id = :meetingId ORDER BY tp.team_purchase_id LIMIT 1) "
+      + "WHERE meeting_id = :meetingId", nativeQuery = true)
+  int refreshTeamFirstItemName(@Param("meetingId") Long meetingId);
+
+  // 모임 전체 개별 주문 합계 증감
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE meeting SET individual_total_price = individual_total_price + :price "
+      + "WHERE meeting_id = :meetingId", nativeQuery = true)
+  int addIndividualCartTotal(@Param("meetingId") Long meetingId, @Param("price") long price);
+
+  // 모임 전체 개별 주문 합계에서 주문의 기존 합계를 price 로 교체 (주문 합계를 바꾸기 전에 호출)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE meeting SET individual_total_price = individual_total_price + :price - "
+      + "(SELECT p.total_price FROM purchase p WHERE p.purchase_id = :purchaseId) "
+      + "WHERE meeting_id = :meetingId", nativeQuery = true)
+  int replaceIndividualCartTotal(@Param("meetingId") Long meetingId,
+      @Param("purchaseId") Long purchaseId, @Param("price") long price);
+
+  // 합계 컬럼 추가 전에 담긴 공동 주문 장바구니 합계 채우기 (메뉴가 있는데 합계가 비어 있는 모임만)
+  @Modifying
+  @Query(value = "UPDATE meeting m JOIN ("
+      + "  SELECT meeting_id, COUNT(*) AS item_count, SUM(payment_price) AS total_price, "
+      + "  MIN(team_purchase_id) AS first_id FROM team_purchase GROUP BY meeting_id"
+      + ") t ON t.meeting_id = m.meeting_id "
+      + "JOIN team_purchase f ON f.team_purchase_id = t.first_id "
+      + "JOIN menu mn ON mn.menu_id = f.menu_id "
+      + "SET m.team_item_count = t.item_count, m.team_total_price = t.total_price, "
+      + "m.team_first_item_name = mn.name "
+      + "WHERE m.team_item_count = 0", nativeQuery = true)
+  int backfillTeamCartTotals();
+
+  // 합계 컬럼 추가 전에 담긴 모임 전체 개별 주문 합계 채우기
+  @Modifying
+  @Query(value = "UPDATE meeting m JOIN ("
+      + "  SELECT p.meeting_id, SUM(ip.payment_price) AS total_price "
+      + "  FROM purchase p JOIN individual_purchase ip ON ip.purchase_id = p.purchase_id "
+      + "  GROUP BY p.meeting_id"
+      + ") t ON t.meeting_id = m.meeting_id "
+      + "SET m.individual_total_price = t.total_price "
+      + "WHERE m.individual_total_price = 0", nativeQuery = true)
+  int backfillIndividualCartTotals();
+
 }
@@ -3,10 +3,14 @@ package com.zerobase.babdeusilbun.repository;
 import com.zerobase.babdeusilbun.domain.Menu;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.dto.MenuDto.Information;
+import com.zerobase.babdeusilbun.dto.MenuDto.StoreMenuName;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
     Optional<Menu> findByIdAndDeletedAtIsNull(Long menuId);
@@ -14,4 +18,10 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     boolean existsByStoreAndNameAndPriceAndDeletedAtIsNull(Store store, String name, long price);
     int countByStoreAndDeletedAtIsNull(Store store);
     Page<Information> findByStoreAndDeletedAtIsNull(Store store, Pageable pageable);
+
+    @Query("SELECT m.name FROM Menu m WHERE m.store = :store AND m.deletedAt IS NULL ORDER BY m.id")
+    List<String> findNamesByStore(@Param("store") Store store);
+
+    @Query("SELECT m.store.id AS storeId, m.name AS name FROM Menu m WHERE m.deletedAt IS NULL")
+    List<StoreMenuName> findAllStoreMenuNames();
 }
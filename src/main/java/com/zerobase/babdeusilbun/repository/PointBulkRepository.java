@@ -0,0 +1,81 @@
+package com.zerobase.babdeusilbun.repository;
+
+import static com.zerobase.babdeusilbun.util.BulkInsertUtility.ROWS_PER_STATEMENT;
+
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.SettlementDto;
+import com.zerobase.babdeusilbun.enums.PointType;
+import com.zerobase.babdeusilbun.util.BulkInsertUtility;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 정산 시 포인트 다건 처리
+ * 포인트 내역은 다중 행 INSERT, 이용자 잔액은 CASE 식 UPDATE 한 번으로 반영한다.
+ * JDBC 로 직접 갱신하므로 같은 트랜잭션에서 이미 불러온 User 엔티티는 갱신 후 다시 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBulkRepository {
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  public void insertRefundPoints(List<SettlementDto.Refund> refunds, PointType type, LocalDateTime now) {
+    BulkInsertUtility.insertAll(jdbcTemplate, "INSERT INTO point "
+            + "(created_at, updated_at, user_id, purchase_payment_id, type, content, amount) VALUES",
+        refunds, refund -> new Object[]{now, now, refund.getUserId(),
+            refund.getPurchasePaymentId(), type.name(), type.getContent(), refund.getAmount()});
+  }
+
+  // 이용자별 잔액 증감 (userId -> 증감량)
+  public void addUserPoints(Map<Long, Long> deltas, LocalDateTime now) {
+    // 다시 읽을 때 반영 전 변경이 사라지지 않도록 먼저 반영
+    entityManager.flush();
+
+    List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+    for (int from = 0; from < entries.size(); from += ROWS_PER_STATEMENT) {
+      List<Map.Entry<Long, Long>> chunk =
+          entries.subList(from, Math.min(from + ROWS_PER_STATEMENT, entries.size()));
+
+      String sql = "UPDATE users SET point = point + CASE user_id "
+          + String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?"))
+          + " END, updated_at = ? WHERE user_id IN ("
+          + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+      Object[] args = new Object[chunk.size() * 3 + 1];
+      int i = 0;
+      for (Map.Entry<Long, Long> entry : chunk) {
+        args[i++] = entry.getKey();
+        args[i++] = entry.getValue();
+      }
+      args[i++] = now;
+      for (Map.Entry<Long, Long> entry : chunk) {
+        args[i++] = entry.getKey();
+      }
+
+      jdbcTemplate.update(sql, args);
+    }
+
+    refreshLoadedUsers(deltas.keySet());
+  }
+
+  // 불러오지 않은 회원(프록시)은 나중에 읽을 때 갱신된 잔액을 읽으므로 제외
+  private void refreshLoadedUsers(Collection<Long> userIds) {
+    for (Long userId : userIds) {
+      User user = entityManager.getReference(User.class, userId);
+      if (Hibernate.isInitialized(user)) {
+        entityManager.refresh(user);
+      }
+    }
+  }
+}
@@ -3,6 +3,8 @@ package com.zerobase.babdeusilbun.repository;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.PurchasePayment;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.enums.PurchaseStatus;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,4 +21,12 @@ public interface PurchasePaymentRepository extends JpaRepository<PurchasePayment
       + "order by pp.createdAt desc ")
   Optional<PurchasePayment> findByMeetingAndUser(@Param("meeting") Meeting meeting, @Param("participant") User participant);
 
+  // 정산용: 모임의 주문 상태별 결제 스냅샷 (주문별 최신 스냅샷이 먼저 오도록 정렬)
+  @Query("select pp from PurchasePayment pp "
+      + "join fetch pp.purchase p "
+      + "where p.meeting = :meeting and p.status = :status "
+      + "order by p.id, pp.createdAt desc, pp.id desc ")
+  List<PurchasePayment> findAllByMeetingAndPurchaseStatus(
+      @Param("meeting") Meeting meeting, @Param("status") PurchaseStatus status);
+
 }
@@ -5,12 +5,15 @@ import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Purchase;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.enums.PurchaseStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,6 +37,15 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
 
   List<Purchase> findAllByMeetingAndStatus(Meeting meeting, PurchaseStatus status);
 
+  long countByMeetingAndStatus(Meeting meeting, PurchaseStatus status);
+
+  // 모임의 주문 상태 일괄 변경 (정산)
+  @Modifying(flushAutomatically = true)
+  @Query("update Purchase p set p.status = :to, p.updatedAt = :now "
+      + "where p.meeting = :meeting and p.status = :from")
+  int updateStatusByMeeting(@Param("meeting") Meeting meeting, @Param("from") PurchaseStatus from,
+      @Param("to") PurchaseStatus to, @Param("now") LocalDateTime now);
+
   @EntityGraph(attributePaths = {"meeting", "user"})
   Optional<Purchase> findByMeetingAndUser(Meeting meeting, User user);
 
@@ -58,4 +70,46 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
   void updateUserPreviousMeetingPurchaseStatusFromprepurchaseToCancel(@Param("meeting") Meeting meeting, @Param("user") User user);
 
   Optional<Purchase> findByMeetingAndUserAndStatusIsNot(Meeting meeting, User user, PurchaseStatus purchaseStatus);
+
+  // 개별 주문 장바구니 합계 증감 (첫 메뉴 이름은 비어 있을 때만 채움)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE purchase SET item_count = item_count + :count, "
+      + "total_price = total_price + :price, "
+      + "first_item_name = COALESCE(first_item_name, :name) "
+      + "WHERE purchase_id = :purchaseId", nativeQuery = true)
+  int addCartTotal(@Param("purchaseId") Long purchaseId, @Param("count") int count,
+      @Param("price") long price, @Param("name") String name);
+
+  // 개별 주문 삭제 후 남은 메뉴 중 가장 먼저 담긴 메뉴 이름으로 갱신 (없으면 null)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE purchase SET first_item_name = ("
+      + "SELECT mn.name FROM individual_purchase ip JOIN menu mn ON mn.menu_id = ip.menu_id "
+      + "WHERE ip.purchase_id = :purchaseId ORDER BY ip.individual_purchase_id LIMIT 1) "
+      + "WHERE purchase_id = :purchaseId", nativeQuery = true)
+  int refreshFirstItemName(@Param("purchaseId") Long purchaseId);
+
+  // Redis 장바구니 저장용 (같은 주문의 결제 요청이 겹쳐 개별 주문이 두 번 저장되지 않게 함)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select p from Purchase p where p.id = :purchaseId")
+  Optional<Purchase> findForUpdateById(@Param("purchaseId") Long purchaseId);
+
+  // 개별 주문 장바구니 합계 교체 (Redis 장바구니 저장)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE purchase SET item_count = :count, total_price = :price, "
+      + "first_item_name = :name WHERE purchase_id = :purchaseId", nativeQuery = true)
+  int setCartTotal(@Param("purchaseId") Long purchaseId, @Param("count") int count,
+      @Param("price") long price, @Param("name") String name);
+
+  // 합계 컬럼 추가 전에 담긴 장바구니 합계 채우기 (메뉴가 있는데 합계가 비어 있는 주문만)
+  @Modifying
+  @Query(value = "UPDATE purchase p JOIN ("
+      + "  SELECT purchase_id, COUNT(*) AS item_count, SUM(payment_price) AS total_price, "
+      + "  MIN(individual_purchase_id) AS first_id FROM individual_purchase GROUP BY purchase_id"
+      + ") t ON t.purchase_id = p.purchase_id "
+      + "JOIN individual_purchase f ON f.individual_purchase_id = t.first_id "
+      + "JOIN menu mn ON mn.menu_id = f.menu_id "
+      + "SET p.item_count = t.item_count, p.total_price = t.total_price, p.first_item_name = mn.name "
+      + "WHERE p.item_count = 0", nativeQuery = true)
+  int backfillCartTotals();
+
 }
@@ -0,0 +1,16 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.domain.StoreCardCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreCardCategoryRepository extends JpaRepository<StoreCardCategory, Long> {
+
+  @Modifying(flushAutomatically = true)
+  @Query("delete from StoreCardCategory scc where scc.storeId = :storeId")
+  int deleteAllByStoreId(@Param("storeId") Long storeId);
+}
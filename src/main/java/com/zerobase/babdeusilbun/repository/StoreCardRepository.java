@@ -0,0 +1,26 @@
+package com.zerobase.babdeusilbun.repository;
+
+import com.zerobase.babdeusilbun.domain.StoreCard;
+import com.zerobase.babdeusilbun.repository.custom.CustomStoreCardRepository;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreCardRepository extends JpaRepository<StoreCard, Long>, CustomStoreCardRepository {
+
+  @Modifying(flushAutomatically = true)
+  @Query("delete from StoreCard sc where sc.storeId = :storeId")
+  int deleteAllByStoreId(@Param("storeId") Long storeId);
+
+  List<StoreCard> findAllByStoreId(Long storeId);
+
+  @Modifying(flushAutomatically = true)
+  @Query("update StoreCard sc set sc.thumbnailImageId = :imageId, sc.thumbnailUrl = :url "
+      + "where sc.storeId = :storeId")
+  int updateThumbnail(@Param("storeId") Long storeId,
+      @Param("imageId") Long imageId, @Param("url") String url);
+}
@@ -4,6 +4,7 @@ import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.StoreImage;
 import com.zerobase.babdeusilbun.dto.StoreImageDto;
 import com.zerobase.babdeusilbun.dto.StoreImageDto.Thumbnail;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StoreImageRepository extends JpaRepository<StoreImage, Long> {
   List<StoreImage> findAllByStoreOrderBySequenceAsc(Store store);
+  List<StoreImage> findAllByStoreInOrderBySequenceAsc(Collection<Store> stores);
   int countByStore(Store store);
   Page<StoreImageDto.Information> findByStore(Store store, Pageable pageable);
   Optional<Thumbnail> findFirstByStoreAndIsRepresentativeTrue(Store store);
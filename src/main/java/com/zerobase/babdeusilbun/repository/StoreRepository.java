@@ -5,6 +5,7 @@ import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.Point;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.repository.custom.CustomStoreRepository;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +19,8 @@ public interface StoreRepository extends JpaRepository<Store, Long>, CustomStore
 
   Optional<Store> findByIdAndDeletedAtIsNull(Long storeId);
 
+  List<Store> findAllByDeletedAtIsNull();
+
   Optional<Store> findByIdAndEntrepreneurAndDeletedAtIsNull(Long storeId, Entrepreneur entrepreneur);
 
   @Query("select s from Store s "
@@ -2,13 +2,16 @@ package com.zerobase.babdeusilbun.repository;
 
 import com.zerobase.babdeusilbun.domain.*;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TeamPurchaseRepository extends JpaRepository<TeamPurchase, Long> {
 
@@ -22,12 +25,9 @@ public interface TeamPurchaseRepository extends JpaRepository<TeamPurchase, Long
 
   boolean existsAllByMenuAndMeeting(Menu menu, Meeting meeting);
 
-  Optional<TeamPurchase> findAllById(Long teamPurchaseId);
-
-  @Query("select COALESCE(sum(tp.paymentPrice), 0) "
-      + "from TeamPurchase tp "
-      + "join Meeting m on tp.meeting = m "
-      + "where m = :meeting")
-  Long getMeetingTotalPrice(Meeting meeting);
+  // 수량 변경/삭제용 (장바구니 합계에 반영할 이전 금액을 다른 요청과 겹치지 않게 읽음)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select tp from TeamPurchase tp where tp.id = :teamPurchaseId")
+  Optional<TeamPurchase> findForUpdateById(@Param("teamPurchaseId") Long teamPurchaseId);
 
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -41,4 +42,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
       + "where p.meeting.id = :meetingId")
   Page<User> findAllMeetingParticipant(@Param("meetingId") Long meetingId, Pageable pageable);
 
+  // 잔액이 충분할 때만 차감 (0 이면 잔액 부족)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE users SET point = point - :amount "
+      + "WHERE user_id = :userId AND point >= :amount", nativeQuery = true)
+  int deductPoint(@Param("userId") Long userId, @Param("amount") Long amount);
+
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE users SET point = point + :amount WHERE user_id = :userId",
+      nativeQuery = true)
+  int addPoint(@Param("userId") Long userId, @Param("amount") Long amount);
+
 }
@@ -1,13 +1,21 @@
 package com.zerobase.babdeusilbun.repository.custom;
 
 import com.zerobase.babdeusilbun.domain.Meeting;
-import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.CursorDto;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface CustomMeetingRepository {
 
   Page<Meeting> findFilteredMeetingList
-      (Long schoolId, String sortParameter, String searchMenu, Long categoryFilter, Pageable pageable);
+      (Long schoolId, String sortParameter, Collection<Long> storeIds, Long categoryFilter, Pageable pageable);
+
+  List<Meeting> findFilteredMeetingListByCursor(Long schoolId, String sortParameter,
+      Collection<Long> storeIds, Long categoryFilter, CursorDto.Key cursor, int size);
+
+  long countFilteredMeetingListUpTo
+      (Long schoolId, Collection<Long> storeIds, Long categoryFilter, int limit);
 
 }
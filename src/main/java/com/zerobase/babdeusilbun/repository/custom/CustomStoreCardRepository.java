@@ -0,0 +1,17 @@
+package com.zerobase.babdeusilbun.repository.custom;
+
+import com.zerobase.babdeusilbun.domain.StoreCard;
+import com.zerobase.babdeusilbun.dto.CursorDto;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface CustomStoreCardRepository {
+  Page<StoreCard> getAvailStoreCardList(
+      List<Long> categoryList, Collection<Long> storeIds,
+      Long schoolId, String sortCriteria, Pageable pageable);
+  List<StoreCard> getAvailStoreCardListByCursor(
+      List<Long> categoryList, Collection<Long> storeIds,
+      Long schoolId, String sortCriteria, CursorDto.Key cursor, int size);
+}
@@ -7,50 +7,132 @@ import static com.zerobase.babdeusilbun.domain.QStoreSchool.storeSchool;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.enums.MeetingStoreSortCriteria;
 import com.zerobase.babdeusilbun.repository.custom.CustomMeetingRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 
 @Repository
 @RequiredArgsConstructor
 public class CustomMeetingRepositoryImpl implements CustomMeetingRepository {
 
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
 
+  @Override
   public Page<Meeting> findFilteredMeetingList
-      (Long schoolId, String sortParameter, String searchMenu, Long categoryFilter, Pageable pageable) {
+      (Long schoolId, String sortParameter, Collection<Long> storeIds, Long categoryFilter, Pageable pageable) {
 
-    List<Meeting> meetingList = queryFactory.selectFrom(meeting)
-        .leftJoin(meeting.store, store)
+    List<Meeting> meetingList =
+        fetchFilteredMeetingList(schoolId, sortParameter, storeIds, categoryFilter, pageable);
+
+    return PageableExecutionUtils.getPage(meetingList, pageable,
+        () -> countFilteredMeetingList(schoolId, storeIds, categoryFilter));
+  }
+
+  /**
+   * 모임 목록 커서 조회
+   * (정렬 기준 값, meeting_id) 이후의 모임을 size 개 조회하므로 모임 수와 관계없이 비용이 같다.
+   */
+  @Override
+  public List<Meeting> findFilteredMeetingListByCursor(Long schoolId, String sortParameter,
+      Collection<Long> storeIds, Long categoryFilter, CursorDto.Key cursor, int size) {
+
+    MeetingStoreSortCriteria criteria = MeetingStoreSortCriteria.fromParameter(sortParameter);
+
+    return queryFactory.selectFrom(meeting)
+        .join(meeting.store, store)
+        .fetchJoin()
+        .where(where(schoolId, storeIds, categoryFilter))
+        .where(meeting.paymentAvailableDt.after(LocalDateTime.now()))
+        .where(afterCursor(criteria, cursor))
+        .orderBy(getOrderSpecifier(sortParameter))
+        .limit(size)
+        .fetch();
+  }
+
+  /**
+   * 최대 limit 개까지만 센 모임 개수 (목록 상단 표시용 근사치)
+   * limit 을 건 서브쿼리 위에서 세므로 조건에 맞는 모임이 많아도 limit 개 이상 읽지 않는다.
+   * (QueryDSL 은 FROM 절 서브쿼리를 지원하지 않아 HQL 로 작성, 조건은 where() 와 같다)
+   */
+  @Override
+  public long countFilteredMeetingListUpTo
+      (Long schoolId, Collection<Long> storeIds, Long categoryFilter, int limit) {
+
+    StringBuilder hql = new StringBuilder("select count(t.id) from ("
+        + "select m.id as id from Meeting m join m.store s "
+        + "where m.paymentAvailableDt > :now "
+        + "and exists (select 1 from StoreSchool ss where ss.store = s and ss.school.id = :schoolId)");
+    if (storeIds != null) {
+      hql.append(" and s.id in :storeIds");
+    }
+    if (categoryFilter != null) {
+      hql.append(" and exists (select 1 from StoreCategory sc "
+          + "where sc.store = s and sc.category.id = :categoryId)");
+    }
+    hql.append(" limit :limit) t");
+
+    TypedQuery<Long> query = entityManager.createQuery(hql.toString(), Long.class)
+        .setParameter("now", LocalDateTime.now())
+        .setParameter("schoolId", schoolId)
+        .setParameter("limit", limit);
+    if (storeIds != null) {
+      query.setParameter("storeIds", storeIds);
+    }
+    if (categoryFilter != null) {
+      query.setParameter("categoryId", categoryFilter);
+    }
+
+    return query.getSingleResult();
+  }
+
+  private long countFilteredMeetingList(Long schoolId, Collection<Long> storeIds, Long categoryFilter) {
+    Long count = queryFactory.select(meeting.count()).from(meeting)
+        .join(meeting.store, store)
+        .where(where(schoolId, storeIds, categoryFilter))
+        .where(meeting.paymentAvailableDt.after(LocalDateTime.now()))
+        .fetchOne();
+
+    return (count == null) ? 0 : count;
+  }
+
+  private List<Meeting> fetchFilteredMeetingList
+      (Long schoolId, String sortParameter, Collection<Long> storeIds, Long categoryFilter, Pageable pageable) {
+
+    return queryFactory.selectFrom(meeting)
+        .join(meeting.store, store)
         .fetchJoin()
-        .leftJoin(storeSchool).on(storeSchool.store.eq(store))
-        .leftJoin(storeCategory).on(storeCategory.store.eq(store))
-        .where(where(schoolId, searchMenu, categoryFilter))
+        .where(where(schoolId, storeIds, categoryFilter))
         .where(meeting.paymentAvailableDt.after(LocalDateTime.now()))
         .orderBy(getOrderSpecifier(sortParameter))
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize())
         .fetch();
-
-    return new PageImpl<>(meetingList, pageable, meetingList.size());
   }
 
-  private BooleanExpression[] where(Long schoolId, String searchMenu, Long categoryFilter) {
+  private BooleanExpression[] where(Long schoolId, Collection<Long> storeIds, Long categoryFilter) {
     List<BooleanExpression> list = new ArrayList<>();
     list.add(schoolExpression(schoolId));
 
-    if (StringUtils.hasText(searchMenu)) {
-      list.add(searchMenuExpression(searchMenu));
+    // 검색어는 검색 색인에서 찾은 매장 id 로 전달된다
+    if (storeIds != null) {
+      list.add(store.id.in(storeIds));
     }
 
     if (categoryFilter != null) {
@@ -61,16 +143,45 @@ public class CustomMeetingRepositoryImpl implements CustomMeetingRepository {
   }
 
   private BooleanExpression categoryExpression(Long categoryId) {
-    return storeCategory.category.id.eq(categoryId);
+    return JPAExpressions.selectOne().from(storeCategory)
+        .where(storeCategory.store.eq(store), storeCategory.category.id.eq(categoryId))
+        .exists();
   }
 
   private BooleanExpression schoolExpression(Long schoolId) {
-    return storeSchool.school.id.eq(schoolId);
+    return JPAExpressions.selectOne().from(storeSchool)
+        .where(storeSchool.store.eq(store), storeSchool.school.id.eq(schoolId))
+        .exists();
   }
 
-  // 검색어
-  private BooleanExpression searchMenuExpression(String searchMenu) {
-    return meeting.store.name.like(searchMenu);
+  private BooleanExpression afterCursor(MeetingStoreSortCriteria criteria, CursorDto.Key cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    return switch (criteria) {
+      case DEADLINE -> after(meeting.paymentAvailableDt, cursor.dateTimeValue(), cursor.id());
+      case DELIVERY_TIME -> afterNullsLast(meeting.deliveredAt, cursor);
+      case DELIVERY_FEE -> after(store.deliveryPrice, cursor.longValue(), cursor.id());
+      case MIN_PRICE -> after(store.minPurchaseAmount, cursor.longValue(), cursor.id());
+    };
+  }
+
+  private BooleanExpression after(DateTimePath<LocalDateTime> sortKey, LocalDateTime sortValue, Long id) {
+    return sortKey.gt(sortValue).or(sortKey.eq(sortValue).and(meeting.id.gt(id)));
+  }
+
+  private BooleanExpression after(NumberPath<Long> sortKey, Long sortValue, Long id) {
+    return sortKey.gt(sortValue).or(sortKey.eq(sortValue).and(meeting.id.gt(id)));
+  }
+
+  // 배송 시간이 없는 모임은 목록 마지막에 위치
+  private BooleanExpression afterNullsLast(DateTimePath<LocalDateTime> sortKey, CursorDto.Key cursor) {
+    if (!cursor.hasSortValue()) {
+      return sortKey.isNull().and(meeting.id.gt(cursor.id()));
+    }
+
+    return after(sortKey, cursor.dateTimeValue(), cursor.id()).or(sortKey.isNull());
   }
 
   private OrderSpecifier<?>[] getOrderSpecifier(String sortParameter) {
@@ -83,6 +194,8 @@ public class CustomMeetingRepositoryImpl implements CustomMeetingRepository {
       case DELIVERY_FEE -> list.add(orderDeliveryFee());
       case MIN_PRICE -> list.add(minPurchasePrice());
     }
+    // 같은 정렬 값 사이의 순서 고정 (커서 기준)
+    list.add(meeting.id.asc());
 
     return list.toArray(new OrderSpecifier[0]);
   }
@@ -94,19 +207,17 @@ public class CustomMeetingRepositoryImpl implements CustomMeetingRepository {
 
   // 배송시간 빠른 순
   private OrderSpecifier<?> orderDeliveryTime() {
-    return meeting.deliveredAt.asc();
+    return meeting.deliveredAt.asc().nullsLast();
   }
 
   // 배송비 저렴한 순
   private OrderSpecifier<?> orderDeliveryFee() {
-    return meeting.store.deliveryPrice.asc();
+    return store.deliveryPrice.asc();
   }
 
   // 최소 주문 금액 저렴한 순
   private OrderSpecifier<?> minPurchasePrice() {
-    return meeting.store.minPurchaseAmount.asc();
+    return store.minPurchaseAmount.asc();
   }
 
-
-
 }
@@ -0,0 +1,131 @@
+package com.zerobase.babdeusilbun.repository.custom.impl;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zerobase.babdeusilbun.domain.QStoreCard;
+import com.zerobase.babdeusilbun.domain.QStoreCardCategory;
+import com.zerobase.babdeusilbun.domain.StoreCard;
+import com.zerobase.babdeusilbun.dto.CursorDto;
+import com.zerobase.babdeusilbun.enums.MeetingStoreSortCriteria;
+import com.zerobase.babdeusilbun.repository.custom.CustomStoreCardRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomStoreCardRepositoryImpl implements CustomStoreCardRepository {
+  private final JPAQueryFactory queryFactory;
+
+  private final QStoreCard storeCard = QStoreCard.storeCard;
+  private final QStoreCardCategory storeCardCategory = QStoreCardCategory.storeCardCategory;
+
+  /**
+   * 학교별 매장 카드 조회
+   * store_card 를 (school_id, 정렬 값, store_id) 인덱스로 조회하므로 조인과 중복 row 가 없다.
+   */
+  @Override
+  public Page<StoreCard> getAvailStoreCardList(List<Long> categoryList, Collection<Long> storeIds,
+      Long schoolId, String sortCriteria, Pageable pageable) {
+
+    List<StoreCard> storeCardList = queryFactory.selectFrom(storeCard)
+        .where(storeCard.schoolId.eq(schoolId))
+        .where(where(schoolId, categoryList, storeIds))
+        .orderBy(getOrderSpecifier(sortCriteria))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    Long count = queryFactory
+        .select(storeCard.count()).from(storeCard)
+        .where(storeCard.schoolId.eq(schoolId))
+        .where(where(schoolId, categoryList, storeIds))
+        .fetchOne();
+
+    return new PageImpl<>(storeCardList, pageable, (count == null) ? 0 : count);
+  }
+
+  /**
+   * 학교별 매장 카드 조회 (커서)
+   * (school_id, 정렬 기준 값, store_id) 순서로 이어서 읽으므로 페이지 깊이와 관계없이 비용이 같다.
+   */
+  @Override
+  public List<StoreCard> getAvailStoreCardListByCursor(List<Long> categoryList,
+      Collection<Long> storeIds, Long schoolId, String sortCriteria, CursorDto.Key cursor, int size) {
+
+    return queryFactory.selectFrom(storeCard)
+        .where(storeCard.schoolId.eq(schoolId))
+        .where(where(schoolId, categoryList, storeIds))
+        .where(afterCursor(MeetingStoreSortCriteria.fromParameter(sortCriteria), cursor))
+        .orderBy(getOrderSpecifier(sortCriteria))
+        .limit(size)
+        .fetch();
+  }
+
+  private BooleanExpression afterCursor(MeetingStoreSortCriteria criteria, CursorDto.Key cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    if (!cursor.hasSortValue()) {
+      return storeCard.storeId.gt(cursor.id());
+    }
+
+    return switch (criteria) {
+      case DELIVERY_TIME -> after(storeCard.minDeliveryTime, cursor.longValue().intValue(), cursor.id());
+      case DELIVERY_FEE -> after(storeCard.deliveryPrice, cursor.longValue(), cursor.id());
+      case MIN_PRICE -> after(storeCard.minPurchaseAmount, cursor.longValue(), cursor.id());
+      default -> storeCard.storeId.gt(cursor.id());
+    };
+  }
+
+  private <T extends Number & Comparable<?>> BooleanExpression after(
+      NumberPath<T> sortKey, T sortValue, Long storeId) {
+    return sortKey.gt(sortValue).or(sortKey.eq(sortValue).and(storeCard.storeId.gt(storeId)));
+  }
+
+  private BooleanExpression[] where(Long schoolId, List<Long> categoryList, Collection<Long> storeIds) {
+    List<BooleanExpression> list = new ArrayList<>();
+
+    if (!categoryList.isEmpty()) {
+      list.add(filterCategory(schoolId, categoryList));
+    }
+
+    // 검색어는 검색 색인에서 찾은 매장 id 로 전달된다
+    if (storeIds != null) {
+      list.add(storeCard.storeId.in(storeIds));
+    }
+
+    return list.toArray(new BooleanExpression[0]);
+  }
+
+  private OrderSpecifier<?>[] getOrderSpecifier(String sortCriteria) {
+    List<OrderSpecifier<?>> list = new ArrayList<>();
+
+    switch (MeetingStoreSortCriteria.fromParameter(sortCriteria)) {
+      case DELIVERY_TIME -> list.add(storeCard.minDeliveryTime.asc());
+      case DELIVERY_FEE -> list.add(storeCard.deliveryPrice.asc());
+      case MIN_PRICE -> list.add(storeCard.minPurchaseAmount.asc());
+    }
+    list.add(storeCard.storeId.asc());
+
+    return list.toArray(new OrderSpecifier[0]);
+  }
+
+  // 카테고리 중 하나라도 포함된 매장 (store_card_category 의 (category_id, school_id) 인덱스로 카드 id 조회)
+  private BooleanExpression filterCategory(Long schoolId, List<Long> categoryList) {
+    return storeCard.id.in(JPAExpressions
+        .select(storeCardCategory.storeCardId)
+        .from(storeCardCategory)
+        .where(storeCardCategory.categoryId.in(categoryList),
+            storeCardCategory.schoolId.eq(schoolId)));
+  }
+}
@@ -0,0 +1,73 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.ENTREPRENEUR;
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.USER;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.domain.AlarmOutbox;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import com.zerobase.babdeusilbun.repository.AlarmBulkRepository;
+import com.zerobase.babdeusilbun.repository.AlarmOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class AlarmDispatchService {
+  private static final TypeReference<List<AlarmDto.Message>> MESSAGES_TYPE = new TypeReference<>() {};
+
+  private final AlarmOutboxRepository alarmOutboxRepository;
+  private final AlarmBulkRepository alarmBulkRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 전송 대기 알림 묶음 처리 (최대 batchSize 개)
+   * 묶음 안의 알림을 대상별로 다중 행 INSERT 로 저장하고 처리한 아웃박스 행을 지운 뒤,
+   * 웹소켓으로 전송할 알림 목록을 반환한다. 처리할 묶음이 없으면 빈 목록을 반환한다.
+   */
+  public List<AlarmDto.Message> dispatch(LocalDateTime now, int batchSize) {
+    List<AlarmOutbox> outboxes = alarmOutboxRepository.lockPendingOutboxes(batchSize);
+    if (outboxes.isEmpty()) {
+      return List.of();
+    }
+
+    List<AlarmDto.Message> userAlarms = new ArrayList<>();
+    List<AlarmDto.Message> entrepreneurAlarms = new ArrayList<>();
+
+    outboxes.forEach(outbox -> readMessages(outbox).forEach(message -> {
+      if (message.getTarget() == USER) {
+        userAlarms.add(message);
+      } else if (message.getTarget() == ENTREPRENEUR) {
+        entrepreneurAlarms.add(message);
+      }
+    }));
+
+    alarmBulkRepository.insertUserAlarms(userAlarms, now);
+    alarmBulkRepository.insertEntrepreneurAlarms(entrepreneurAlarms, now);
+    alarmOutboxRepository.deleteAllInBatch(outboxes);
+
+    List<AlarmDto.Message> dispatched = new ArrayList<>(userAlarms);
+    dispatched.addAll(entrepreneurAlarms);
+    return dispatched;
+  }
+
+  // 읽을 수 없는 묶음은 기록만 하고 버려 뒤따르는 알림이 막히지 않도록 함
+  private List<AlarmDto.Message> readMessages(AlarmOutbox outbox) {
+    try {
+      return objectMapper.readValue(outbox.getPayload(), MESSAGES_TYPE);
+    } catch (JsonProcessingException e) {
+      log.error("alarm outbox payload is invalid. id: {}", outbox.getId(), e);
+      return List.of();
+    }
+  }
+
+}
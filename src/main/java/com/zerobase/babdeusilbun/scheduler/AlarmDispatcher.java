@@ -0,0 +1,79 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.USER;
+import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_CLIENT_PREFIX;
+import static com.zerobase.babdeusilbun.util.ChatUtility.makeSocketDestination;
+
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 아웃박스 처리
+ * 분산 락을 얻은 한 노드만 아웃박스를 배치 단위로 비우며, 배치가 커밋된 뒤 알림을 웹소켓으로 전송한다.
+ * 이용자: /meeting/alarms/users/{userId}, 사업자: /meeting/alarms/entrepreneurs/{entrepreneurId}
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AlarmDispatcher {
+  private static final String WORKER_LOCK_KEY = "alarm:outbox:worker";
+  private static final String USER_ALARM_SEPARATOR = "/alarms/users";
+  private static final String ENTREPRENEUR_ALARM_SEPARATOR = "/alarms/entrepreneurs";
+
+  private final TaskScheduler taskScheduler;
+  private final ClusteredTaskRunner clusteredTaskRunner;
+  private final AlarmDispatchService alarmDispatchService;
+  private final SimpMessagingTemplate messagingTemplate;
+
+  @Value("${alarm.outbox.poll-interval-ms:1000}")
+  private long pollIntervalMs;
+
+  @Value("${alarm.outbox.batch-size:100}")
+  private int batchSize;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    taskScheduler.scheduleWithFixedDelay(this::dispatchPendingAlarms, Duration.ofMillis(pollIntervalMs));
+  }
+
+  public void dispatchPendingAlarms() {
+    clusteredTaskRunner.runExclusively(WORKER_LOCK_KEY, pollIntervalMs * 2, () -> {
+      try {
+        List<AlarmDto.Message> dispatched;
+        do {
+          // 배치마다 별도 트랜잭션, 커밋된 알림만 전송
+          LocalDateTime now = LocalDateTime.now();
+          dispatched = alarmDispatchService.dispatch(now, batchSize);
+          dispatched.forEach(message -> push(message, now));
+        } while (!dispatched.isEmpty());
+      } catch (Exception e) {
+        log.error("alarm outbox dispatch failed.", e);
+      }
+    });
+  }
+
+  // 전송 실패는 저장된 알림에 영향이 없으므로 기록만 함
+  private void push(AlarmDto.Message message, LocalDateTime createdAt) {
+    String separator = message.getTarget() == USER ? USER_ALARM_SEPARATOR : ENTREPRENEUR_ALARM_SEPARATOR;
+
+    try {
+      messagingTemplate.convertAndSend(
+          makeSocketDestination(SEND_TO_CLIENT_PREFIX, separator, message.getRecipientId()),
+          AlarmDto.Response.fromMessage(message, createdAt));
+    } catch (MessagingException e) {
+      log.warn("alarm push failed. target: {}, recipient: {}",
+          message.getTarget(), message.getRecipientId(), e);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import com.zerobase.babdeusilbun.component.ChatWriteBehind;
+import com.zerobase.babdeusilbun.component.ChatWriteLog;
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.repository.ChatBulkRepository;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지연 저장된 채팅을 chat 테이블에 저장
+ * 로그를 배치 단위로 읽어 다중 행 INSERT 로 저장한 뒤 처리 완료로 표시한다.
+ * 저장 후 표시 전에 종료되면 재시작 시 같은 항목을 다시 저장하며, log_id 유니크 키로 중복 행은 건너뛴다.
+ * 배치가 데이터 오류 (외래 키, 길이 초과 등) 로 거부되면 한 건씩 다시 저장하고,
+ * 그래도 저장되지 않는 항목은 따로 보관(park)한 뒤 처리 완료로 표시해 이후 항목이 막히지 않게 한다.
+ * 그 밖의 저장 오류 (DB 연결 등) 는 표시하지 않고 남겨 다음 주기에 다시 시도한다.
+ * 로그가 여러 서버에서 공유되면 (Redis Stream) 분산 락을 얻은 한 서버만 저장한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ChatWriteBehindWriter {
+  private static final String WORKER_LOCK_KEY = "chat:write-log:worker";
+
+  private final TaskScheduler taskScheduler;
+  private final ClusteredTaskRunner clusteredTaskRunner;
+  private final ChatWriteBehind chatWriteBehind;
+  private final ChatWriteLog chatWriteLog;
+  private final ChatBulkRepository chatBulkRepository;
+
+  @Value("${chat.write-behind.poll-interval-ms:200}")
+  private long pollIntervalMs;
+
+  @Value("${chat.write-behind.batch-size:1000}")
+  private int batchSize;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!chatWriteBehind.isEnabled()) {
+      return;
+    }
+
+    chatWriteLog.initialize();
+    taskScheduler.scheduleWithFixedDelay(this::writePendingChats, Duration.ofMillis(pollIntervalMs));
+  }
+
+  public void writePendingChats() {
+    if (!chatWriteLog.isShared()) {
+      drain();
+      return;
+    }
+
+    clusteredTaskRunner.runExclusively(WORKER_LOCK_KEY, pollIntervalMs * 10, this::drain);
+  }
+
+  // 저장에 실패하면 처리 완료로 표시하지 않으므로 다음 주기에 다시 시도
+  int drain() {
+    int written = 0;
+
+    try {
+      List<LogEntry> entries;
+      do {
+        entries = chatWriteLog.read(batchSize);
+        if (entries.isEmpty()) {
+          break;
+        }
+
+        written += write(entries);
+      } while (entries.size() == batchSize);
+    } catch (Exception e) {
+      log.error("chat write-behind flush failed.", e);
+    }
+
+    return written;
+  }
+
+  private int write(List<LogEntry> entries) {
+    try {
+      chatBulkRepository.insertAll(entries);
+      chatWriteLog.acknowledge(entries);
+      return entries.size();
+    } catch (DataIntegrityViolationException e) {
+      log.warn("chat write-behind batch rejected, retrying one by one. size={}", entries.size(), e);
+    }
+
+    // 로그 순서대로 한 건씩 처리 완료로 표시 (파일 로그는 마지막 위치까지 표시)
+    int written = 0;
+    for (LogEntry entry : entries) {
+      try {
+        chatBulkRepository.insertAll(List.of(entry));
+        written++;
+      } catch (DataIntegrityViolationException e) {
+        log.error("chat write-behind entry parked. logId={}", entry.getLogId(), e);
+        chatWriteLog.park(entry);
+      }
+      chatWriteLog.acknowledge(List.of(entry));
+    }
+
+    return written;
+  }
+}
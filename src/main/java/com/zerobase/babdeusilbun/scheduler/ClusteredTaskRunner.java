@@ -0,0 +1,44 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 노드가 주기적으로 깨어나는 작업을 분산 락을 얻은 한 노드만 실행
+ * 락은 leaseMs 가 지나면 자동으로 풀리므로 실행 중 멈춘 노드가 있어도 다음 주기에 다른 노드가 이어받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusteredTaskRunner {
+
+  private final RedissonClient redissonClient;
+
+  /**
+   * 락을 얻으면 실행, 다른 노드가 처리 중이면 이번 주기는 건너뜀
+   * @return 실행 여부
+   */
+  public boolean runExclusively(String lockKey, long leaseMs, Runnable task) {
+    RLock lock = redissonClient.getLock(lockKey);
+
+    try {
+      if (!lock.tryLock(0, leaseMs, TimeUnit.MILLISECONDS)) {
+        return false;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+
+    try {
+      task.run();
+      return true;
+    } finally {
+      if (lock.isHeldByCurrentThread()) {
+        lock.unlock();
+      }
+    }
+  }
+}
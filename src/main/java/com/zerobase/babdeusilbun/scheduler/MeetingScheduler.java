@@ -1,48 +1,65 @@
 package com.zerobase.babdeusilbun.scheduler;
 
-import com.zerobase.babdeusilbun.domain.Meeting;
-import java.time.ZoneId;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+/**
+ * 모임 마감 처리
+ * 마감 대기열은 meeting 테이블 자체(status = GATHERING, payment_available_dt)이므로 재시작해도 유실되지 않는다.
+ * 모든 노드가 주기적으로 깨어나지만 분산 락을 얻은 한 노드만 마감 시간이 지난 모임을 배치 단위로 처리하며,
+ * 시작 직후 첫 실행에서 중단된 동안 지난 마감도 함께 처리한다.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class MeetingScheduler {
+  private static final String WORKER_LOCK_KEY = "meeting:deadline:worker";
 
   private final TaskScheduler taskScheduler;
-  private final Map<String, ScheduledFuture<?>> meetingSchedulerMap = new ConcurrentHashMap<>();
-
+  private final ClusteredTaskRunner clusteredTaskRunner;
   private final MeetingSchedulerService meetingSchedulerService;
 
-  public void enrollMeetingSchedule(Meeting meeting) {
+  @Value("${meeting.deadline.poll-interval-ms:5000}")
+  private long pollIntervalMs;
 
-    ScheduledFuture<?> scheduledTask = taskScheduler.schedule(
-        meetingSchedulerService.enrollSendPurchase(meeting.getId()),
-        meeting.getPaymentAvailableDt().atZone(ZoneId.systemDefault()).toInstant());
+  @Value("${meeting.deadline.batch-size:100}")
+  private int batchSize;
 
-    meetingSchedulerMap.put(getMeetingSchedulerMapId(meeting), scheduledTask);
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    taskScheduler.scheduleWithFixedDelay(this::processDueMeetings, Duration.ofMillis(pollIntervalMs));
   }
 
-  public void deleteMeetingSchedule(Meeting meeting) {
-    ScheduledFuture<?> scheduledTask = meetingSchedulerMap.remove(getMeetingSchedulerMapId(meeting));
-    if (scheduledTask != null) {
-      scheduledTask.cancel(false);
-    } else {
-      log.error("No task found with ID: {}", getMeetingSchedulerMapId(meeting));
-    }
-  }
-
-
-  private String getMeetingSchedulerMapId(Meeting meeting) {
-    return "meeting" + meeting.getId();
+  public void processDueMeetings() {
+    clusteredTaskRunner.runExclusively(WORKER_LOCK_KEY, pollIntervalMs * 2, () -> {
+      try {
+        int processed = completeDueMeetings(LocalDateTime.now());
+        if (processed > 0) {
+          log.info("meeting deadline processed. count: {}", processed);
+        }
+      } catch (Exception e) {
+        log.error("meeting deadline processing failed.", e);
+      }
+    });
   }
 
+  // 배치마다 별도 트랜잭션
+  private int completeDueMeetings(LocalDateTime now) {
+    int processed = 0;
 
+    int count;
+    do {
+      count = meetingSchedulerService.completeDueMeetings(now, batchSize);
+      processed += count;
+    } while (count == batchSize);
 
+    return processed;
+  }
 }
@@ -1,10 +1,15 @@
 package com.zerobase.babdeusilbun.scheduler;
 
-import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
+import static com.zerobase.babdeusilbun.enums.MeetingStatus.GATHERING;
+import static com.zerobase.babdeusilbun.enums.MeetingStatus.PURCHASE_COMPLETED;
 
-import com.zerobase.babdeusilbun.domain.Meeting;
-import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.component.AlarmPublisher;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import com.zerobase.babdeusilbun.enums.EntrepreneurAlarmType;
+import com.zerobase.babdeusilbun.repository.MeetingPurchaseTimeRepository;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,19 +20,33 @@ import org.springframework.transaction.annotation.Transactional;
 public class MeetingSchedulerService {
 
   private final MeetingRepository meetingRepository;
-
-  public Runnable enrollSendPurchase(Long meetingId) {
-
-    Meeting findMeeting = meetingRepository.findById(meetingId)
-        .orElseThrow(() -> new CustomException(MEETING_NOT_FOUND));
-
-    return () -> {
-      // meeting status 변경
-      findMeeting.completeDeadline();
-
-      //TODO
-      // 상점에게 주문 보내기
-    };
+  private final MeetingPurchaseTimeRepository meetingPurchaseTimeRepository;
+  private final AlarmPublisher alarmPublisher;
+
+  /**
+   * 마감 시간이 지난 모임 마감 처리 (최대 batchSize 개)
+   * 대상 모임 행을 잠근 뒤 상태 변경, 주문 시간 기록, 상점 사업자 조회를 각각 한 번의 쿼리로 처리하고
+   * 주문 접수 알림은 아웃박스 한 행으로 발행하므로 (직접 마감과 같이 웹소켓으로도 전송)
+   * 배치 크기와 관계없이 쿼리 수가 같다. 잠근 행은 모두 모집중이므로 여러 번 호출해도 결과가 같다.
+   */
+  public int completeDueMeetings(LocalDateTime now, int batchSize) {
+    List<Long> meetingIds = meetingRepository.lockDueMeetingIds(now, batchSize);
+    if (meetingIds.isEmpty()) {
+      return 0;
+    }
+
+    // meeting status 변경
+    meetingRepository.updateStatusByIdIn(meetingIds, GATHERING, PURCHASE_COMPLETED, now);
+
+    // 상점에게 주문 보내기
+    meetingPurchaseTimeRepository.insertAllByMeetingIds(meetingIds, now);
+    alarmPublisher.publish(meetingRepository.findStoreOwnersByIdIn(meetingIds).stream()
+        .map(owner -> AlarmDto.Message.ofEntrepreneur(owner.getEntrepreneurId(),
+            EntrepreneurAlarmType.ORDER_RECEIVED,
+            String.format("%s로 접수된 주문이 있어요!", owner.getStoreName())))
+        .toList());
+
+    return meetingIds.size();
   }
 
 }
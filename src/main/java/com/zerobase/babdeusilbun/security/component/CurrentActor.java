@@ -0,0 +1,69 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_NOT_FOUND;
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
+
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청한 회원(현재 인증 주체) 조회
+ * JwtFilter 에서 이미 확인된 회원 본인이면 SELECT 없이 영속성 컨텍스트의 참조를 반환한다.
+ * 같은 요청(영속성 컨텍스트) 안에서는 항상 같은 인스턴스가 반환되고,
+ * 필드에 처음 접근할 때만 조회된다.
+ * 참조는 탈퇴 여부를 확인하지 않으므로, 쓰기 요청에는 getActiveUser 를 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentActor {
+
+  private final EntityManager entityManager;
+  private final UserRepository userRepository;
+
+  public User getUser(Long userId) {
+    if (isAuthenticatedUser(userId)) {
+      return entityManager.getReference(User.class, userId);
+    }
+
+    // 인증 정보가 없는 경우 (웹소켓, 스케줄러 등) 에는 직접 조회
+    return userRepository.findByIdAndDeletedAtIsNull(userId)
+        .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+  }
+
+  /**
+   * 탈퇴하지 않은 회원 조회 (채팅, 주문 등 쓰기 요청)
+   * 참조를 초기화해 탈퇴 여부를 확인하므로, 영속성 컨텍스트에 없으면 회원 조회 쿼리가 한 번 실행된다.
+   */
+  public User getActiveUser(Long userId) {
+    User user = getUser(userId);
+
+    try {
+      if (user.getDeletedAt() != null) {
+        throw new CustomException(USER_NOT_FOUND);
+      }
+    } catch (EntityNotFoundException e) {
+      throw new CustomException(USER_NOT_FOUND);
+    }
+
+    return user;
+  }
+
+  private boolean isAuthenticatedUser(Long userId) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+      return false;
+    }
+
+    return userDetails.getRole() == ROLE_USER && Objects.equals(userDetails.getId(), userId);
+  }
+}
@@ -0,0 +1,194 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.JWT_BLACKLIST;
+import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.JWT_BLACKLIST_CHANNEL;
+
+import com.zerobase.babdeusilbun.security.util.BloomFilter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 jwt 블랙리스트
+ * 노드마다 Bloom filter 와 token digest 집합을 두고 Redis pub/sub 으로 추가 내역을 전파받는다.
+ * Bloom filter 에 없는 token 은 Redis 조회 없이 통과시키고, 있을 때만 로컬 집합/Redis 로 확인한다.
+ * Redis 에는 token 원문 대신 SHA-256 digest 를 만료 시각과 함께 저장한다.
+ * 이전 방식(jwtBlackList:{token 원문} key) 으로 저장된 블랙리스트는 시작 시 sorted set 으로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtBlackList {
+  private static final Base64.Encoder DIGEST_ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DIGEST_DECODER = Base64.getUrlDecoder();
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final TaskScheduler taskScheduler;
+
+  @Value("${jwt.blacklist.expected-size:100000}")
+  private int expectedSize;
+
+  @Value("${jwt.blacklist.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  @Value("${jwt.blacklist.rebuild-interval-ms:3600000}")
+  private long rebuildIntervalMs;
+
+  @Value("${jwt.expire-ms}")
+  private long expireMs;
+
+  // token digest -> token 만료 시각(ms)
+  private final Map<String, Long> digests = new ConcurrentHashMap<>();
+
+  private volatile BloomFilter bloomFilter;
+
+  /**
+   * 채널 구독 후 Redis 의 블랙리스트로 초기화 (구독 전 추가된 내역이 빠지지 않도록 구독을 먼저 함)
+   * 만료된 digest 가 쌓이지 않도록 주기적으로 Bloom filter 를 다시 만든다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onMessage(message), new ChannelTopic(JWT_BLACKLIST_CHANNEL));
+
+    long now = System.currentTimeMillis();
+    migrateLegacyEntries(now);
+    stringRedisTemplate.opsForZSet().removeRangeByScore(JWT_BLACKLIST, Double.NEGATIVE_INFINITY, now);
+
+    Set<TypedTuple<String>> entries =
+        stringRedisTemplate.opsForZSet().rangeByScoreWithScores(JWT_BLACKLIST, now, Double.POSITIVE_INFINITY);
+    if (entries != null) {
+      entries.forEach(entry -> addLocal(entry.getValue(), entry.getScore().longValue()));
+    }
+    rebuild();
+
+    taskScheduler.scheduleWithFixedDelay(this::rebuild, Duration.ofMillis(rebuildIntervalMs));
+    log.info("jwt blacklist initialized. size: {}", digests.size());
+  }
+
+  /**
+   * 블랙리스트 추가 (token 만료 시각까지 유지)
+   */
+  public void add(String token, long expiresAtMs) {
+    String digest = digest(token);
+    long now = System.currentTimeMillis();
+
+    stringRedisTemplate.opsForZSet().add(JWT_BLACKLIST, digest, expiresAtMs);
+    stringRedisTemplate.opsForZSet().removeRangeByScore(JWT_BLACKLIST, Double.NEGATIVE_INFINITY, now);
+
+    addLocal(digest, expiresAtMs);
+    stringRedisTemplate.convertAndSend(JWT_BLACKLIST_CHANNEL, digest + ":" + expiresAtMs);
+  }
+
+  public boolean contains(String token) {
+    String digest = digest(token);
+
+    BloomFilter current = bloomFilter;
+    if (current != null && !current.mightContain(DIGEST_DECODER.decode(digest))) {
+      return false;
+    }
+
+    long now = System.currentTimeMillis();
+    Long expiresAtMs = digests.get(digest);
+    if (expiresAtMs != null && expiresAtMs > now) {
+      return true;
+    }
+
+    // Bloom filter 오탐이거나 아직 전파받지 못한 경우
+    Double score = stringRedisTemplate.opsForZSet().score(JWT_BLACKLIST, digest);
+    return score != null && score > now;
+  }
+
+  // 이전 방식 key 의 남은 유지 시간을 만료 시각으로 옮기고 key 는 삭제 (유지 시간이 없으면 jwt.expire-ms)
+  private void migrateLegacyEntries(long now) {
+    List<String> legacyKeys = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(JWT_BLACKLIST + ":*").count(1000).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        legacyKeys.add(cursor.next());
+      }
+    }
+
+    int migrated = 0;
+    for (String key : legacyKeys) {
+      Long ttlMs = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+      if (ttlMs == null || ttlMs == -2) {
+        continue;
+      }
+
+      String digest = digest(key.substring(JWT_BLACKLIST.length() + 1));
+      long expiresAtMs = now + (ttlMs > 0 ? ttlMs : expireMs);
+
+      stringRedisTemplate.opsForZSet().add(JWT_BLACKLIST, digest, expiresAtMs);
+      stringRedisTemplate.delete(key);
+      addLocal(digest, expiresAtMs);
+      migrated++;
+    }
+
+    if (migrated > 0) {
+      log.info("legacy jwt blacklist keys migrated. count: {}", migrated);
+    }
+  }
+
+  private void onMessage(Message message) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.lastIndexOf(':');
+
+    try {
+      addLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      log.warn("invalid jwt blacklist message. body: {}", body);
+    }
+  }
+
+  private synchronized void addLocal(String digest, long expiresAtMs) {
+    digests.put(digest, expiresAtMs);
+
+    BloomFilter current = bloomFilter;
+    if (current != null) {
+      current.put(DIGEST_DECODER.decode(digest));
+    }
+  }
+
+  // 만료된 digest 를 정리하고 Bloom filter 를 새로 만듦
+  private synchronized void rebuild() {
+    long now = System.currentTimeMillis();
+    digests.values().removeIf(expiresAtMs -> expiresAtMs <= now);
+
+    BloomFilter rebuilt = new BloomFilter(Math.max(expectedSize, digests.size() * 2), falsePositiveRate);
+    digests.keySet().forEach(digest -> rebuilt.put(DIGEST_DECODER.decode(digest)));
+    bloomFilter = rebuilt;
+  }
+
+  private static String digest(String token) {
+    try {
+      return DIGEST_ENCODER.encodeToString(
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -1,28 +1,58 @@
 package com.zerobase.babdeusilbun.security.component;
 
+import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_EXPIRED;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_INVALID;
+
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class JwtComponent {
 
   private final SecretKey secretKey;
 
+  // 불변 객체로 여러 스레드에서 재사용
+  private final JwtParser jwtParser;
+
+  // 서명 검증을 마친 token -> claims (token 의 만료 시각까지만 유효)
+  private final Map<String, VerifiedJwt> verifiedTokens = new ConcurrentHashMap<>();
+
   @Value("${jwt.expire-ms}")
   private String expireMs;
 
+  @Value("${jwt.verified-cache-size:10000}")
+  private int verifiedCacheSize;
+
+  public JwtComponent(SecretKey secretKey) {
+    this.secretKey = secretKey;
+    this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+  }
+
   /**
    * Jwt Token 생성
    */
   public String createToken(String email, String role) {
+    return createToken(null, email, role);
+  }
+
+  /**
+   * Jwt Token 생성 (식별번호 포함)
+   */
+  public String createToken(Long id, String email, String role) {
 
     return Jwts.builder().signWith(secretKey)
+        .claim("id", id)
         .claim("email", email)
         .claim("role", role)
         .expiration(new Date(System.currentTimeMillis() + Long.parseLong(expireMs)))
@@ -30,31 +60,77 @@ public class JwtComponent {
   }
 
   /**
-   * Jwt Token에서 email 파싱
+   * Jwt Token 검증
+   * 이미 검증한 token 은 만료 전까지 캐시된 claims 를 반환하며 서명을 다시 검증하지 않는다.
    */
-  public String getEmail(String token) {
-    return getClaims(token).get("email", String.class);
+  public VerifiedJwt verify(String token) {
+    VerifiedJwt cached = verifiedTokens.get(token);
+    if (cached != null) {
+      if (!cached.isExpired()) {
+        return cached;
+      }
+      verifiedTokens.remove(token);
+    }
+
+    VerifiedJwt verifiedJwt = fromClaims(getClaims(token));
+    if (verifiedJwt.isExpired()) {
+      throw new CustomException(JWT_TOKEN_EXPIRED);
+    }
+
+    cache(token, verifiedJwt);
+    return verifiedJwt;
   }
 
   /**
-   * Jwt Token에서 role 파싱
+   * Jwt Token에서 email 파싱
    */
-  public String getRole(String token) {
-    return getClaims(token).get("role", String.class);
+  public String getEmail(String token) {
+    return verify(token).getEmail();
   }
 
   /**
-   * Jwt Token 만료 검증
+   * Jwt Token에서 role 파싱
    */
-  public boolean isExpired(String token) {
-    return getClaims(token).getExpiration().before(new Date());
+  public String getRole(String token) {
+    return verify(token).getRole();
   }
 
   /**
    * Jwt Token에서 claims 파싱
    */
   private Claims getClaims(String token) {
-    return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    try {
+      return jwtParser.parseSignedClaims(token).getPayload();
+    } catch (ExpiredJwtException e) {
+      throw new CustomException(JWT_TOKEN_EXPIRED);
+    } catch (JwtException | IllegalArgumentException e) {
+      throw new CustomException(JWT_TOKEN_INVALID);
+    }
+  }
+
+  private VerifiedJwt fromClaims(Claims claims) {
+    if (claims.getExpiration() == null) {
+      throw new CustomException(JWT_TOKEN_INVALID);
+    }
+
+    return VerifiedJwt.builder()
+        .id(claims.get("id", Long.class))
+        .email(claims.get("email", String.class))
+        .role(claims.get("role", String.class))
+        .expiration(claims.getExpiration())
+        .build();
+  }
+
+  // 캐시가 가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않음
+  private void cache(String token, VerifiedJwt verifiedJwt) {
+    if (verifiedTokens.size() >= verifiedCacheSize) {
+      verifiedTokens.values().removeIf(VerifiedJwt::isExpired);
+      if (verifiedTokens.size() >= verifiedCacheSize) {
+        return;
+      }
+    }
+
+    verifiedTokens.put(token, verifiedJwt);
   }
 
 }
@@ -0,0 +1,86 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.PRINCIPAL_INVALIDATE_CHANNEL;
+import static com.zerobase.babdeusilbun.util.TransactionUtility.afterCommit;
+
+import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 주체 캐시 (prefixed email -> CustomUserDetails)
+ * 회원 정보가 바뀌면 invalidate 로 모든 노드의 캐시에서 제거한다 (Redis pub/sub).
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${security.principal-cache.size:10000}")
+  private int maxSize;
+
+  @Value("${security.principal-cache.ttl-ms:600000}")
+  private long ttlMs;
+
+  private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> principals.remove(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(PRINCIPAL_INVALIDATE_CHANNEL));
+  }
+
+  public CustomUserDetails get(String prefixedEmail, Function<String, CustomUserDetails> loader) {
+    long now = System.currentTimeMillis();
+
+    CachedPrincipal cached = principals.get(prefixedEmail);
+    if (cached != null && cached.expiresAt() > now) {
+      return cached.principal();
+    }
+
+    CustomUserDetails principal = loader.apply(prefixedEmail);
+    put(prefixedEmail, new CachedPrincipal(principal, now + ttlMs), now);
+    return principal;
+  }
+
+  /**
+   * 캐시 무효화
+   * 트랜잭션 안에서 호출되면 커밋 후에 제거해 변경 전 정보가 다시 캐시되지 않도록 한다.
+   */
+  public void invalidate(String prefixedEmail) {
+    afterCommit(() -> evict(prefixedEmail));
+  }
+
+  private void evict(String prefixedEmail) {
+    principals.remove(prefixedEmail);
+    stringRedisTemplate.convertAndSend(PRINCIPAL_INVALIDATE_CHANNEL, prefixedEmail);
+  }
+
+  // 캐시가 가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않음
+  private void put(String prefixedEmail, CachedPrincipal cachedPrincipal, long now) {
+    if (principals.size() >= maxSize) {
+      principals.values().removeIf(principal -> principal.expiresAt() <= now);
+      if (principals.size() >= maxSize) {
+        return;
+      }
+    }
+
+    principals.put(prefixedEmail, cachedPrincipal);
+  }
+
+  private record CachedPrincipal(CustomUserDetails principal, long expiresAt) {
+  }
+}
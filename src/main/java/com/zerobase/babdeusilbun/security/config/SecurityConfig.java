@@ -7,8 +7,10 @@ import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpMethod.PUT;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
+import com.zerobase.babdeusilbun.security.component.JwtBlackList;
 import com.zerobase.babdeusilbun.security.component.JwtComponent;
 import com.zerobase.babdeusilbun.security.filter.JwtFilter;
+import com.zerobase.babdeusilbun.security.service.impl.CustomUserDetailsService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,7 +23,6 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -47,8 +48,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
   private final JwtComponent jwtComponent;
-  private final UserDetailsService userDetailsService;
-  private final RedisTemplate<String, String> redisTemplate;
+  private final CustomUserDetailsService userDetailsService;
+  private final JwtBlackList jwtBlackList;
 
 
   @Bean
@@ -63,7 +64,7 @@ public class SecurityConfig {
         "/swagger-ui/**", "/swagger-ui-custom.html", "/v3/api-docs/**",
         "/api/signup**", "/api/schools", "/api/stores/**", "/api/users/signup/majors",
         "/error/**", "/actuator", "/actuator/**",
-        "/api/random-nickname",
+        "/api/random-nickname", "/api/payments/webhook",
         "/stomp/**", "/meeting/**", "/socket/**"
     );
 
@@ -96,7 +97,7 @@ public class SecurityConfig {
   }
 
   public JwtFilter jwtFilter(List<String> permitAllUrl) {
-    return new JwtFilter(jwtComponent, userDetailsService, permitAllUrl, redisTemplate);
+    return new JwtFilter(jwtComponent, userDetailsService, permitAllUrl, jwtBlackList);
   }
 
   // cors 설정
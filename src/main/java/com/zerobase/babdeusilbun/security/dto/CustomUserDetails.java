@@ -37,6 +37,13 @@ public class CustomUserDetails implements UserDetails {
     role = ROLE_ENTREPRENEUR;
   }
 
+  // jwt claims 로 생성 (DB 조회 없음)
+  public CustomUserDetails(Long id, String prefixedEmail, Role role) {
+    this.id = id;
+    this.email = prefixedEmail;
+    this.role = role;
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return List.of(new SimpleGrantedAuthority(role.name()));
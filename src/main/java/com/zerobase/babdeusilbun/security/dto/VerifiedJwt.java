@@ -0,0 +1,30 @@
+package com.zerobase.babdeusilbun.security.dto;
+
+import java.util.Date;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 Jwt Token 의 claims
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerifiedJwt {
+
+  // 식별번호 claim 이 없는 이전 token 은 null
+  private final Long id;
+
+  private final String email;
+
+  private final String role;
+
+  private final Date expiration;
+
+  public boolean isExpired() {
+    return expiration.before(new Date());
+  }
+
+}
@@ -1,14 +1,15 @@
 package com.zerobase.babdeusilbun.security.filter;
 
 import static com.zerobase.babdeusilbun.exception.ErrorCode.AUTHENTICATION_HEADER_INVALID;
-import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_EXPIRED;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_IS_BLACK;
 import static com.zerobase.babdeusilbun.security.util.SecurityConstantsUtil.*;
 import static java.time.format.DateTimeFormatter.*;
 
 import com.zerobase.babdeusilbun.exception.CustomException;
-import com.zerobase.babdeusilbun.security.redis.RedisKeyUtil;
+import com.zerobase.babdeusilbun.security.component.JwtBlackList;
 import com.zerobase.babdeusilbun.security.component.JwtComponent;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
+import com.zerobase.babdeusilbun.security.service.impl.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,14 +20,12 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -35,18 +34,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtFilter extends OncePerRequestFilter {
 
   private final JwtComponent jwtComponent;
-  private final UserDetailsService userDetailsService;
+  private final CustomUserDetailsService userDetailsService;
   private final List<String> permitAllUrl;
   private final AntPathMatcher matcher = new AntPathMatcher();
 
-  private final RedisTemplate<String, String> redisTemplate;
+  private final JwtBlackList jwtBlackList;
 
-  public JwtFilter(JwtComponent jwtComponent, UserDetailsService userDetailsService,
-      List<String> permitAllUrl, RedisTemplate<String, String> redisTemplate) {
+  public JwtFilter(JwtComponent jwtComponent, CustomUserDetailsService userDetailsService,
+      List<String> permitAllUrl, JwtBlackList jwtBlackList) {
     this.jwtComponent = jwtComponent;
     this.userDetailsService = userDetailsService;
     this.permitAllUrl = permitAllUrl;
-    this.redisTemplate = redisTemplate;
+    this.jwtBlackList = jwtBlackList;
   }
 
   @Override
@@ -72,13 +71,10 @@ public class JwtFilter extends OncePerRequestFilter {
     // 해당 jwt token이 black list 상태인지 확인
     verifyJwtBlackList(jwtToken);
 
-    // jwt token에서 email 가져옴
-    String prefixedEmail = jwtComponent.getEmail(jwtToken);
+    // jwt token 검증 (서명, 만료 여부 한 번에 확인) 후 email 가져옴
+    VerifiedJwt verifiedJwt = jwtComponent.verify(jwtToken);
 
-    // jwt token이 만료된 상태인지 확인
-    verifyJwtTokenIsExpired(jwtToken);
-
-    UserDetails findUserDetails = userDetailsService.loadUserByUsername(prefixedEmail);
+    UserDetails findUserDetails = userDetailsService.loadUserByVerifiedJwt(verifiedJwt);
 
     UsernamePasswordAuthenticationToken authenticationToken =
         new UsernamePasswordAuthenticationToken(
@@ -93,7 +89,7 @@ public class JwtFilter extends OncePerRequestFilter {
   }
 
   private void verifyJwtBlackList(String jwtToken) {
-    if (Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.jwtBlackListKey(jwtToken)))) {
+    if (jwtBlackList.contains(jwtToken)) {
       throw new CustomException(JWT_TOKEN_IS_BLACK);
     }
   }
@@ -114,12 +110,6 @@ public class JwtFilter extends OncePerRequestFilter {
     return authenticationHeader.replace(AUTHORIZATION_HEADER_PREFIX, "");
   }
 
-  private void verifyJwtTokenIsExpired(String jwtToken) {
-    if (jwtComponent.isExpired(jwtToken)) {
-      throw new CustomException(JWT_TOKEN_EXPIRED);
-    }
-  }
-
   private void verifyValidHeader(String authenticationHeader) {
     if (!StringUtils.hasText(authenticationHeader) || !authenticationHeader.startsWith(AUTHORIZATION_HEADER_PREFIX)) {
       throw new CustomException(AUTHENTICATION_HEADER_INVALID);
@@ -5,15 +5,17 @@ public class RedisKeyUtil {
   // refresh token 저장
   public static final String REFRESH_TOKEN = "refreshToken";
 
-  // 로그아웃용 jwt 블랙리스트 저장
+  // 로그아웃용 jwt 블랙리스트 저장 (sorted set, member: token digest, score: token 만료 시각)
   public static final String JWT_BLACKLIST = "jwtBlackList";
 
+  // 블랙리스트 추가 알림 채널 (message: token digest:token 만료 시각)
+  public static final String JWT_BLACKLIST_CHANNEL = "jwtBlackList:channel";
+
+  // 인증 주체 캐시 무효화 채널 (message: prefixed email)
+  public static final String PRINCIPAL_INVALIDATE_CHANNEL = "principal:channel";
+
 
   public static String refreshTokenKey(String refreshToken) {
     return REFRESH_TOKEN + ":" + refreshToken;
   }
-
-  public static String jwtBlackListKey(String jwt) {
-    return JWT_BLACKLIST + ":" + jwt;
-  }
 }
@@ -9,10 +9,13 @@ import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.repository.EntrepreneurRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.security.type.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,9 +27,30 @@ public class CustomUserDetailsService implements UserDetailsService {
 
   private final UserRepository userRepository;
   private final EntrepreneurRepository entrepreneurRepository;
+  private final PrincipalCache principalCache;
+
+  // true 이면 식별번호가 포함된 jwt 는 claims 만으로 인증 주체를 만든다
+  @Value("${jwt.principal-from-claims:false}")
+  private boolean principalFromClaims;
 
   @Override
   public UserDetails loadUserByUsername(String prefixedEmail) throws UsernameNotFoundException {
+    return principalCache.get(prefixedEmail, this::loadPrincipal);
+  }
+
+  /**
+   * 검증된 jwt 로 인증 주체 조회
+   */
+  public UserDetails loadUserByVerifiedJwt(VerifiedJwt verifiedJwt) {
+    if (principalFromClaims && verifiedJwt.getId() != null && verifiedJwt.getRole() != null) {
+      return new CustomUserDetails(
+          verifiedJwt.getId(), verifiedJwt.getEmail(), Role.valueOf(verifiedJwt.getRole()));
+    }
+
+    return loadUserByUsername(verifiedJwt.getEmail());
+  }
+
+  private CustomUserDetails loadPrincipal(String prefixedEmail) {
 
 //    int splitIndex = prefixedEmail.indexOf("_", 5);
 //    String role = prefixedEmail.substring(0, splitIndex);
@@ -10,7 +10,6 @@ import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_MEETING_STILL_L
 import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_NOT_FOUND;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_POINT_NOT_EMPTY;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_WITHDRAWAL;
-import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.jwtBlackListKey;
 import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.refreshTokenKey;
 import static com.zerobase.babdeusilbun.security.type.Role.ROLE_ENTREPRENEUR;
 import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
@@ -33,18 +32,19 @@ import com.zerobase.babdeusilbun.repository.MeetingRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.SchoolRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.JwtBlackList;
 import com.zerobase.babdeusilbun.security.component.JwtComponent;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
 import com.zerobase.babdeusilbun.security.dto.SignRequest;
 import com.zerobase.babdeusilbun.security.dto.SignRequest.BusinessSignUp;
 import com.zerobase.babdeusilbun.security.dto.SignRequest.SignIn;
 import com.zerobase.babdeusilbun.security.dto.SignRequest.UserSignUp;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
 import com.zerobase.babdeusilbun.security.dto.WithdrawalRequest;
 import com.zerobase.babdeusilbun.security.service.SignService;
 import com.zerobase.babdeusilbun.security.type.Role;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -59,9 +59,6 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 @RequiredArgsConstructor
 public class SignServiceImpl implements SignService {
 
-  @Value("${jwt.expire-ms}")
-  private Long jwtTokenExpiredMs;
-
   private final UserRepository userRepository;
   private final EntrepreneurRepository entrepreneurRepository;
   private final SchoolRepository schoolRepository;
@@ -70,9 +67,10 @@ public class SignServiceImpl implements SignService {
   private final MeetingRepository meetingRepository;
 
   private final JwtComponent jwtComponent;
+  private final JwtBlackList jwtBlackList;
+  private final PrincipalCache principalCache;
   private final PasswordEncoder passwordEncoder;
 
-  private final RedisTemplate<String, String> stringRedisTemplate;
   private final RedisTemplate<String, String> refreshTokenRedisTemplate;
 
   private final JavaMailSender mailSender;
@@ -149,7 +147,7 @@ public class SignServiceImpl implements SignService {
     verifyPassword(password, findUser.getPassword());
 
     Role role = ROLE_USER;
-    return jwtComponent.createToken(getPrefixedEmail(email, role), role.name());
+    return jwtComponent.createToken(findUser.getId(), getPrefixedEmail(email, role), role.name());
   }
 
   /**
@@ -178,7 +176,7 @@ public class SignServiceImpl implements SignService {
     verifyPassword(password, findEntrepreneur.getPassword());
 
     Role role = ROLE_ENTREPRENEUR;
-    return jwtComponent.createToken(getPrefixedEmail(email, role), role.name());
+    return jwtComponent.createToken(findEntrepreneur.getId(), getPrefixedEmail(email, role), role.name());
   }
 
   /**
@@ -187,11 +185,11 @@ public class SignServiceImpl implements SignService {
   @Override
   public void logout(String jwtToken) {
 
-    String email = jwtComponent.getEmail(jwtToken);
+    VerifiedJwt verifiedJwt = jwtComponent.verify(jwtToken);
+    String email = verifiedJwt.getEmail();
 
-    // redis에 해당 jwt를 balcklist로 등록
-    stringRedisTemplate.opsForValue()
-        .set(jwtBlackListKey(jwtToken), email, jwtTokenExpiredMs, TimeUnit.MILLISECONDS);
+    // 해당 jwt를 만료 시각까지 blacklist로 등록 (다른 서버에도 전파)
+    jwtBlackList.add(jwtToken, verifiedJwt.getExpiration().getTime());
 
     // redis에서 refresh token 정보 삭제
     refreshTokenRedisTemplate.delete(refreshTokenKey(email));
@@ -220,6 +218,7 @@ public class SignServiceImpl implements SignService {
     verifyProceedingMeeting(findUser);
 
     findUser.withdraw();
+    principalCache.invalidate(emailByToken);
 
     // 로그아웃 처리
     logout(jwtToken);
@@ -243,6 +242,7 @@ public class SignServiceImpl implements SignService {
     verifyProceedingPurchase(findEntrepreneur);
 
     findEntrepreneur.withdraw();
+    principalCache.invalidate(emailByToken);
 
     // 로그아웃 처리
     logout(jwtToken);
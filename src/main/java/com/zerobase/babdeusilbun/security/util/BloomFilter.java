@@ -0,0 +1,60 @@
+package com.zerobase.babdeusilbun.security.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 digest 용 Bloom filter
+ * digest 는 이미 균일하게 분포되어 있으므로 앞 16 바이트를 두 개의 해시로 나눠 이중 해싱한다.
+ * 추가/조회 모두 락 없이 여러 스레드에서 호출할 수 있다.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int insertions = Math.max(expectedInsertions, 1);
+    long size = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+    this.bitSize = Math.max(size, Long.SIZE);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+  }
+
+  public void put(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long hash1 = buffer.getLong();
+    long hash2 = buffer.getLong();
+
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitSize);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  public boolean mightContain(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long hash1 = buffer.getLong();
+    long hash2 = buffer.getLong();
+
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitSize);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
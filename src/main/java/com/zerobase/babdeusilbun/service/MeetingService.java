@@ -3,6 +3,7 @@ package com.zerobase.babdeusilbun.service;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.dto.ChatDto;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.MeetingDto;
 import com.zerobase.babdeusilbun.dto.MeetingRequest;
 import com.zerobase.babdeusilbun.dto.MeetingRequest.Update;
@@ -15,6 +16,10 @@ public interface MeetingService {
   Page<MeetingDto> getAllMeetingDtoList(Long userId, Long schoolId,
       String sortCriteria, String searchMenu, Long categoryFilter, Pageable pageable);
 
+  CursorDto.Response<MeetingDto> getAllMeetingDtoListByCursor(Long userId, Long schoolId,
+      String sortCriteria, String searchMenu, Long categoryFilter,
+      String cursor, int size, boolean includeCount);
+
   Page<Meeting> getAllMeetingList
       (Long schoolId, String sortCriteria, String searchMenu, Long categoryFilter, Pageable pageable);
 
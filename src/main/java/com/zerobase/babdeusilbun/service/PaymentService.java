@@ -5,6 +5,7 @@ import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmResponse;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ProcessRequest;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ProcessResponse;
 import com.zerobase.babdeusilbun.dto.PaymentDto.Temporary;
+import com.zerobase.babdeusilbun.dto.PaymentDto.WebhookRequest;
 
 public interface PaymentService {
 
@@ -15,4 +16,6 @@ public interface PaymentService {
       ConfirmRequest request, Temporary temporary
   );
 
+  void receiveWebhook(WebhookRequest request);
+
 }
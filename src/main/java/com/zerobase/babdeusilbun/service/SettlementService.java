@@ -0,0 +1,11 @@
+package com.zerobase.babdeusilbun.service;
+
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.dto.SettlementDto;
+
+public interface SettlementService {
+
+  SettlementDto.Summary settleConfirmedMeeting(Meeting meeting);
+
+  SettlementDto.Summary settleDeniedMeeting(Meeting meeting);
+}
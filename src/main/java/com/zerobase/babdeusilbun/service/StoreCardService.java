@@ -0,0 +1,15 @@
+package com.zerobase.babdeusilbun.service;
+
+import com.zerobase.babdeusilbun.domain.Store;
+
+public interface StoreCardService {
+  void refreshStore(Store store);
+
+  void refreshCategories(Store store);
+
+  void refreshThumbnail(Store store);
+
+  void removeStore(Store store);
+
+  int rebuildAll();
+}
@@ -1,6 +1,7 @@
 package com.zerobase.babdeusilbun.service;
 
 import com.zerobase.babdeusilbun.dto.CategoryDto;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.EntrepreneurDto;
 import com.zerobase.babdeusilbun.dto.HolidayDto;
 import com.zerobase.babdeusilbun.dto.MenuDto;
@@ -31,6 +32,9 @@ public interface StoreService {
   void updateStoreInformation(Long entrepreneurId, Long storeId, StoreDto.UpdateRequest request);
   Page<StoreDto.Information> getAvailStoreList
       (Long userId, List<Long> categoryList, String searchMenu, Long schoolId, String sortCriteria, Pageable pageable);
+  CursorDto.Response<StoreDto.Information> getAvailStoreListByCursor
+      (Long userId, List<Long> categoryList, String searchMenu, Long schoolId, String sortCriteria,
+          String cursor, int size);
   void deleteStore(Long entrepreneurId, Long storeId);
   Page<StoreDto.SimpleInformation> getAllStoresByEntrepreneur(
       Long entrepreneurId, int page, int size, boolean unprocessedOnly);
@@ -0,0 +1,94 @@
+package com.zerobase.babdeusilbun.service.impl;
+
+import static com.zerobase.babdeusilbun.annotation.RedissonLockKeyType.MEETING;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.MEETING_NOT_FOUND;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PURCHASE_NOT_FOUND;
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+import com.zerobase.babdeusilbun.annotation.RedissonLock;
+import com.zerobase.babdeusilbun.component.RedisCart;
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Purchase;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.CartBulkRepository;
+import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Redis 장바구니 저장 (cart.redis.enabled)
+ * 결제 요청 때 Redis 에 담긴 메뉴를 team_purchase / individual_purchase 에 한 번에 저장하고 장바구니 합계를 맞춘다.
+ * 결제 확인(PaymentConfirmProcessor)은 저장된 행을 그대로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CartMaterializer {
+
+  private final RedisCart redisCart;
+  private final MeetingRepository meetingRepository;
+  private final PurchaseRepository purchaseRepository;
+  private final TeamPurchaseRepository teamPurchaseRepository;
+  private final CartBulkRepository cartBulkRepository;
+
+  /**
+   * 공동 주문 저장
+   * 첫 결제 요청에서 장바구니를 변경 금지로 바꾸고 저장하며, 이후 모임원의 결제 요청은 저장된 목록을 그대로 사용한다.
+   * 다른 모임원이 바로 볼 수 있도록 결제 요청과 별도 트랜잭션으로 커밋한 뒤 락을 푼다.
+   */
+  @RedissonLock(key = MEETING, value = "#meetingId")
+  @Transactional(propagation = REQUIRES_NEW)
+  public List<CartLine> materializeTeamCart(Long meetingId) {
+    List<CartLine> lines = redisCart.freezeTeamLines(meetingId);
+    if (lines.isEmpty()) {
+      return lines;
+    }
+
+    Meeting meeting = meetingRepository.findById(meetingId)
+        .orElseThrow(() -> new CustomException(MEETING_NOT_FOUND));
+
+    // 이미 저장된 경우
+    if (teamPurchaseRepository.countByMeeting(meeting) > 0) {
+      return lines;
+    }
+
+    cartBulkRepository.insertTeamPurchases(meetingId, lines);
+    meetingRepository.addTeamCartTotal(meetingId, lines.size(),
+        totalPrice(lines), lines.get(0).getName());
+
+    return lines;
+  }
+
+  /**
+   * 개별 주문 저장 (결제 요청 트랜잭션 안에서 실행)
+   * 결제 요청마다 주문의 개별 주문을 현재 장바구니로 다시 저장한다.
+   */
+  @Transactional
+  public List<CartLine> materializeIndividualCart(Purchase purchase) {
+    purchaseRepository.findForUpdateById(purchase.getId())
+        .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
+
+    List<CartLine> lines = redisCart.getIndividualLines(purchase.getId());
+    if (lines.isEmpty()) {
+      return lines;
+    }
+
+    long totalPrice = totalPrice(lines);
+
+    cartBulkRepository.replaceIndividualPurchases(purchase.getId(), lines);
+    meetingRepository.replaceIndividualCartTotal(
+        purchase.getMeeting().getId(), purchase.getId(), totalPrice);
+    purchaseRepository.setCartTotal(
+        purchase.getId(), lines.size(), totalPrice, lines.get(0).getName());
+
+    return lines;
+  }
+
+  private long totalPrice(List<CartLine> lines) {
+    return lines.stream().mapToLong(CartLine::getPaymentPrice).sum();
+  }
+}
@@ -2,31 +2,43 @@ package com.zerobase.babdeusilbun.service.impl;
 
 import static com.zerobase.babdeusilbun.util.ChatUtility.CHAT_SEPARATOR;
 import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_CLIENT_PREFIX;
+import static com.zerobase.babdeusilbun.util.ChatUtility.isValidContent;
 import static com.zerobase.babdeusilbun.util.ChatUtility.makeSocketDestination;
 
+import com.zerobase.babdeusilbun.component.ChatRoomMembership;
+import com.zerobase.babdeusilbun.component.ChatWriteBehind;
+import com.zerobase.babdeusilbun.component.RecentChatBuffer;
 import com.zerobase.babdeusilbun.domain.Chat;
 import com.zerobase.babdeusilbun.domain.ChatRoom;
+import com.zerobase.babdeusilbun.domain.ChatRoomMember;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.ChatDto.History;
 import com.zerobase.babdeusilbun.dto.ChatDto.Information;
+import com.zerobase.babdeusilbun.dto.ChatDto.Member;
 import com.zerobase.babdeusilbun.dto.ChatDto.Request;
 import com.zerobase.babdeusilbun.dto.ChatDto.RoomInformation;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.enums.ChatType;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.exception.ErrorCode;
 import com.zerobase.babdeusilbun.repository.ChatRepository;
+import com.zerobase.babdeusilbun.repository.ChatRoomMemberRepository;
 import com.zerobase.babdeusilbun.repository.ChatRoomRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.ChatService;
+import com.zerobase.babdeusilbun.util.CursorUtility;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Order;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,15 +49,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class ChatServiceImpl implements ChatService {
   private final ChatRoomRepository chatRoomRepository;
   private final ChatRepository chatRepository;
+  private final ChatRoomMemberRepository chatRoomMemberRepository;
   private final UserRepository userRepository;
+  private final CurrentActor currentActor;
+  private final ChatRoomMembership chatRoomMembership;
+  private final ChatWriteBehind chatWriteBehind;
+  private final RecentChatBuffer recentChatBuffer;
 
   private final SimpMessagingTemplate messagingTemplate;
 
   private record UserChatRoomData(User user, ChatRoom chatRoom) {}
 
   private UserChatRoomData getUserAndChatRoom(Long userId, Long chatRoomId) {
-    User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    User user = currentActor.getActiveUser(userId);
 
     ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
         .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
@@ -54,15 +70,12 @@ public class ChatServiceImpl implements ChatService {
   }
 
   private boolean cannotProcessedInChatRoomByChatRoomAndUser(ChatRoom chatRoom, User user) {
-    //메세지가 없거나 가장 최근 메세지가 떠남인 경우 return true
-    return chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(chatRoom, user)
-        .map(chat -> chat.getType() == ChatType.LEAVE).orElse(true);
-
+    //입장한 적 없거나 떠난 경우 return true
+    return !chatRoomMembership.isMember(chatRoom.getId(), user.getId());
   }
 
   private boolean cannotNewEnteredChatRoom(ChatRoom chatRoom, User user) {
-    return chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(chatRoom, user)
-        .filter(chat -> chat.getType() == ChatType.LEAVE).isEmpty();
+    return chatRoomMembership.isMember(chatRoom.getId(), user.getId());
   }
 
   @Override
@@ -81,9 +94,28 @@ public class ChatServiceImpl implements ChatService {
         .type(ChatType.ENTER)
         .content(ChatType.ENTER.getComment(user))
         .build());
+    joinChatRoomMember(chatRoom, user, chat.getId());
+    chatRoomMemberRepository.updateLastChat(chatRoom.getId(), chat.getId(), chat.getCreatedAt(), user.getId());
+    chatRoomMembership.invalidate(chatRoom.getId());
+
+    Information information = Information.fromEntity(chat);
+    recentChatBuffer.push(chatRoom.getId(), information);
 
     messagingTemplate.convertAndSend(makeSocketDestination(
-        SEND_TO_CLIENT_PREFIX, CHAT_SEPARATOR, chatRoom.getId()), Information.fromEntity(chat));
+        SEND_TO_CLIENT_PREFIX, CHAT_SEPARATOR, chatRoom.getId()), information);
+  }
+
+  // 다시 입장한 경우 기존 참여 정보를 갱신
+  private void joinChatRoomMember(ChatRoom chatRoom, User user, Long joinedChatId) {
+    chatRoomMemberRepository.findByChatRoomIdAndUserId(chatRoom.getId(), user.getId())
+        .ifPresentOrElse(member -> member.rejoin(joinedChatId),
+            () -> chatRoomMemberRepository.save(ChatRoomMember.builder()
+                .chatRoom(chatRoom)
+                .user(user)
+                .active(true)
+                .joinedChatId(joinedChatId)
+                .lastReadChatId(joinedChatId)
+                .build()));
   }
 
   private ChatRoom createChatRoomForMeeting(Meeting meeting) {
@@ -97,10 +129,7 @@ public class ChatServiceImpl implements ChatService {
   @Override
   @Transactional(readOnly = true)
   public Page<RoomInformation> getChatRooms(Long userId, int page, int size) {
-    User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-    int count = chatRoomRepository.countRoomInformationByUser(user);
+    int count = chatRoomMemberRepository.countByUserIdAndActiveTrue(userId);
     if (count == 0) {
       return new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1), 0);
     }
@@ -108,52 +137,96 @@ public class ChatServiceImpl implements ChatService {
     size = (size <= 0) ? count : size;
     page = Math.min(page, ((int) Math.ceil((double) count / size))-1);
 
-    Pageable pageable = PageRequest.of(page, size, Sort.by(
-        Order.desc("id").with(Sort.NullHandling.NATIVE)));
-
-    return chatRoomRepository.findRoomInformationByUser(user, pageable);
+    // 정렬은 쿼리에 고정 (최근 채팅 시각, 채팅방 id 역순)
+    return chatRoomMemberRepository.findRoomSummariesByUserId(userId, PageRequest.of(page, size))
+        .map(RoomInformation::fromSummary);
   }
 
   @Override
-  @Transactional(readOnly = true)
-  public Page<Information> getChatMessagesOnChatRoom(Long userId, Long chatRoomId, int page, int size) {
-    UserChatRoomData data = getUserAndChatRoom(userId, chatRoomId);
-
-    if (cannotProcessedInChatRoomByChatRoomAndUser(data.chatRoom(), data.user())) {
+  @Transactional
+  public void readChatRoom(Long userId, Long chatRoomId) {
+    if (!chatRoomMembership.isMember(chatRoomId, userId)) {
       throw new CustomException(ErrorCode.CANNOT_PROCESS_IN_CHATROOM);
     }
 
-    int count = chatRepository.countChatsInRoomAfterUserEntered(data.chatRoom(), data.user());
-    if (count == 0) {
-      return new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1), 0);
+    chatRoomMemberRepository.markRead(chatRoomId, userId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorDto.Response<Information> getChatMessagesOnChatRoom(
+      Long userId, Long chatRoomId, Long before, int limit) {
+    Member member = chatRoomMembership.getMember(chatRoomId, userId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_PROCESS_IN_CHATROOM));
+
+    limit = CursorUtility.limitSize(limit);
+    Long joinedChatId = getJoinedChatId(member, chatRoomId);
+
+    // 첫 페이지는 최근 채팅 목록으로 응답 (부족하면 DB 조회)
+    if (before == null) {
+      Optional<CursorDto.Response<Information>> recent =
+          recentChatBuffer.getLatest(chatRoomId, joinedChatId, limit);
+      if (recent.isPresent()) {
+        return recent.get();
+      }
     }
 
-    size = (size <= 0) ? count : size;
-    page = Math.min(page, ((int) Math.ceil((double) count / size))-1);
+    // 입장 이후 채팅 중 before 보다 이전 채팅을 최신순으로 (limit + 1 개로 다음 여부 확인)
+    List<History> fetched = chatRepository.findHistory(chatRoomId, joinedChatId,
+        (before == null) ? Long.MAX_VALUE : before, PageRequest.of(0, limit + 1));
+
+    boolean hasNext = fetched.size() > limit;
+    List<History> content = hasNext ? fetched.subList(0, limit) : fetched;
+
+    return CursorDto.Response.<Information>builder()
+        .content(content.stream().map(Information::fromHistory).toList())
+        .size(content.size())
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? String.valueOf(content.getLast().getChatId()) : null)
+        .build();
+  }
 
-    Pageable pageable = PageRequest.of(page, size, Sort.by(Order.desc("id")));
+  // 입장 채팅 id 가 없는 참여자 (이전 형식으로 저장된 목록) 는 직접 조회
+  private Long getJoinedChatId(Member member, Long chatRoomId) {
+    if (member.getJoinedChatId() != null) {
+      return member.getJoinedChatId();
+    }
 
-    return chatRepository.findChatsInRoomAfterUserEntered(data.chatRoom(), data.user(), pageable)
-        .map(Information::fromEntity);
+    return chatRepository.findTopByChatRoomIdAndUserIdAndTypeOrderByIdDesc(
+            chatRoomId, member.getUserId(), ChatType.ENTER)
+        .map(Chat::getId)
+        .orElse(Long.MAX_VALUE);
   }
 
   @Override
   @Transactional
   public Information sendMessage(Long chatRoomId, Long userId, Request request) {
-    UserChatRoomData data = getUserAndChatRoom(userId, chatRoomId);
+    // 지연 저장 로그에 들어간 뒤에는 저장 실패를 알릴 수 없으므로 먼저 확인
+    if (!isValidContent(request.getContent())) {
+      throw new CustomException(ErrorCode.CHAT_CONTENT_INVALID);
+    }
 
-    if (cannotProcessedInChatRoomByChatRoomAndUser(data.chatRoom(), data.user())) {
-      throw new CustomException(ErrorCode.CANNOT_PROCESS_IN_CHATROOM);
+    // 권한 확인은 참여자 목록으로 (회원/채팅방 조회 없이 저장만 실행)
+    Member member = chatRoomMembership.getMember(chatRoomId, userId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_PROCESS_IN_CHATROOM));
+
+    // 지연 저장이면 로그에만 기록하고 바로 전송 (DB 저장은 ChatWriteBehindWriter 가 모아서 실행)
+    if (chatWriteBehind.isEnabled()) {
+      return Information.fromLogEntry(
+          chatWriteBehind.append(chatRoomId, userId, ChatType.CHAT, request.getContent()), member);
     }
 
     Chat chat = chatRepository.save(Chat.builder()
-        .chatRoom(data.chatRoom())
-        .user(data.user())
+        .chatRoom(chatRoomRepository.getReferenceById(chatRoomId))
+        .user(userRepository.getReferenceById(userId))
         .type(ChatType.CHAT)
         .content(request.getContent())
         .build());
+    chatRoomMemberRepository.updateLastChat(chatRoomId, chat.getId(), chat.getCreatedAt(), userId);
 
-    return Information.fromEntity(chat);
+    Information information = Information.fromMember(chat, member);
+    recentChatBuffer.push(chatRoomId, information);
+    return information;
   }
 
   @Override
@@ -175,7 +248,24 @@ public class ChatServiceImpl implements ChatService {
         .type(ChatType.LEAVE)
         .content(ChatType.LEAVE.getComment(user))
         .build());
+    chatRoomMemberRepository.deactivate(chatRoom.getId(), user.getId());
+    chatRoomMemberRepository.updateLastChat(chatRoom.getId(), chat.getId(), chat.getCreatedAt(), user.getId());
+    chatRoomMembership.invalidate(chatRoom.getId());
+
+    Information information = Information.fromEntity(chat);
+    recentChatBuffer.push(chatRoom.getId(), information);
+    return information;
+  }
+
+  // 참여 정보 테이블이 비어있으면 기존 채팅 내역으로 채움
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void initializeChatRoomMembers() {
+    if (chatRoomMemberRepository.count() > 0) {
+      return;
+    }
 
-    return Information.fromEntity(chat);
+    log.info("chat room member table is empty. rebuilt member count -> {}",
+        chatRoomMemberRepository.rebuildAll());
   }
 }
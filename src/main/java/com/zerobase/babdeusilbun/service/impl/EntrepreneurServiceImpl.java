@@ -6,6 +6,7 @@ import com.zerobase.babdeusilbun.dto.EntrepreneurDto.MyPage;
 import com.zerobase.babdeusilbun.dto.EntrepreneurDto.UpdateRequest;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.repository.EntrepreneurRepository;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
 import com.zerobase.babdeusilbun.service.EntrepreneurService;
 import lombok.AllArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,6 +18,8 @@ import io.micrometer.common.util.StringUtils;
 import java.util.List;
 
 import static com.zerobase.babdeusilbun.exception.ErrorCode.ENTREPRENEUR_NOT_FOUND;
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_ENTREPRENEUR;
+import static com.zerobase.babdeusilbun.security.util.SecurityConstantsUtil.getPrefixedEmail;
 import static com.zerobase.babdeusilbun.util.ImageUtility.ENTREPRENEUR_IMAGE_FOLDER;
 
 @Service
@@ -27,6 +30,7 @@ public class EntrepreneurServiceImpl implements EntrepreneurService {
 
     private final ImageComponent imageComponent;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public MyPage getMyPage(Long entrepreneurId) {
@@ -51,6 +55,7 @@ public class EntrepreneurServiceImpl implements EntrepreneurService {
         }
 
         entrepreneur.update(request);
+        principalCache.invalidate(getPrefixedEmail(entrepreneur.getEmail(), ROLE_ENTREPRENEUR));
         return request;
     }
 
@@ -1,12 +1,17 @@
 package com.zerobase.babdeusilbun.service.impl;
 
+import com.zerobase.babdeusilbun.component.CartTotals;
+import com.zerobase.babdeusilbun.component.RedisCart;
 import com.zerobase.babdeusilbun.domain.*;
 import com.zerobase.babdeusilbun.dto.IndividualPurchaseDto;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
 import com.zerobase.babdeusilbun.enums.MeetingStatus;
 import com.zerobase.babdeusilbun.enums.PurchaseStatus;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.repository.*;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.IndividualPurchaseService;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,18 +23,19 @@ import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class IndividualPurchaseServiceImpl implements IndividualPurchaseService {
 
-    private final UserRepository userRepository;
+    private final CurrentActor currentActor;
     private final MeetingRepository meetingRepository;
     private final PurchaseRepository purchaseRepository;
     private final MenuRepository menuRepository;
     private final IndividualPurchaseRepository individualPurchaseRepository;
+    private final CartTotals cartTotals;
+    private final RedisCart redisCart;
 
     @Override
     @Transactional
     public IndividualPurchase createIndividualPurchase(Long userId, Long meetingId, IndividualPurchaseDto.CreateRequest request) {
         // 사용자 정보 찾기, 없으면 예외처리
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User user = currentActor.getActiveUser(userId);
 
         // 미팅 정보 찾기, 없으면 예외처리
         Meeting meeting = meetingRepository.findAllByIdAndDeletedAtIsNull(meetingId)
@@ -40,7 +46,7 @@ public class IndividualPurchaseServiceImpl implements IndividualPurchaseService
                 .orElseThrow(() -> new CustomException(MENU_NOT_FOUND));
 
         // 1. 현재 입력한 메뉴가 속한 매장 식별번호가 미팅 속 매장의 식별번호와 동일한지 확인, 아니면 예외 처리
-        if(menu.getStore().getId() != meeting.getStore().getId()) {
+        if(!Objects.equals(menu.getStore().getId(), meeting.getStore().getId())) {
             throw new CustomException(STORE_NOT_INCLUDE_MENU);
         }
 
@@ -67,11 +73,17 @@ public class IndividualPurchaseServiceImpl implements IndividualPurchaseService
                 throw new CustomException(PURCHASE_STATUS_INVALID);
             }
             // 4-2. 현재 유저가 현재 미팅에 등록했던 개별 주문 중에서 이미 같은 음식을 등록했는지 확인, 아니면 예외처리
-            if(individualPurchaseRepository.existsAllByMenuAndPurchase(menu, purchase)) {
+            // (Redis 장바구니는 담을 때 확인)
+            if(!redisCart.isEnabled() && individualPurchaseRepository.existsAllByMenuAndPurchase(menu, purchase)) {
                 throw new CustomException(ALREADY_EXIST_INDIVIDUAL_PURCHASE);
             }
         }
 
+        // Redis 장바구니에 담기 (DB 에는 결제 요청 때 저장)
+        if(redisCart.isEnabled()) {
+            return toIndividualPurchase(purchase, redisCart.addIndividualLine(purchase.getId(), menu, request.getQuantity()));
+        }
+
         // 개별주문 새로 등록
         IndividualPurchase individualPurchase = IndividualPurchase.
                 builder().
@@ -83,6 +95,9 @@ public class IndividualPurchaseServiceImpl implements IndividualPurchaseService
 
         individualPurchaseRepository.save(individualPurchase);
 
+        // 주문, 모임의 장바구니 합계에 반영
+        cartTotals.addIndividualItem(individualPurchase);
+
         return individualPurchase;
     }
 
@@ -90,15 +105,21 @@ public class IndividualPurchaseServiceImpl implements IndividualPurchaseService
     @Transactional
     public IndividualPurchase updateIndividualPurchase(Long userId, Long purchaseId, IndividualPurchaseDto.UpdateRequest request) {
         // 사용자 정보 찾기, 없으면 예외처리
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User user = currentActor.getActiveUser(userId);
+
+        // Redis 장바구니의 수량 변경
+        if(redisCart.isEnabled()) {
+            CartLine line = findCartLine(user, purchaseId);
+            return toIndividualPurchase(purchaseRepository.getReferenceById(line.getOwnerId()),
+                    redisCart.updateIndividualLine(line, request.getQuantity()));
+        }
 
         // 개인구매 정보 찾기, 없으면 예외처리
-        IndividualPurchase individualPurchase = individualPurchaseRepository.findAllById(purchaseId)
+        IndividualPurchase individualPurchase = individualPurchaseRepository.findForUpdateById(purchaseId)
                 .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
 
         // 현재 개별주문의 사용자가 로그인한 사용자와 동일한지 확인, 아니라면 예외처리
-        if(individualPurchase.getPurchase().getUser().getId() != user.getId()) {
+        if(!Objects.equals(individualPurchase.getPurchase().getUser().getId(), user.getId())) {
             throw new CustomException(NO_AUTH_ON_PURCHASE);
         }
 
@@ -113,23 +134,32 @@ public class IndividualPurchaseServiceImpl implements IndividualPurchaseService
         }
 
         // 개인구매 수량 정보 갱신
+        long previousPrice = individualPurchase.getPaymentPrice();
         individualPurchase.updateQuantity(request.getQuantity());
 
+        // 주문, 모임의 장바구니 합계에 반영
+        cartTotals.changeIndividualItem(individualPurchase, previousPrice);
+
         return individualPurchase;
     }
 
     @Override
     public void deleteIndividualPurchase(Long userId, Long purchaseId) {
         // 사용자 정보 찾기, 없으면 예외처리
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User user = currentActor.getActiveUser(userId);
+
+        // Redis 장바구니에서 삭제
+        if(redisCart.isEnabled()) {
+            redisCart.removeIndividualLine(findCartLine(user, purchaseId));
+            return;
+        }
 
         // 개인구매 정보 찾기, 없으면 예외처리
-        IndividualPurchase individualPurchase = individualPurchaseRepository.findAllById(purchaseId)
+        IndividualPurchase individualPurchase = individualPurchaseRepository.findForUpdateById(purchaseId)
                 .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
 
         // 현재 개별주문의 사용자가 로그인한 사용자와 동일한지 확인, 아니라면 예외처리
-        if(individualPurchase.getPurchase().getUser().getId() != user.getId()) {
+        if(!Objects.equals(individualPurchase.getPurchase().getUser().getId(), user.getId())) {
             throw new CustomException(NO_AUTH_ON_PURCHASE);
         }
 
@@ -144,5 +174,42 @@ public class IndividualPurchaseServiceImpl implements IndividualPurchaseService
         }
 
         individualPurchaseRepository.delete(individualPurchase);
+
+        // 주문, 모임의 장바구니 합계에 반영
+        cartTotals.removeIndividualItem(individualPurchase);
+    }
+
+    // Redis 장바구니의 개별 주문 찾기 (주문한 사용자, 모집중인 미팅, 주문 전 상태인지 확인)
+    private CartLine findCartLine(User user, Long purchaseId) {
+        CartLine line = redisCart.getIndividualLine(purchaseId)
+                .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
+
+        Purchase purchase = purchaseRepository.findById(line.getOwnerId())
+                .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
+
+        if(!Objects.equals(purchase.getUser().getId(), user.getId())) {
+            throw new CustomException(NO_AUTH_ON_PURCHASE);
+        }
+
+        if(purchase.getMeeting().getStatus() != MeetingStatus.GATHERING) {
+            throw new CustomException(MEETING_STATUS_INVALID);
+        }
+
+        if(purchase.getStatus() != PurchaseStatus.PRE_PURCHASE) {
+            throw new CustomException(PURCHASE_STATUS_INVALID);
+        }
+
+        return line;
+    }
+
+    // 응답용 (저장되지 않은 개별 주문, id 는 장바구니의 id)
+    private IndividualPurchase toIndividualPurchase(Purchase purchase, CartLine line) {
+        return IndividualPurchase.builder()
+                .id(line.getLineId())
+                .purchase(purchase)
+                .menu(menuRepository.getReferenceById(line.getMenuId()))
+                .quantity(line.getQuantity())
+                .paymentPrice(line.getPaymentPrice())
+                .build();
     }
 }
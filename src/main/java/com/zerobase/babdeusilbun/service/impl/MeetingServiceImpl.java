@@ -2,7 +2,6 @@ package com.zerobase.babdeusilbun.service.impl;
 
 import static com.zerobase.babdeusilbun.dto.MeetingRequest.Create;
 import static com.zerobase.babdeusilbun.enums.MeetingStatus.GATHERING;
-import static com.zerobase.babdeusilbun.enums.PointType.PLUS;
 import static com.zerobase.babdeusilbun.enums.PurchaseStatus.PRE_PURCHASE;
 import static com.zerobase.babdeusilbun.enums.UserAlarmType.COOKING_COMPLETED;
 import static com.zerobase.babdeusilbun.enums.UserAlarmType.ORDER_APPROVED;
@@ -31,50 +30,54 @@ import static com.zerobase.babdeusilbun.util.MeetingUtility.ENTREPRENEUR_CAN_CON
 import static com.zerobase.babdeusilbun.util.MeetingUtility.ENTREPRENEUR_CAN_SEND_DELAY_MESSAGE;
 import static com.zerobase.babdeusilbun.util.MeetingUtility.getTitle;
 
+import com.zerobase.babdeusilbun.component.AlarmPublisher;
+import com.zerobase.babdeusilbun.component.StoreSearchIndex;
 import com.zerobase.babdeusilbun.domain.ChatRoom;
 import com.zerobase.babdeusilbun.domain.Entrepreneur;
-import com.zerobase.babdeusilbun.domain.EntrepreneurAlarm;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.MeetingPurchaseTime;
-import com.zerobase.babdeusilbun.domain.Point;
 import com.zerobase.babdeusilbun.domain.Purchase;
 import com.zerobase.babdeusilbun.domain.PurchasePayment;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.StoreImage;
 import com.zerobase.babdeusilbun.domain.User;
-import com.zerobase.babdeusilbun.domain.UserAlarm;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
 import com.zerobase.babdeusilbun.dto.ChatDto.Request;
-import com.zerobase.babdeusilbun.dto.DeliveryAddressDto;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.MeetingDto;
 import com.zerobase.babdeusilbun.dto.MeetingRequest.Update;
-import com.zerobase.babdeusilbun.dto.MetAddressDto;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.MenuResponse;
+import com.zerobase.babdeusilbun.dto.SettlementDto;
 import com.zerobase.babdeusilbun.dto.StoreImageDto;
 import com.zerobase.babdeusilbun.enums.EntrepreneurAlarmType;
+import com.zerobase.babdeusilbun.enums.MeetingStoreSortCriteria;
 import com.zerobase.babdeusilbun.enums.PurchaseStatus;
 import com.zerobase.babdeusilbun.enums.UserAlarmType;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.repository.ChatRoomRepository;
-import com.zerobase.babdeusilbun.repository.EntrepreneurAlarmRepository;
 import com.zerobase.babdeusilbun.repository.EntrepreneurRepository;
 import com.zerobase.babdeusilbun.repository.IndividualPurchaseRepository;
 import com.zerobase.babdeusilbun.repository.MeetingPurchaseTimeRepository;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
-import com.zerobase.babdeusilbun.repository.PointRepository;
 import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.StoreImageRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
-import com.zerobase.babdeusilbun.repository.UserAlarmRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
-import com.zerobase.babdeusilbun.scheduler.MeetingScheduler;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.MeetingService;
+import com.zerobase.babdeusilbun.service.SettlementService;
+import com.zerobase.babdeusilbun.util.CursorUtility;
 import io.micrometer.common.util.StringUtils;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -97,15 +100,18 @@ public class MeetingServiceImpl implements MeetingService {
   private final StoreRepository storeRepository;
   private final PurchaseRepository purchaseRepository;
   private final PurchasePaymentRepository purchasePaymentRepository;
-  private final MeetingScheduler meetingScheduler;
   private final ChatRoomRepository chatRoomRepository;
-  private final PointRepository pointRepository;
-  private final UserAlarmRepository userAlarmRepository;
-  private final EntrepreneurAlarmRepository entrepreneurAlarmRepository;
+
+  private final CurrentActor currentActor;
 
   private final ChatServiceImpl chatService;
+  private final StoreSearchIndex storeSearchIndex;
+  private final AlarmPublisher alarmPublisher;
+  private final SettlementService settlementService;
   private final SimpMessagingTemplate messagingTemplate;
 
+  private static final int APPROXIMATE_COUNT_LIMIT = 1000;
+
   @Override
   @Transactional(readOnly = true)
   public Page<MeetingDto> getAllMeetingDtoList(
@@ -118,8 +124,49 @@ public class MeetingServiceImpl implements MeetingService {
           .getSchool().getId();
     }
 
-    return getAllMeetingList(schoolId, sortCriteria, searchMenu, categoryFilter, pageable)
-        .map(this::mapToMeetingDto);
+    Set<Long> storeIds = searchStoreIds(searchMenu);
+    if (storeIds != null && storeIds.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    Page<Meeting> meetingPage = meetingRepository.findFilteredMeetingList(
+        schoolId, sortCriteria, storeIds, categoryFilter, pageable);
+
+    return new PageImpl<>(
+        mapToMeetingDtoList(meetingPage.getContent()), pageable, meetingPage.getTotalElements());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorDto.Response<MeetingDto> getAllMeetingDtoListByCursor(
+      Long userId, Long schoolId, String sortCriteria, String searchMenu,
+      Long categoryFilter, String cursor, int size, boolean includeCount) {
+
+    if (schoolId == null || schoolId == 0L) {
+      schoolId = userRepository.findByIdAndDeletedAtIsNull(userId)
+          .orElseThrow(() -> new CustomException(USER_NOT_FOUND))
+          .getSchool().getId();
+    }
+
+    size = CursorUtility.limitSize(size);
+    CursorDto.Key key = CursorUtility.decode(cursor);
+    Set<Long> storeIds = searchStoreIds(searchMenu);
+    boolean noMatch = storeIds != null && storeIds.isEmpty();
+
+    List<Meeting> meetingList = noMatch ? List.of()
+        : meetingRepository.findFilteredMeetingListByCursor(
+            schoolId, sortCriteria, storeIds, categoryFilter, key, size + 1);
+
+    // 전체 개수는 첫 페이지에서 요청한 경우에만 상한까지 센다
+    Long approximateTotal = null;
+    if (includeCount && key == null) {
+      approximateTotal = noMatch ? 0L : meetingRepository.countFilteredMeetingListUpTo(
+          schoolId, storeIds, categoryFilter, APPROXIMATE_COUNT_LIMIT);
+    }
+
+    return CursorUtility.toResponse(meetingList, size,
+        meeting -> getSortValue(meeting, sortCriteria), Meeting::getId,
+        this::mapToMeetingDtoList, approximateTotal);
   }
 
   @Override
@@ -128,8 +175,18 @@ public class MeetingServiceImpl implements MeetingService {
       (Long schoolId, String sortCriteria, String searchMenu,
       Long categoryFilter, Pageable pageable) {
 
+    Set<Long> storeIds = searchStoreIds(searchMenu);
+    if (storeIds != null && storeIds.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
     return meetingRepository
-        .findFilteredMeetingList(schoolId, sortCriteria, searchMenu, categoryFilter, pageable);
+        .findFilteredMeetingList(schoolId, sortCriteria, storeIds, categoryFilter, pageable);
+  }
+
+  // 검색어가 매장명 또는 메뉴명에 포함된 매장 id (검색어가 없으면 null)
+  private Set<Long> searchStoreIds(String searchMenu) {
+    return StringUtils.isNotBlank(searchMenu) ? storeSearchIndex.search(searchMenu) : null;
   }
 
   @Override
@@ -156,9 +213,6 @@ public class MeetingServiceImpl implements MeetingService {
     Purchase createdPurchase = Purchase.builder()
         .meeting(savedMeeting).user(findUser).status(PRE_PURCHASE).build();
     purchaseRepository.save(createdPurchase);
-
-    // 모임 마감 시간 등록
-    meetingScheduler.enrollMeetingSchedule(savedMeeting);
   }
 
   @Override
@@ -204,8 +258,6 @@ public class MeetingServiceImpl implements MeetingService {
       messagingTemplate.convertAndSend(String.format("/meeting/chat-rooms/%d", findChatRoom.getId()),
           chatService.leaveChatRoom(findChatRoom, findUser));
 
-      meetingScheduler.deleteMeetingSchedule(findMeeting);
-
       return;
     }
 
@@ -249,21 +301,17 @@ public class MeetingServiceImpl implements MeetingService {
 
     //모임상태 변경
     findMeeting.completeDeadline();
-    //스케쥴러에서 삭제
-    meetingScheduler.deleteMeetingSchedule(findMeeting);
     //주문 시간 기록
     createMeetingPurchaseTimeForMeeting(findMeeting, findMeeting.getStore());
     //주문 완료 알림 전송(멤버별 상점에 대한 주문이 완료되었어요.)
-    purchases.forEach(purchase -> {
-      userAlarmRepository.save(purchaseStatusAlarm(purchase, ORDER_COMPLETED));
-    });
+    List<AlarmDto.Message> alarms = new ArrayList<>(
+        purchases.stream().map(purchase -> purchaseStatusAlarm(purchase, ORDER_COMPLETED)).toList());
     //주문 접수 알림 전송(ㅇㅇ상점에 대한 주문이 완료되었어요.)
-    entrepreneurAlarmRepository.save(
-        EntrepreneurAlarm.builder()
-            .entrepreneur(findMeeting.getStore().getEntrepreneur())
-            .type(EntrepreneurAlarmType.ORDER_RECEIVED)
-            .content(String.format("%s로 접수된 주문이 있어요!", findMeeting.getStore().getName()))
-            .build());
+    alarms.add(AlarmDto.Message.ofEntrepreneur(
+        findMeeting.getStore().getEntrepreneur(),
+        EntrepreneurAlarmType.ORDER_RECEIVED,
+        String.format("%s로 접수된 주문이 있어요!", findMeeting.getStore().getName())));
+    alarmPublisher.publish(alarms);
   }
 
   @Override
@@ -304,10 +352,11 @@ public class MeetingServiceImpl implements MeetingService {
     //모임상태 변경
     meeting.confirmMeetingPurchase();
     
-    //totalAmount 만큼 결제(밥드실분 -> 상점) : 진행되었다 가정
-    Long totalAmount = processingRefundAndAlarmAndgetTotalPurchaseAmountOfMeeting(
-        purchaseRepository.findAllByMeetingAndStatus(meeting, PurchaseStatus.PAYMENT_COMPLETED)
-    );
+    //참여자 별 차액 환급, storePaymentAmount 만큼 결제(밥드실분 -> 상점) : 진행되었다 가정
+    SettlementDto.Summary settlement = settlementService.settleConfirmedMeeting(meeting);
+
+    //알림 전송(멤버별 주문이 승인되었어요/ㅇㅇ포인트가 환급되었어요)
+    alarmPublisher.publish(settlementAlarms(meeting, settlement, ORDER_APPROVED));
 
     //시간 기록
     meetingPurchaseTime.writeProcessedAt();
@@ -330,25 +379,11 @@ public class MeetingServiceImpl implements MeetingService {
     //모임상태 변경
     meeting.denyMeetingPurchase();
 
-    //모임에 개인 주문 내역(주문 상태: 결제 완료) 확인
-    purchaseRepository.findAllByMeetingAndStatus(meeting, PurchaseStatus.PAYMENT_COMPLETED)
-        .forEach(purchase -> {
-          PurchasePayment purchasePayment =
-              purchasePaymentRepository.findByMeetingAndUser(purchase.getMeeting(), purchase.getUser())
-                  .orElseThrow(() -> new CustomException(PURCHASE_PAYMENT_NOT_FOUND));
-
-          //차액 환급
-          Long refundPoint = getTotalIndividualPaymentAmount(purchasePayment);
-          refundPointToUser(purchase.getUser(), purchasePayment, refundPoint);
-
-          //알림 전송(멤버별 주문이 거절되었어요/ㅇㅇ포인트가 환급되었어요)
-          userAlarmRepository.saveAll(List.of(
-              purchaseStatusAlarm(purchase, ORDER_REJECTED), refundAlarmOfPurchase(purchase, refundPoint)
-          ));
+    //모임에 개인 주문 내역(주문 상태: 결제 완료) 전액 환급, 주문 상태 모두 취소로 변경
+    SettlementDto.Summary settlement = settlementService.settleDeniedMeeting(meeting);
 
-          //모임, 이용자 식별번호에 따른 주문 상태 모두 취소로 변경
-          purchase.cancel();
-        });
+    //알림 전송(멤버별 주문이 거절되었어요/ㅇㅇ포인트가 환급되었어요)
+    alarmPublisher.publish(settlementAlarms(meeting, settlement, ORDER_REJECTED));
 
     //시간 기록
     meetingPurchaseTime.writeProcessedAt();
@@ -372,9 +407,9 @@ public class MeetingServiceImpl implements MeetingService {
     meeting.completedCooking();
 
     //모임에 개인 주문 내역(주문 상태: 결제 완료) 확인 후 알람 전송
-    List<UserAlarm> alarms = purchaseRepository.findAllByMeetingAndStatus(meeting, PurchaseStatus.PAYMENT_COMPLETED)
+    List<AlarmDto.Message> alarms = purchaseRepository.findAllByMeetingAndStatus(meeting, PurchaseStatus.PAYMENT_COMPLETED)
         .stream().map(this::completedCookAlarmOfMeeting).toList();
-    userAlarmRepository.saveAll(alarms);
+    alarmPublisher.publish(alarms);
 
     //시간 기록
     meetingPurchaseTime.writeCookedAt();
@@ -392,9 +427,9 @@ public class MeetingServiceImpl implements MeetingService {
             .orElseThrow(() -> new CustomException(ENTREPRENEUR_NOT_FOUND)), meeting);
 
     //모임에 개인 주문 내역(주문 상태: 결제 완료) 확인, 알람 메세지 전송(조리/배차가 지연되고 있어요.)
-    List<UserAlarm> alarms = purchaseRepository.findAllByMeetingAndStatus(meeting, PurchaseStatus.PAYMENT_COMPLETED)
+    List<AlarmDto.Message> alarms = purchaseRepository.findAllByMeetingAndStatus(meeting, PurchaseStatus.PAYMENT_COMPLETED)
         .stream().map(purchase -> delayOfMeeting(purchase, request.getContent())).toList();
-    userAlarmRepository.saveAll(alarms);
+    alarmPublisher.publish(alarms);
   }
 
   @Override
@@ -451,44 +486,39 @@ public class MeetingServiceImpl implements MeetingService {
     }
   }
 
-  private MeetingDto mapToMeetingDto(Meeting meeting) {
+  private Object getSortValue(Meeting meeting, String sortCriteria) {
+    return switch (MeetingStoreSortCriteria.fromParameter(sortCriteria)) {
+      case DEADLINE -> meeting.getPaymentAvailableDt();
+      case DELIVERY_TIME -> meeting.getDeliveredAt();
+      case DELIVERY_FEE -> meeting.getStore().getDeliveryPrice();
+      case MIN_PRICE -> meeting.getStore().getMinPurchaseAmount();
+    };
+  }
 
-    Store store = meeting.getStore();
-    List<StoreImage> storeImageList =
-        storeImageRepository.findAllByStoreOrderBySequenceAsc(store);
-
-    return MeetingDto.builder()
-        .meetingId(meeting.getId())
-        .storeId(store.getId())
-        .storeImage(storeImageList.stream().map(StoreImageDto::fromEntity).toList())
-        .storeName(store.getName())
-        .purchaseType(meeting.getPurchaseType())
-        .minPurchaseAmount(store.getMinPurchaseAmount())
-        .participantMin(meeting.getMinHeadcount())
-        .participantMax(meeting.getMaxHeadcount())
-        .isEarlyPaymentAvailable(meeting.getIsEarlyPaymentAvailable())
-        .paymentAvailableAt(meeting.getPaymentAvailableDt())
-        .deliveryAddress(DeliveryAddressDto.fromEntity(meeting.getDeliveredAddress()))
-        .metAddress(MetAddressDto.fromEntity(meeting.getMetAddress()))
-        .deliveryFeeRange(
-            calculateFeeRange
-                (store.getDeliveryPrice(), meeting.getMinHeadcount(), meeting.getMaxHeadcount())
-        )
-        .minDeliveryTime(store.getMinDeliveryTime())
-        .maxDeliveryTime(store.getMaxDeliveryTime())
-        .deliveryTimeRange(
-            String.format("%d분 ~ %d분", store.getMinDeliveryTime(), store.getMaxDeliveryTime())
-        )
-        .deliveredAt(meeting.getDeliveredAt())
-        .status(meeting.getStatus())
-        .description(meeting.getDescription())
-        .build();
+  // 상점 이미지는 목록 단위로 한 번에 조회
+  private List<MeetingDto> mapToMeetingDtoList(List<Meeting> meetings) {
+    if (meetings.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<Store> stores = meetings.stream().map(Meeting::getStore).distinct().toList();
+    Map<Long, List<StoreImageDto>> imageMap =
+        storeImageRepository.findAllByStoreInOrderBySequenceAsc(stores).stream()
+            .collect(Collectors.groupingBy(image -> image.getStore().getId(),
+                Collectors.mapping(StoreImageDto::fromEntity, Collectors.toList())));
+
+    return meetings.stream()
+        .map(meeting -> MeetingDto.fromEntity(
+            meeting, imageMap.getOrDefault(meeting.getStore().getId(), Collections.emptyList())))
+        .toList();
   }
 
-  private String calculateFeeRange(Long amount, int min, int max) {
-    Integer from = (int) ((amount / max) / 10) * 10;
-    Integer to = (int) ((amount / min) / 10) * 10;
-    return String.format("%d원 ~ %d원", from, to);
+  private MeetingDto mapToMeetingDto(Meeting meeting) {
+    List<StoreImage> storeImageList =
+        storeImageRepository.findAllByStoreOrderBySequenceAsc(meeting.getStore());
+
+    return MeetingDto.fromEntity(meeting,
+        storeImageList.stream().map(StoreImageDto::fromEntity).toList());
   }
 
   private Meeting createMeetingFromRequest(Create request, User leader) {
@@ -508,7 +538,7 @@ public class MeetingServiceImpl implements MeetingService {
   }
 
   private User findUserById(Long userId) {
-    return userRepository.findById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+    return currentActor.getUser(userId);
   }
 
   private Store findStoreById(Long storeId) {
@@ -541,92 +571,36 @@ public class MeetingServiceImpl implements MeetingService {
     );
   }
 
-  private Long getRefundAmountWhenConfirmByPurchasePayment(PurchasePayment purchasePayment, int headCount) {
-    return purchasePayment.getDeliveryFee() + purchasePayment.getTeamPurchaseFee()
-        - (purchasePayment.getDeliveryPrice() + purchasePayment.getTeamPurchasePrice())/headCount;
-  }
-
-  private Long getTotalIndividualPaymentAmount(PurchasePayment purchasePayment) {
-    return purchasePayment.getIndividualPurchasePrice()
-        + purchasePayment.getDeliveryFee()
-        + purchasePayment.getTeamPurchaseFee();
+  private AlarmDto.Message purchaseStatusAlarm(Purchase purchase, UserAlarmType type) {
+    return AlarmDto.Message.ofUser(
+        purchase.getUser(), type, type.getMessage(getTitle(purchase.getMeeting())));
   }
 
-  private void refundPointToUser(User user, PurchasePayment purchasePayment, Long point) {
-    user.plusPoint(point);
-
-    pointRepository.save(
-        Point.builder()
-            .user(user).purchasePayment(purchasePayment)
-            .type(PLUS).amount(point)
-            .content(PLUS.getContent())
-            .build()
-    );
-  }
+  private List<AlarmDto.Message> settlementAlarms(Meeting meeting, SettlementDto.Summary settlement,
+      UserAlarmType type) {
+    String title = getTitle(meeting);
 
-  private UserAlarm purchaseStatusAlarm(Purchase purchase, UserAlarmType type) {
-    return UserAlarm.builder()
-        .user(purchase.getUser())
-        .type(type)
-        .content(type.getMessage(getTitle(purchase.getMeeting())))
-        .build();
+    List<AlarmDto.Message> alarms = new ArrayList<>();
+    settlement.getRefunds().forEach(refund -> {
+      alarms.add(AlarmDto.Message.ofUser(refund.getUserId(), type, type.getMessage(title)));
+      alarms.add(AlarmDto.Message.ofUser(
+          refund.getUserId(), POINT_REFUND, POINT_REFUND.getMessage(title, refund.getAmount().toString())));
+    });
+    return alarms;
   }
 
-  private UserAlarm refundAlarmOfPurchase(Purchase purchase, Long refundPoint) {
-    return UserAlarm.builder()
-        .user(purchase.getUser())
-        .type(POINT_REFUND)
-        .content(POINT_REFUND.getMessage(getTitle(purchase.getMeeting()), refundPoint.toString()))
-        .build();
+  private AlarmDto.Message completedCookAlarmOfMeeting(Purchase purchase) {
+    return AlarmDto.Message.ofUser(
+        purchase.getUser(), COOKING_COMPLETED, COOKING_COMPLETED.getMessage(getTitle(purchase.getMeeting())));
   }
 
-  private UserAlarm completedCookAlarmOfMeeting(Purchase purchase) {
-    return UserAlarm.builder()
-        .user(purchase.getUser())
-        .type(COOKING_COMPLETED)
-        .content(COOKING_COMPLETED.getMessage(getTitle(purchase.getMeeting())))
-        .build();
-  }
-
-  private UserAlarm delayOfMeeting(Purchase purchase, String plusContent) {
+  private AlarmDto.Message delayOfMeeting(Purchase purchase, String plusContent) {
     if (StringUtils.isBlank(plusContent)) {
       plusContent = "개인 사정";
     }
 
-    return UserAlarm.builder()
-        .user(purchase.getUser())
-        .type(ORDER_DELAY)
-        .content(ORDER_DELAY.getMessage(getTitle(purchase.getMeeting()), plusContent))
-        .build();
-  }
-
-  private Long processingRefundAndAlarmAndgetTotalPurchaseAmountOfMeeting(List<Purchase> purchases) {
-    //모임에서 가게로 결제해야 하는 금액
-    AtomicLong totalAmount = new AtomicLong(0);
-
-    //모임에 주문 내역(주문 상태: 결제 완료) 확인 > 참여자 별로 주문 승인 과정 시행
-    purchases.forEach(purchase -> {
-      PurchasePayment purchasePayment =
-          purchasePaymentRepository.findByMeetingAndUser(purchase.getMeeting(), purchase.getUser())
-              .orElseThrow(() -> new CustomException(PURCHASE_PAYMENT_NOT_FOUND));
-
-      //차액 환급
-      Long refundPoint = getRefundAmountWhenConfirmByPurchasePayment(purchasePayment, purchases.size());
-      refundPointToUser(purchase.getUser(), purchasePayment, refundPoint);
-
-      //알림 전송(멤버별 주문이 승인되었어요/ㅇㅇ포인트가 환급되었어요)
-      userAlarmRepository.saveAll(List.of(
-          purchaseStatusAlarm(purchase, ORDER_APPROVED), refundAlarmOfPurchase(purchase, refundPoint)
-      ));
-
-      if (totalAmount.get() == 0) {
-        totalAmount.getAndAdd(purchasePayment.getDeliveryPrice() + purchasePayment.getTeamPurchasePrice());
-      }
-
-      totalAmount.getAndAdd(purchasePayment.getIndividualPurchasePrice());
-    });
-
-    return totalAmount.get();
+    return AlarmDto.Message.ofUser(
+        purchase.getUser(), ORDER_DELAY, ORDER_DELAY.getMessage(getTitle(purchase.getMeeting()), plusContent));
   }
 
   private Long getTotalPurchaseAmountOfMeeting(List<Purchase> purchases) {
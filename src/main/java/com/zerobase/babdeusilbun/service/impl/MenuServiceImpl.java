@@ -1,6 +1,7 @@
 package com.zerobase.babdeusilbun.service.impl;
 
 import com.zerobase.babdeusilbun.component.ImageComponent;
+import com.zerobase.babdeusilbun.component.StoreSearchIndex;
 import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.Menu;
 import com.zerobase.babdeusilbun.domain.Store;
@@ -29,6 +30,7 @@ public class MenuServiceImpl implements MenuService {
     private final EntrepreneurRepository entrepreneurRepository;
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
+    private final StoreSearchIndex storeSearchIndex;
 
     private final ImageComponent imageComponent;
 
@@ -52,6 +54,7 @@ public class MenuServiceImpl implements MenuService {
         }
 
         Menu menu = menuRepository.save(request.toEntity(store));
+        storeSearchIndex.refresh(store.getId());
 
         return new MenuDto.CreateRequest(menu.getName(), menu.getDescription(), menu.getImage(), menu.getPrice());
     }
@@ -81,6 +84,7 @@ public class MenuServiceImpl implements MenuService {
         }
 
         menu.update(request);
+        storeSearchIndex.refresh(menu.getStore().getId());
         return request;
     }
 
@@ -98,6 +102,7 @@ public class MenuServiceImpl implements MenuService {
         }
 
         menu.delete();
+        storeSearchIndex.refresh(menu.getStore().getId());
 
         return menu;
     }
@@ -0,0 +1,320 @@
+package com.zerobase.babdeusilbun.service.impl;
+
+import static com.zerobase.babdeusilbun.annotation.RedissonLockKeyType.*;
+import static com.zerobase.babdeusilbun.enums.MeetingStatus.*;
+import static com.zerobase.babdeusilbun.enums.PaymentStatus.*;
+import static com.zerobase.babdeusilbun.enums.PurchaseType.*;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
+
+import com.zerobase.babdeusilbun.annotation.RedissonLock;
+import com.zerobase.babdeusilbun.component.PendingPaymentStore;
+import com.zerobase.babdeusilbun.component.PointLedger;
+import com.zerobase.babdeusilbun.domain.IndividualPurchase;
+import com.zerobase.babdeusilbun.domain.IndividualPurchasePayment;
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Menu;
+import com.zerobase.babdeusilbun.domain.Payment;
+import com.zerobase.babdeusilbun.domain.Purchase;
+import com.zerobase.babdeusilbun.domain.PurchasePayment;
+import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.domain.TeamPurchase;
+import com.zerobase.babdeusilbun.domain.TeamPurchasePayment;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmResponse;
+import com.zerobase.babdeusilbun.dto.PaymentDto.Temporary;
+import com.zerobase.babdeusilbun.enums.PaymentStatus;
+import com.zerobase.babdeusilbun.enums.PurchaseStatus;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.IndividualPurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.IndividualPurchaseRepository;
+import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import com.zerobase.babdeusilbun.repository.PaymentRepository;
+import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import com.zerobase.babdeusilbun.repository.TeamPurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 확인 반영
+ * PG 사 결제 조회(외부 호출)는 PaymentServiceImpl 에서 트랜잭션과 락 밖에서 하고,
+ * 이 클래스는 조회가 끝난 결과만 짧은 트랜잭션으로 반영한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PaymentConfirmProcessor {
+
+  private final CurrentActor currentActor;
+  private final MeetingRepository meetingRepository;
+  private final PurchaseRepository purchaseRepository;
+  private final TeamPurchaseRepository teamPurchaseRepository;
+  private final IndividualPurchaseRepository individualPurchaseRepository;
+  private final PaymentRepository paymentRepository;
+  private final TeamPurchasePaymentRepository teamPurchasePaymentRepository;
+  private final PurchasePaymentRepository purchasePaymentRepository;
+  private final IndividualPurchasePaymentRepository individualPurchasePaymentRepository;
+  private final PendingPaymentStore pendingPaymentStore;
+  private final PointLedger pointLedger;
+
+  private final ChatServiceImpl chatService;
+
+  /**
+   * PG 사 조회 전 확인 (확인할 수 없는 결제면 외부 호출하지 않음)
+   */
+  @Transactional(readOnly = true)
+  public void verifyConfirmable(Long userId, Long meetingId, Long purchaseId) {
+    verifyConfirmable(
+        findUserById(userId), findMeetingWithStoreById(meetingId), findPurchaseById(purchaseId));
+  }
+
+  /**
+   * 결제 결과 반영
+   * PG 사 조회 중 상태가 바뀌었을 수 있으므로 락을 잡은 뒤 다시 확인한다.
+   * 이미 반영된 결제(주문 전 상태가 아닌 주문)는 PURCHASE_STATUS_INVALID 로 거절되므로
+   * 결제 확인 요청과 웹훅이 모두 들어와도 한 번만 반영된다.
+   */
+  @RedissonLock(key = PAYMENT, value = "#userId")
+  public ConfirmResponse apply(Long userId, Long meetingId, Long purchaseId,
+      String portoneUid, Temporary temporary, PaymentStatus status) {
+
+    User findUser = findUserById(userId);
+    Meeting findMeeting = findMeetingWithStoreById(meetingId);
+    Purchase findPurchase = findPurchaseById(purchaseId);
+
+    verifyConfirmable(findUser, findMeeting, findPurchase);
+
+    // status가 실패일 경우 포인트 복구 & 결제 실패 스냅샷 생성 & 결제 진행 멈추고 프론트로 반환
+    if (status != PAID) {
+      failPayment(findUser, findPurchase, portoneUid, temporary, status);
+
+      return ConfirmResponse.createWhenSuccess(temporary.getTransactionId());
+    }
+
+    // 주문 상태 변경
+    findPurchase.successPayment();
+
+    // 결제 확인 끝 (커밋 후 제거)
+    pendingPaymentStore.remove(temporary.getTransactionId());
+
+    // 공동주문 or 개인주문 스냅샷 생성
+    boolean isTeam = findMeeting.getPurchaseType() == DINING_TOGETHER;
+    Store store = findMeeting.getStore();
+    Long deliveryPrice = store.getDeliveryPrice();
+    Long deliveryFee = deliveryPrice / findMeeting.getMinHeadcount();
+
+    // 공동주문일 경우
+    if (isTeam) {
+      List<TeamPurchase> teamPurchaseList = teamPurchaseRepository.findAllByMeeting(findMeeting);
+      // 공동 주문 스냅샷 생성 & 저장
+      createAndSaveTeamPurchasePayments(teamPurchaseList);
+
+      Long teamPurchasePrice = getTeamPurchasePrice(teamPurchaseList);
+      Long teamPurchaseFee = teamPurchasePrice / findMeeting.getMinHeadcount();
+
+      // 주문 스냅샷 생성
+      purchasePaymentRepository.save(
+          PurchasePayment.builder()
+              .purchase(findPurchase)
+              .deliveryPrice(deliveryPrice)
+              .deliveryFee(deliveryFee)
+              .teamPurchasePrice(teamPurchasePrice)
+              .teamPurchaseFee(teamPurchaseFee)
+              .point(temporary.getPoint())
+              .build()
+      );
+    }
+    // 개인 주문일 경우
+    else {
+      List<IndividualPurchase> individualPurchaseList =
+          individualPurchaseRepository.findAllByPurchase(findPurchase);
+
+      // 개인 주문 스냅샷 생성 & 저장
+      createAndSaveIndividualPurchasePayments(individualPurchaseList);
+
+      Long individualPurchasePrice = getIndividualPurchasePrice(individualPurchaseList);
+
+      // 주문 스냅샷 생성 & 저장
+      PurchasePayment createdPurchasePayment = PurchasePayment.builder()
+          .purchase(findPurchase)
+          .deliveryPrice(deliveryPrice)
+          .deliveryFee(deliveryFee)
+          .individualPurchasePrice(individualPurchasePrice)
+          .build();
+      purchasePaymentRepository.save(createdPurchasePayment);
+    }
+
+    // 결제 스냅샷 생성 (포인트는 결제 요청 때 이미 차감됨)
+    Payment createdPayment = createPaymentEntity(findPurchase, temporary, portoneUid, status);
+    paymentRepository.save(createdPayment);
+
+    //채팅방 입장
+    chatService.enteredChatRoom(findUser, findMeeting);
+
+    return ConfirmResponse.createWhenSuccess(temporary.getTransactionId());
+  }
+
+  /**
+   * PG 사 결제 정보가 결제 요청과 다른 결제 거절
+   * 결제 실패와 같이 포인트를 환불하고 실패 스냅샷을 남긴 뒤 확인 대기 정보를 제거한다.
+   * 거절된 주문은 주문 전 상태가 아니므로 결제 확인 요청과 웹훅이 모두 들어와도 한 번만 환불된다.
+   */
+  @RedissonLock(key = PAYMENT, value = "#userId")
+  public ConfirmResponse reject(Long userId, Long meetingId, Long purchaseId,
+      String portoneUid, Temporary temporary) {
+
+    User findUser = findUserById(userId);
+    Meeting findMeeting = findMeetingWithStoreById(meetingId);
+    Purchase findPurchase = findPurchaseById(purchaseId);
+
+    verifyConfirmable(findUser, findMeeting, findPurchase);
+
+    failPayment(findUser, findPurchase, portoneUid, temporary, FAILED);
+
+    return ConfirmResponse.createWhenFail(temporary.getTransactionId());
+  }
+
+  private void failPayment(User findUser, Purchase findPurchase,
+      String portoneUid, Temporary temporary, PaymentStatus status) {
+
+    // 주문 상태 변경
+    findPurchase.failPayment();
+
+    // 결제 확인 끝 (커밋 후 제거)
+    pendingPaymentStore.remove(temporary.getTransactionId());
+
+    // 결제 요청 때 사용한 포인트 환불
+    pointLedger.earn(findUser, temporary.getPoint(), temporary.getName());
+
+    // 실패한 결제의 스냅샷 생성
+    paymentRepository.save(createPaymentEntity(findPurchase, temporary, portoneUid, status));
+  }
+
+  private void verifyConfirmable(User findUser, Meeting findMeeting, Purchase findPurchase) {
+    // 해당 모임 참가자 인지 확인
+    verifyMeetingParticipant(findMeeting, findUser);
+
+    // 모임이 주문 전 상태인지 확인
+    verifyMeetingIsGathering(findMeeting);
+
+    // 주문이 주문 전 상태인지 확인
+    verifyBeforePurchase(findPurchase);
+
+    // 헤당 주문과 해당 모임이 올바른 관계인지 확인
+    verifyMatching(findPurchase, findMeeting);
+  }
+
+  private void createAndSaveIndividualPurchasePayments(
+      List<IndividualPurchase> individualPurchaseList
+  ) {
+    individualPurchasePaymentRepository.saveAll(
+        createIndividualPurchasePayments(individualPurchaseList)
+    );
+  }
+
+  private List<IndividualPurchasePayment> createIndividualPurchasePayments(
+      List<IndividualPurchase> individualPurchaseList
+  ) {
+    return individualPurchaseList.stream().map(ip -> {
+      Menu menu = ip.getMenu();
+      return IndividualPurchasePayment.builder()
+          .individualPurchase(ip)
+          .menuId(menu.getId())
+          .menuName(menu.getName())
+          .image(menu.getImage())
+          .menuDescription(menu.getDescription())
+          .menuPrice(menu.getPrice())
+          .quantity(ip.getQuantity())
+          .build();
+    }).toList();
+  }
+
+  // 담을 때 정한 paymentPrice 합계 (결제 요청 금액, CartTotals 와 같은 기준)
+  private long getIndividualPurchasePrice(List<IndividualPurchase> individualPurchaseList) {
+    return individualPurchaseList.stream()
+        .mapToLong(IndividualPurchase::getPaymentPrice)
+        .sum();
+  }
+
+  private long getTeamPurchasePrice(List<TeamPurchase> teamPurchaseList) {
+    return teamPurchaseList.stream()
+        .mapToLong(TeamPurchase::getPaymentPrice)
+        .sum();
+  }
+
+  private void createAndSaveTeamPurchasePayments(List<TeamPurchase> teamPurchaseList) {
+    teamPurchasePaymentRepository.saveAll(createTeamPurchasePayment(teamPurchaseList));
+  }
+
+  private List<TeamPurchasePayment> createTeamPurchasePayment(List<TeamPurchase> teamPurchaseList) {
+    return teamPurchaseList.stream().map(tp -> {
+      Menu menu = tp.getMenu();
+      return TeamPurchasePayment.builder()
+          .teamPurchase(tp)
+          .menuId(menu.getId())
+          .menuName(menu.getName())
+          .image(menu.getImage())
+          .menuDescription(menu.getDescription())
+          .menuPrice(menu.getPrice())
+          .quantity(tp.getQuantity())
+          .build();
+    }).toList();
+  }
+
+  private Payment createPaymentEntity
+      (Purchase purchase, Temporary temporary, String portoneUid, PaymentStatus status) {
+
+    return Payment.builder()
+        .purchase(purchase)
+        .transactionId(temporary.getTransactionId())
+        .portoneUid(portoneUid)
+        .amount(temporary.getPrice())
+        .pg(temporary.getPg())
+        .method(temporary.getPayMethod())
+        .status(status)
+        .build();
+  }
+
+  private void verifyMatching(Purchase findPurchase, Meeting findMeeting) {
+    if (findPurchase.getMeeting() != findMeeting) {
+      throw new CustomException(PURCHASE_MEETING_NOT_MATCH);
+    }
+  }
+
+  private void verifyBeforePurchase(Purchase findPurchase) {
+    if (findPurchase.getStatus() != PurchaseStatus.PRE_PURCHASE) {
+      throw new CustomException(PURCHASE_STATUS_INVALID);
+    }
+  }
+
+  private void verifyMeetingParticipant(Meeting findMeeting, User findUser) {
+    if (!purchaseRepository.existsByMeetingAndUser(findMeeting, findUser)) {
+      throw new CustomException(MEETING_PARTICIPANT_NOT_MATCH);
+    }
+  }
+
+  private void verifyMeetingIsGathering(Meeting findMeeting) {
+    if (findMeeting.getStatus() != GATHERING) {
+      throw new CustomException(MEETING_STATUS_INVALID);
+    }
+  }
+
+  private User findUserById(Long userId) {
+    return currentActor.getActiveUser(userId);
+  }
+
+  // fetch join으로 store 정보도 같이 가져옴
+  private Meeting findMeetingWithStoreById(Long meetingId) {
+    return meetingRepository.findWithStoreById(meetingId)
+        .orElseThrow(() -> new CustomException(MEETING_NOT_FOUND));
+  }
+
+  private Purchase findPurchaseById(Long purchaseId) {
+    return purchaseRepository.findById(purchaseId)
+        .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
+  }
+}
@@ -1,54 +1,40 @@
 package com.zerobase.babdeusilbun.service.impl;
 
-import static com.zerobase.babdeusilbun.annotation.RedissonLockKeyType.*;
 import static com.zerobase.babdeusilbun.enums.MeetingStatus.*;
 import static com.zerobase.babdeusilbun.enums.PaymentStatus.*;
-import static com.zerobase.babdeusilbun.enums.PointType.*;
 import static com.zerobase.babdeusilbun.enums.PurchaseType.*;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
-import com.siot.IamportRestClient.IamportClient;
-import com.siot.IamportRestClient.exception.IamportResponseException;
-import com.siot.IamportRestClient.response.IamportResponse;
-import com.zerobase.babdeusilbun.annotation.RedissonLock;
-import com.zerobase.babdeusilbun.domain.IndividualPurchase;
-import com.zerobase.babdeusilbun.domain.IndividualPurchasePayment;
+import com.zerobase.babdeusilbun.component.IamportGateway;
+import com.zerobase.babdeusilbun.component.PendingPaymentStore;
+import com.zerobase.babdeusilbun.component.PointLedger;
+import com.zerobase.babdeusilbun.component.RedisCart;
 import com.zerobase.babdeusilbun.domain.Meeting;
-import com.zerobase.babdeusilbun.domain.Menu;
-import com.zerobase.babdeusilbun.domain.Payment;
-import com.zerobase.babdeusilbun.domain.Point;
 import com.zerobase.babdeusilbun.domain.Purchase;
-import com.zerobase.babdeusilbun.domain.PurchasePayment;
-import com.zerobase.babdeusilbun.domain.Store;
-import com.zerobase.babdeusilbun.domain.TeamPurchase;
-import com.zerobase.babdeusilbun.domain.TeamPurchasePayment;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmRequest;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmResponse;
+import com.zerobase.babdeusilbun.dto.PaymentDto.Pending;
+import com.zerobase.babdeusilbun.dto.PaymentDto.PgPayment;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ProcessRequest;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ProcessResponse;
 import com.zerobase.babdeusilbun.dto.PaymentDto.Temporary;
+import com.zerobase.babdeusilbun.dto.PaymentDto.WebhookRequest;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
 import com.zerobase.babdeusilbun.enums.PaymentGateway;
 import com.zerobase.babdeusilbun.enums.PaymentMethod;
-import com.zerobase.babdeusilbun.enums.PaymentStatus;
 import com.zerobase.babdeusilbun.enums.PurchaseStatus;
 import com.zerobase.babdeusilbun.exception.CustomException;
-import com.zerobase.babdeusilbun.repository.IndividualPurchasePaymentRepository;
-import com.zerobase.babdeusilbun.repository.IndividualPurchaseRepository;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
-import com.zerobase.babdeusilbun.repository.PaymentRepository;
-import com.zerobase.babdeusilbun.repository.PointRepository;
-import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
-import com.zerobase.babdeusilbun.repository.TeamPurchasePaymentRepository;
-import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
-import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.PaymentService;
-import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -58,36 +44,25 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
 
-  private final UserRepository userRepository;
+  private final CurrentActor currentActor;
   private final MeetingRepository meetingRepository;
   private final PurchaseRepository purchaseRepository;
-  private final TeamPurchaseRepository teamPurchaseRepository;
-  private final IndividualPurchaseRepository individualPurchaseRepository;
-  private final PaymentRepository paymentRepository;
-  private final TeamPurchasePaymentRepository teamPurchasePaymentRepository;
-  private final PurchasePaymentRepository purchasePaymentRepository;
-  private final IndividualPurchasePaymentRepository individualPurchasePaymentRepository;
 
-  private final IamportClient iamportClient;
-  private final PointRepository pointRepository;
-  private final RedissonClient redissonClient;
-
-  private final ChatServiceImpl chatService;
+  private final IamportGateway iamportGateway;
+  private final PendingPaymentStore pendingPaymentStore;
+  private final PaymentConfirmProcessor paymentConfirmProcessor;
+  private final ThreadPoolTaskExecutor paymentWebhookExecutor;
+  private final PointLedger pointLedger;
+  private final RedisCart redisCart;
+  private final CartMaterializer cartMaterializer;
 
   /**
    * 모임장, 모임원의 결제 진행 요청
    */
   @Override
-  @RedissonLock(key = PAYMENT, value = "userId")
   public ProcessResponse requestPayment
   (Long userId, Long meetingId, Long purchaseId, ProcessRequest request) {
 
-    // 락 걸어서 동시 요청 차단
-//    RLock lock = redissonClient.getLock(getPaymentLockKey(userId));
-//    try {
-//      boolean isLocked = lock.tryLock(10, 10, TimeUnit.SECONDS);
-//      verifyLockTimeout(isLocked);
-//
     User findUser = findUserById(userId);
     Meeting findMeeting = findMeetingWithStoreById(meetingId);
     Purchase findPurchase = findPurchaseById(purchaseId);
@@ -107,16 +82,6 @@ public class PaymentServiceImpl implements PaymentService {
     // 주문이 주문 전 상태인지 확인
     verifyBeforePurchase(findPurchase);
 
-    // 포인트 사용 가능량 확인
-
-    Long requestPoint = request.getPoint();
-
-    // 현재 포인트가 충분히 있는지 확인
-    verifyPointSufficient(findUser.getPoint(), requestPoint);
-
-    // 포인트 감소 (즉시 적용)
-    findUser.minusPoint(requestPoint);
-
     Long totalPrice;
     String name;
     Integer price;
@@ -130,271 +95,140 @@ public class PaymentServiceImpl implements PaymentService {
     // 1. 공동 주문일 겨우
     if (findPurchase.getMeeting().getPurchaseType() == DINING_TOGETHER) {
 
-      // 공통 주문 메뉴들 조회
-      List<TeamPurchase> purchaseList = teamPurchaseRepository.findAllByMeeting(findMeeting);
+      // 공동 주문 장바구니 합계 (메뉴를 담을 때마다 모임에 누적된 값)
+      // Redis 장바구니면 담긴 메뉴를 저장하고 저장한 목록으로 계산 (첫 결제 요청 이후 변경 불가)
+      CartSummary cart = redisCart.isEnabled()
+          ? CartSummary.of(cartMaterializer.materializeTeamCart(meetingId))
+          : new CartSummary(findMeeting.getTeamItemCount(), findMeeting.getTeamTotalPrice(),
+              findMeeting.getTeamFirstItemName());
+      verifyCartNotEmpty(cart.itemCount());
 
       // 금액 계산 시작
-      // 총 금액 계산
-      totalPrice = purchaseList.stream()
-          .mapToLong(tp -> tp.getQuantity() * tp.getMenu().getPrice())
-          .sum();
+      // 총 금액
+      totalPrice = cart.totalPrice();
 
       // 인원 수에 맞춰 계산
       price = (int) (((totalPrice + deliveryPrice) / participantCount) / 10) * 10
           - request.getPoint().intValue();
 
       // 상품명 생성
-      name = getPaymentName(
-          purchaseList.getFirst().getMenu().getName(), purchaseList.size()
-      );
+      name = getPaymentName(cart.firstItemName(), cart.itemCount());
     }
 
     // 2. 개별 주문일 경우
     else {
-      // 해당 유저의 개인 주문 상품들 조회
-      List<IndividualPurchase> individualPurchaseList =
-          individualPurchaseRepository.findAllByPurchase(findPurchase);
+      // 해당 유저의 개인 주문 장바구니 합계 (메뉴를 담을 때마다 주문에 누적된 값)
+      // Redis 장바구니면 담긴 메뉴를 저장하고 저장한 목록으로 계산
+      CartSummary cart = redisCart.isEnabled()
+          ? CartSummary.of(cartMaterializer.materializeIndividualCart(findPurchase))
+          : new CartSummary(findPurchase.getItemCount(), findPurchase.getTotalPrice(),
+              findPurchase.getFirstItemName());
+      verifyCartNotEmpty(cart.itemCount());
 
       // 금액 계산 시작 (포인트 금액 차감)
-      // 총 금액 계산
-      totalPrice = getIndividualPurchasePrice(individualPurchaseList);
+      // 총 금액
+      totalPrice = cart.totalPrice();
 
       // 인원 수에 맞춰 계산
       price = (int) (((totalPrice + deliveryPrice) / participantCount) / 10) * 10
           - request.getPoint().intValue();
 
       // 상품명 생성
-      name = getPaymentName(
-          individualPurchaseList.getFirst().getMenu().getName(), individualPurchaseList.size()
-      );
+      name = getPaymentName(cart.firstItemName(), cart.itemCount());
     }
 
-    return ProcessResponse.createNew(name, price);
+    // 포인트 차감 (즉시 적용, 잔액이 부족하면 POINT_SHORTAGE)
+    // 잔액 확인과 차감이 한 문장이므로 락 없이 동시 요청에도 음수가 되지 않음
+    pointLedger.use(findUser, request.getPoint(), name);
 
-//    } catch (InterruptedException e) {
-//      throw new CustomException(REDISSON_LOCK_FAIL_OBTAIN);
-//
-//    } finally {
-//      lock.unlock();
-//    }
+    ProcessResponse response = ProcessResponse.createNew(name, price);
+
+    // 웹훅으로 결제를 확인할 수 있도록 결제 정보 저장 (커밋 후 반영)
+    pendingPaymentStore.save(Pending.builder()
+        .userId(userId).meetingId(meetingId).purchaseId(purchaseId)
+        .temporary(Temporary.fromDto(request, response))
+        .build());
+
+    return response;
   }
 
   /**
    * 결제 진행 후 결제 성공 확인 요청
+   * PG 사 조회는 트랜잭션과 락 밖에서 하고, 조회 결과만 짧은 트랜잭션으로 반영한다.
    */
   @Override
-  @RedissonLock(key = PAYMENT, value = "userId")
+  @Transactional(propagation = NOT_SUPPORTED)
   public ConfirmResponse confirmPayment
   (Long userId, Long meetingId, Long purchaseId,
       ConfirmRequest request, Temporary temporary) {
 
-    User findUser = findUserById(userId);
-    Meeting findMeeting = findMeetingWithStoreById(meetingId);
-    Purchase findPurchase = findPurchaseById(purchaseId);
-
-    // 해당 모임 참가자 인지 확인
-    verifyMeetingParticipant(findMeeting, findUser);
-
-    // 모임이 주문 전 상태인지 확인
-    verifyMeetingIsGathering(findMeeting);
-
-    // 주문이 주문 전 상태인지 확인
-    verifyBeforePurchase(findPurchase);
-
-    // 헤당 주문과 해당 모임이 올바른 관계인지 확인
-    verifyMatching(findPurchase, findMeeting);
+    // 모임 참가자, 모임/주문 상태 확인
+    paymentConfirmProcessor.verifyConfirmable(userId, meetingId, purchaseId);
 
     // 결제의 트랜젝션 id가 같은지 확인
     verifyTransactionId(request, temporary);
 
-    com.siot.IamportRestClient.response.Payment payment =
-        getIamportPayment(request.getPortoneUid());
-
-    try {
-      // 결제정보가 올바른지 확인
-      verifyPaymentInformation(temporary, payment);
-    } catch (CustomException e) {
-      log.error(e.getMessage());
-
-      // 포인트 회복
-      return ConfirmResponse.createWhenFail(request.getTransactionId());
-    }
-
-    PaymentStatus status = fromCode(payment.getStatus());
-
-    // 주문 상태 변경
-    switch (status) {
-      case READY, FAILED -> findPurchase.failPayment();
-      case PAID -> findPurchase.successPayment();
-    }
+    PgPayment payment = iamportGateway.getPayment(request.getPortoneUid());
 
-    // status가 실패일 경우 포인트 복구 & 결제 실패 스냅샷 생성 & 결제 진행 멈추고 프론트로 반환
-    if (status != PAID) {
-
-      findUser.plusPoint(temporary.getPoint());
-
-      // 실패한 결제의 스냅샷 생성
-      paymentRepository.save(
-          createPaymentEntity(findPurchase, temporary, request.getPortoneUid(), status)
-      );
-
-      return ConfirmResponse.createWhenSuccess(request.getTransactionId());
-    }
-
-    // 공동주문 or 개인주문 스냅샷 생성
-    PurchasePayment purchasePayment;
-    boolean isTeam = findMeeting.getPurchaseType() == DINING_TOGETHER;
-    Store store = findMeeting.getStore();
-    Long deliveryPrice = store.getDeliveryPrice();
-    Long deliveryFee = deliveryPrice / findMeeting.getMinHeadcount();
-
-    // 공동주문일 경우
-    if (isTeam) {
-      List<TeamPurchase> teamPurchaseList = teamPurchaseRepository.findAllByMeeting(findMeeting);
-      // 공동 주문 스냅샷 생성 & 저장
-      createAndSaveTeamPurchasePayments(teamPurchaseList);
-
-      Long teamPurchasePrice = getTeamPurchasePrice(teamPurchaseList);
-      Long teamPurchaseFee = teamPurchasePrice / findMeeting.getMinHeadcount();
-
-      // 주문 스냅샷 생성
-      purchasePayment = purchasePaymentRepository.save(
-          PurchasePayment.builder()
-              .purchase(findPurchase)
-              .deliveryPrice(deliveryPrice)
-              .deliveryFee(deliveryFee)
-              .teamPurchasePrice(teamPurchasePrice)
-              .teamPurchaseFee(teamPurchaseFee)
-              .point(temporary.getPoint())
-              .build()
-      );
-    }
-    // 개인 주문일 경우
-    else {
-      List<IndividualPurchase> individualPurchaseList =
-          individualPurchaseRepository.findAllByPurchase(findPurchase);
-
-      // 개인 주문 스냅샷 생성 & 저장
-      createAndSaveIndividualPurchasePayments(individualPurchaseList);
-
-      Long individualPurchasePrice = getIndividualPurchasePrice(individualPurchaseList);
-
-      // 주문 스냅샷 생성 & 저장
-      PurchasePayment createdPurchasePayment = PurchasePayment.builder()
-          .purchase(findPurchase)
-          .deliveryPrice(deliveryPrice)
-          .deliveryFee(deliveryFee)
-          .individualPurchasePrice(individualPurchasePrice)
-          .build();
-      purchasePayment = purchasePaymentRepository.save(createdPurchasePayment);
-    }
-
-    // 결제 스냅샷 생성
-    Payment createdPayment =
-        createPaymentEntity(findPurchase, temporary, request.getPortoneUid(), status);
-    paymentRepository.save(createdPayment);
-
-    // 포인트 소모
-    // 포인트 객체 생성
-    Point createdPoint = Point.builder()
-        .user(findUser).purchasePayment(purchasePayment)
-        .type(MINUS).amount(temporary.getPoint())
-        //TODO
-        .content(temporary.getName())
-        .build();
-    Point savedPoint = pointRepository.save(createdPoint);
-
-    // 사용자 정보에서 포인트 감소
-    findUser.minusPoint(savedPoint.getAmount());
-
-    //채팅방 입장
-    chatService.enteredChatRoom(findUser, findMeeting);
+    return confirm(userId, meetingId, purchaseId, request.getPortoneUid(), temporary, payment);
+  }
 
-    return ConfirmResponse.createWhenSuccess(request.getTransactionId());
+  /**
+   * 아임포트 웹훅 (결제 확인 요청 없이 창을 닫은 경우 등)
+   * 바로 응답하고 별도 스레드에서 결제 요청 때 저장한 정보로 결제를 확인한다.
+   * 웹훅 내용은 믿지 않고 PG 사에서 다시 조회하며, 이미 확인된 결제면 반영하지 않는다.
+   */
+  @Override
+  @Transactional(propagation = NOT_SUPPORTED)
+  public void receiveWebhook(WebhookRequest request) {
+    paymentWebhookExecutor.execute(() -> confirmByWebhook(request));
   }
 
-  private com.siot.IamportRestClient.response.Payment getIamportPayment(String portoneId) {
+  private void confirmByWebhook(WebhookRequest request) {
     try {
-      IamportResponse<com.siot.IamportRestClient.response.Payment> response =
-          iamportClient.paymentByImpUid(portoneId);
+      Optional<Pending> optionalPending = pendingPaymentStore.get(request.getMerchantUid());
+      if (optionalPending.isEmpty()) {
+        log.info("payment webhook is ignored. (already confirmed or unknown) merchant_uid: {}",
+            request.getMerchantUid());
+        return;
+      }
 
-      verifyIamportResponseCode(response);
+      Pending pending = optionalPending.get();
+      Temporary temporary = pending.getTemporary();
 
-      return response.getResponse();
+      paymentConfirmProcessor.verifyConfirmable(
+          pending.getUserId(), pending.getMeetingId(), pending.getPurchaseId());
 
-    } catch (IamportResponseException | IOException e) {
-      throw new CustomException(IAMPORT_SERVER_ERROR);
-    }
-  }
+      PgPayment payment = iamportGateway.getPayment(request.getImpUid());
 
-  private void createAndSaveIndividualPurchasePayments(
-      List<IndividualPurchase> individualPurchaseList
-  ) {
-    individualPurchasePaymentRepository.saveAll(
-        createIndividualPurchasePayments(individualPurchaseList)
-    );
-  }
+      // 다른 결제의 imp_uid 로 요청한 경우
+      if (!temporary.getTransactionId().equals(payment.getMerchantUid())) {
+        throw new CustomException(PAYMENT_INFORMATION_NOT_MATCH);
+      }
 
-  private List<IndividualPurchasePayment> createIndividualPurchasePayments(
-      List<IndividualPurchase> individualPurchaseList
-  ) {
-    return individualPurchaseList.stream().map(ip -> {
-      Menu menu = ip.getMenu();
-      return IndividualPurchasePayment.builder()
-          .individualPurchase(ip)
-          .menuId(menu.getId())
-          .menuName(menu.getName())
-          .image(menu.getImage())
-          .menuDescription(menu.getDescription())
-          .menuPrice(menu.getPrice())
-          .quantity(ip.getQuantity())
-          .build();
-    }).toList();
-  }
+      confirm(pending.getUserId(), pending.getMeetingId(), pending.getPurchaseId(),
+          request.getImpUid(), temporary, payment);
 
-  private long getIndividualPurchasePrice(List<IndividualPurchase> individualPurchaseList) {
-    return individualPurchaseList.stream()
-        .mapToLong(ip -> ip.getQuantity() * ip.getMenu().getPrice())
-        .sum();
+    } catch (RuntimeException e) {
+      log.warn("payment webhook is not applied. merchant_uid: {}", request.getMerchantUid(), e);
+    }
   }
 
-  private long getTeamPurchasePrice(List<TeamPurchase> teamPurchaseList) {
-    return teamPurchaseList.stream()
-        .mapToLong(tp -> tp.getMenu().getPrice() * tp.getQuantity())
-        .sum();
-  }
+  private ConfirmResponse confirm(Long userId, Long meetingId, Long purchaseId,
+      String portoneUid, Temporary temporary, PgPayment payment) {
 
-  private void createAndSaveTeamPurchasePayments(List<TeamPurchase> teamPurchaseList) {
-    teamPurchasePaymentRepository.saveAll(createTeamPurchasePayment(teamPurchaseList));
-  }
+    try {
+      // 결제정보가 올바른지 확인
+      verifyPaymentInformation(temporary, payment);
+    } catch (CustomException e) {
+      log.error(e.getMessage());
 
-  private List<TeamPurchasePayment> createTeamPurchasePayment(List<TeamPurchase> teamPurchaseList) {
-    return teamPurchaseList.stream().map(tp -> {
-      Menu menu = tp.getMenu();
-      return TeamPurchasePayment.builder()
-          .teamPurchase(tp)
-          .menuId(menu.getId())
-          .menuName(menu.getName())
-          .image(menu.getImage())
-          .menuDescription(menu.getDescription())
-          .menuPrice(menu.getPrice())
-          .quantity(tp.getQuantity())
-          .build();
-    }).toList();
-  }
+      // 결제 실패 처리 (포인트 환불, 실패 스냅샷 생성, 확인 대기 정보 제거)
+      return paymentConfirmProcessor.reject(userId, meetingId, purchaseId, portoneUid, temporary);
+    }
 
-  private Payment createPaymentEntity
-      (Purchase purchase, Temporary temporary, String portoneUid, PaymentStatus status) {
-
-    return Payment.builder()
-        .purchase(purchase)
-        .transactionId(temporary.getTransactionId())
-        .portoneUid(portoneUid)
-        .amount(temporary.getPrice())
-        .pg(temporary.getPg())
-        .method(temporary.getPayMethod())
-        .status(status)
-        .build();
+    return paymentConfirmProcessor.apply(
+        userId, meetingId, purchaseId, portoneUid, temporary, fromCode(payment.getStatus()));
   }
 
   private String getPaymentName(String firstItemName, int count) {
@@ -405,30 +239,32 @@ public class PaymentServiceImpl implements PaymentService {
     return String.format("%s 외 %d건", firstItemName, count - 1);
   }
 
-  private void verifyMeetingIsDeleted(Meeting findMeeting) {
-    if (findMeeting.getDeletedAt() != null) {
-      throw new CustomException(MEETING_ALREADY_DELETED);
+  // 결제할 장바구니 (메뉴 수, 총 금액, 첫 메뉴 이름)
+  private record CartSummary(int itemCount, Long totalPrice, String firstItemName) {
+
+    static CartSummary of(List<CartLine> lines) {
+      return new CartSummary(lines.size(),
+          lines.stream().mapToLong(CartLine::getPaymentPrice).sum(),
+          lines.isEmpty() ? null : lines.get(0).getName());
     }
   }
 
-  private void verifyPointSufficient(Long userPoint, Long requestPoint) {
-    if (userPoint < requestPoint) {
-      throw new CustomException(POINT_SHORTAGE);
+  private void verifyCartNotEmpty(int itemCount) {
+    if (itemCount == 0) {
+      throw new CustomException(PURCHASE_CART_EMPTY);
     }
   }
 
-  private void verifyLockTimeout(boolean isLocked) {
-    if (!isLocked) {
-      throw new CustomException(REDISSON_LOCK_TIMEOUT);
+  private void verifyMeetingIsDeleted(Meeting findMeeting) {
+    if (findMeeting.getDeletedAt() != null) {
+      throw new CustomException(MEETING_ALREADY_DELETED);
     }
   }
 
-  private void verifyPaymentInformation(
-      Temporary temporary,
-      com.siot.IamportRestClient.response.Payment payment) {
+  private void verifyPaymentInformation(Temporary temporary, PgPayment payment) {
 
     boolean name = temporary.getName().equals(payment.getName());
-    boolean price = temporary.getPrice() == payment.getAmount().longValueExact();
+    boolean price = temporary.getPrice().equals(payment.getAmount());
     boolean pg = temporary.getPg() == PaymentGateway.fromCode(payment.getPgProvider());
     boolean pm = temporary.getPayMethod() == PaymentMethod.fromCode(payment.getPayMethod());
 
@@ -437,13 +273,6 @@ public class PaymentServiceImpl implements PaymentService {
     }
   }
 
-  private void verifyIamportResponseCode
-      (IamportResponse<com.siot.IamportRestClient.response.Payment> response) {
-    if (response.getCode() != 0) {
-      throw new CustomException(IAMPORT_SERVER_ERROR);
-    }
-  }
-
   private void verifyTransactionId(ConfirmRequest request, Temporary temporary) {
     if (!temporary.getTransactionId().equals(request.getTransactionId())) {
       throw new CustomException(PAYMENT_INFORMATION_NOT_MATCH);
@@ -475,7 +304,7 @@ public class PaymentServiceImpl implements PaymentService {
   }
 
   private User findUserById(Long userId) {
-    return userRepository.findById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+    return currentActor.getActiveUser(userId);
   }
 
   // fetch join으로 store 정보도 같이 가져옴
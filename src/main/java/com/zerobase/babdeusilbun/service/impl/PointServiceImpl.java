@@ -1,12 +1,10 @@
 package com.zerobase.babdeusilbun.service.impl;
 
-import static com.zerobase.babdeusilbun.annotation.RedissonLockKeyType.*;
 import static com.zerobase.babdeusilbun.dto.PointDto.*;
 import static com.zerobase.babdeusilbun.enums.PointSortCriteria.*;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
 
-import com.zerobase.babdeusilbun.annotation.RedissonLock;
-import com.zerobase.babdeusilbun.annotation.RedissonLockKeyType;
+import com.zerobase.babdeusilbun.component.PointLedger;
 import com.zerobase.babdeusilbun.domain.Point;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.User;
@@ -36,6 +34,7 @@ public class PointServiceImpl implements PointService {
   private final PointRepository pointRepository;
   private final UserRepository userRepository;
   private final StoreRepository storeRepository;
+  private final PointLedger pointLedger;
 
   @Override
   public Page<Response> getAllPointList(Long userId, Pageable pageable, String sortCriteria) {
@@ -55,36 +54,19 @@ public class PointServiceImpl implements PointService {
   }
 
   @Override
-  @RedissonLock(key = PAYMENT, value = "userId")
   public Point withdrawalPoint(Long userId, WithdrawalRequest request) {
     User findUser = findUserById(userId);
 
-    verifyPointEnough(request, findUser);
-
-    Point point = Point.builder()
-        .user(findUser)
-        .type(PointType.MINUS)
-        .amount(request.getAmount().longValue())
-        // TODO
-        .content("포인트 인출")
-        .build();
-
-    Point savedPoint = pointRepository.save(point);
-
-    findUser.minusPoint(savedPoint.getAmount());
-
-    return savedPoint;
-  }
-
-  private void verifyPointEnough(WithdrawalRequest request, User findUser) {
-    if (findUser.getPoint() < request.getAmount()) {
-      throw new CustomException(POINT_SHORTAGE);
-    }
+    // 잔액 확인과 차감을 한 번에 (잔액 부족 시 POINT_SHORTAGE)
+    return pointLedger.use(findUser, request.getAmount().longValue(), "포인트 인출");
   }
 
+  // 주문 스냅샷과 연결되지 않은 장부(결제 요청 시 사용, 환불, 인출)는 가게 정보가 없음
   private Response mapToResponse(Point point) {
 
-    return Response.fromEntity(point, findStoreByPoint(point).getName());
+    return Response.fromEntity(point, storeRepository.findStoreByPoint(point)
+        .map(Store::getName)
+        .orElse(null));
   }
 
   private User findUserById(Long userId) {
@@ -92,10 +74,4 @@ public class PointServiceImpl implements PointService {
         .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
   }
 
-  private Store findStoreByPoint(Point point) {
-    return storeRepository.findStoreByPoint(point)
-        .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
-  }
-
-
 }
@@ -5,6 +5,7 @@ import static com.zerobase.babdeusilbun.enums.PurchaseStatus.*;
 import static com.zerobase.babdeusilbun.enums.PurchaseType.*;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
 
+import com.zerobase.babdeusilbun.component.RedisCart;
 import com.zerobase.babdeusilbun.domain.IndividualPurchase;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Menu;
@@ -12,6 +13,7 @@ import com.zerobase.babdeusilbun.domain.Purchase;
 import com.zerobase.babdeusilbun.domain.TeamPurchase;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.dto.PurchaseDto;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.DeliveryFeeResponse;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.PurchaseResponse;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.PurchaseResponse.Item;
@@ -20,7 +22,7 @@ import com.zerobase.babdeusilbun.repository.IndividualPurchaseRepository;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
-import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.PurchaseService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -35,11 +37,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PurchaseServiceImpl implements PurchaseService {
 
-  private final UserRepository userRepository;
+  private final CurrentActor currentActor;
   private final MeetingRepository meetingRepository;
   private final PurchaseRepository purchaseRepository;
   private final TeamPurchaseRepository teamPurchaseRepository;
   private final IndividualPurchaseRepository individualPurchaseRepository;
+  private final RedisCart redisCart;
 
   /**
    * 주문 전 공동 주문 장바구니 조회
@@ -115,30 +118,54 @@ public class PurchaseServiceImpl implements PurchaseService {
   private PurchaseResponse getIndividualResponse
       (Meeting meeting, List<Purchase> purchase, Pageable pageable) {
 
+    // Redis 장바구니 (주문별 장바구니를 한 번에 조회)
+    if (redisCart.isEnabled()) {
+      return getCartResponse(
+          redisCart.getIndividualLines(purchase.stream().map(Purchase::getId).toList()), pageable);
+    }
+
     Page<IndividualPurchase> individualPurchaseList =
         individualPurchaseRepository.findAllByPurchaseIn(purchase, pageable);
 
     List<Item> itemList = getIndividualItemList(individualPurchaseList.getContent());
 
     return PurchaseResponse.builder()
-        .totalFee(individualPurchaseRepository.getMeetingTotalPrice(meeting))
+        .totalFee(meeting.getIndividualTotalPrice())
         .items(new PageImpl<>(itemList, pageable, individualPurchaseList.getTotalElements()))
         .build();
   }
 
   private PurchaseResponse getTeamResponse(Meeting meeting, Pageable pageable) {
 
+    // Redis 장바구니
+    if (redisCart.isEnabled()) {
+      return getCartResponse(redisCart.getTeamLines(meeting.getId()), pageable);
+    }
+
     Page<TeamPurchase> teamPurchaseList =
         teamPurchaseRepository.findAllByMeeting(meeting, pageable);
 
     List<Item> itemList = getTeamItemList(teamPurchaseList.getContent());
 
     return PurchaseResponse.builder()
-        .totalFee(teamPurchaseRepository.getMeetingTotalPrice(meeting))
+        .totalFee(meeting.getTeamTotalPrice())
         .items(new PageImpl<>(itemList, pageable, teamPurchaseList.getTotalElements()))
         .build();
   }
 
+  // 장바구니 전체를 읽어 합계를 구하고 요청한 페이지만 응답
+  private PurchaseResponse getCartResponse(List<CartLine> lines, Pageable pageable) {
+    int from = (int) Math.min(pageable.getOffset(), lines.size());
+    int to = Math.min(from + pageable.getPageSize(), lines.size());
+
+    List<Item> itemList = lines.subList(from, to).stream().map(CartLine::toItem).toList();
+
+    return PurchaseResponse.builder()
+        .totalFee(lines.stream().mapToLong(CartLine::getPaymentPrice).sum())
+        .items(new PageImpl<>(itemList, pageable, lines.size()))
+        .build();
+  }
+
   private List<Item> getTeamItemList(List<TeamPurchase> teamPurchaseList) {
     return teamPurchaseList.stream().map(teamPurchase -> {
           Menu menu = teamPurchase.getMenu();
@@ -204,8 +231,7 @@ public class PurchaseServiceImpl implements PurchaseService {
   }
 
   private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+    return currentActor.getUser(userId);
   }
 
   private Meeting findMeetingById(Long meetingId) {
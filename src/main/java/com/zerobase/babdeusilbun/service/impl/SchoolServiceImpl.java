@@ -1,5 +1,6 @@
 package com.zerobase.babdeusilbun.service.impl;
 
+import com.zerobase.babdeusilbun.component.LookupIndex;
 import com.zerobase.babdeusilbun.dto.SchoolDto.Information;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.exception.ErrorCode;
@@ -17,11 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class SchoolServiceImpl implements SchoolService {
   private final SchoolRepository schoolRepository;
   private final UserRepository userRepository;
+  private final LookupIndex lookupIndex;
 
+  // 자동완성, 캠퍼스 목록은 메모리 색인으로 조회
   @Override
-  @Transactional(readOnly = true)
   public Page<Information> searchSchoolAndCampus(String schoolName, int page, int size) {
-    return schoolRepository.searchSchoolNameByKeywords(schoolName.split(" +"), page, size);
+    return lookupIndex.searchSchools(schoolName.split(" +"), page, size);
   }
 
   @Override
@@ -37,6 +39,6 @@ public class SchoolServiceImpl implements SchoolService {
         schoolRepository.findById(schoolId).orElseThrow(() -> new CustomException(ErrorCode.SCHOOL_NOT_FOUND))
     );
 
-    return schoolRepository.searchCampusBySchool(standard, page, size);
+    return lookupIndex.searchCampuses(standard, page, size);
   }
 }
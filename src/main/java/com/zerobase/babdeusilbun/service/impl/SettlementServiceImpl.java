@@ -0,0 +1,135 @@
+package com.zerobase.babdeusilbun.service.impl;
+
+import static com.zerobase.babdeusilbun.enums.PointType.PLUS;
+import static com.zerobase.babdeusilbun.enums.PurchaseStatus.CANCEL;
+import static com.zerobase.babdeusilbun.enums.PurchaseStatus.PAYMENT_COMPLETED;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PURCHASE_PAYMENT_NOT_FOUND;
+
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.PurchasePayment;
+import com.zerobase.babdeusilbun.dto.SettlementDto;
+import com.zerobase.babdeusilbun.dto.SettlementDto.Refund;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.PointBulkRepository;
+import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import com.zerobase.babdeusilbun.service.SettlementService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임 정산
+ * 결제 스냅샷을 한 번에 조회해 환급액을 메모리에서 계산하고,
+ * 포인트 내역/이용자 잔액(/주문 취소)을 참여자 수와 관계없이 고정된 수의 쿼리로 반영한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SettlementServiceImpl implements SettlementService {
+
+  private final PurchaseRepository purchaseRepository;
+  private final PurchasePaymentRepository purchasePaymentRepository;
+  private final PointBulkRepository pointBulkRepository;
+
+  @Override
+  public SettlementDto.Summary settleConfirmedMeeting(Meeting meeting) {
+    List<PurchasePayment> payments = findLatestPaymentsOfMeeting(meeting);
+    int headCount = payments.size();
+
+    //참여자 별 배달비/공동 주문비 차액 환급
+    List<Refund> refunds = refundsOf(payments, purchasePayment ->
+        amount(purchasePayment.getDeliveryFee()) + amount(purchasePayment.getTeamPurchaseFee())
+            - (amount(purchasePayment.getDeliveryPrice()) + amount(purchasePayment.getTeamPurchasePrice())) / headCount);
+    applyRefunds(refunds);
+
+    //모임에서 가게로 결제해야 하는 금액 (배달비, 공동 주문 금액은 한 번만)
+    long storePaymentAmount = 0;
+    if (!payments.isEmpty()) {
+      PurchasePayment first = payments.getFirst();
+      storePaymentAmount = amount(first.getDeliveryPrice()) + amount(first.getTeamPurchasePrice());
+    }
+    for (PurchasePayment purchasePayment : payments) {
+      storePaymentAmount += amount(purchasePayment.getIndividualPurchasePrice());
+    }
+
+    return summaryOf(meeting, refunds, storePaymentAmount);
+  }
+
+  @Override
+  public SettlementDto.Summary settleDeniedMeeting(Meeting meeting) {
+    List<PurchasePayment> payments = findLatestPaymentsOfMeeting(meeting);
+
+    //참여자 별 결제 금액 전액 환급
+    List<Refund> refunds = refundsOf(payments, purchasePayment ->
+        amount(purchasePayment.getIndividualPurchasePrice())
+            + amount(purchasePayment.getDeliveryFee())
+            + amount(purchasePayment.getTeamPurchaseFee()));
+    applyRefunds(refunds);
+
+    //모임의 결제 완료 주문 모두 취소로 변경
+    purchaseRepository.updateStatusByMeeting(meeting, PAYMENT_COMPLETED, CANCEL, LocalDateTime.now());
+
+    return summaryOf(meeting, refunds, 0L);
+  }
+
+  // 결제 완료 주문별 최신 결제 스냅샷 (스냅샷이 없는 주문이 있으면 정산 불가)
+  private List<PurchasePayment> findLatestPaymentsOfMeeting(Meeting meeting) {
+    Map<Long, PurchasePayment> latestByPurchase = new LinkedHashMap<>();
+    purchasePaymentRepository.findAllByMeetingAndPurchaseStatus(meeting, PAYMENT_COMPLETED)
+        .forEach(purchasePayment ->
+            latestByPurchase.putIfAbsent(purchasePayment.getPurchase().getId(), purchasePayment));
+
+    if (latestByPurchase.size() != purchaseRepository.countByMeetingAndStatus(meeting, PAYMENT_COMPLETED)) {
+      throw new CustomException(PURCHASE_PAYMENT_NOT_FOUND);
+    }
+
+    return new ArrayList<>(latestByPurchase.values());
+  }
+
+  private List<Refund> refundsOf(List<PurchasePayment> payments, ToLongFunction<PurchasePayment> refundAmount) {
+    return payments.stream()
+        .map(purchasePayment -> Refund.builder()
+            .purchaseId(purchasePayment.getPurchase().getId())
+            .purchasePaymentId(purchasePayment.getId())
+            .userId(purchasePayment.getPurchase().getUser().getId())
+            .amount(refundAmount.applyAsLong(purchasePayment))
+            .build())
+        .toList();
+  }
+
+  private void applyRefunds(List<Refund> refunds) {
+    if (refunds.isEmpty()) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+
+    Map<Long, Long> deltas = new LinkedHashMap<>();
+    refunds.forEach(refund -> deltas.merge(refund.getUserId(), refund.getAmount(), Long::sum));
+
+    pointBulkRepository.addUserPoints(deltas, now);
+    pointBulkRepository.insertRefundPoints(refunds, PLUS, now);
+  }
+
+  private SettlementDto.Summary summaryOf(Meeting meeting, List<Refund> refunds, Long storePaymentAmount) {
+    return SettlementDto.Summary.builder()
+        .meetingId(meeting.getId())
+        .participantCount(refunds.size())
+        .totalRefund(refunds.stream().mapToLong(Refund::getAmount).sum())
+        .storePaymentAmount(storePaymentAmount)
+        .refunds(refunds)
+        .build();
+  }
+
+  private long amount(Long value) {
+    return Objects.requireNonNullElse(value, 0L);
+  }
+}
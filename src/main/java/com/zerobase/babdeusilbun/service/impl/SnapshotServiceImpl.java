@@ -18,7 +18,7 @@ import com.zerobase.babdeusilbun.repository.PointRepository;
 import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.TeamPurchasePaymentRepository;
-import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.SnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -31,7 +31,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SnapshotServiceImpl implements SnapshotService {
 
-  private final UserRepository userRepository;
+  private final CurrentActor currentActor;
   private final MeetingRepository meetingRepository;
   private final PurchaseRepository purchaseRepository;
   private final PointRepository pointRepository;
@@ -144,7 +144,7 @@ public class SnapshotServiceImpl implements SnapshotService {
   }
 
   private User findUserById(Long userId) {
-    return userRepository.findById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+    return currentActor.getUser(userId);
   }
 
 }
@@ -0,0 +1,143 @@
+package com.zerobase.babdeusilbun.service.impl;
+
+import com.zerobase.babdeusilbun.domain.Address;
+import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.domain.StoreCard;
+import com.zerobase.babdeusilbun.domain.StoreCardCategory;
+import com.zerobase.babdeusilbun.dto.StoreImageDto.Thumbnail;
+import com.zerobase.babdeusilbun.repository.StoreCardCategoryRepository;
+import com.zerobase.babdeusilbun.repository.StoreCardRepository;
+import com.zerobase.babdeusilbun.repository.StoreCategoryRepository;
+import com.zerobase.babdeusilbun.repository.StoreImageRepository;
+import com.zerobase.babdeusilbun.repository.StoreRepository;
+import com.zerobase.babdeusilbun.repository.StoreSchoolRepository;
+import com.zerobase.babdeusilbun.service.StoreCardService;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 학교별 매장 목록 카드(store_card) 갱신
+ * 매장 단위로 변경된 컬럼만 갱신하며, 학교 매핑이나 매장 정보가 바뀐 경우 해당 매장의 카드를 다시 만든다.
+ * 카테고리 필터용 store_card_category 는 카드와 함께 다시 만든다.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class StoreCardServiceImpl implements StoreCardService {
+  private final StoreRepository storeRepository;
+  private final StoreCardRepository storeCardRepository;
+  private final StoreCardCategoryRepository storeCardCategoryRepository;
+  private final StoreSchoolRepository storeSchoolRepository;
+  private final StoreCategoryRepository storeCategoryRepository;
+  private final StoreImageRepository imageRepository;
+
+  @Override
+  @Transactional
+  public void refreshStore(Store store) {
+    storeCardCategoryRepository.deleteAllByStoreId(store.getId());
+    storeCardRepository.deleteAllByStoreId(store.getId());
+
+    if (store.getDeletedAt() != null) {
+      return;
+    }
+
+    List<Long> schoolIds = storeSchoolRepository.findSchoolIdsByStore(store);
+    if (schoolIds.isEmpty()) {
+      return;
+    }
+
+    Thumbnail thumbnail = imageRepository.findFirstByStoreAndIsRepresentativeTrue(store).orElse(null);
+
+    List<StoreCard> storeCards = storeCardRepository.saveAll(schoolIds.stream()
+        .map(schoolId -> StoreCard.builder()
+            .storeId(store.getId())
+            .schoolId(schoolId)
+            .entrepreneurId(store.getEntrepreneur().getId())
+            .name(store.getName())
+            .description(store.getDescription())
+            .minPurchaseAmount(store.getMinPurchaseAmount())
+            .deliveryPrice(store.getDeliveryPrice())
+            .minDeliveryTime(store.getMinDeliveryTime())
+            .maxDeliveryTime(store.getMaxDeliveryTime())
+            .address(Address.builder()
+                .postal(store.getAddress().getPostal())
+                .streetAddress(store.getAddress().getStreetAddress())
+                .detailAddress(store.getAddress().getDetailAddress())
+                .build())
+            .phoneNumber(store.getPhoneNumber())
+            .openTime(store.getOpenTime())
+            .closeTime(store.getCloseTime())
+            .thumbnailImageId((thumbnail != null) ? thumbnail.getImageId() : null)
+            .thumbnailUrl((thumbnail != null) ? thumbnail.getUrl() : null)
+            .build())
+        .toList());
+    saveCategories(store, storeCards);
+  }
+
+  @Override
+  @Transactional
+  public void refreshCategories(Store store) {
+    storeCardCategoryRepository.deleteAllByStoreId(store.getId());
+    saveCategories(store, storeCardRepository.findAllByStoreId(store.getId()));
+  }
+
+  // 카드 x 카테고리
+  private void saveCategories(Store store, List<StoreCard> storeCards) {
+    List<Long> categoryIds = storeCategoryRepository.findCategoryIdsByStore(store);
+    if (storeCards.isEmpty() || categoryIds.isEmpty()) {
+      return;
+    }
+
+    storeCardCategoryRepository.saveAll(storeCards.stream()
+        .flatMap(storeCard -> categoryIds.stream()
+            .map(categoryId -> StoreCardCategory.builder()
+                .storeCardId(storeCard.getId())
+                .storeId(storeCard.getStoreId())
+                .schoolId(storeCard.getSchoolId())
+                .categoryId(categoryId)
+                .build()))
+        .toList());
+  }
+
+  @Override
+  @Transactional
+  public void refreshThumbnail(Store store) {
+    Thumbnail thumbnail = imageRepository.findFirstByStoreAndIsRepresentativeTrue(store).orElse(null);
+
+    storeCardRepository.updateThumbnail(store.getId(),
+        (thumbnail != null) ? thumbnail.getImageId() : null,
+        (thumbnail != null) ? thumbnail.getUrl() : null);
+  }
+
+  @Override
+  @Transactional
+  public void removeStore(Store store) {
+    storeCardCategoryRepository.deleteAllByStoreId(store.getId());
+    storeCardRepository.deleteAllByStoreId(store.getId());
+  }
+
+  @Override
+  @Transactional
+  public int rebuildAll() {
+    List<Store> stores = storeRepository.findAllByDeletedAtIsNull();
+    stores.forEach(this::refreshStore);
+
+    return stores.size();
+  }
+
+  // 카드 테이블 (또는 카드 카테고리 테이블) 이 비어있으면 기존 매장으로 채움
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void initialize() {
+    if (storeCardRepository.count() > 0 && storeCardCategoryRepository.count() > 0) {
+      return;
+    }
+
+    log.info("store card table is empty. rebuilt store count -> {}", rebuildAll());
+  }
+}
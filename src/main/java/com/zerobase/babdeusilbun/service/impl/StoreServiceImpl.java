@@ -15,15 +15,18 @@ import static com.zerobase.babdeusilbun.util.ImageUtility.STORE_IMAGE_FOLDER;
 import static com.zerobase.babdeusilbun.util.MeetingUtility.CAN_ENTREPRENEUR_CHECK_PURCHASE_STATUS;
 
 import com.zerobase.babdeusilbun.component.ImageComponent;
+import com.zerobase.babdeusilbun.component.StoreSearchIndex;
 import com.zerobase.babdeusilbun.domain.Category;
 import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.Holiday;
 import com.zerobase.babdeusilbun.domain.School;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.StoreCategory;
+import com.zerobase.babdeusilbun.domain.StoreCard;
 import com.zerobase.babdeusilbun.domain.StoreImage;
 import com.zerobase.babdeusilbun.domain.StoreSchool;
 import com.zerobase.babdeusilbun.dto.CategoryDto;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.CategoryDto.IdsRequest;
 import com.zerobase.babdeusilbun.dto.CategoryDto.Information;
 import com.zerobase.babdeusilbun.dto.EntrepreneurDto;
@@ -39,6 +42,7 @@ import com.zerobase.babdeusilbun.dto.StoreImageDto.Thumbnail;
 import com.zerobase.babdeusilbun.dto.StoreImageDto.UpdateRequest;
 import com.zerobase.babdeusilbun.dto.StoreSchoolDto;
 import com.zerobase.babdeusilbun.enums.MeetingStatus;
+import com.zerobase.babdeusilbun.enums.MeetingStoreSortCriteria;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.exception.ErrorCode;
 import com.zerobase.babdeusilbun.repository.CategoryRepository;
@@ -47,12 +51,15 @@ import com.zerobase.babdeusilbun.repository.HolidayRepository;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
 import com.zerobase.babdeusilbun.repository.MenuRepository;
 import com.zerobase.babdeusilbun.repository.SchoolRepository;
+import com.zerobase.babdeusilbun.repository.StoreCardRepository;
 import com.zerobase.babdeusilbun.repository.StoreCategoryRepository;
 import com.zerobase.babdeusilbun.repository.StoreImageRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
 import com.zerobase.babdeusilbun.repository.StoreSchoolRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.service.StoreCardService;
 import com.zerobase.babdeusilbun.service.StoreService;
+import com.zerobase.babdeusilbun.util.CursorUtility;
 import io.micrometer.common.util.StringUtils;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
@@ -60,6 +67,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -90,7 +98,10 @@ public class StoreServiceImpl implements StoreService {
   private final MenuRepository menuRepository;
   private final HolidayRepository holidayRepository;
   private final MeetingRepository meetingRepository;
+  private final StoreCardRepository storeCardRepository;
+  private final StoreCardService storeCardService;
   private final ImageComponent imageComponent;
+  private final StoreSearchIndex storeSearchIndex;
 
   private record EntrepreneurStoreImageData(Entrepreneur entrepreneur, Store store, StoreImage image) {}
 
@@ -147,6 +158,7 @@ public class StoreServiceImpl implements StoreService {
     }
 
     Store store = storeRepository.save(request.toEntity(entrepreneur));
+    storeSearchIndex.refresh(store.getId());
 
     return IdResponse.builder().storeId(store.getId()).build();
   }
@@ -173,6 +185,7 @@ public class StoreServiceImpl implements StoreService {
 
     if (!uploadImageList.isEmpty()) {
       imageRepository.saveAll(uploadImageList);
+      storeCardService.refreshThumbnail(store);
     }
 
     return uploadImageList.size();
@@ -216,6 +229,10 @@ public class StoreServiceImpl implements StoreService {
       }
     });
 
+    if (count.get() > 0) {
+      storeCardService.refreshCategories(store);
+    }
+
     return count.get();
   }
 
@@ -225,7 +242,10 @@ public class StoreServiceImpl implements StoreService {
     EntrepreneurStoreImageData data = getEntrepreneurAndStoreAndImage(entrepreneurId, storeId);
     Store store = data.store();
 
-    return storeCategoryRepository.deleteByStoreAndCategory_IdIn(store, request.getCategoryIds());
+    int count = storeCategoryRepository.deleteByStoreAndCategory_IdIn(store, request.getCategoryIds());
+    storeCardService.refreshCategories(store);
+
+    return count;
   }
 
   @Override
@@ -260,6 +280,10 @@ public class StoreServiceImpl implements StoreService {
       }
     });
 
+    if (count.get() > 0) {
+      storeCardService.refreshStore(store);
+    }
+
     return count.get();
   }
 
@@ -269,7 +293,10 @@ public class StoreServiceImpl implements StoreService {
     EntrepreneurStoreImageData data = getEntrepreneurAndStoreAndImage(entrepreneurId, storeId);
     Store store = data.store();
 
-    return storeSchoolRepository.deleteByStoreAndSchool_IdIn(store, request.getSchoolIds());
+    int count = storeSchoolRepository.deleteByStoreAndSchool_IdIn(store, request.getSchoolIds());
+    storeCardService.refreshStore(store);
+
+    return count;
   }
 
   @Override
@@ -327,6 +354,7 @@ public class StoreServiceImpl implements StoreService {
 
           imageRepository.delete(storeImage);
         });
+    storeCardService.refreshThumbnail(store);
 
     try {
       imageComponent.deleteImageByUrl(image.getUrl());
@@ -364,6 +392,7 @@ public class StoreServiceImpl implements StoreService {
 
     if (request.getIsRepresentative() != null) {
       updateImageRepresentative(image, images);
+      storeCardService.refreshThumbnail(store);
     }
   }
 
@@ -412,6 +441,8 @@ public class StoreServiceImpl implements StoreService {
     }
 
     store.update(request);
+    storeCardService.refreshStore(store);
+    storeSearchIndex.refresh(store.getId());
   }
 
   @Override
@@ -420,25 +451,65 @@ public class StoreServiceImpl implements StoreService {
       Long userId, List<Long> categoryList, String searchMenu,
       Long schoolId, String sortCriteria, Pageable pageable) {
 
-    if (categoryList == null) {
-      categoryList = Collections.emptyList();
+    schoolId = resolveSchoolId(userId, schoolId);
+
+    Set<Long> storeIds = searchStoreIds(searchMenu);
+    if (storeIds != null && storeIds.isEmpty()) {
+      return Page.empty(pageable);
     }
 
-    if (schoolId == null || schoolId == 0L) {
-      schoolId = userRepository.findByIdAndDeletedAtIsNull(userId)
-          .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND))
-          .getSchool().getId();
+    return storeCardRepository
+        .getAvailStoreCardList(nullToEmpty(categoryList), storeIds, schoolId, sortCriteria, pageable)
+        .map(StoreDto.Information::fromStoreCard);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorDto.Response<StoreDto.Information> getAvailStoreListByCursor(
+      Long userId, List<Long> categoryList, String searchMenu,
+      Long schoolId, String sortCriteria, String cursor, int size) {
+
+    schoolId = resolveSchoolId(userId, schoolId);
+    size = CursorUtility.limitSize(size);
+    CursorDto.Key key = CursorUtility.decode(cursor);
+    Set<Long> storeIds = searchStoreIds(searchMenu);
+
+    List<StoreCard> storeCards = (storeIds != null && storeIds.isEmpty()) ? List.of()
+        : storeCardRepository.getAvailStoreCardListByCursor(
+            nullToEmpty(categoryList), storeIds, schoolId, sortCriteria, key, size + 1);
+
+    return CursorUtility.toResponse(storeCards, size,
+        storeCard -> getSortValue(storeCard, sortCriteria), StoreCard::getStoreId,
+        list -> list.stream().map(StoreDto.Information::fromStoreCard).toList());
+  }
+
+  private List<Long> nullToEmpty(List<Long> categoryList) {
+    return (categoryList == null) ? Collections.emptyList() : categoryList;
+  }
+
+  // 학교를 지정하지 않으면 회원의 학교
+  private Long resolveSchoolId(Long userId, Long schoolId) {
+    if (schoolId != null && schoolId != 0L) {
+      return schoolId;
     }
 
-    return storeRepository
-        .getAvailStoreList(categoryList, searchMenu, schoolId, sortCriteria, pageable)
-        .map(this::mapToStoreDto);
+    return userRepository.findByIdAndDeletedAtIsNull(userId)
+        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND))
+        .getSchool().getId();
   }
 
-  private StoreDto.Information mapToStoreDto(Store store) {
-    return StoreDto.Information.fromEntity(
-        store, imageRepository.findAllByStoreOrderBySequenceAsc(store)
-    );
+  // 검색어가 매장명 또는 메뉴명에 포함된 매장 id (검색어가 없으면 null)
+  private Set<Long> searchStoreIds(String searchMenu) {
+    return StringUtils.isNotBlank(searchMenu) ? storeSearchIndex.search(searchMenu) : null;
+  }
+
+  private Object getSortValue(StoreCard storeCard, String sortCriteria) {
+    return switch (MeetingStoreSortCriteria.fromParameter(sortCriteria)) {
+      case DELIVERY_TIME -> storeCard.getMinDeliveryTime();
+      case DELIVERY_FEE -> storeCard.getDeliveryPrice();
+      case MIN_PRICE -> storeCard.getMinPurchaseAmount();
+      default -> null;
+    };
   }
 
   @Override
@@ -448,6 +519,8 @@ public class StoreServiceImpl implements StoreService {
     Store store = data.store();
 
     store.delete();
+    storeCardService.removeStore(store);
+    storeSearchIndex.refresh(store.getId());
   }
 
   @Override
@@ -1,12 +1,17 @@
 package com.zerobase.babdeusilbun.service.impl;
 
+import com.zerobase.babdeusilbun.component.CartTotals;
+import com.zerobase.babdeusilbun.component.RedisCart;
 import com.zerobase.babdeusilbun.domain.*;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
 import com.zerobase.babdeusilbun.dto.TeamPurchaseDto;
 import com.zerobase.babdeusilbun.enums.MeetingStatus;
 import com.zerobase.babdeusilbun.enums.PurchaseStatus;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.repository.*;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.TeamPurchaseService;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,17 +22,18 @@ import static com.zerobase.babdeusilbun.exception.ErrorCode.*;
 @Transactional
 @RequiredArgsConstructor
 public class TeamPurchaseServiceImpl implements TeamPurchaseService {
-    private final UserRepository userRepository;
+    private final CurrentActor currentActor;
     private final MeetingRepository meetingRepository;
     private final PurchaseRepository purchaseRepository;
     private final MenuRepository menuRepository;
     private final TeamPurchaseRepository teamPurchaseRepository;
+    private final CartTotals cartTotals;
+    private final RedisCart redisCart;
 
     @Override
     public TeamPurchase createTeamPurchase(Long userId, Long meetingId, TeamPurchaseDto.CreateRequest request) {
         // 사용자 정보 찾기, 없으면 예외처리
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User user = currentActor.getActiveUser(userId);
 
         // 미팅 정보 찾기, 없으면 예외처리
         Meeting meeting = meetingRepository.findAllByIdAndDeletedAtIsNull(meetingId)
@@ -38,12 +44,12 @@ public class TeamPurchaseServiceImpl implements TeamPurchaseService {
                 .orElseThrow(() -> new CustomException(MENU_NOT_FOUND));
 
         // 1. 현재 미팅의 리더인지 확인, 아니면 예외 처리
-        if(meeting.getLeader().getId() != userId) {
+        if(!Objects.equals(meeting.getLeader().getId(), userId)) {
             throw new CustomException(MEETING_LEADER_NOT_MATCH);
         }
 
         // 2. 현재 입력한 메뉴가 속한 매장 식별번호가 미팅 속 매장의 식별번호와 동일한지 확인, 아니면 예외 처리
-        if(menu.getStore().getId() != meeting.getStore().getId()) {
+        if(!Objects.equals(menu.getStore().getId(), meeting.getStore().getId())) {
             throw new CustomException(STORE_NOT_INCLUDE_MENU);
         }
 
@@ -52,6 +58,11 @@ public class TeamPurchaseServiceImpl implements TeamPurchaseService {
             throw new CustomException(MEETING_STATUS_INVALID);
         }
 
+        // Redis 장바구니에 담기 (같은 메뉴 확인 포함, DB 에는 결제 요청 때 저장)
+        if(redisCart.isEnabled()) {
+            return toTeamPurchase(meeting, redisCart.addTeamLine(meetingId, menu, request.getQuantity()));
+        }
+
         // 4. 현재 유저가 현재 미팅에 등록했던 팀 주문 중에서 이미 같은 음식을 등록했는지 확인, 아니면 예외처리
         if(teamPurchaseRepository.existsAllByMenuAndMeeting(menu, meeting)) {
             throw new CustomException(ALREADY_EXIST_TEAM_PURCHASE);
@@ -68,6 +79,9 @@ public class TeamPurchaseServiceImpl implements TeamPurchaseService {
 
         teamPurchaseRepository.save(teamPurchase);
 
+        // 모임의 장바구니 합계에 반영
+        cartTotals.addTeamItem(teamPurchase);
+
         return teamPurchase;
     }
 
@@ -75,15 +89,21 @@ public class TeamPurchaseServiceImpl implements TeamPurchaseService {
     @Transactional
     public TeamPurchase updateTeamPurchase(Long userId, Long purchaseId, TeamPurchaseDto.UpdateRequest request) {
         // 사용자 정보 찾기, 없으면 예외처리
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User user = currentActor.getActiveUser(userId);
+
+        // Redis 장바구니의 수량 변경
+        if(redisCart.isEnabled()) {
+            CartLine line = findCartLine(user, purchaseId);
+            return toTeamPurchase(meetingRepository.getReferenceById(line.getOwnerId()),
+                    redisCart.updateTeamLine(line, request.getQuantity()));
+        }
 
         // 팀구매 정보 찾기, 없으면 예외처리
-        TeamPurchase teamPurchase = teamPurchaseRepository.findAllById(purchaseId)
+        TeamPurchase teamPurchase = teamPurchaseRepository.findForUpdateById(purchaseId)
                 .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
 
         // 1. 현재 미팅의 리더인지 확인, 아니면 예외 처리
-        if(teamPurchase.getMeeting().getLeader().getId() != user.getId()) {
+        if(!Objects.equals(teamPurchase.getMeeting().getLeader().getId(), user.getId())) {
             throw new CustomException(MEETING_LEADER_NOT_MATCH);
         }
 
@@ -93,23 +113,32 @@ public class TeamPurchaseServiceImpl implements TeamPurchaseService {
         }
 
         // 개인구매 수량 정보 갱신
+        long previousPrice = teamPurchase.getPaymentPrice();
         teamPurchase.updateQuantity(request.getQuantity());
 
+        // 모임의 장바구니 합계에 반영
+        cartTotals.changeTeamItem(teamPurchase, previousPrice);
+
         return teamPurchase;
     }
 
     @Override
     public void deleteTeamPurchase(Long userId, Long purchaseId) {
         // 사용자 정보 찾기, 없으면 예외처리
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User user = currentActor.getActiveUser(userId);
+
+        // Redis 장바구니에서 삭제
+        if(redisCart.isEnabled()) {
+            redisCart.removeTeamLine(findCartLine(user, purchaseId));
+            return;
+        }
 
         // 팀구매 정보 찾기, 없으면 예외처리
-        TeamPurchase teamPurchase = teamPurchaseRepository.findAllById(purchaseId)
+        TeamPurchase teamPurchase = teamPurchaseRepository.findForUpdateById(purchaseId)
                 .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
 
         // 1. 현재 미팅의 리더인지 확인, 아니면 예외 처리
-        if(teamPurchase.getMeeting().getLeader().getId() != user.getId()) {
+        if(!Objects.equals(teamPurchase.getMeeting().getLeader().getId(), user.getId())) {
             throw new CustomException(MEETING_LEADER_NOT_MATCH);
         }
 
@@ -119,5 +148,38 @@ public class TeamPurchaseServiceImpl implements TeamPurchaseService {
         }
 
         teamPurchaseRepository.delete(teamPurchase);
+
+        // 모임의 장바구니 합계에 반영
+        cartTotals.removeTeamItem(teamPurchase);
+    }
+
+    // Redis 장바구니의 공동 주문 찾기 (모임의 리더, 모집중인 미팅인지 확인)
+    private CartLine findCartLine(User user, Long purchaseId) {
+        CartLine line = redisCart.getTeamLine(purchaseId)
+                .orElseThrow(() -> new CustomException(PURCHASE_NOT_FOUND));
+
+        Meeting meeting = meetingRepository.findAllByIdAndDeletedAtIsNull(line.getOwnerId())
+                .orElseThrow(() -> new CustomException(MEETING_NOT_FOUND));
+
+        if(!Objects.equals(meeting.getLeader().getId(), user.getId())) {
+            throw new CustomException(MEETING_LEADER_NOT_MATCH);
+        }
+
+        if(meeting.getStatus() != MeetingStatus.GATHERING) {
+            throw new CustomException(MEETING_STATUS_INVALID);
+        }
+
+        return line;
+    }
+
+    // 응답용 (저장되지 않은 공동 주문, id 는 장바구니의 id)
+    private TeamPurchase toTeamPurchase(Meeting meeting, CartLine line) {
+        return TeamPurchase.builder()
+                .id(line.getLineId())
+                .meeting(meeting)
+                .menu(menuRepository.getReferenceById(line.getMenuId()))
+                .quantity(line.getQuantity())
+                .paymentPrice(line.getPaymentPrice())
+                .build();
     }
 }
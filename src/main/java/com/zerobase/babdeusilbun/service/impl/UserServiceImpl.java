@@ -2,8 +2,11 @@ package com.zerobase.babdeusilbun.service.impl;
 
 import static com.zerobase.babdeusilbun.dto.EvaluateDto.insertZeroValueInPositiveEvaluateArray;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_NOT_FOUND;
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
+import static com.zerobase.babdeusilbun.security.util.SecurityConstantsUtil.getPrefixedEmail;
 import static com.zerobase.babdeusilbun.util.ImageUtility.USER_IMAGE_FOLDER;
 
+import com.zerobase.babdeusilbun.component.ChatRoomMembership;
 import com.zerobase.babdeusilbun.component.ImageComponent;
 import com.zerobase.babdeusilbun.domain.*;
 import com.zerobase.babdeusilbun.dto.EvaluateDto;
@@ -18,6 +21,7 @@ import com.zerobase.babdeusilbun.repository.EvaluateRepository;
 import com.zerobase.babdeusilbun.repository.MajorRepository;
 import com.zerobase.babdeusilbun.repository.SchoolRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
 import com.zerobase.babdeusilbun.service.UserService;
 import io.micrometer.common.util.StringUtils;
 import java.util.List;
@@ -36,6 +40,8 @@ public class UserServiceImpl implements UserService {
   private final EvaluateRepository evaluateRepository;
   private final ImageComponent imageComponent;
   private final PasswordEncoder passwordEncoder;
+  private final PrincipalCache principalCache;
+  private final ChatRoomMembership chatRoomMembership;
 
   // 내 정보 조회
   @Override
@@ -85,6 +91,8 @@ public class UserServiceImpl implements UserService {
     }
 
     user.update(request);
+    principalCache.invalidate(getPrefixedEmail(user.getEmail(), ROLE_USER));
+    chatRoomMembership.refreshMember(user);
     return request;
   }
 
@@ -47,11 +47,11 @@ public @interface UserChatRoomSwagger {
   @Inherited
   @Operation(
       summary = "채팅방 메세지 조회 api",
-      description = "입장한 채팅방의 채팅 내역을 최신순으로 정렬")
+      description = "입장한 채팅방의 채팅 내역을 최신순으로 정렬 (응답의 nextCursor 를 before 로 전달하면 이전 내역 조회)")
   @Parameters(value = {
       @Parameter(name = "chatRoomId", description = "채팅 내역을 조회하려는 채팅방의 id", in = ParameterIn.PATH),
-      @Parameter(name = "page", description = "조회하려는 페이지 번호(시작점: 0, 기본값: 0)", in = ParameterIn.QUERY),
-      @Parameter(name = "size", description = "조회하려는 페이지의 요소 개수(최소:1, 기본값: 10)", in = ParameterIn.QUERY)
+      @Parameter(name = "before", description = "이 채팅 id 보다 이전 채팅을 조회 (없으면 최신 채팅부터)", in = ParameterIn.QUERY),
+      @Parameter(name = "limit", description = "조회하려는 채팅 개수(기본값: 20, 최대: 100)", in = ParameterIn.QUERY)
   })
   @ApiResponses(value = {
       @ApiResponse(
@@ -67,4 +67,26 @@ public @interface UserChatRoomSwagger {
   })
   @Tag(name = "User Chat Api")
   @interface GetChatMessagesOnChatRoomSwagger {}
+
+  @Target(ElementType.METHOD)
+  @Retention(RetentionPolicy.RUNTIME)
+  @Inherited
+  @Operation(
+      summary = "채팅방 읽음 처리 api",
+      description = "채팅방의 마지막 채팅까지 읽은 것으로 표시하고 안 읽은 채팅 수를 0 으로 변경")
+  @Parameters(value = {
+      @Parameter(name = "chatRoomId", description = "읽음 처리하려는 채팅방의 id", in = ParameterIn.PATH)
+  })
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "읽음 처리에 성공한 경우"),
+      @ApiResponse(
+          responseCode = "404", description = "확인하려는 채팅방을 찾을 수 없는 경우",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(
+          responseCode = "403", description = "채팅방을 이미 떠났거나 입장한 적이 없는 경우",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @Tag(name = "User Chat Api")
+  @interface ReadChatRoomSwagger {}
 }
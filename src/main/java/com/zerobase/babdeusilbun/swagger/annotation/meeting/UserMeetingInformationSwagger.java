@@ -47,6 +47,39 @@ public @interface UserMeetingInformationSwagger {
   @Tag(name = "User Meeting Information Api")
   @interface GetAllMeetingListSwagger {}
 
+  @Target(ElementType.METHOD)
+  @Retention(RetentionPolicy.RUNTIME)
+  @Inherited
+  @Operation(
+      summary = "모임리스트 목록 커서 조회/검색 api",
+      description = "모임리스트 목록 조회/검색과 같은 조건으로 커서 기반 조회\n"
+          + "응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어지는 목록을 조회\n\n"
+          + "includeCount 가 true 인 첫 페이지 요청에만 최대 1000 개까지 센 전체 개수(approximateTotal)를 함께 반환"
+  )
+  @Parameters(value = {
+      @Parameter(name = "schoolId", description = "모임 검색의 기준이 될 학교의 id"),
+      @Parameter(name = "sortCriteria", description = "정렬 기준"),
+      @Parameter(name = "searchMenu", description = "메뉴 검색"),
+      @Parameter(name = "categoryFilter", description = "카테고리 지정"),
+      @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)"),
+      @Parameter(name = "size", description = "한 번에 조회할 모임 개수 (최대 100)"),
+      @Parameter(name = "includeCount", description = "첫 페이지 조회 시 전체 개수 포함 여부")
+  })
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "모임리스트 목록 조회/검색에 성공한 경우",
+          content = @Content(mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = MeetingDto.class)))),
+      @ApiResponse(
+          responseCode = "400", description = "정렬 기준이나 커서가 올바르지 않은 경우",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(
+          responseCode = "404", description = "입력한 학교 정보가 없는데 로그인한 이용자를 찾을 수 없는 경우",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @Tag(name = "User Meeting Information Api")
+  @interface GetAllMeetingListByCursorSwagger {}
+
   @Target(ElementType.METHOD)
   @Retention(RetentionPolicy.RUNTIME)
   @Inherited
@@ -0,0 +1,33 @@
+package com.zerobase.babdeusilbun.swagger.annotation.payment;
+
+import com.zerobase.babdeusilbun.dto.PaymentDto.WebhookRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+public @interface PaymentWebhookSwagger {
+  @Target(ElementType.METHOD)
+  @Retention(RetentionPolicy.RUNTIME)
+  @Inherited
+  @Operation(
+      summary = "아임포트 결제 웹훅 api",
+      description = "아임포트 서버에서 결제 결과를 알리는 요청, 결제 확인은 비동기로 처리")
+  @RequestBody(
+      content = @Content(mediaType = "application/json",
+          schema = @Schema(implementation = WebhookRequest.class)),
+      description = "결제 imp_uid, merchant_uid(결제 트랜잭션 id), 결제 상태")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "웹훅 요청을 받은 경우")
+  })
+  @Tag(name = "Payment Webhook Api")
+  @interface ReceiveWebhookSwagger {}
+}
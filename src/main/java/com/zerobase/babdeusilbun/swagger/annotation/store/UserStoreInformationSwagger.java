@@ -41,4 +41,33 @@ public @interface UserStoreInformationSwagger {
   })
   @Tag(name = "User Store Information Api")
   @interface GetAvailStoreListSwagger {}
+
+  @Target(ElementType.METHOD)
+  @Retention(RetentionPolicy.RUNTIME)
+  @Inherited
+  @Operation(
+      summary = "주문 가능 가게 리스트 검색/조회 api (커서)",
+      description = "설정된 학교 기준으로 주문 가능한 가게 목록을 커서 기반으로 검색/조회")
+  @Parameters(value = {
+      @Parameter(name = "foodCategoryFilter", description = "살펴볼 카테고리 목록 지정"),
+      @Parameter(name = "searchMenu", description = "검색어"),
+      @Parameter(name = "schoolId", description = "배달 가능한지 알아볼 기준이 될 학교 id"),
+      @Parameter(name = "sortCriteria", description = "정렬 기준"),
+      @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 요청 시 생략)"),
+      @Parameter(name = "size", description = "한 번에 조회할 항목 개수")
+  })
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "주문 가능 가게 리스트 검색/조회에 성공한 경우",
+          content = @Content(mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = Information.class)))),
+      @ApiResponse(
+          responseCode = "400", description = "정렬 기준이나 커서 값이 올바르지 않은 경우",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(
+          responseCode = "404", description = "학교 아이디가 없고, 로그인한 이용자의 정보를 찾을 수 없는 경우",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @Tag(name = "User Store Information Api")
+  @interface GetAvailStoreListByCursorSwagger {}
 }
@@ -0,0 +1,51 @@
+package com.zerobase.babdeusilbun.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 다중 행 INSERT
+ * IDENTITY 키 테이블은 JPA 배치 저장이 되지 않으므로 여러 행을 한 문장으로 저장한다.
+ */
+public class BulkInsertUtility {
+
+  // 한 문장에 넣을 최대 행 수
+  public static final int ROWS_PER_STATEMENT = 500;
+
+  /**
+   * @param insert "INSERT INTO 테이블 (컬럼, ...) VALUES" 까지의 문장
+   * @param values 행마다 컬럼 순서대로의 값
+   */
+  public static <T> void insertAll(JdbcTemplate jdbcTemplate, String insert, List<T> rows,
+      Function<T, Object[]> values) {
+    insertAll(jdbcTemplate, insert, "", rows, values);
+  }
+
+  /**
+   * @param suffix VALUES 목록 뒤에 붙일 절 (ON DUPLICATE KEY UPDATE 등)
+   */
+  public static <T> void insertAll(JdbcTemplate jdbcTemplate, String insert, String suffix,
+      List<T> rows, Function<T, Object[]> values) {
+    for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+      List<T> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+
+      List<Object> args = new ArrayList<>();
+      String rowPlaceholder = null;
+      for (T row : chunk) {
+        Object[] rowValues = values.apply(row);
+        if (rowPlaceholder == null) {
+          rowPlaceholder = "(" + String.join(", ", Collections.nCopies(rowValues.length, "?")) + ")";
+        }
+        Collections.addAll(args, rowValues);
+      }
+
+      String sql = insert + " "
+          + String.join(", ", Collections.nCopies(chunk.size(), rowPlaceholder)) + suffix;
+
+      jdbcTemplate.update(sql, args.toArray());
+    }
+  }
+}
@@ -5,6 +5,12 @@ public class ChatUtility {
   public final static String SEND_TO_SERVER_PREFIX = "/socket";
   public final static String STOMP_PREFIX = "/stomp";
   public final static String CHAT_SEPARATOR = "/chat-rooms";
+  // chat.content 컬럼 길이 (varchar(255))
+  public final static int CHAT_CONTENT_MAX_LENGTH = 255;
+
+  public static boolean isValidContent(String content) {
+    return content != null && content.codePointCount(0, content.length()) <= CHAT_CONTENT_MAX_LENGTH;
+  }
 
   public static String makeSocketDestination(String prefix, String separator, Long id) {
     return prefix + separator + "/" + id;
@@ -0,0 +1,79 @@
+package com.zerobase.babdeusilbun.util;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PARAMETER_INVALID;
+
+import com.zerobase.babdeusilbun.dto.CursorDto;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorUtility {
+  public final static int DEFAULT_CURSOR_SIZE = 20;
+  public final static int MAX_CURSOR_SIZE = 100;
+
+  private final static String SEPARATOR = "_";
+
+  public static String encode(Object sortValue, Long id) {
+    String raw = ((sortValue == null) ? "" : sortValue.toString()) + SEPARATOR + id;
+
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static CursorDto.Key decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int index = raw.lastIndexOf(SEPARATOR);
+
+      return new CursorDto.Key(raw.substring(0, index), Long.valueOf(raw.substring(index + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new CustomException(PARAMETER_INVALID);
+    }
+  }
+
+  public static int limitSize(int size) {
+    if (size <= 0) {
+      return DEFAULT_CURSOR_SIZE;
+    }
+
+    return Math.min(size, MAX_CURSOR_SIZE);
+  }
+
+  /**
+   * size + 1 개로 조회한 목록을 응답으로 변환
+   * 마지막 항목의 (정렬 값, 식별자)로 다음 커서를 만든다.
+   */
+  public static <E, T> CursorDto.Response<T> toResponse(List<E> fetched, int size,
+      Function<E, Object> sortValue, Function<E, Long> id, Function<List<E>, List<T>> mapper) {
+
+    return toResponse(fetched, size, sortValue, id, mapper, null);
+  }
+
+  public static <E, T> CursorDto.Response<T> toResponse(List<E> fetched, int size,
+      Function<E, Object> sortValue, Function<E, Long> id, Function<List<E>, List<T>> mapper,
+      Long approximateTotal) {
+
+    boolean hasNext = fetched.size() > size;
+    List<E> content = hasNext ? fetched.subList(0, size) : fetched;
+
+    String nextCursor = null;
+    if (hasNext) {
+      E last = content.getLast();
+      nextCursor = encode(sortValue.apply(last), id.apply(last));
+    }
+
+    return CursorDto.Response.<T>builder()
+        .content(mapper.apply(content))
+        .size(content.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .approximateTotal(approximateTotal)
+        .build();
+  }
+}
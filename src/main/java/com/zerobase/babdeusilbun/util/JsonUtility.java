@@ -0,0 +1,28 @@
+package com.zerobase.babdeusilbun.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Redis 에 json 으로 저장하는 값 변환
+ * 직접 저장한 값만 읽으므로 변환 실패는 IllegalStateException 으로 던진다.
+ */
+public class JsonUtility {
+
+  public static String write(ObjectMapper objectMapper, Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(
+          value.getClass().getSimpleName() + " serialization failed.", e);
+    }
+  }
+
+  public static <T> T read(ObjectMapper objectMapper, String value, Class<T> type) {
+    try {
+      return objectMapper.readValue(value, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(type.getSimpleName() + " deserialization failed.", e);
+    }
+  }
+}
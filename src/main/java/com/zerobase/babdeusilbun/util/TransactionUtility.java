@@ -0,0 +1,24 @@
+package com.zerobase.babdeusilbun.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtility {
+
+  /**
+   * 트랜잭션 안이면 커밋 후 실행 (롤백되면 실행하지 않음), 밖이면 바로 실행
+   */
+  public static void afterCommit(Runnable runnable) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          runnable.run();
+        }
+      });
+      return;
+    }
+
+    runnable.run();
+  }
+}
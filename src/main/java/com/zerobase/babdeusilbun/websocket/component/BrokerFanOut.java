@@ -0,0 +1,15 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import com.zerobase.babdeusilbun.websocket.dto.BrokerMessage;
+import java.util.function.Consumer;
+
+/**
+ * 다른 서버로 STOMP 메시지를 전파하는 전송 계층
+ * websocket.fan-out.type 으로 구현체를 선택한다. (local, redis)
+ */
+public interface BrokerFanOut {
+
+  void publish(BrokerMessage message);
+
+  void subscribe(Consumer<BrokerMessage> consumer);
+}
@@ -0,0 +1,93 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_CLIENT_PREFIX;
+
+import com.zerobase.babdeusilbun.websocket.dto.BrokerMessage;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * 브로커 채널 인터셉터
+ * 이 서버에서 브로커로 보내는 메시지 (SimpMessagingTemplate, @SendTo) 를 다른 서버에도 전파하고,
+ * 다른 서버에서 전파된 메시지는 이 서버의 브로커로 전달해 구독 중인 세션에 전송한다.
+ */
+@Slf4j
+@Component
+public class BrokerFanOutInterceptor implements ChannelInterceptor {
+
+  // 다른 서버에서 전파된 메시지 표시 (다시 전파하지 않음)
+  public static final String FAN_OUT_HEADER = "fanOutNodeId";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final BrokerFanOut brokerFanOut;
+  private final MessageChannel brokerChannel;
+
+  public BrokerFanOutInterceptor(
+      BrokerFanOut brokerFanOut, @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+    this.brokerFanOut = brokerFanOut;
+    this.brokerChannel = brokerChannel;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    brokerFanOut.subscribe(this::deliver);
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    MessageHeaders headers = message.getHeaders();
+    String destination = SimpMessageHeaderAccessor.getDestination(headers);
+
+    if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+        || headers.containsKey(FAN_OUT_HEADER)
+        || destination == null || !destination.startsWith(SEND_TO_CLIENT_PREFIX)
+        || !(message.getPayload() instanceof byte[] payload)) {
+      return message;
+    }
+
+    // 전파에 실패해도 이 서버의 구독자에게는 전송
+    try {
+      Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+      brokerFanOut.publish(BrokerMessage.builder()
+          .nodeId(nodeId)
+          .destination(destination)
+          .contentType(contentType == null ? null : contentType.toString())
+          .payload(payload)
+          .build());
+    } catch (RuntimeException e) {
+      log.error("broker message fan-out failed. destination={}", destination, e);
+    }
+
+    return message;
+  }
+
+  private void deliver(BrokerMessage message) {
+    if (nodeId.equals(message.getNodeId())) {
+      return;
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(message.getDestination());
+    if (StringUtils.hasText(message.getContentType())) {
+      accessor.setContentType(MimeTypeUtils.parseMimeType(message.getContentType()));
+    }
+    accessor.setHeader(FAN_OUT_HEADER, message.getNodeId());
+
+    brokerChannel.send(MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders()));
+  }
+}
@@ -1,19 +1,19 @@
 package com.zerobase.babdeusilbun.websocket.component;
 
 import static com.zerobase.babdeusilbun.exception.ErrorCode.AUTHENTICATION_HEADER_INVALID;
-import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_EXPIRED;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_IS_BLACK;
 import static com.zerobase.babdeusilbun.security.util.SecurityConstantsUtil.AUTHORIZATION_HEADER_NAME;
 import static com.zerobase.babdeusilbun.security.util.SecurityConstantsUtil.AUTHORIZATION_HEADER_PREFIX;
 
 import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.security.component.JwtBlackList;
 import com.zerobase.babdeusilbun.security.component.JwtComponent;
-import com.zerobase.babdeusilbun.security.redis.RedisKeyUtil;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
+import com.zerobase.babdeusilbun.security.service.impl.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -23,7 +23,6 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -33,8 +32,8 @@ import org.springframework.util.StringUtils;
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
 public class JwtChannelInterceptor implements ChannelInterceptor {
   private final JwtComponent jwtComponent;
-  private final RedisTemplate<String, String> redisTemplate;
-  private final UserDetailsService userDetailsService;
+  private final JwtBlackList jwtBlackList;
+  private final CustomUserDetailsService userDetailsService;
 
   @Override
   public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -53,13 +52,10 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
     // 해당 jwt token이 black list 상태인지 확인
     verifyJwtBlackList(jwtToken);
 
-    // jwt token에서 email 가져옴
-    String prefixedEmail = jwtComponent.getEmail(jwtToken);
+    // jwt token 검증 (서명, 만료 여부 한 번에 확인) 후 email 가져옴
+    VerifiedJwt verifiedJwt = jwtComponent.verify(jwtToken);
 
-    // jwt token이 만료된 상태인지 확인
-    verifyJwtTokenIsExpired(jwtToken);
-
-    UserDetails findUserDetails = userDetailsService.loadUserByUsername(prefixedEmail);
+    UserDetails findUserDetails = userDetailsService.loadUserByVerifiedJwt(verifiedJwt);
 
     Authentication authentication = new UsernamePasswordAuthenticationToken(
         findUserDetails, null, findUserDetails.getAuthorities()
@@ -70,14 +66,9 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
   }
 
   private void verifyJwtBlackList(String jwtToken) {
-    if (Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.jwtBlackListKey(jwtToken)))) {
+    if (jwtBlackList.contains(jwtToken)) {
       throw new CustomException(JWT_TOKEN_IS_BLACK);
     }
   }
 
-  private void verifyJwtTokenIsExpired(String jwtToken) {
-    if (jwtComponent.isExpired(jwtToken)) {
-      throw new CustomException(JWT_TOKEN_EXPIRED);
-    }
-  }
 }
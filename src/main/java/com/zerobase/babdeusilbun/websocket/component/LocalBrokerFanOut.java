@@ -0,0 +1,22 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import com.zerobase.babdeusilbun.websocket.dto.BrokerMessage;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버 (전파하지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.fan-out.type", havingValue = "local", matchIfMissing = true)
+public class LocalBrokerFanOut implements BrokerFanOut {
+
+  @Override
+  public void publish(BrokerMessage message) {
+  }
+
+  @Override
+  public void subscribe(Consumer<BrokerMessage> consumer) {
+  }
+}
@@ -0,0 +1,46 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.util.JsonUtility;
+import com.zerobase.babdeusilbun.websocket.dto.BrokerMessage;
+import java.io.IOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 으로 모든 서버에 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.fan-out.type", havingValue = "redis")
+public class RedisBrokerFanOut implements BrokerFanOut {
+
+  public static final String FAN_OUT_CHANNEL = "stomp:fan-out";
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void publish(BrokerMessage message) {
+    stringRedisTemplate.convertAndSend(FAN_OUT_CHANNEL, JsonUtility.write(objectMapper, message));
+  }
+
+  @Override
+  public void subscribe(Consumer<BrokerMessage> consumer) {
+    redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+      try {
+        consumer.accept(objectMapper.readValue(message.getBody(), BrokerMessage.class));
+      } catch (IOException e) {
+        log.error("invalid broker message. channel={}", FAN_OUT_CHANNEL, e);
+      }
+    }, new ChannelTopic(FAN_OUT_CHANNEL));
+  }
+}
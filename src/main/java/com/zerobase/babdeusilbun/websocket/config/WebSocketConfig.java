@@ -4,6 +4,7 @@ import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_CLIENT_PREFIX;
 import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_SERVER_PREFIX;
 import static com.zerobase.babdeusilbun.util.ChatUtility.STOMP_PREFIX;
 
+import com.zerobase.babdeusilbun.websocket.component.BrokerFanOutInterceptor;
 import com.zerobase.babdeusilbun.websocket.component.CustomUserDetailsWebsocketArgumentResolver;
 import com.zerobase.babdeusilbun.websocket.component.JwtChannelInterceptor;
 import java.util.List;
@@ -22,11 +23,14 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   private final JwtChannelInterceptor jwtChannelInterceptor;
   private final CustomUserDetailsWebsocketArgumentResolver customUserDetailsWebsocketArgumentResolver;
+  private final BrokerFanOutInterceptor brokerFanOutInterceptor;
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
     config.enableSimpleBroker(SEND_TO_CLIENT_PREFIX);
     config.setApplicationDestinationPrefixes(SEND_TO_SERVER_PREFIX);
+    // 브로커로 보내는 메시지를 다른 서버에도 전파 (websocket.fan-out.type)
+    config.configureBrokerChannel().interceptors(brokerFanOutInterceptor);
   }
 
   @Override
@@ -0,0 +1,22 @@
+package com.zerobase.babdeusilbun.websocket.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서버 간에 전달되는 STOMP 브로커 메시지
+ * payload 는 브로커 채널에 들어온 직렬화된 본문 그대로 (json 직렬화 시 Base64)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class BrokerMessage {
+  private String nodeId;
+  private String destination;
+  private String contentType;
+  private byte[] payload;
+}
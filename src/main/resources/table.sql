@@ -27,6 +27,15 @@ create table if not exists entrepreneur
     unique (email)
     );
 
+create table if not exists alarm_outbox
+(
+    alarm_outbox_id bigint auto_increment
+    primary key,
+    created_at      datetime(6) not null,
+    updated_at      datetime(6) not null,
+    payload         longtext    not null
+    );
+
 create table if not exists entrepreneur_alarm
 (
     alarm_id        bigint auto_increment
@@ -83,6 +92,15 @@ create table if not exists store
     foreign key (entrepreneur_id) references entrepreneur (entrepreneur_id)
     );
 
+create index if not exists idx_store_min_delivery_time
+    on store (min_delivery_time, store_id);
+
+create index if not exists idx_store_delivery_price
+    on store (delivery_price, store_id);
+
+create index if not exists idx_store_min_purchase_amount
+    on store (min_purchase_amount, store_id);
+
 create table if not exists holiday
 (
     created_at  datetime(6)                                                                         not null,
@@ -161,6 +179,63 @@ create table if not exists store_school
     foreign key (store_id) references store (store_id)
     );
 
+create table if not exists store_card
+(
+    close_time          time(6)      not null,
+    max_delivery_time   int          not null,
+    min_delivery_time   int          not null,
+    open_time           time(6)      not null,
+    created_at          datetime(6)  not null,
+    delivery_price      bigint       not null,
+    entrepreneur_id     bigint       not null,
+    min_purchase_amount bigint       not null,
+    school_id           bigint       not null,
+    store_card_id       bigint auto_increment
+    primary key,
+    store_id            bigint       not null,
+    thumbnail_image_id  bigint       null,
+    updated_at          datetime(6)  not null,
+    description         varchar(255) not null,
+    detail_address      varchar(255) not null,
+    name                varchar(255) not null,
+    phone_number        varchar(255) not null,
+    postal              varchar(255) not null,
+    street_address      varchar(255) not null,
+    thumbnail_url       varchar(255) null,
+    constraint UK_store_card_store_school
+    unique (store_id, school_id)
+    );
+
+create index if not exists idx_store_card_school_store
+    on store_card (school_id, store_id);
+
+create index if not exists idx_store_card_school_min_delivery_time
+    on store_card (school_id, min_delivery_time, store_id);
+
+create index if not exists idx_store_card_school_delivery_price
+    on store_card (school_id, delivery_price, store_id);
+
+create index if not exists idx_store_card_school_min_purchase_amount
+    on store_card (school_id, min_purchase_amount, store_id);
+
+create table if not exists store_card_category
+(
+    category_id            bigint      not null,
+    created_at             datetime(6) not null,
+    school_id              bigint      not null,
+    store_card_category_id bigint auto_increment
+    primary key,
+    store_card_id          bigint      not null,
+    store_id               bigint      not null,
+    updated_at             datetime(6) not null
+    );
+
+create index if not exists idx_store_card_category_category_school
+    on store_card_category (category_id, school_id, store_card_id);
+
+create index if not exists idx_store_card_category_store
+    on store_card_category (store_id);
+
 create table if not exists users
 (
     is_banned      bit                                                        not null,
@@ -243,12 +318,43 @@ create table if not exists meeting
     met_street_address         varchar(255)                                                                                                                                                                  not null,
     purchase_type              enum ('DELIVERY_TOGETHER', 'DINING_TOGETHER')                                                                                                                                 not null,
     status                     enum ('COOKING', 'COOKING_COMPLETED', 'DELIVERY_COMPLETED', 'GATHERING', 'IN_DELIVERY', 'MEETING_CANCELLED', 'MEETING_COMPLETED', 'PURCHASE_CANCELLED', 'PURCHASE_COMPLETED') not null,
+    team_item_count            int          default 0 not null,
+    team_total_price           bigint       default 0 not null,
+    team_first_item_name       varchar(255) null,
+    individual_total_price     bigint       default 0 not null,
     constraint FKohkwkhswwrxsp68pe5ew46yyo
     foreign key (leader_id) references users (user_id),
     constraint FKtpqy4vinbsjgk4dl2fhp5urw3
     foreign key (store_id) references store (store_id)
     );
 
+create index if not exists idx_meeting_payment_available_dt
+    on meeting (payment_available_dt, meeting_id);
+
+create index if not exists idx_meeting_delivered_at
+    on meeting (delivered_at, meeting_id);
+
+create index if not exists idx_meeting_status_payment_available_dt
+    on meeting (status, payment_available_dt);
+
+create table if not exists meeting_purchase_time
+(
+    meeting_purchase_time_id bigint auto_increment
+    primary key,
+    created_at               datetime(6) not null,
+    updated_at               datetime(6) not null,
+    meeting_id               bigint      not null,
+    store_id                 bigint      not null,
+    processed_at             datetime(6) null,
+    cooked_at                datetime(6) null,
+    delivered_started_at     datetime(6) null,
+    delivered_at             datetime(6) null,
+    constraint UK_meeting_purchase_time_meeting
+    unique (meeting_id),
+    foreign key (meeting_id) references meeting (meeting_id),
+    foreign key (store_id) references store (store_id)
+    );
+
 create table if not exists chat_room
 (
     chat_room_id bigint auto_increment
@@ -266,15 +372,52 @@ create table if not exists chat
 (
     chat_id      bigint auto_increment
     primary key,
-    chat_room_id bigint                 not null,
-    created_at   datetime(6)            not null,
-    updated_at   datetime(6)            not null,
-    content      varchar(255)           not null,
-    type         enum ('CHAT', 'ENTER') not null,
+    chat_room_id bigint                          not null,
+    user_id      bigint                          not null,
+    created_at   datetime(6)                     not null,
+    updated_at   datetime(6)                     not null,
+    content      varchar(255)                    not null,
+    type         enum ('CHAT', 'ENTER', 'LEAVE') not null,
+    log_id       varchar(64)                     null,
+    constraint UK_chat_log_id
+    unique (log_id),
     constraint FK44b6elhh512d2722l09i6qdku
-    foreign key (chat_room_id) references chat_room (chat_room_id)
+    foreign key (chat_room_id) references chat_room (chat_room_id),
+    constraint FK_chat_user
+    foreign key (user_id) references users (user_id)
     );
 
+create index if not exists idx_chat_chat_room_id_chat_id
+    on chat (chat_room_id, chat_id);
+
+create index if not exists idx_chat_chat_room_id_created_at
+    on chat (chat_room_id, created_at, chat_id);
+
+create table if not exists chat_room_member
+(
+    active              bit          not null,
+    unread_count        int          not null,
+    chat_room_id        bigint       not null,
+    chat_room_member_id bigint auto_increment
+    primary key,
+    joined_chat_id      bigint       not null,
+    last_chat_id        bigint       null,
+    last_read_chat_id   bigint       null,
+    user_id             bigint       not null,
+    created_at          datetime(6)  not null,
+    last_chat_at        datetime(6)  null,
+    updated_at          datetime(6)  not null,
+    constraint UK_chat_room_member_room_user
+    unique (chat_room_id, user_id),
+    constraint FK_chat_room_member_chat_room
+    foreign key (chat_room_id) references chat_room (chat_room_id),
+    constraint FK_chat_room_member_user
+    foreign key (user_id) references users (user_id)
+    );
+
+create index if not exists idx_chat_room_member_user_last_chat
+    on chat_room_member (user_id, active, last_chat_at, chat_room_id);
+
 create table if not exists evaluate
 (
     created_at   datetime(6)                                                                                                                      not null,
@@ -300,6 +443,9 @@ create table if not exists purchase
     updated_at  datetime(6)                                                                                                         not null,
     user_id     bigint                                                                                                              not null,
     status      enum ('CANCEL', 'PAYMENT_COMPLETED', 'PAYMENT_FAILED', 'PAYMENT_REQUESTED', 'PRE_PURCHASE', 'PROGRESS', 'RECEIVED') not null,
+    item_count      int          default 0 not null,
+    total_price     bigint       default 0 not null,
+    first_item_name varchar(255) null,
     constraint FKalwx6453sptht1s9tl6b9m4qj
     foreign key (meeting_id) references meeting (meeting_id),
     constraint FKoj7ky1v8cf4ibkk0s7alikp52
@@ -438,7 +584,7 @@ create table if not exists user_alarm
     updated_at datetime(6)                                                                                                                                                             not null,
     user_id    bigint                                                                                                                                                                  null,
     content    varchar(255)                                                                                                                                                            not null,
-    type       enum ('COOKING_COMPLETED', 'DELIVERY_COMPLETED', 'DELIVERY_STARTED', 'MEETING_CONDITION_MET', 'ORDER_APPROVED', 'ORDER_COMPLETED', 'ORDER_REJECTED', 'REVIEW_RECEIVED') not null,
+    type       enum ('COOKING_COMPLETED', 'DELIVERY_COMPLETED', 'DELIVERY_STARTED', 'MEETING_CONDITION_MET', 'ORDER_APPROVED', 'ORDER_COMPLETED', 'ORDER_DELAY', 'ORDER_REJECTED', 'POINT_REFUND', 'POINT_WITHDRAWAL', 'REVIEW_RECEIVED') not null,
     constraint FK56hrhm2hboyuciaw7bu6knwx3
     foreign key (user_id) references users (user_id)
     );
@@ -0,0 +1,204 @@
+package com.zerobase.babdeusilbun.aspect;
+
+import static com.zerobase.babdeusilbun.annotation.RedissonLockKeyType.MEETING;
+import static com.zerobase.babdeusilbun.annotation.RedissonLockKeyType.PAYMENT;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.POINT_SHORTAGE;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.REDISSON_LOCK_FAIL_OBTAIN;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.REDISSON_LOCK_TIMEOUT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.annotation.RedissonLock;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@ExtendWith(MockitoExtension.class)
+class RedissonLockAspectTest {
+
+  @Mock
+  private RedissonClient redissonClient;
+  @Mock
+  private RLock rLock;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch entered = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @DisplayName("파라미터 이름으로 key 생성 - 경합이 없으면 기다리지 않고 한 번에 얻음")
+  @Test
+  void lockByParameter() throws InterruptedException {
+    // given
+    Target target = proxy("redis");
+    when(redissonClient.getLock("payment:1")).thenReturn(rLock);
+    when(rLock.tryLock(0, 5000, MILLISECONDS)).thenReturn(true);
+
+    // when
+    String result = target.pay(1L);
+
+    // then
+    assertThat(result).isEqualTo("paid");
+    verify(rLock, times(1)).tryLock(0, 5000, MILLISECONDS);
+    verify(rLock).unlock();
+    assertThat(meterRegistry.get("lock.contended").tag("key", "PAYMENT").counter().count())
+        .isZero();
+    assertThat(meterRegistry.get("lock.hold").tag("key", "PAYMENT").timer().count())
+        .isEqualTo(1);
+  }
+
+  @DisplayName("SpEL 로 key 생성")
+  @Test
+  void lockByExpression() throws InterruptedException {
+    // given
+    Target target = proxy("redis");
+    when(redissonClient.getLock("meeting:3")).thenReturn(rLock);
+    when(rLock.tryLock(0, 10000, MILLISECONDS)).thenReturn(true);
+
+    // when
+    target.join(new Request(3L));
+
+    // then
+    verify(rLock).unlock();
+  }
+
+  @DisplayName("락을 얻지 못하면 풀지 않고 timeout 예외")
+  @Test
+  void lockTimeout() throws InterruptedException {
+    // given
+    Target target = proxy("redis");
+    when(redissonClient.getLock("payment:1")).thenReturn(rLock);
+    when(rLock.tryLock(0, 5000, MILLISECONDS)).thenReturn(false);
+    when(rLock.tryLock(100, 5000, MILLISECONDS)).thenReturn(false);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () -> target.pay(1L));
+
+    // then
+    assertEquals(REDISSON_LOCK_TIMEOUT, exception.getErrorCode());
+    verify(rLock, never()).unlock();
+    assertThat(meterRegistry.get("lock.contended").tag("key", "PAYMENT").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("lock.wait").tag("key", "PAYMENT").tag("result", "timeout")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @DisplayName("key 값이 없으면 락을 시도하지 않음")
+  @Test
+  void nullKey() {
+    // given
+    Target target = proxy("redis");
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () -> target.pay(null));
+
+    // then
+    assertEquals(REDISSON_LOCK_FAIL_OBTAIN, exception.getErrorCode());
+    verifyNoInteractions(redissonClient);
+  }
+
+  @DisplayName("메서드의 예외는 감싸지 않고 그대로 던짐")
+  @Test
+  void rethrowException() throws InterruptedException {
+    // given
+    Target target = proxy("redis");
+    when(redissonClient.getLock("payment:2")).thenReturn(rLock);
+    when(rLock.tryLock(0, 5000, MILLISECONDS)).thenReturn(true);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () -> target.pay(2L));
+
+    // then
+    assertEquals(POINT_SHORTAGE, exception.getErrorCode());
+    verify(rLock).unlock();
+  }
+
+  @DisplayName("local 모드 - 같은 key 는 순서대로 실행, 경합 횟수 기록")
+  @Test
+  void localLock() throws Exception {
+    // given
+    Target target = proxy("local");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // when
+    Future<?> holding = executor.submit(() -> target.hold(5L));
+    assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+    CustomException exception = assertThrows(CustomException.class, () -> target.pay(5L));
+    release.countDown();
+    holding.get(1, TimeUnit.SECONDS);
+    executor.shutdown();
+
+    // then
+    assertEquals(REDISSON_LOCK_TIMEOUT, exception.getErrorCode());
+    assertThat(target.pay(5L)).isEqualTo("paid");
+    verifyNoInteractions(redissonClient);
+    assertThat(meterRegistry.get("lock.contended").tag("mode", "local").counter().count())
+        .isEqualTo(1);
+  }
+
+  private Target proxy(String mode) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(new Target(entered, release));
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new RedissonLockAspect(redissonClient, meterRegistry, mode, 16));
+    return factory.getProxy();
+  }
+
+  @AllArgsConstructor
+  static class Target {
+
+    private CountDownLatch entered;
+    private CountDownLatch release;
+
+    @RedissonLock(key = PAYMENT, value = "#userId", waitTime = 100, leaseTime = 5000,
+        timeUnit = TimeUnit.MILLISECONDS)
+    public String pay(Long userId) {
+      if (userId == 2L) {
+        throw new CustomException(POINT_SHORTAGE);
+      }
+      return "paid";
+    }
+
+    @RedissonLock(key = PAYMENT, value = "#userId", waitTime = 1000, leaseTime = 5000,
+        timeUnit = TimeUnit.MILLISECONDS)
+    public void hold(Long userId) {
+      entered.countDown();
+      try {
+        release.await(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @RedissonLock(key = MEETING, value = "#request.meetingId")
+    public void join(Request request) {
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Request {
+
+    private Long meetingId;
+  }
+}
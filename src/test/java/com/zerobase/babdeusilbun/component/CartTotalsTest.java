@@ -0,0 +1,155 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.zerobase.babdeusilbun.domain.IndividualPurchase;
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Menu;
+import com.zerobase.babdeusilbun.domain.Purchase;
+import com.zerobase.babdeusilbun.domain.TeamPurchase;
+import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CartTotalsTest {
+
+  @InjectMocks
+  private CartTotals cartTotals;
+  @Mock
+  private MeetingRepository meetingRepository;
+  @Mock
+  private PurchaseRepository purchaseRepository;
+
+  private final Meeting meeting = Meeting.builder().id(1L).build();
+  private final Purchase purchase = Purchase.builder().id(2L).meeting(meeting).build();
+  private final Menu menu = Menu.builder().id(3L).name("menu").price(1000L).build();
+
+  @DisplayName("공동 주문 추가 - 모임 합계에 메뉴 수, 금액, 메뉴 이름 반영")
+  @Test
+  void addTeamItem() {
+    // given
+    TeamPurchase teamPurchase = TeamPurchase.builder()
+        .meeting(meeting).menu(menu).quantity(2).paymentPrice(2000L).build();
+
+    // when
+    cartTotals.addTeamItem(teamPurchase);
+
+    // then
+    verify(meetingRepository).addTeamCartTotal(1L, 1, 2000L, "menu");
+  }
+
+  @DisplayName("공동 주문 수량 변경 - 금액 차이만 반영")
+  @Test
+  void changeTeamItem() {
+    // given
+    TeamPurchase teamPurchase = TeamPurchase.builder()
+        .meeting(meeting).menu(menu).quantity(2).paymentPrice(2000L).build();
+    teamPurchase.updateQuantity(5);
+
+    // when
+    cartTotals.changeTeamItem(teamPurchase, 2000L);
+
+    // then
+    verify(meetingRepository).addTeamCartTotal(1L, 0, 3000L, null);
+  }
+
+  @DisplayName("공동 주문 수량이 같으면 반영하지 않음")
+  @Test
+  void changeTeamItemSameQuantity() {
+    // given
+    TeamPurchase teamPurchase = TeamPurchase.builder()
+        .meeting(meeting).menu(menu).quantity(2).paymentPrice(2000L).build();
+
+    // when
+    cartTotals.changeTeamItem(teamPurchase, 2000L);
+
+    // then
+    verifyNoInteractions(meetingRepository);
+  }
+
+  @DisplayName("공동 주문 삭제 - 합계 차감 후 첫 메뉴 이름 갱신")
+  @Test
+  void removeTeamItem() {
+    // given
+    TeamPurchase teamPurchase = TeamPurchase.builder()
+        .meeting(meeting).menu(menu).quantity(2).paymentPrice(2000L).build();
+
+    // when
+    cartTotals.removeTeamItem(teamPurchase);
+
+    // then
+    InOrder inOrder = inOrder(meetingRepository);
+    inOrder.verify(meetingRepository).addTeamCartTotal(1L, -1, -2000L, null);
+    inOrder.verify(meetingRepository).refreshTeamFirstItemName(1L);
+  }
+
+  @DisplayName("개별 주문 추가 - 주문 합계와 모임 전체 합계에 반영")
+  @Test
+  void addIndividualItem() {
+    // given
+    IndividualPurchase individualPurchase = IndividualPurchase.builder()
+        .purchase(purchase).menu(menu).quantity(3).paymentPrice(3000L).build();
+
+    // when
+    cartTotals.addIndividualItem(individualPurchase);
+
+    // then
+    verify(purchaseRepository).addCartTotal(2L, 1, 3000L, "menu");
+    verify(meetingRepository).addIndividualCartTotal(1L, 3000L);
+  }
+
+  @DisplayName("개별 주문 수량 변경 - 금액 차이만 반영")
+  @Test
+  void changeIndividualItem() {
+    // given
+    IndividualPurchase individualPurchase = IndividualPurchase.builder()
+        .purchase(purchase).menu(menu).quantity(3).paymentPrice(3000L).build();
+    individualPurchase.updateQuantity(1);
+
+    // when
+    cartTotals.changeIndividualItem(individualPurchase, 3000L);
+
+    // then
+    verify(purchaseRepository).addCartTotal(2L, 0, -2000L, null);
+    verify(meetingRepository).addIndividualCartTotal(1L, -2000L);
+  }
+
+  @DisplayName("개별 주문 삭제 - 합계 차감 후 첫 메뉴 이름 갱신")
+  @Test
+  void removeIndividualItem() {
+    // given
+    IndividualPurchase individualPurchase = IndividualPurchase.builder()
+        .purchase(purchase).menu(menu).quantity(3).paymentPrice(3000L).build();
+
+    // when
+    cartTotals.removeIndividualItem(individualPurchase);
+
+    // then
+    InOrder inOrder = inOrder(purchaseRepository);
+    inOrder.verify(purchaseRepository).addCartTotal(2L, -1, -3000L, null);
+    inOrder.verify(purchaseRepository).refreshFirstItemName(2L);
+    verify(meetingRepository).addIndividualCartTotal(1L, -3000L);
+  }
+
+  @DisplayName("시작 시 합계가 비어 있는 기존 장바구니 합계 채우기")
+  @Test
+  void backfill() {
+    // when
+    cartTotals.backfill();
+
+    // then
+    InOrder inOrder = inOrder(purchaseRepository, meetingRepository);
+    inOrder.verify(purchaseRepository).backfillCartTotals();
+    inOrder.verify(meetingRepository).backfillTeamCartTotals();
+    inOrder.verify(meetingRepository).backfillIndividualCartTotals();
+  }
+}
@@ -0,0 +1,214 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.dto.ChatDto.Member;
+import com.zerobase.babdeusilbun.dto.ChatDto.MemberProfile;
+import com.zerobase.babdeusilbun.repository.ChatRoomMemberRepository;
+import com.zerobase.babdeusilbun.repository.ChatRoomRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipTest {
+
+  private static final Long CHAT_ROOM_ID = 1L;
+  private static final String MEMBERS_KEY = "chatRoom:members:1";
+  private static final String VERSION_KEY = "chatRoom:members:version:1";
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+  @Mock
+  private ChatRoomMemberRepository chatRoomMemberRepository;
+  @Mock
+  private ChatRoomRepository chatRoomRepository;
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private ChatRoomMembership chatRoomMembership;
+
+  @BeforeEach
+  void setUp() {
+    chatRoomMembership = new ChatRoomMembership(stringRedisTemplate, redisMessageListenerContainer,
+        chatRoomMemberRepository, chatRoomRepository, objectMapper);
+    ReflectionTestUtils.setField(chatRoomMembership, "maxLocalSize", 10);
+    ReflectionTestUtils.setField(chatRoomMembership, "ttlSeconds", 60L);
+    ReflectionTestUtils.setField(chatRoomMembership, "localTtlMs", 60000L);
+  }
+
+  @Test
+  @DisplayName("Redis 에 없으면 DB 에서 한 번 불러오고 이후에는 메모리에서 확인")
+  void loadFromDatabaseOnce() {
+    // given
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+    when(hashOperations.entries(MEMBERS_KEY)).thenReturn(Map.of());
+    when(chatRoomRepository.existsById(CHAT_ROOM_ID)).thenReturn(true);
+    when(chatRoomMemberRepository.findMembersByChatRoomId(CHAT_ROOM_ID)).thenReturn(List.of(profile(1L, "user1")));
+
+    // when
+    Optional<Member> member = chatRoomMembership.getMember(CHAT_ROOM_ID, 1L);
+    boolean otherIsMember = chatRoomMembership.isMember(CHAT_ROOM_ID, 2L);
+    boolean isMember = chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+
+    // then
+    assertThat(member).isPresent();
+    assertThat(member.get().getNickname()).isEqualTo("user1");
+    assertThat(otherIsMember).isFalse();
+    assertThat(isMember).isTrue();
+
+    verify(chatRoomMemberRepository, times(1)).findMembersByChatRoomId(CHAT_ROOM_ID);
+    verify(hashOperations, times(1)).entries(MEMBERS_KEY);
+    verify(stringRedisTemplate).execute(any(RedisScript.class),
+        eq(List.of(MEMBERS_KEY, VERSION_KEY)), eq("3"), eq("60"), eq("loaded"), eq("1"),
+        eq("1"), anyString());
+  }
+
+  @Test
+  @DisplayName("Redis 에 불러온 목록이 있으면 DB 조회 없음")
+  void loadFromRedis() throws Exception {
+    // given
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(hashOperations.entries(MEMBERS_KEY)).thenReturn(Map.of(
+        "loaded", "1",
+        "1", objectMapper.writeValueAsString(new Member(1L, "user1", null, 10L))));
+
+    // when
+    boolean isMember = chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+
+    // then
+    assertThat(isMember).isTrue();
+    verify(chatRoomMemberRepository, never()).findMembersByChatRoomId(any());
+    verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("불러오는 동안 세대 번호가 바뀌면 복사본을 두지 않고 다음 조회 때 다시 불러옴")
+  void skipLocalCopyWhenVersionChanged() throws Exception {
+    // given
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(VERSION_KEY)).thenReturn("3", "4", "4", "4");
+    when(hashOperations.entries(MEMBERS_KEY)).thenReturn(loadedMembers());
+
+    // when
+    chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+    chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+    chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+
+    // then
+    verify(hashOperations, times(2)).entries(MEMBERS_KEY);
+  }
+
+  @Test
+  @DisplayName("복사본 유지 시간이 지나면 Redis 에서 다시 불러옴")
+  void reloadAfterLocalTtl() throws Exception {
+    // given
+    ReflectionTestUtils.setField(chatRoomMembership, "localTtlMs", 0L);
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(hashOperations.entries(MEMBERS_KEY)).thenReturn(loadedMembers());
+
+    // when
+    chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+    chatRoomMembership.isMember(CHAT_ROOM_ID, 1L);
+
+    // then
+    verify(hashOperations, times(2)).entries(MEMBERS_KEY);
+  }
+
+  @Test
+  @DisplayName("복사본이 가득 차면 가장 오래 조회하지 않은 채팅방부터 제거")
+  void evictLeastRecentlyUsed() throws Exception {
+    // given
+    ReflectionTestUtils.setField(chatRoomMembership, "maxLocalSize", 2);
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(hashOperations.entries(anyString())).thenReturn(loadedMembers());
+
+    // when
+    chatRoomMembership.isMember(1L, 1L);
+    chatRoomMembership.isMember(2L, 1L);
+    chatRoomMembership.isMember(1L, 1L);
+    chatRoomMembership.isMember(3L, 1L);
+    chatRoomMembership.isMember(1L, 1L);
+    chatRoomMembership.isMember(2L, 1L);
+
+    // then
+    verify(hashOperations, times(1)).entries("chatRoom:members:1");
+    verify(hashOperations, times(2)).entries("chatRoom:members:2");
+    verify(hashOperations, times(1)).entries("chatRoom:members:3");
+  }
+
+  @Test
+  @DisplayName("입장/퇴장하면 Redis 목록을 지우고 다른 서버에 알림")
+  void invalidate() {
+    // when
+    chatRoomMembership.invalidate(CHAT_ROOM_ID);
+
+    // then
+    verify(stringRedisTemplate).execute(any(RedisScript.class),
+        eq(List.of(MEMBERS_KEY, VERSION_KEY)));
+    verify(stringRedisTemplate).convertAndSend("chatRoom:members:channel", "1");
+  }
+
+  private Map<Object, Object> loadedMembers() throws Exception {
+    return Map.of(
+        "loaded", "1",
+        "1", objectMapper.writeValueAsString(new Member(1L, "user1", null, 10L)));
+  }
+
+  private MemberProfile profile(Long userId, String nickname) {
+    return new MemberProfile() {
+      @Override
+      public Long getUserId() {
+        return userId;
+      }
+
+      @Override
+      public String getNickname() {
+        return nickname;
+      }
+
+      @Override
+      public String getProfileImage() {
+        return null;
+      }
+
+      @Override
+      public Long getJoinedChatId() {
+        return userId * 10;
+      }
+    };
+  }
+}
@@ -0,0 +1,59 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.IAMPORT_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.zerobase.babdeusilbun.component.CircuitBreaker.State;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, 1000, now::get);
+
+  @DisplayName("열린 뒤 시간이 지나면 한 번 시험 호출하고 성공하면 닫힘")
+  @Test
+  void closeAfterHalfOpenSuccess() {
+    // given
+    fail();
+    fail();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+    // when
+    now.addAndGet(1000);
+    String result = circuitBreaker.call(() -> "ok");
+
+    // then
+    assertThat(result).isEqualTo("ok");
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @DisplayName("시험 호출이 실패하면 다시 열림")
+  @Test
+  void reopenAfterHalfOpenFailure() {
+    // given
+    fail();
+    fail();
+
+    // when
+    now.addAndGet(1000);
+    fail();
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    CustomException exception =
+        assertThrows(CustomException.class, () -> circuitBreaker.call(() -> "ok"));
+    assertEquals(IAMPORT_UNAVAILABLE, exception.getErrorCode());
+  }
+
+  private void fail() {
+    assertThrows(IllegalStateException.class, () -> circuitBreaker.call(() -> {
+      throw new IllegalStateException();
+    }));
+  }
+}
@@ -0,0 +1,100 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileChatWriteLogTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @TempDir
+  private Path dir;
+
+  private Path logPath;
+
+  @BeforeEach
+  void setUp() {
+    logPath = dir.resolve("chat-write.log");
+  }
+
+  @DisplayName("처리 완료 전에 종료되면 재시작 후 같은 항목을 다시 읽음")
+  @Test
+  void replayAfterCrash() {
+    // given
+    FileChatWriteLog writeLog = open();
+    String first = writeLog.append(entry("첫 번째"));
+    String second = writeLog.append(entry("두 번째"));
+
+    List<LogEntry> read = writeLog.read(10);
+
+    // when (처리 완료 표시 없이 종료 후 재시작)
+    FileChatWriteLog restarted = open();
+    List<LogEntry> replayed = restarted.read(10);
+
+    // then
+    assertThat(read).extracting(LogEntry::getLogId).containsExactly(first, second);
+    assertThat(replayed).extracting(LogEntry::getLogId).containsExactly(first, second);
+    assertThat(replayed).extracting(LogEntry::getContent).containsExactly("첫 번째", "두 번째");
+  }
+
+  @DisplayName("처리 완료된 항목은 재시작 후에도 다시 읽지 않음")
+  @Test
+  void skipAcknowledgedAfterRestart() {
+    // given
+    FileChatWriteLog writeLog = open();
+    writeLog.append(entry("첫 번째"));
+    writeLog.append(entry("두 번째"));
+    String third = writeLog.append(entry("세 번째"));
+
+    // when
+    writeLog.acknowledge(writeLog.read(2));
+    FileChatWriteLog restarted = open();
+
+    // then
+    assertThat(restarted.read(10)).extracting(LogEntry::getLogId).containsExactly(third);
+  }
+
+  @DisplayName("모두 처리되면 파일을 비우고 새 logId 를 발급")
+  @Test
+  void truncateWhenDrained() throws Exception {
+    // given
+    FileChatWriteLog writeLog = open();
+    String before = writeLog.append(entry("첫 번째"));
+
+    // when
+    writeLog.acknowledge(writeLog.read(10));
+    String after = writeLog.append(entry("두 번째"));
+
+    // then
+    assertThat(writeLog.read(10)).extracting(LogEntry::getLogId).containsExactly(after);
+    assertThat(after).isNotEqualTo(before);
+    assertThat(Files.size(logPath)).isEqualTo(Long.parseLong(after.substring(after.indexOf(':') + 1)));
+  }
+
+  private FileChatWriteLog open() {
+    FileChatWriteLog writeLog = new FileChatWriteLog(objectMapper, logPath.toString());
+    writeLog.initialize();
+    return writeLog;
+  }
+
+  private LogEntry entry(String content) {
+    return LogEntry.builder()
+        .chatRoomId(1L)
+        .userId(1L)
+        .type(ChatType.CHAT)
+        .content(content)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
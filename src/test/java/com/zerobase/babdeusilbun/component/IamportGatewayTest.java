@@ -0,0 +1,176 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.IAMPORT_SERVER_ERROR;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.IAMPORT_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zerobase.babdeusilbun.dto.PaymentDto.PgPayment;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 로컬 HTTP 서버를 아임포트 API 대신 띄워서 확인
+ */
+class IamportGatewayTest {
+
+  private static final String PAYMENT_RESPONSE = """
+      {"code":0,"message":null,"response":{"imp_uid":"imp_1","merchant_uid":"transaction",
+      "name":"name","amount":10000,"pg_provider":"kakaopay","pay_method":"kakaopay",
+      "status":"paid"}}""";
+
+  private HttpServer server;
+  private String baseUrl;
+
+  private final AtomicInteger tokenRequests = new AtomicInteger();
+  private final AtomicInteger paymentRequests = new AtomicInteger();
+
+  // 결제 조회 응답 (상태 코드, 지연 시간)
+  private volatile int paymentStatus = 200;
+  private volatile long paymentDelayMillis = 0;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/users/getToken", exchange -> {
+      tokenRequests.incrementAndGet();
+      respond(exchange, 200, """
+          {"code":0,"response":{"access_token":"token","now":0,"expired_at":%d}}"""
+          .formatted(Instant.now().getEpochSecond() + 1800));
+    });
+    server.createContext("/payments/", exchange -> {
+      paymentRequests.incrementAndGet();
+      if (paymentDelayMillis > 0) {
+        sleep(paymentDelayMillis);
+      }
+
+      if (!"token".equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+        respond(exchange, 401, "{\"code\":-1,\"message\":\"Unauthorized\",\"response\":null}");
+        return;
+      }
+      if (paymentStatus != 200) {
+        respond(exchange, paymentStatus, "{\"code\":-1,\"message\":\"error\",\"response\":null}");
+        return;
+      }
+      respond(exchange, 200, PAYMENT_RESPONSE);
+    });
+    server.start();
+
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("결제 단건 조회 (토큰은 한 번만 발급)")
+  @Test
+  void getPayment() {
+    // given
+    IamportGateway gateway = createGateway(1000, 5);
+
+    // when
+    PgPayment first = gateway.getPayment("imp_1");
+    PgPayment second = gateway.getPayment("imp_1");
+
+    // then
+    assertThat(first.getImpUid()).isEqualTo("imp_1");
+    assertThat(first.getMerchantUid()).isEqualTo("transaction");
+    assertThat(first.getAmount()).isEqualTo(10000L);
+    assertThat(first.getPgProvider()).isEqualTo("kakaopay");
+    assertThat(first.getStatus()).isEqualTo("paid");
+    assertThat(second.getImpUid()).isEqualTo("imp_1");
+    assertThat(tokenRequests.get()).isEqualTo(1);
+    assertThat(paymentRequests.get()).isEqualTo(2);
+  }
+
+  @DisplayName("응답 시간 제한을 넘기면 기다리지 않고 실패")
+  @Test
+  void readTimeout() {
+    // given
+    IamportGateway gateway = createGateway(200, 5);
+    paymentDelayMillis = 2000;
+
+    // when
+    long start = System.nanoTime();
+    CustomException exception =
+        assertThrows(CustomException.class, () -> gateway.getPayment("imp_1"));
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertEquals(IAMPORT_SERVER_ERROR, exception.getErrorCode());
+    assertThat(elapsedMillis).isLessThan(1500);
+  }
+
+  @DisplayName("연속으로 실패하면 차단기가 열려 더 이상 호출하지 않음")
+  @Test
+  void openCircuit() {
+    // given
+    IamportGateway gateway = createGateway(1000, 3);
+    paymentStatus = 500;
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      CustomException exception =
+          assertThrows(CustomException.class, () -> gateway.getPayment("imp_1"));
+      assertEquals(IAMPORT_SERVER_ERROR, exception.getErrorCode());
+    }
+    CustomException exception =
+        assertThrows(CustomException.class, () -> gateway.getPayment("imp_1"));
+
+    // then
+    assertEquals(IAMPORT_UNAVAILABLE, exception.getErrorCode());
+    assertThat(paymentRequests.get()).isEqualTo(3);
+  }
+
+  @DisplayName("4xx 응답은 차단기 실패로 세지 않음")
+  @Test
+  void clientErrorDoesNotOpenCircuit() {
+    // given
+    IamportGateway gateway = createGateway(1000, 2);
+    paymentStatus = 404;
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      CustomException exception =
+          assertThrows(CustomException.class, () -> gateway.getPayment("imp_1"));
+      assertEquals(IAMPORT_SERVER_ERROR, exception.getErrorCode());
+    }
+
+    // then
+    assertThat(paymentRequests.get()).isEqualTo(3);
+  }
+
+  private IamportGateway createGateway(long readTimeoutMillis, int failureThreshold) {
+    return new IamportGateway(baseUrl, "key", "secret",
+        500, readTimeoutMillis, failureThreshold, 60_000);
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.zerobase.babdeusilbun.domain.Major;
+import com.zerobase.babdeusilbun.domain.School;
+import com.zerobase.babdeusilbun.dto.MajorDto;
+import com.zerobase.babdeusilbun.dto.SchoolDto;
+import com.zerobase.babdeusilbun.repository.MajorRepository;
+import com.zerobase.babdeusilbun.repository.SchoolRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class LookupIndexTest {
+  @Mock
+  private SchoolRepository schoolRepository;
+
+  @Mock
+  private MajorRepository majorRepository;
+
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  @InjectMocks
+  private LookupIndex lookupIndex;
+
+  @BeforeEach
+  void setUp() {
+    given(schoolRepository.findAll()).willReturn(List.of(
+        School.builder().id(3L).name("한국대학교").campus("서울캠퍼스").build(),
+        School.builder().id(1L).name("가나대학교").campus("본교").build(),
+        School.builder().id(2L).name("한국대학교").campus("부산캠퍼스").build(),
+        School.builder().id(4L).name("한국 과학 기술원").campus("본교").build()));
+    given(majorRepository.findAll()).willReturn(List.of(
+        Major.builder().id(1L).name("컴퓨터공학과").build(),
+        Major.builder().id(2L).name("전자공학과").build(),
+        Major.builder().id(3L).name("경영학과").build()));
+
+    lookupIndex.refresh();
+  }
+
+  @DisplayName("학교 검색 - 이름, 캠퍼스 순 정렬")
+  @Test
+  void searchSchools() {
+    Page<SchoolDto.Information> result = lookupIndex.searchSchools(new String[]{"한국대"}, 0, 10);
+
+    assertThat(result.getTotalElements()).isEqualTo(2);
+    assertThat(result.getContent()).extracting(SchoolDto.Information::getId)
+        .containsExactly(2L, 3L);
+  }
+
+  @DisplayName("학교 검색 - 공백을 무시하고 모든 검색어 포함")
+  @Test
+  void searchSchoolsIgnoringSpaces() {
+    assertThat(lookupIndex.searchSchools(new String[]{"과학기술"}, 0, 10).getContent())
+        .extracting(SchoolDto.Information::getId).containsExactly(4L);
+    assertThat(lookupIndex.searchSchools(new String[]{"한국", "기술"}, 0, 10).getContent())
+        .extracting(SchoolDto.Information::getId).containsExactly(4L);
+  }
+
+  @DisplayName("학교 검색 - 검색어가 없으면 전체, 페이지 범위를 넘으면 마지막 페이지")
+  @Test
+  void searchSchoolsPaging() {
+    Page<SchoolDto.Information> result = lookupIndex.searchSchools(new String[]{""}, 5, 3);
+
+    assertThat(result.getTotalElements()).isEqualTo(4);
+    assertThat(result.getNumber()).isEqualTo(1);
+    assertThat(result.getContent()).hasSize(1);
+  }
+
+  @DisplayName("캠퍼스 목록 - 기준 캠퍼스를 맨 앞에")
+  @Test
+  void searchCampuses() {
+    SchoolDto.Information standard = new SchoolDto.Information(3L, "한국대학교", "서울캠퍼스");
+
+    Page<SchoolDto.Information> result = lookupIndex.searchCampuses(standard, 0, 10);
+
+    assertThat(result.getContent()).extracting(SchoolDto.Information::getId)
+        .containsExactly(3L, 2L);
+  }
+
+  @DisplayName("학과 검색 - 한 글자, 결과 없음")
+  @Test
+  void searchMajors() {
+    Page<MajorDto.Information> result = lookupIndex.searchMajors(new String[]{"공"}, 0, 10);
+    assertThat(result.getContent()).extracting(MajorDto.Information::getName)
+        .containsExactly("전자공학과", "컴퓨터공학과");
+
+    Page<MajorDto.Information> empty = lookupIndex.searchMajors(new String[]{"의학"}, 0, 10);
+    assertThat(empty.getTotalElements()).isZero();
+    assertThat(empty.getContent()).isEmpty();
+  }
+
+  @DisplayName("검색 시 DB 를 조회하지 않음")
+  @Test
+  void searchWithoutDatabase() {
+    lookupIndex.searchSchools(new String[]{"한국"}, 0, 10);
+    lookupIndex.searchMajors(new String[]{"공학"}, 0, 10);
+
+    verify(schoolRepository, times(1)).findAll();
+    verify(majorRepository, times(1)).findAll();
+  }
+
+  @DisplayName("시작 시 적재 후 주기적으로 다시 적재")
+  @Test
+  void initialize() {
+    ReflectionTestUtils.setField(lookupIndex, "refreshIntervalMs", 60000L);
+
+    lookupIndex.initialize();
+
+    verify(schoolRepository, times(2)).findAll();
+    verify(taskScheduler).scheduleWithFixedDelay(
+        any(Runnable.class), any(Instant.class), eq(Duration.ofMillis(60000L)));
+  }
+}
@@ -0,0 +1,145 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.MajorRepository;
+import com.zerobase.babdeusilbun.repository.SchoolRepository;
+import com.zerobase.babdeusilbun.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 포인트 장부 동시성 확인 (-Dbenchmark=true 일 때만 실행, 테스트 DB 필요)
+ * 여러 스레드가 락 없이 같은 회원의 포인트를 동시에 바꿔도 갱신이 유실되거나 잔액이 음수가 되지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PointLedgerStressTest {
+
+  private static final int THREAD_COUNT = 16;
+
+  @Autowired
+  private PointLedger pointLedger;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private SchoolRepository schoolRepository;
+  @Autowired
+  private MajorRepository majorRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    String key = UUID.randomUUID().toString().substring(0, 8);
+
+    user = userRepository.save(User.builder()
+        .school(schoolRepository.getReferenceById(1L))
+        .major(majorRepository.getReferenceById(1L))
+        .email("point-stress-" + key + "@test.com")
+        .password("password")
+        .isBanned(false)
+        .nickname("stress-" + key)
+        .name("stress")
+        .phoneNumber("01000000000")
+        .point(0L)
+        .build());
+  }
+
+  @DisplayName("동시에 적립/사용해도 갱신이 유실되지 않음")
+  @Test
+  void noLostUpdates() throws Exception {
+    // given
+    int iterations = 250;
+
+    // when (스레드마다 3 적립 후 2 사용을 반복)
+    runConcurrently(() -> {
+      for (int i = 0; i < iterations; i++) {
+        pointLedger.earn(user, 3L, "stress earn");
+        pointLedger.use(user, 2L, "stress use");
+      }
+    });
+
+    // then
+    long expected = (long) THREAD_COUNT * iterations;
+    assertThat(currentPoint()).isEqualTo(expected);
+    assertThat(ledgerBalance()).isEqualTo(expected);
+  }
+
+  @DisplayName("동시에 사용해도 잔액 이상으로 차감되지 않음")
+  @Test
+  void neverOverdraw() throws Exception {
+    // given
+    pointLedger.earn(user, 1000L, "stress earn");
+    AtomicInteger succeeded = new AtomicInteger();
+
+    // when (전체 시도 금액이 잔액보다 큼)
+    runConcurrently(() -> {
+      for (int i = 0; i < 20; i++) {
+        try {
+          pointLedger.use(user, 7L, "stress use");
+          succeeded.incrementAndGet();
+        } catch (CustomException e) {
+          // 잔액 부족
+        }
+      }
+    });
+
+    // then
+    assertThat(succeeded.get()).isEqualTo(1000 / 7);
+    assertThat(currentPoint()).isEqualTo(1000 % 7);
+    assertThat(ledgerBalance()).isEqualTo(1000 % 7);
+  }
+
+  private void runConcurrently(Runnable task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    CountDownLatch start = new CountDownLatch(1);
+
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < THREAD_COUNT; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          task.run();
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private long currentPoint() {
+    return userRepository.findById(user.getId()).orElseThrow().getPoint();
+  }
+
+  // 장부 전체 합계
+  private long ledgerBalance() {
+    return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(CASE WHEN type = 'PLUS' "
+        + "THEN amount ELSE -amount END), 0) FROM point WHERE user_id = ?", Long.class, user.getId());
+  }
+}
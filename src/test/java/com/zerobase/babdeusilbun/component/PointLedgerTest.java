@@ -0,0 +1,99 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.enums.PointType.MINUS;
+import static com.zerobase.babdeusilbun.enums.PointType.PLUS;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.POINT_SHORTAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.domain.Point;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.PointRepository;
+import com.zerobase.babdeusilbun.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerTest {
+
+  @InjectMocks
+  private PointLedger pointLedger;
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private PointRepository pointRepository;
+
+  private final User user = User.builder().id(1L).point(1000L).build();
+
+  @DisplayName("포인트 사용 - 차감된 경우 장부에 기록")
+  @Test
+  void use() {
+    // given
+    when(userRepository.deductPoint(1L, 300L)).thenReturn(1);
+
+    // when
+    pointLedger.use(user, 300L, "menu1 외 1건");
+
+    // then
+    ArgumentCaptor<Point> captor = ArgumentCaptor.forClass(Point.class);
+    verify(pointRepository).save(captor.capture());
+    assertThat(captor.getValue().getUser()).isEqualTo(user);
+    assertThat(captor.getValue().getType()).isEqualTo(MINUS);
+    assertThat(captor.getValue().getAmount()).isEqualTo(300L);
+    assertThat(captor.getValue().getContent()).isEqualTo("menu1 외 1건");
+  }
+
+  @DisplayName("포인트 사용 - 잔액 부족이면 장부에 기록하지 않음")
+  @Test
+  void useShortage() {
+    // given
+    when(userRepository.deductPoint(1L, 3000L)).thenReturn(0);
+
+    // when
+    CustomException exception =
+        assertThrows(CustomException.class, () -> pointLedger.use(user, 3000L, "포인트 인출"));
+
+    // then
+    assertEquals(POINT_SHORTAGE, exception.getErrorCode());
+    verify(pointRepository, never()).save(any());
+  }
+
+  @DisplayName("0 포인트는 잔액과 장부를 바꾸지 않음")
+  @Test
+  void useZero() {
+    // when
+    Point point = pointLedger.use(user, 0L, "menu1");
+
+    // then
+    assertThat(point).isNull();
+    verifyNoInteractions(userRepository, pointRepository);
+  }
+
+  @DisplayName("포인트 적립 - 장부에 기록")
+  @Test
+  void earn() {
+    // given
+    when(userRepository.addPoint(1L, 500L)).thenReturn(1);
+
+    // when
+    pointLedger.earn(user, 500L, "menu1");
+
+    // then
+    ArgumentCaptor<Point> captor = ArgumentCaptor.forClass(Point.class);
+    verify(pointRepository).save(captor.capture());
+    assertThat(captor.getValue().getType()).isEqualTo(PLUS);
+    assertThat(captor.getValue().getAmount()).isEqualTo(500L);
+  }
+}
@@ -0,0 +1,148 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.dto.ChatDto.Information;
+import com.zerobase.babdeusilbun.dto.CursorDto;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RecentChatBufferTest {
+
+  private static final Long CHAT_ROOM_ID = 1L;
+  private static final String RECENT_KEY = "chatRoom:recent:1";
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+  @Mock
+  private ChatWriteBehind chatWriteBehind;
+  @Mock
+  private ListOperations<String, String> listOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private RecentChatBuffer recentChatBuffer;
+
+  @BeforeEach
+  void setUp() {
+    recentChatBuffer = new RecentChatBuffer(stringRedisTemplate, chatWriteBehind, objectMapper);
+    ReflectionTestUtils.setField(recentChatBuffer, "enabled", true);
+    ReflectionTestUtils.setField(recentChatBuffer, "size", 50);
+    ReflectionTestUtils.setField(recentChatBuffer, "ttlSeconds", 600L);
+  }
+
+  @Test
+  @DisplayName("보관 중인 채팅이 한 페이지보다 많으면 DB 조회 없이 첫 페이지 응답")
+  void servesFirstPage() throws Exception {
+    // given
+    givenRecent(30L, 29L, 28L, 27L);
+
+    // when
+    Optional<CursorDto.Response<Information>> result = recentChatBuffer.getLatest(CHAT_ROOM_ID, 0L, 3);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getContent()).extracting(Information::getChatId)
+        .containsExactly(30L, 29L, 28L);
+    assertThat(result.get().isHasNext()).isTrue();
+    assertThat(result.get().getNextCursor()).isEqualTo("28");
+  }
+
+  @Test
+  @DisplayName("입장 시점이 보관 범위 안에 있으면 입장 이후 채팅만 응답하고 다음 페이지 없음")
+  void servesUntilJoinPoint() throws Exception {
+    // given
+    givenRecent(30L, 29L, 28L, 27L);
+
+    // when
+    Optional<CursorDto.Response<Information>> result = recentChatBuffer.getLatest(CHAT_ROOM_ID, 28L, 3);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getContent()).extracting(Information::getChatId)
+        .containsExactly(30L, 29L);
+    assertThat(result.get().isHasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("보관 중인 채팅만으로 페이지를 채울 수 없으면 DB 조회")
+  void fallsBackWhenNotEnough() throws Exception {
+    // given
+    givenRecent(30L, 29L);
+
+    // when
+    Optional<CursorDto.Response<Information>> result = recentChatBuffer.getLatest(CHAT_ROOM_ID, 0L, 3);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("지연 저장을 사용하면 보관하지 않음")
+  void disabledWithWriteBehind() {
+    // given
+    when(chatWriteBehind.isEnabled()).thenReturn(true);
+
+    // when
+    recentChatBuffer.push(CHAT_ROOM_ID, information(1L));
+
+    // then
+    assertThat(recentChatBuffer.getLatest(CHAT_ROOM_ID, 0L, 3)).isEmpty();
+    verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+  }
+
+  @Test
+  @DisplayName("저장된 채팅을 최대 개수, 보관 시간과 함께 추가")
+  void push() {
+    // when
+    recentChatBuffer.push(CHAT_ROOM_ID, information(1L));
+
+    // then
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(RECENT_KEY)),
+        anyString(), eq("50"), eq("600"));
+  }
+
+  private void givenRecent(Long... chatIds) throws Exception {
+    List<String> values = new ArrayList<>();
+    for (Long chatId : chatIds) {
+      values.add(objectMapper.writeValueAsString(information(chatId)));
+    }
+
+    when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+    when(listOperations.range(RECENT_KEY, 0, -1)).thenReturn(values);
+  }
+
+  private Information information(Long chatId) {
+    return Information.builder()
+        .chatId(chatId)
+        .senderId(1L)
+        .nickname("user1")
+        .type(ChatType.CHAT)
+        .content("message-" + chatId)
+        .createdAt(LocalDateTime.now())
+        .updatedAt(LocalDateTime.now())
+        .build();
+  }
+}
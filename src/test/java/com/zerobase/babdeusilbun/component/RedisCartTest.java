@@ -0,0 +1,161 @@
+package com.zerobase.babdeusilbun.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.ALREADY_EXIST_TEAM_PURCHASE;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.TEAM_PURCHASE_FROZEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.domain.Menu;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCartTest {
+
+  private static final Long MEETING_ID = 10L;
+  private static final String TEAM_KEY = "cart:team:10";
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Menu menu = Menu.builder().id(3L).name("menu").image("image")
+      .description("description").price(1000L).build();
+
+  private RedisCart redisCart;
+
+  @BeforeEach
+  void setUp() {
+    redisCart = new RedisCart(stringRedisTemplate, objectMapper);
+    ReflectionTestUtils.setField(redisCart, "enabled", true);
+    ReflectionTestUtils.setField(redisCart, "ttlSeconds", 604800L);
+  }
+
+  @Test
+  @DisplayName("담기 - 모임 id 와 순번으로 장바구니 id 생성")
+  void addTeamLine() {
+    // given
+    when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(TEAM_KEY)),
+        eq("menu:3"), anyString(), eq("604800"))).thenReturn(2L);
+
+    // when
+    CartLine line = redisCart.addTeamLine(MEETING_ID, menu, 3);
+
+    // then
+    assertThat(line.getLineId()).isEqualTo((MEETING_ID << 20) + 2);
+    assertThat(line.getOwnerId()).isEqualTo(MEETING_ID);
+    assertThat(line.getPaymentPrice()).isEqualTo(3000L);
+  }
+
+  @Test
+  @DisplayName("담기 - 이미 담긴 메뉴면 예외")
+  void addTeamLineDuplicated() {
+    // given
+    when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(TEAM_KEY)),
+        eq("menu:3"), anyString(), eq("604800"))).thenReturn(0L);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> redisCart.addTeamLine(MEETING_ID, menu, 3));
+
+    // then
+    assertEquals(ALREADY_EXIST_TEAM_PURCHASE, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("수량 변경 - 결제 요청 이후면 예외")
+  void updateTeamLineFrozen() {
+    // given
+    CartLine line = CartLine.fromMenu(menu, 1).toBuilder()
+        .lineId((MEETING_ID << 20) + 1).ownerId(MEETING_ID).build();
+    when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(TEAM_KEY)),
+        eq("line:1"), anyString(), eq("604800"))).thenReturn(-1L);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> redisCart.updateTeamLine(line, 5));
+
+    // then
+    assertEquals(TEAM_PURCHASE_FROZEN, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("장바구니 id 로 해당 모임의 장바구니에서 조회")
+  void getTeamLine() throws Exception {
+    // given
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.get(TEAM_KEY, "line:7"))
+        .thenReturn(objectMapper.writeValueAsString(CartLine.fromMenu(menu, 2)));
+
+    // when
+    Optional<CartLine> line = redisCart.getTeamLine((MEETING_ID << 20) + 7);
+
+    // then
+    assertThat(line).isPresent();
+    assertThat(line.get().getOwnerId()).isEqualTo(MEETING_ID);
+    assertThat(line.get().getMenuId()).isEqualTo(3L);
+    assertThat(line.get().getQuantity()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("담긴 순서대로 조회 (순번, 중복 확인 field 는 제외)")
+  void getTeamLines() throws Exception {
+    // given
+    Menu other = Menu.builder().id(4L).name("other").price(500L).build();
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.entries(TEAM_KEY)).thenReturn(Map.of(
+        "seq", "12",
+        "menu:3", "12",
+        "menu:4", "2",
+        "line:12", objectMapper.writeValueAsString(CartLine.fromMenu(menu, 1)),
+        "line:2", objectMapper.writeValueAsString(CartLine.fromMenu(other, 4))));
+
+    // when
+    List<CartLine> lines = redisCart.getTeamLines(MEETING_ID);
+
+    // then
+    assertThat(lines).extracting(CartLine::getMenuId).containsExactly(4L, 3L);
+    assertThat(lines).extracting(CartLine::getLineId)
+        .containsExactly((MEETING_ID << 20) + 2, (MEETING_ID << 20) + 12);
+  }
+
+  @Test
+  @DisplayName("변경 금지 - 비어 있으면 조회하지 않고 빈 목록")
+  void freezeEmptyTeamLines() {
+    // given
+    when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(TEAM_KEY))))
+        .thenReturn(0L);
+
+    // when
+    List<CartLine> lines = redisCart.freezeTeamLines(MEETING_ID);
+
+    // then
+    assertThat(lines).isEmpty();
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(TEAM_KEY)));
+    verifyNoInteractions(hashOperations);
+  }
+}
@@ -0,0 +1,154 @@
+package com.zerobase.babdeusilbun.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.dto.MenuDto.StoreMenuName;
+import com.zerobase.babdeusilbun.repository.MenuRepository;
+import com.zerobase.babdeusilbun.repository.StoreRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+public class StoreSearchIndexTest {
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private MenuRepository menuRepository;
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @InjectMocks
+  private StoreSearchIndex storeSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    storeSearchIndex.index(1L, "엽기 떡볶이", List.of("로제 떡볶이", "순대"));
+    storeSearchIndex.index(2L, "김밥천국", List.of("참치 김밥", "라볶이"));
+    storeSearchIndex.index(3L, "Pizza School", List.of("Cheese Pizza"));
+  }
+
+  @DisplayName("메뉴명, 매장명 부분 검색")
+  @Test
+  void search() {
+    assertThat(storeSearchIndex.search("떡볶이")).containsExactly(1L);
+    assertThat(storeSearchIndex.search("볶이")).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(storeSearchIndex.search("김밥")).containsExactly(2L);
+    assertThat(storeSearchIndex.search("천국")).containsExactly(2L);
+  }
+
+  @DisplayName("공백, 대소문자, % 는 무시")
+  @Test
+  void searchNormalized() {
+    assertThat(storeSearchIndex.search("%로제떡%")).containsExactly(1L);
+    assertThat(storeSearchIndex.search("cheese pizza")).containsExactly(3L);
+    assertThat(storeSearchIndex.search("PIZZA")).containsExactly(3L);
+  }
+
+  @DisplayName("% 만 있는 검색어는 필터 없음")
+  @Test
+  void searchOnlyWildcard() {
+    assertThat(storeSearchIndex.search("%")).isNull();
+    assertThat(storeSearchIndex.search("% %")).isNull();
+  }
+
+  @DisplayName("한 글자 검색")
+  @Test
+  void searchSingleCharacter() {
+    assertThat(storeSearchIndex.search("순")).containsExactly(1L);
+    assertThat(storeSearchIndex.search("밥")).containsExactly(2L);
+  }
+
+  @DisplayName("2-gram 은 모두 있지만 연속되지 않은 경우 제외")
+  @Test
+  void searchNotContiguous() {
+    storeSearchIndex.index(4L, "가나", List.of("나다"));
+
+    assertThat(storeSearchIndex.search("가나다")).isEmpty();
+  }
+
+  @DisplayName("메뉴 변경, 매장 삭제 반영")
+  @Test
+  void reindexAndRemove() {
+    storeSearchIndex.index(1L, "엽기 떡볶이", List.of("순대"));
+    assertThat(storeSearchIndex.search("로제")).isEmpty();
+    assertThat(storeSearchIndex.search("볶이")).containsExactlyInAnyOrder(1L, 2L);
+
+    storeSearchIndex.remove(2L);
+    assertThat(storeSearchIndex.search("김밥")).isEmpty();
+    assertThat(storeSearchIndex.search("볶이")).containsExactly(1L);
+  }
+
+  @DisplayName("갱신 요청은 트랜잭션 밖이면 바로 전파")
+  @Test
+  void refresh() {
+    storeSearchIndex.refresh(1L);
+
+    verify(stringRedisTemplate).convertAndSend("storeSearchIndex:changed", "1");
+  }
+
+  @DisplayName("전파받은 매장을 DB 에서 다시 읽어 색인, 삭제된 매장은 제거")
+  @Test
+  void reload() {
+    Store store = Store.builder().id(1L).name("엽기 떡볶이").build();
+    given(storeRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(store));
+    given(menuRepository.findNamesByStore(store)).willReturn(List.of("마라 떡볶이"));
+    given(storeRepository.findByIdAndDeletedAtIsNull(2L)).willReturn(Optional.empty());
+
+    storeSearchIndex.reload(1L);
+    storeSearchIndex.reload(2L);
+
+    assertThat(storeSearchIndex.search("마라")).containsExactly(1L);
+    assertThat(storeSearchIndex.search("로제")).isEmpty();
+    assertThat(storeSearchIndex.search("김밥")).isEmpty();
+  }
+
+  @DisplayName("시작 시 전체 매장, 메뉴로 색인")
+  @Test
+  void initialize() {
+    storeSearchIndex.remove(1L);
+    storeSearchIndex.remove(2L);
+    storeSearchIndex.remove(3L);
+
+    given(storeRepository.findAllByDeletedAtIsNull())
+        .willReturn(List.of(Store.builder().id(10L).name("마라탕집").build()));
+    given(menuRepository.findAllStoreMenuNames())
+        .willReturn(List.of(storeMenuName(10L, "꿔바로우")));
+
+    storeSearchIndex.initialize();
+
+    assertThat(storeSearchIndex.search("마라")).containsExactly(10L);
+    assertThat(storeSearchIndex.search("바로")).containsExactly(10L);
+    assertThat(storeSearchIndex.search("떡볶이")).isEmpty();
+  }
+
+  private StoreMenuName storeMenuName(Long storeId, String name) {
+    return new StoreMenuName() {
+      @Override
+      public Long getStoreId() {
+        return storeId;
+      }
+
+      @Override
+      public String getName() {
+        return name;
+      }
+    };
+  }
+}
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zerobase.babdeusilbun.controller.chat.UserChatRoomController;
 import com.zerobase.babdeusilbun.dto.ChatDto;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
 import com.zerobase.babdeusilbun.service.ChatService;
 import com.zerobase.babdeusilbun.util.TestUserUtility;
@@ -72,18 +73,32 @@ public class UserChatRoomControllerTest {
   @DisplayName("채팅방 메시지 가져오기 테스트")
   @Test
   void getChatMessagesOnChatRoomTest() throws Exception {
-    Page<ChatDto.Information> chatMessages = new PageImpl<>(
-        Collections.emptyList(), PageRequest.of(0, 10), 0);
+    CursorDto.Response<ChatDto.Information> chatMessages = CursorDto.Response.<ChatDto.Information>builder()
+        .content(Collections.emptyList())
+        .size(0)
+        .hasNext(false)
+        .build();
 
-    Mockito.when(chatService.getChatMessagesOnChatRoom(eq(testUser.getId()), eq(1L), eq(0), eq(10)))
+    Mockito.when(chatService.getChatMessagesOnChatRoom(eq(testUser.getId()), eq(1L), eq(100L), eq(10)))
         .thenReturn(chatMessages);
 
     mockMvc.perform(MockMvcRequestBuilders.get("/api/users/chat-rooms/1")
             .with(csrf())
-            .param("page", "0")
-            .param("size", "10"))
+            .param("before", "100")
+            .param("limit", "10"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.content").isArray());
+        .andExpect(jsonPath("$.content").isArray())
+        .andExpect(jsonPath("$.hasNext").value(false));
+  }
+
+  @DisplayName("채팅방 읽음 처리 테스트")
+  @Test
+  void readChatRoomTest() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/api/users/chat-rooms/1/read")
+            .with(csrf()))
+        .andExpect(status().isOk());
+
+    Mockito.verify(chatService).readChatRoom(eq(testUser.getId()), eq(1L));
   }
 
   @DisplayName("채팅 메시지 전송 테스트")
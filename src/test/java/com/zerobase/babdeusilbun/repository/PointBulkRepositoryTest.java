@@ -0,0 +1,75 @@
+package com.zerobase.babdeusilbun.repository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.zerobase.babdeusilbun.domain.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointBulkRepositoryTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @InjectMocks
+  private PointBulkRepository pointBulkRepository;
+
+  @DisplayName("잔액 갱신 후 이미 불러온 회원만 다시 읽음")
+  @Test
+  void addUserPointsRefreshesLoadedUsers() {
+    // given
+    User loaded = User.builder().id(1L).point(0L).build();
+    User notLoaded = uninitializedProxy();
+    when(entityManager.getReference(User.class, 1L)).thenReturn(loaded);
+    when(entityManager.getReference(User.class, 2L)).thenReturn(notLoaded);
+
+    Map<Long, Long> deltas = new LinkedHashMap<>();
+    deltas.put(1L, 1000L);
+    deltas.put(2L, 500L);
+
+    // when
+    pointBulkRepository.addUserPoints(deltas, LocalDateTime.now());
+
+    // then
+    InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+    inOrder.verify(entityManager).flush();
+    inOrder.verify(jdbcTemplate).update(anyString(), any(Object[].class));
+    inOrder.verify(entityManager).refresh(loaded);
+    verify(entityManager, never()).refresh(notLoaded);
+  }
+
+  private User uninitializedProxy() {
+    LazyInitializer initializer = mock(LazyInitializer.class);
+    when(initializer.isUninitialized()).thenReturn(true);
+
+    User proxy = mock(User.class, withSettings().extraInterfaces(HibernateProxy.class));
+    HibernateProxy hibernateProxy = (HibernateProxy) proxy;
+    lenient().when(hibernateProxy.asHibernateProxy()).thenReturn(hibernateProxy);
+    lenient().when(hibernateProxy.getHibernateLazyInitializer()).thenReturn(initializer);
+    return proxy;
+  }
+}
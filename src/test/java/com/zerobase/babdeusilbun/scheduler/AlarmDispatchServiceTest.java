@@ -0,0 +1,127 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.ENTREPRENEUR;
+import static com.zerobase.babdeusilbun.enums.AlarmTarget.USER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.domain.AlarmOutbox;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import com.zerobase.babdeusilbun.enums.AlarmTarget;
+import com.zerobase.babdeusilbun.repository.AlarmBulkRepository;
+import com.zerobase.babdeusilbun.repository.AlarmOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AlarmDispatchServiceTest {
+  @Mock
+  private AlarmOutboxRepository alarmOutboxRepository;
+
+  @Mock
+  private AlarmBulkRepository alarmBulkRepository;
+
+  @Captor
+  private ArgumentCaptor<List<AlarmDto.Message>> userCaptor;
+
+  @Captor
+  private ArgumentCaptor<List<AlarmDto.Message>> entrepreneurCaptor;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private AlarmDispatchService alarmDispatchService;
+
+  @BeforeEach
+  void setUp() {
+    alarmDispatchService =
+        new AlarmDispatchService(alarmOutboxRepository, alarmBulkRepository, objectMapper);
+  }
+
+  @DisplayName("알림 묶음 처리 - 대상별로 한 번씩 다중 저장 후 아웃박스 삭제")
+  @Test
+  void dispatch() throws Exception {
+    //given
+    LocalDateTime now = LocalDateTime.now();
+    List<AlarmOutbox> outboxes = List.of(
+        outbox(List.of(message(USER, 1L), message(USER, 2L), message(ENTREPRENEUR, 3L))),
+        outbox(List.of(message(USER, 4L)))
+    );
+    when(alarmOutboxRepository.lockPendingOutboxes(100)).thenReturn(outboxes);
+
+    //when
+    List<AlarmDto.Message> dispatched = alarmDispatchService.dispatch(now, 100);
+
+    //then
+    assertEquals(4, dispatched.size());
+
+    verify(alarmBulkRepository).insertUserAlarms(userCaptor.capture(), eq(now));
+    verify(alarmBulkRepository).insertEntrepreneurAlarms(entrepreneurCaptor.capture(), eq(now));
+    assertEquals(List.of(1L, 2L, 4L),
+        userCaptor.getValue().stream().map(AlarmDto.Message::getRecipientId).toList());
+    assertEquals(List.of(3L),
+        entrepreneurCaptor.getValue().stream().map(AlarmDto.Message::getRecipientId).toList());
+    verify(alarmOutboxRepository).deleteAllInBatch(outboxes);
+  }
+
+  @DisplayName("읽을 수 없는 알림 묶음은 버리고 나머지를 처리")
+  @Test
+  void dispatchSkipInvalidPayload() throws Exception {
+    //given
+    LocalDateTime now = LocalDateTime.now();
+    List<AlarmOutbox> outboxes = List.of(
+        AlarmOutbox.builder().id(1L).payload("invalid").build(),
+        outbox(List.of(message(USER, 1L)))
+    );
+    when(alarmOutboxRepository.lockPendingOutboxes(100)).thenReturn(outboxes);
+
+    //when
+    List<AlarmDto.Message> dispatched = alarmDispatchService.dispatch(now, 100);
+
+    //then
+    assertEquals(1, dispatched.size());
+    verify(alarmOutboxRepository).deleteAllInBatch(outboxes);
+  }
+
+  @DisplayName("전송 대기 알림이 없으면 아무것도 하지 않음")
+  @Test
+  void dispatchEmpty() {
+    //given
+    when(alarmOutboxRepository.lockPendingOutboxes(100)).thenReturn(List.of());
+
+    //when
+    List<AlarmDto.Message> dispatched = alarmDispatchService.dispatch(LocalDateTime.now(), 100);
+
+    //then
+    assertTrue(dispatched.isEmpty());
+    verify(alarmBulkRepository, never()).insertUserAlarms(anyList(), any());
+    verify(alarmOutboxRepository, never()).deleteAllInBatch(anyList());
+  }
+
+  private AlarmOutbox outbox(List<AlarmDto.Message> messages) throws Exception {
+    return AlarmOutbox.builder().payload(objectMapper.writeValueAsString(messages)).build();
+  }
+
+  private AlarmDto.Message message(AlarmTarget target, Long recipientId) {
+    return AlarmDto.Message.builder()
+        .target(target)
+        .recipientId(recipientId)
+        .type("ORDER_APPROVED")
+        .content("알림")
+        .build();
+  }
+}
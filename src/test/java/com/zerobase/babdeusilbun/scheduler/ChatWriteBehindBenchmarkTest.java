@@ -0,0 +1,104 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.component.ChatWriteBehind;
+import com.zerobase.babdeusilbun.component.FileChatWriteLog;
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import com.zerobase.babdeusilbun.repository.ChatBulkRepository;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 채팅 지연 저장 처리량 측정 (-Dbenchmark=true 일 때만 실행)
+ * 로그는 FileChatWriteLog, 저장은 건수만 세는 ChatBulkRepository 이므로 DB 를 제외한 전송 경로 비용만 측정된다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ChatWriteBehindBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ChatWriteBehindBenchmarkTest.class);
+
+  private static final int ROOM_COUNT = 10;
+  private static final int MESSAGES_PER_ROOM = 20_000;
+
+  @TempDir
+  private Path dir;
+
+  @Test
+  @DisplayName("채팅방당 초당 메시지 처리량")
+  void messagesPerSecondPerRoom() throws Exception {
+    FileChatWriteLog chatWriteLog = new FileChatWriteLog(
+        new ObjectMapper().findAndRegisterModules(), dir.resolve("chat-write.log").toString());
+    chatWriteLog.initialize();
+
+    ChatWriteBehind chatWriteBehind = new ChatWriteBehind(chatWriteLog);
+    ReflectionTestUtils.setField(chatWriteBehind, "enabled", true);
+
+    AtomicLong inserted = new AtomicLong();
+    ChatBulkRepository chatBulkRepository = new ChatBulkRepository(null) {
+      @Override
+      public void insertAll(List<LogEntry> entries) {
+        inserted.addAndGet(entries.size());
+      }
+    };
+
+    ChatWriteBehindWriter writer = new ChatWriteBehindWriter(mock(TaskScheduler.class),
+        mock(ClusteredTaskRunner.class), chatWriteBehind, chatWriteLog, chatBulkRepository);
+    ReflectionTestUtils.setField(writer, "batchSize", 1000);
+
+    // 채팅방마다 한 스레드가 연속으로 전송하는 동안 writer 가 계속 저장
+    Thread[] senders = new Thread[ROOM_COUNT];
+    for (int room = 0; room < ROOM_COUNT; room++) {
+      long chatRoomId = room + 1;
+      senders[room] = new Thread(() -> {
+        for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+          chatWriteBehind.append(chatRoomId, 1L, ChatType.CHAT, "message-" + i);
+        }
+      });
+    }
+
+    long start = System.nanoTime();
+    for (Thread sender : senders) {
+      sender.start();
+    }
+
+    boolean sending = true;
+    while (sending) {
+      writer.drain();
+      sending = false;
+      for (Thread sender : senders) {
+        sending |= sender.isAlive();
+      }
+    }
+    long sendNanos = System.nanoTime() - start;
+
+    while (writer.drain() > 0) {
+      // 남은 로그 저장
+    }
+    long totalNanos = System.nanoTime() - start;
+
+    long total = (long) ROOM_COUNT * MESSAGES_PER_ROOM;
+    double sendSeconds = sendNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    double totalSeconds = totalNanos / (double) TimeUnit.SECONDS.toNanos(1);
+
+    log.info("chat write-behind benchmark: {} rooms x {} messages, "
+            + "sent in {}s ({} msg/s per room), drained in {}s",
+        ROOM_COUNT, MESSAGES_PER_ROOM, String.format("%.2f", sendSeconds),
+        Math.round(MESSAGES_PER_ROOM / sendSeconds), String.format("%.2f", totalSeconds));
+
+    assertThat(inserted.get()).isEqualTo(total);
+  }
+}
@@ -0,0 +1,149 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.component.ChatWriteBehind;
+import com.zerobase.babdeusilbun.component.ChatWriteLog;
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.enums.ChatType;
+import com.zerobase.babdeusilbun.repository.ChatBulkRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindWriterTest {
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  @Mock
+  private RedissonClient redissonClient;
+
+  @Mock
+  private ChatWriteBehind chatWriteBehind;
+
+  @Mock
+  private ChatWriteLog chatWriteLog;
+
+  @Mock
+  private ChatBulkRepository chatBulkRepository;
+
+  private ChatWriteBehindWriter chatWriteBehindWriter;
+
+  @BeforeEach
+  void setUp() {
+    chatWriteBehindWriter = new ChatWriteBehindWriter(taskScheduler,
+        new ClusteredTaskRunner(redissonClient), chatWriteBehind, chatWriteLog, chatBulkRepository);
+    ReflectionTestUtils.setField(chatWriteBehindWriter, "batchSize", 2);
+  }
+
+  @DisplayName("저장 후 처리 완료 표시, 배치가 가득 차면 이어서 읽음")
+  @Test
+  void drainInsertsBeforeAcknowledge() {
+    // given
+    List<LogEntry> first = List.of(entry("1-0"), entry("2-0"));
+    List<LogEntry> second = List.of(entry("3-0"));
+    when(chatWriteLog.read(2)).thenReturn(first, second);
+
+    // when
+    int written = chatWriteBehindWriter.drain();
+
+    // then
+    assertThat(written).isEqualTo(3);
+
+    InOrder inOrder = inOrder(chatBulkRepository, chatWriteLog);
+    inOrder.verify(chatBulkRepository).insertAll(first);
+    inOrder.verify(chatWriteLog).acknowledge(first);
+    inOrder.verify(chatBulkRepository).insertAll(second);
+    inOrder.verify(chatWriteLog).acknowledge(second);
+  }
+
+  @DisplayName("저장에 실패하면 처리 완료로 표시하지 않음 (다음 주기에 다시 읽음)")
+  @Test
+  void drainDoesNotAcknowledgeOnFailure() {
+    // given
+    List<LogEntry> entries = List.of(entry("1-0"));
+    when(chatWriteLog.read(2)).thenReturn(entries);
+    doThrow(new DataAccessResourceFailureException("down"))
+        .when(chatBulkRepository).insertAll(entries);
+
+    // when
+    int written = chatWriteBehindWriter.drain();
+
+    // then
+    assertThat(written).isZero();
+    verify(chatWriteLog, never()).acknowledge(anyList());
+  }
+
+  @DisplayName("배치가 데이터 오류로 거부되면 한 건씩 저장하고, 실패한 항목은 보관 후 처리 완료로 표시")
+  @Test
+  void drainParksRejectedEntry() {
+    // given
+    LogEntry valid = entry("1-0");
+    LogEntry invalid = entry("2-0");
+    List<LogEntry> entries = List.of(valid, invalid);
+    when(chatWriteLog.read(2)).thenReturn(entries, List.of());
+    doThrow(new DataIntegrityViolationException("too long"))
+        .when(chatBulkRepository).insertAll(entries);
+    doThrow(new DataIntegrityViolationException("too long"))
+        .when(chatBulkRepository).insertAll(List.of(invalid));
+
+    // when
+    int written = chatWriteBehindWriter.drain();
+
+    // then
+    assertThat(written).isEqualTo(1);
+
+    InOrder inOrder = inOrder(chatBulkRepository, chatWriteLog);
+    inOrder.verify(chatBulkRepository).insertAll(List.of(valid));
+    inOrder.verify(chatWriteLog).acknowledge(List.of(valid));
+    inOrder.verify(chatBulkRepository).insertAll(List.of(invalid));
+    inOrder.verify(chatWriteLog).park(invalid);
+    inOrder.verify(chatWriteLog).acknowledge(List.of(invalid));
+    verify(chatWriteLog, never()).acknowledge(entries);
+  }
+
+  @DisplayName("지연 저장이 꺼져 있으면 시작하지 않음")
+  @Test
+  void startDisabled() {
+    // given
+    when(chatWriteBehind.isEnabled()).thenReturn(false);
+
+    // when
+    chatWriteBehindWriter.start();
+
+    // then
+    verify(chatWriteLog, never()).initialize();
+    verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+  }
+
+  private LogEntry entry(String logId) {
+    return LogEntry.builder()
+        .logId(logId)
+        .chatRoomId(1L)
+        .userId(1L)
+        .type(ChatType.CHAT)
+        .content("내용")
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
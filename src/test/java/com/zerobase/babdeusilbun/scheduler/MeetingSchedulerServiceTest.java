@@ -0,0 +1,101 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static com.zerobase.babdeusilbun.enums.MeetingStatus.GATHERING;
+import static com.zerobase.babdeusilbun.enums.MeetingStatus.PURCHASE_COMPLETED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.component.AlarmPublisher;
+import com.zerobase.babdeusilbun.dto.AlarmDto;
+import com.zerobase.babdeusilbun.enums.AlarmTarget;
+import com.zerobase.babdeusilbun.repository.MeetingPurchaseTimeRepository;
+import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingSchedulerServiceTest {
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private MeetingPurchaseTimeRepository meetingPurchaseTimeRepository;
+
+  @Mock
+  private AlarmPublisher alarmPublisher;
+
+  @InjectMocks
+  private MeetingSchedulerService meetingSchedulerService;
+
+  @DisplayName("마감 모임 일괄 처리 - 배치당 상태 변경, 주문 시간, 알림 발행 각 1회")
+  @Test
+  void completeDueMeetings() {
+    //given
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> meetingIds = List.of(1L, 2L, 3L);
+    when(meetingRepository.lockDueMeetingIds(now, 100)).thenReturn(meetingIds);
+    when(meetingRepository.findStoreOwnersByIdIn(meetingIds))
+        .thenReturn(List.of(storeOwner(10L, "가게1"), storeOwner(20L, "가게2"), storeOwner(10L, "가게1")));
+
+    //when
+    int count = meetingSchedulerService.completeDueMeetings(now, 100);
+
+    //then
+    assertEquals(3, count);
+    verify(meetingRepository).updateStatusByIdIn(meetingIds, GATHERING, PURCHASE_COMPLETED, now);
+    verify(meetingPurchaseTimeRepository).insertAllByMeetingIds(meetingIds, now);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<AlarmDto.Message>> captor = ArgumentCaptor.forClass(List.class);
+    verify(alarmPublisher).publish(captor.capture());
+
+    List<AlarmDto.Message> messages = captor.getValue();
+    assertEquals(3, messages.size());
+    assertEquals(AlarmTarget.ENTREPRENEUR, messages.get(0).getTarget());
+    assertEquals(20L, messages.get(1).getRecipientId());
+    assertEquals("ORDER_RECEIVED", messages.get(1).getType());
+    assertEquals("가게2로 접수된 주문이 있어요!", messages.get(1).getContent());
+  }
+
+  @DisplayName("마감 모임이 없으면 아무것도 하지 않음")
+  @Test
+  void completeDueMeetingsEmpty() {
+    //given
+    LocalDateTime now = LocalDateTime.now();
+    when(meetingRepository.lockDueMeetingIds(now, 100)).thenReturn(List.of());
+
+    //when
+    int count = meetingSchedulerService.completeDueMeetings(now, 100);
+
+    //then
+    assertEquals(0, count);
+    verify(meetingRepository, never()).updateStatusByIdIn(anyList(), any(), any(), any());
+    verify(meetingPurchaseTimeRepository, never()).insertAllByMeetingIds(anyList(), any());
+    verify(alarmPublisher, never()).publish(anyList());
+  }
+
+  private AlarmDto.StoreOwner storeOwner(Long entrepreneurId, String storeName) {
+    return new AlarmDto.StoreOwner() {
+      @Override
+      public Long getEntrepreneurId() {
+        return entrepreneurId;
+      }
+
+      @Override
+      public String getStoreName() {
+        return storeName;
+      }
+    };
+  }
+}
@@ -0,0 +1,77 @@
+package com.zerobase.babdeusilbun.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingSchedulerTest {
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  @Mock
+  private RedissonClient redissonClient;
+
+  @Mock
+  private MeetingSchedulerService meetingSchedulerService;
+
+  @Mock
+  private RLock lock;
+
+  private MeetingScheduler meetingScheduler;
+
+  @BeforeEach
+  void setUp() {
+    meetingScheduler = new MeetingScheduler(
+        taskScheduler, new ClusteredTaskRunner(redissonClient), meetingSchedulerService);
+    ReflectionTestUtils.setField(meetingScheduler, "pollIntervalMs", 5000L);
+    ReflectionTestUtils.setField(meetingScheduler, "batchSize", 2);
+    when(redissonClient.getLock("meeting:deadline:worker")).thenReturn(lock);
+  }
+
+  @DisplayName("마감 모임을 배치 단위로 모두 처리")
+  @Test
+  void processDueMeetingsInBatches() throws InterruptedException {
+    //given
+    when(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+    when(lock.isHeldByCurrentThread()).thenReturn(true);
+    when(meetingSchedulerService.completeDueMeetings(any(), eq(2))).thenReturn(2, 2, 1);
+
+    //when
+    meetingScheduler.processDueMeetings();
+
+    //then
+    verify(meetingSchedulerService, times(3)).completeDueMeetings(any(), eq(2));
+    verify(lock).unlock();
+  }
+
+  @DisplayName("다른 노드가 락을 가진 경우 처리하지 않음")
+  @Test
+  void skipWhenLockNotAcquired() throws InterruptedException {
+    //given
+    when(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+
+    //when
+    meetingScheduler.processDueMeetings();
+
+    //then
+    verify(meetingSchedulerService, never()).completeDueMeetings(any(), eq(2));
+    verify(lock, never()).unlock();
+  }
+}
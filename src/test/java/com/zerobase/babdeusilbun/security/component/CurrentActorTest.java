@@ -0,0 +1,124 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.USER_NOT_FOUND;
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_ENTREPRENEUR;
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentActorTest {
+
+  @Mock
+  private EntityManager entityManager;
+  @Mock
+  private UserRepository userRepository;
+
+  @InjectMocks
+  private CurrentActor currentActor;
+
+  @AfterEach
+  void clear() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("인증된 회원 본인이면 조회 없이 참조 반환")
+  void getUserReference() {
+    // given
+    authenticate(new CustomUserDetails(1L, "ROLE_USER:test@test.com", ROLE_USER));
+    User reference = User.builder().id(1L).build();
+    when(entityManager.getReference(User.class, 1L)).thenReturn(reference);
+
+    // when
+    User user = currentActor.getUser(1L);
+
+    // then
+    assertThat(user).isSameAs(reference);
+    verify(userRepository, never()).findByIdAndDeletedAtIsNull(anyLong());
+  }
+
+  @Test
+  @DisplayName("인증된 회원이 아니면 직접 조회")
+  void getUserOtherPrincipal() {
+    // given
+    authenticate(new CustomUserDetails(1L, "ROLE_ENTREPRENEUR:test@test.com", ROLE_ENTREPRENEUR));
+    User findUser = User.builder().id(1L).build();
+    when(userRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(findUser));
+
+    // when
+    User user = currentActor.getUser(1L);
+
+    // then
+    assertThat(user).isSameAs(findUser);
+  }
+
+  @Test
+  @DisplayName("인증 정보가 없고 회원도 없으면 예외 발생")
+  void getUserNotFound() {
+    // given
+    when(userRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> currentActor.getUser(2L))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(USER_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("쓰기 요청 - 인증된 회원 본인이어도 탈퇴했으면 예외 발생")
+  void getActiveUserWithdrawn() {
+    // given
+    authenticate(new CustomUserDetails(1L, "ROLE_USER:test@test.com", ROLE_USER));
+    User reference = User.builder().id(1L).deletedAt(LocalDateTime.now()).build();
+    when(entityManager.getReference(User.class, 1L)).thenReturn(reference);
+
+    // when & then
+    assertThatThrownBy(() -> currentActor.getActiveUser(1L))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(USER_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("쓰기 요청 - 탈퇴하지 않은 회원이면 참조 반환")
+  void getActiveUser() {
+    // given
+    authenticate(new CustomUserDetails(1L, "ROLE_USER:test@test.com", ROLE_USER));
+    User reference = User.builder().id(1L).build();
+    when(entityManager.getReference(User.class, 1L)).thenReturn(reference);
+
+    // when
+    User user = currentActor.getActiveUser(1L);
+
+    // then
+    assertThat(user).isSameAs(reference);
+  }
+
+  private void authenticate(CustomUserDetails userDetails) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+  }
+}
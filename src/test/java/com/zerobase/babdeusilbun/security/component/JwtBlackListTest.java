@@ -0,0 +1,167 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.JWT_BLACKLIST;
+import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.JWT_BLACKLIST_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JwtBlackListTest {
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  @Captor
+  private ArgumentCaptor<MessageListener> listenerCaptor;
+
+  private JwtBlackList jwtBlackList;
+
+  @BeforeEach
+  void setUp() {
+    jwtBlackList = new JwtBlackList(stringRedisTemplate, redisMessageListenerContainer, taskScheduler);
+    ReflectionTestUtils.setField(jwtBlackList, "expectedSize", 1000);
+    ReflectionTestUtils.setField(jwtBlackList, "falsePositiveRate", 0.0001);
+    ReflectionTestUtils.setField(jwtBlackList, "rebuildIntervalMs", 3600000L);
+
+    when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(zSetOperations.rangeByScoreWithScores(eq(JWT_BLACKLIST), anyDouble(), anyDouble())).thenReturn(Set.of());
+    when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursorOf());
+
+    jwtBlackList.initialize();
+    verify(redisMessageListenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+  }
+
+  @Test
+  @DisplayName("블랙리스트에 없는 token 은 Redis 조회 없이 통과")
+  void containsWithoutRedis() {
+    // when
+    boolean contains = jwtBlackList.contains("not-logged-out-token");
+
+    // then
+    assertThat(contains).isFalse();
+    verify(zSetOperations, never()).score(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("로그아웃한 token 은 로컬에서 바로 확인하고 다른 서버에 전파")
+  void addAndContains() {
+    // given
+    long expiresAt = System.currentTimeMillis() + 60000;
+
+    // when
+    jwtBlackList.add("logged-out-token", expiresAt);
+
+    // then
+    assertThat(jwtBlackList.contains("logged-out-token")).isTrue();
+    verify(zSetOperations).add(eq(JWT_BLACKLIST), anyString(), eq((double) expiresAt));
+    verify(stringRedisTemplate).convertAndSend(eq(JWT_BLACKLIST_CHANNEL), anyString());
+    verify(zSetOperations, never()).score(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("다른 서버에서 전파된 블랙리스트 반영")
+  void applyPublishedDigest() {
+    // given
+    JwtBlackList otherNode = new JwtBlackList(
+        stringRedisTemplate, mock(RedisMessageListenerContainer.class), taskScheduler);
+    otherNode.add("other-node-token", System.currentTimeMillis() + 60000);
+
+    ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+    verify(stringRedisTemplate).convertAndSend(eq(JWT_BLACKLIST_CHANNEL), published.capture());
+
+    Message message = mock(Message.class);
+    when(message.getBody()).thenReturn(published.getValue().getBytes(StandardCharsets.UTF_8));
+
+    // when
+    listenerCaptor.getValue().onMessage(message, null);
+
+    // then
+    assertThat(jwtBlackList.contains("other-node-token")).isTrue();
+    verify(zSetOperations, never()).score(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("만료된 블랙리스트 token 은 통과")
+  void expiredEntry() {
+    // given
+    jwtBlackList.add("expired-token", System.currentTimeMillis() - 1000);
+
+    // when
+    boolean contains = jwtBlackList.contains("expired-token");
+
+    // then
+    assertThat(contains).isFalse();
+  }
+
+  @Test
+  @DisplayName("이전 방식 key 로 저장된 블랙리스트를 옮기고 계속 차단")
+  void migrateLegacyEntries() {
+    // given
+    JwtBlackList restarted = new JwtBlackList(
+        stringRedisTemplate, mock(RedisMessageListenerContainer.class), taskScheduler);
+    ReflectionTestUtils.setField(restarted, "expectedSize", 1000);
+    ReflectionTestUtils.setField(restarted, "falsePositiveRate", 0.0001);
+    ReflectionTestUtils.setField(restarted, "rebuildIntervalMs", 3600000L);
+
+    String legacyKey = JWT_BLACKLIST + ":legacy-token";
+    when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursorOf(legacyKey));
+    when(stringRedisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS)).thenReturn(60000L);
+
+    // when
+    restarted.initialize();
+
+    // then
+    assertThat(restarted.contains("legacy-token")).isTrue();
+    verify(zSetOperations).add(eq(JWT_BLACKLIST), anyString(), anyDouble());
+    verify(stringRedisTemplate).delete(legacyKey);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Cursor<String> cursorOf(String... keys) {
+    Cursor<String> cursor = mock(Cursor.class);
+    Iterator<String> iterator = List.of(keys).iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(cursor.next()).thenAnswer(invocation -> iterator.next());
+    return cursor;
+  }
+}
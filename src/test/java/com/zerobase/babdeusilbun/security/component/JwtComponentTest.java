@@ -0,0 +1,97 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_EXPIRED;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.JWT_TOKEN_INVALID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtComponentTest {
+
+  private final SecretKey secretKey = new SecretKeySpec(
+      "test-secret-key-test-secret-key-test-secret-key".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+  private JwtComponent jwtComponent;
+
+  @BeforeEach
+  void setUp() {
+    jwtComponent = new JwtComponent(secretKey);
+    ReflectionTestUtils.setField(jwtComponent, "expireMs", "60000");
+    ReflectionTestUtils.setField(jwtComponent, "verifiedCacheSize", 10);
+  }
+
+  @Test
+  @DisplayName("token 검증 - email, role 을 한 번에 파싱")
+  void verify() {
+    // given
+    String token = jwtComponent.createToken("USER_test@test.com", "USER");
+
+    // when
+    VerifiedJwt verifiedJwt = jwtComponent.verify(token);
+
+    // then
+    assertThat(verifiedJwt.getEmail()).isEqualTo("USER_test@test.com");
+    assertThat(verifiedJwt.getRole()).isEqualTo("USER");
+    assertThat(verifiedJwt.isExpired()).isFalse();
+  }
+
+  @Test
+  @DisplayName("이미 검증한 token 은 캐시된 claims 반환")
+  void verifyCached() {
+    // given
+    String token = jwtComponent.createToken("USER_test@test.com", "USER");
+    VerifiedJwt first = jwtComponent.verify(token);
+
+    // when
+    VerifiedJwt second = jwtComponent.verify(token);
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("만료된 token 검증 실패")
+  void verifyExpired() {
+    // given
+    String token = Jwts.builder().signWith(secretKey)
+        .claim("email", "USER_test@test.com")
+        .claim("role", "USER")
+        .expiration(new Date(System.currentTimeMillis() - 1000))
+        .compact();
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () -> jwtComponent.verify(token));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(JWT_TOKEN_EXPIRED);
+  }
+
+  @Test
+  @DisplayName("서명이 다른 token 검증 실패")
+  void verifyInvalidSignature() {
+    // given
+    SecretKey otherKey = new SecretKeySpec(
+        "other-secret-key-other-secret-key-other-key".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    String token = Jwts.builder().signWith(otherKey)
+        .claim("email", "USER_test@test.com")
+        .expiration(new Date(System.currentTimeMillis() + 60000))
+        .compact();
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () -> jwtComponent.verify(token));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(JWT_TOKEN_INVALID);
+  }
+}
@@ -0,0 +1,103 @@
+package com.zerobase.babdeusilbun.security.component;
+
+import static com.zerobase.babdeusilbun.security.redis.RedisKeyUtil.PRINCIPAL_INVALIDATE_CHANNEL;
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+  private static final String EMAIL = "ROLE_USER:test@test.com";
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Captor
+  private ArgumentCaptor<MessageListener> listenerCaptor;
+
+  private PrincipalCache principalCache;
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+  private final Function<String, CustomUserDetails> loader = email -> {
+    loadCount.incrementAndGet();
+    return new CustomUserDetails(1L, email, ROLE_USER);
+  };
+
+  @BeforeEach
+  void setUp() {
+    principalCache = new PrincipalCache(stringRedisTemplate, redisMessageListenerContainer);
+    ReflectionTestUtils.setField(principalCache, "maxSize", 10);
+    ReflectionTestUtils.setField(principalCache, "ttlMs", 60000L);
+  }
+
+  @Test
+  @DisplayName("캐시된 인증 주체는 다시 조회하지 않음")
+  void getCached() {
+    // when
+    CustomUserDetails first = principalCache.get(EMAIL, loader);
+    CustomUserDetails second = principalCache.get(EMAIL, loader);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("무효화하면 다시 조회하고 다른 서버에 전파")
+  void invalidate() {
+    // given
+    principalCache.get(EMAIL, loader);
+
+    // when
+    principalCache.invalidate(EMAIL);
+    principalCache.get(EMAIL, loader);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+    verify(stringRedisTemplate).convertAndSend(PRINCIPAL_INVALIDATE_CHANNEL, EMAIL);
+  }
+
+  @Test
+  @DisplayName("다른 서버의 무효화 메시지 반영")
+  void invalidateByMessage() {
+    // given
+    principalCache.subscribe();
+    verify(redisMessageListenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+    principalCache.get(EMAIL, loader);
+
+    Message message = mock(Message.class);
+    when(message.getBody()).thenReturn(EMAIL.getBytes(StandardCharsets.UTF_8));
+
+    // when
+    listenerCaptor.getValue().onMessage(message, null);
+    principalCache.get(EMAIL, loader);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+}
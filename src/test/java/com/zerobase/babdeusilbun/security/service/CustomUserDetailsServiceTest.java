@@ -0,0 +1,79 @@
+package com.zerobase.babdeusilbun.security.service;
+
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.repository.EntrepreneurRepository;
+import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
+import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import com.zerobase.babdeusilbun.security.dto.VerifiedJwt;
+import com.zerobase.babdeusilbun.security.service.impl.CustomUserDetailsService;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+  private static final String EMAIL = "ROLE_USER:test@test.com";
+
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private EntrepreneurRepository entrepreneurRepository;
+  @Mock
+  private PrincipalCache principalCache;
+
+  @InjectMocks
+  private CustomUserDetailsService customUserDetailsService;
+
+  private final VerifiedJwt verifiedJwt = VerifiedJwt.builder()
+      .id(1L).email(EMAIL).role(ROLE_USER.name())
+      .expiration(new Date(System.currentTimeMillis() + 60000))
+      .build();
+
+  @Test
+  @DisplayName("claims 인증 주체 설정 시 캐시/DB 조회 없이 생성")
+  void loadUserByClaims() {
+    // given
+    ReflectionTestUtils.setField(customUserDetailsService, "principalFromClaims", true);
+
+    // when
+    UserDetails userDetails = customUserDetailsService.loadUserByVerifiedJwt(verifiedJwt);
+
+    // then
+    assertThat(((CustomUserDetails) userDetails).getId()).isEqualTo(1L);
+    assertThat(userDetails.getUsername()).isEqualTo(EMAIL);
+    assertThat(((CustomUserDetails) userDetails).getRole()).isEqualTo(ROLE_USER);
+    verifyNoInteractions(principalCache, userRepository, entrepreneurRepository);
+  }
+
+  @Test
+  @DisplayName("claims 인증 주체 미설정 시 캐시에서 조회")
+  void loadUserByCache() {
+    // given
+    CustomUserDetails cached = new CustomUserDetails(1L, EMAIL, ROLE_USER);
+    when(principalCache.get(eq(EMAIL), any())).thenReturn(cached);
+
+    // when
+    UserDetails userDetails = customUserDetailsService.loadUserByVerifiedJwt(verifiedJwt);
+
+    // then
+    assertThat(userDetails).isSameAs(cached);
+    verify(userRepository, never()).findByEmail(anyString());
+  }
+}
@@ -4,7 +4,10 @@ import static com.zerobase.babdeusilbun.util.ChatUtility.CHAT_SEPARATOR;
 import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_CLIENT_PREFIX;
 import static com.zerobase.babdeusilbun.util.ChatUtility.makeSocketDestination;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -12,20 +15,34 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.zerobase.babdeusilbun.component.ChatRoomMembership;
+import com.zerobase.babdeusilbun.component.ChatWriteBehind;
+import com.zerobase.babdeusilbun.component.RecentChatBuffer;
 import com.zerobase.babdeusilbun.domain.Chat;
 import com.zerobase.babdeusilbun.domain.ChatRoom;
+import com.zerobase.babdeusilbun.domain.ChatRoomMember;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.ChatDto.History;
 import com.zerobase.babdeusilbun.dto.ChatDto.Information;
+import com.zerobase.babdeusilbun.dto.ChatDto.LogEntry;
+import com.zerobase.babdeusilbun.dto.ChatDto.Member;
 import com.zerobase.babdeusilbun.dto.ChatDto.Request;
+import com.zerobase.babdeusilbun.dto.ChatDto.RoomInformation;
+import com.zerobase.babdeusilbun.dto.ChatDto.RoomSummary;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.enums.ChatType;
+import com.zerobase.babdeusilbun.enums.PurchaseType;
 import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.exception.ErrorCode;
 import com.zerobase.babdeusilbun.repository.ChatRepository;
+import com.zerobase.babdeusilbun.repository.ChatRoomMemberRepository;
 import com.zerobase.babdeusilbun.repository.ChatRoomRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.impl.ChatServiceImpl;
 import com.zerobase.babdeusilbun.util.TestUserUtility;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -39,8 +56,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Order;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,9 +66,24 @@ public class ChatServiceTest {
   @Mock
   private ChatRepository chatRepository;
 
+  @Mock
+  private ChatRoomMemberRepository chatRoomMemberRepository;
+
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private CurrentActor currentActor;
+
+  @Mock
+  private ChatRoomMembership chatRoomMembership;
+
+  @Mock
+  private ChatWriteBehind chatWriteBehind;
+
+  @Mock
+  private RecentChatBuffer recentChatBuffer;
+
   @Mock
   private SimpMessagingTemplate messagingTemplate;
 
@@ -76,8 +106,7 @@ public class ChatServiceTest {
         .build();
 
     when(chatRoomRepository.findByMeeting(eq(meeting))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.LEAVE).build()));
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(false);
 
     ArgumentCaptor<Chat> chatCaptor = ArgumentCaptor.forClass(Chat.class);
     when(chatRepository.save(chatCaptor.capture())).thenReturn(chat);
@@ -94,6 +123,14 @@ public class ChatServiceTest {
     assertEquals(ChatType.ENTER, savedChat.getType());
     assertEquals(ChatType.ENTER.getComment(testUser), savedChat.getContent());
 
+    ArgumentCaptor<ChatRoomMember> memberCaptor = ArgumentCaptor.forClass(ChatRoomMember.class);
+    verify(chatRoomMemberRepository, times(1)).save(memberCaptor.capture());
+    assertTrue(memberCaptor.getValue().isActive());
+    assertEquals(testUser, memberCaptor.getValue().getUser());
+
+    verify(chatRoomMemberRepository, times(1))
+        .updateLastChat(testChatRoom.getId(), chat.getId(), chat.getCreatedAt(), testUser.getId());
+    verify(chatRoomMembership, times(1)).invalidate(testChatRoom.getId());
     verify(messagingTemplate, times(1)).convertAndSend(eq(makeSocketDestination(
         SEND_TO_CLIENT_PREFIX, CHAT_SEPARATOR, testChatRoom.getId())), eq(Information.fromEntity(savedChat)));
   }
@@ -102,43 +139,82 @@ public class ChatServiceTest {
   @Test
   void getChatMessagesOnChatRoomSuccess() {
     // given
-    Chat chat1 = Chat.builder()
-        .id(1L)
-        .chatRoom(testChatRoom)
-        .user(testUser)
-        .type(ChatType.CHAT)
-        .content("1번메세지")
+    Member member = Member.builder()
+        .userId(testUser.getId())
+        .nickname(testUser.getNickname())
+        .joinedChatId(5L)
         .build();
+    List<History> histories = List.of(history(30L, "3번메세지"), history(20L, "2번메세지"),
+        history(10L, "1번메세지"));
 
-    Chat chat2 = Chat.builder()
-        .id(2L)
-        .chatRoom(testChatRoom)
-        .user(testUser)
-        .type(ChatType.CHAT)
-        .content("2번메세지")
-        .build();
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.of(member));
+    when(chatRepository.findHistory(testChatRoom.getId(), 5L, 40L, PageRequest.of(0, 3)))
+        .thenReturn(histories);
 
-    List<Chat> chatList = List.of(chat1, chat2);
-    Page<Chat> chatPage = new PageImpl<>(chatList, PageRequest.of(0, 10), chatList.size());
+    // when
+    CursorDto.Response<Information> result =
+        chatService.getChatMessagesOnChatRoom(testUser.getId(), testChatRoom.getId(), 40L, 2);
 
-    when(userRepository.findByIdAndDeletedAtIsNull(eq(testUser.getId()))).thenReturn(Optional.of(testUser));
-    when(chatRoomRepository.findById(eq(testChatRoom.getId()))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.CHAT).build()));
-    when(chatRepository.countChatsInRoomAfterUserEntered(eq(testChatRoom), eq(testUser))).thenReturn(chatList.size());
-    when(chatRepository.findChatsInRoomAfterUserEntered(eq(testChatRoom), eq(testUser),
-        eq(PageRequest.of(0, 10, Sort.by(Order.desc("id"))))))
-        .thenReturn(chatPage);
+    // then
+    assertEquals(2, result.getSize());
+    assertTrue(result.isHasNext());
+    assertEquals("20", result.getNextCursor());
+
+    assertEquals("3번메세지", result.getContent().get(0).getContent());
+    assertEquals("2번메세지", result.getContent().get(1).getContent());
+    assertEquals(30L, result.getContent().get(0).getChatId());
+  }
+
+  @DisplayName("채팅방 메시지 가져오기 성공 테스트 (첫 조회, 마지막 페이지)")
+  @Test
+  void getChatMessagesOnChatRoomLatest() {
+    // given
+    Member member = Member.builder()
+        .userId(testUser.getId())
+        .joinedChatId(5L)
+        .build();
+
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.of(member));
+    when(chatRepository.findHistory(testChatRoom.getId(), 5L, Long.MAX_VALUE, PageRequest.of(0, 21)))
+        .thenReturn(List.of(history(10L, "1번메세지")));
 
     // when
-    Page<Information> result = chatService.getChatMessagesOnChatRoom(testUser.getId(), testChatRoom.getId(), 0, 10);
+    CursorDto.Response<Information> result =
+        chatService.getChatMessagesOnChatRoom(testUser.getId(), testChatRoom.getId(), null, 0);
 
     // then
-    assertEquals(2, result.getTotalElements());
+    assertEquals(1, result.getSize());
+    assertFalse(result.isHasNext());
+    assertNull(result.getNextCursor());
+  }
 
-    // Information 객체의 필드 검증
-    assertEquals("1번메세지", result.getContent().get(0).getContent());
-    assertEquals("2번메세지", result.getContent().get(1).getContent());
+  @DisplayName("채팅방 메시지 가져오기 성공 테스트 (최근 채팅 목록)")
+  @Test
+  void getChatMessagesOnChatRoomFromRecentBuffer() {
+    // given
+    Member member = Member.builder()
+        .userId(testUser.getId())
+        .joinedChatId(5L)
+        .build();
+    CursorDto.Response<Information> recent = CursorDto.Response.<Information>builder()
+        .content(List.of(Information.builder().chatId(10L).content("1번메세지").build()))
+        .size(1)
+        .hasNext(false)
+        .build();
+
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.of(member));
+    when(recentChatBuffer.getLatest(testChatRoom.getId(), 5L, 20)).thenReturn(Optional.of(recent));
+
+    // when
+    CursorDto.Response<Information> result =
+        chatService.getChatMessagesOnChatRoom(testUser.getId(), testChatRoom.getId(), null, 0);
+
+    // then
+    assertEquals(recent, result);
+    verify(chatRepository, Mockito.never()).findHistory(any(), any(), any(), any());
   }
 
   @DisplayName("채팅 메시지 전송 성공 테스트")
@@ -148,26 +224,24 @@ public class ChatServiceTest {
     Request request = Request.builder()
         .content("내용")
         .build();
-    Chat chat = Chat.builder()
-        .chatRoom(testChatRoom)
-        .user(testUser)
-        .type(ChatType.CHAT)
-        .content(request.getContent())
+    Member member = Member.builder()
+        .userId(testUser.getId())
+        .nickname(testUser.getNickname())
+        .profileImage(testUser.getImage())
         .build();
 
-    when(userRepository.findByIdAndDeletedAtIsNull(eq(testUser.getId()))).thenReturn(Optional.of(testUser));
-    when(chatRoomRepository.findById(eq(testChatRoom.getId()))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.ENTER).build()));
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.of(member));
+    when(chatRoomRepository.getReferenceById(testChatRoom.getId())).thenReturn(testChatRoom);
+    when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
 
     ArgumentCaptor<Chat> chatCaptor = ArgumentCaptor.forClass(Chat.class);
-    when(chatRepository.save(chatCaptor.capture())).thenReturn(chat);
+    when(chatRepository.save(chatCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
 
     // when
-    chatService.sendMessage(testChatRoom.getId(), testUser.getId(), request);
+    Information information = chatService.sendMessage(testChatRoom.getId(), testUser.getId(), request);
 
     // then
-    verify(chatRepository, times(1)).save(chatCaptor.capture());
     Chat savedChat = chatCaptor.getValue();
 
     assertEquals(testChatRoom, savedChat.getChatRoom());
@@ -175,8 +249,123 @@ public class ChatServiceTest {
     assertEquals(ChatType.CHAT, savedChat.getType());
     assertEquals(request.getContent(), savedChat.getContent());
 
-    verify(messagingTemplate, times(1)).convertAndSend(eq(makeSocketDestination(
-        SEND_TO_CLIENT_PREFIX, CHAT_SEPARATOR, testChatRoom.getId())), eq(Information.fromEntity(savedChat)));
+    assertEquals(testUser.getId(), information.getSenderId());
+    assertEquals(testUser.getNickname(), information.getNickname());
+    assertEquals(request.getContent(), information.getContent());
+    verify(chatRoomRepository, Mockito.never()).findById(any());
+    verify(chatRoomMemberRepository, times(1))
+        .updateLastChat(testChatRoom.getId(), savedChat.getId(), savedChat.getCreatedAt(), testUser.getId());
+    verify(recentChatBuffer, times(1)).push(testChatRoom.getId(), information);
+  }
+
+  @DisplayName("채팅방 목록 가져오기 성공 테스트")
+  @Test
+  void getChatRoomsSuccess() {
+    // given
+    RoomSummary summary = Mockito.mock(RoomSummary.class);
+    when(summary.getChatRoomId()).thenReturn(testChatRoom.getId());
+    when(summary.getPurchaseType()).thenReturn(PurchaseType.DELIVERY_TOGETHER);
+    when(summary.getStoreName()).thenReturn("가게");
+    when(summary.getLastChatId()).thenReturn(30L);
+    when(summary.getUnreadCount()).thenReturn(3);
+
+    when(chatRoomMemberRepository.countByUserIdAndActiveTrue(testUser.getId())).thenReturn(1);
+    when(chatRoomMemberRepository.findRoomSummariesByUserId(testUser.getId(), PageRequest.of(0, 10)))
+        .thenReturn(new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1));
+
+    // when
+    Page<RoomInformation> result = chatService.getChatRooms(testUser.getId(), 0, 10);
+
+    // then
+    assertEquals(1, result.getTotalElements());
+
+    RoomInformation room = result.getContent().getFirst();
+    assertEquals(testChatRoom.getId(), room.getChatRoomId());
+    assertEquals("[함께 배송] 가게", room.getName());
+    assertEquals(30L, room.getLastChatId());
+    assertEquals(3, room.getUnreadCount());
+  }
+
+  @DisplayName("채팅방 읽음 처리 성공 테스트")
+  @Test
+  void readChatRoomSuccess() {
+    // given
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(true);
+
+    // when
+    chatService.readChatRoom(testUser.getId(), testChatRoom.getId());
+
+    // then
+    verify(chatRoomMemberRepository, times(1)).markRead(testChatRoom.getId(), testUser.getId());
+  }
+
+  @DisplayName("채팅방 읽음 처리 실패 테스트(참여하지 않은 채팅방)")
+  @Test
+  void readChatRoomFailure() {
+    // given
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(false);
+
+    // when & then
+    CustomException exception = assertThrows(CustomException.class, () ->
+        chatService.readChatRoom(testUser.getId(), testChatRoom.getId()));
+
+    assertEquals(ErrorCode.CANNOT_PROCESS_IN_CHATROOM, exception.getErrorCode());
+    verify(chatRoomMemberRepository, Mockito.never()).markRead(any(), any());
+  }
+
+  @DisplayName("채팅 전송 성공 테스트 (지연 저장)")
+  @Test
+  void sendMessageWriteBehindSuccess() {
+    // given
+    Request request = Request.builder()
+        .content("내용")
+        .build();
+    Member member = Member.builder()
+        .userId(testUser.getId())
+        .nickname(testUser.getNickname())
+        .profileImage(testUser.getImage())
+        .build();
+    LogEntry entry = LogEntry.builder()
+        .logId("1-0")
+        .chatRoomId(testChatRoom.getId())
+        .userId(testUser.getId())
+        .type(ChatType.CHAT)
+        .content(request.getContent())
+        .createdAt(LocalDateTime.now())
+        .build();
+
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.of(member));
+    when(chatWriteBehind.isEnabled()).thenReturn(true);
+    when(chatWriteBehind.append(testChatRoom.getId(), testUser.getId(), ChatType.CHAT, request.getContent()))
+        .thenReturn(entry);
+
+    // when
+    Information information = chatService.sendMessage(testChatRoom.getId(), testUser.getId(), request);
+
+    // then
+    assertEquals(testUser.getId(), information.getSenderId());
+    assertEquals(request.getContent(), information.getContent());
+    assertEquals(entry.getCreatedAt(), information.getCreatedAt());
+    verify(chatRepository, Mockito.never()).save(any());
+  }
+
+  @DisplayName("채팅 전송 실패 테스트 (내용 길이 초과, 지연 저장 로그에 기록하지 않음)")
+  @Test
+  void sendMessageContentTooLong() {
+    // given
+    Request request = Request.builder()
+        .content("가".repeat(256))
+        .build();
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () ->
+        chatService.sendMessage(testChatRoom.getId(), testUser.getId(), request));
+
+    // then
+    assertEquals(ErrorCode.CHAT_CONTENT_INVALID, exception.getErrorCode());
+    verify(chatWriteBehind, Mockito.never()).append(any(), any(), any(), any());
+    verify(chatRepository, Mockito.never()).save(any());
   }
 
   @DisplayName("채팅방 퇴장 성공 테스트")
@@ -190,10 +379,9 @@ public class ChatServiceTest {
         .content(ChatType.LEAVE.getComment(testUser))
         .build();
 
-    when(userRepository.findByIdAndDeletedAtIsNull(eq(testUser.getId()))).thenReturn(Optional.of(testUser));
+    when(currentActor.getActiveUser(testUser.getId())).thenReturn(testUser);
     when(chatRoomRepository.findById(eq(testChatRoom.getId()))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.ENTER).build()));
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(true);
 
     ArgumentCaptor<Chat> chatCaptor = ArgumentCaptor.forClass(Chat.class);
     when(chatRepository.save(chatCaptor.capture())).thenReturn(chat);
@@ -210,6 +398,7 @@ public class ChatServiceTest {
     assertEquals(ChatType.LEAVE, savedChat.getType());
     assertEquals(ChatType.LEAVE.getComment(testUser), savedChat.getContent());
 
+    verify(chatRoomMemberRepository, times(1)).deactivate(testChatRoom.getId(), testUser.getId());
     verify(messagingTemplate, times(1)).convertAndSend(eq(makeSocketDestination(
         SEND_TO_CLIENT_PREFIX, CHAT_SEPARATOR, testChatRoom.getId())), eq(Information.fromEntity(savedChat)));
   }
@@ -218,14 +407,12 @@ public class ChatServiceTest {
   @Test
   void getChatMessagesOnChatRoomFailure() {
     // given
-    when(userRepository.findByIdAndDeletedAtIsNull(eq(testUser.getId()))).thenReturn(Optional.of(testUser));
-    when(chatRoomRepository.findById(eq(testChatRoom.getId()))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.LEAVE).build()));
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.empty());
 
     // when & then
     CustomException exception = assertThrows(CustomException.class, () ->
-        chatService.getChatMessagesOnChatRoom(testUser.getId(), testChatRoom.getId(), 0, 10)
+        chatService.getChatMessagesOnChatRoom(testUser.getId(), testChatRoom.getId(), null, 10)
     );
 
     assertEquals(ErrorCode.CANNOT_PROCESS_IN_CHATROOM, exception.getErrorCode());
@@ -235,10 +422,9 @@ public class ChatServiceTest {
   @Test
   void leaveChatRoomFailure() {
     // given
-    when(userRepository.findByIdAndDeletedAtIsNull(eq(testUser.getId()))).thenReturn(Optional.of(testUser));
+    when(currentActor.getActiveUser(testUser.getId())).thenReturn(testUser);
     when(chatRoomRepository.findById(eq(testChatRoom.getId()))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.LEAVE).build()));
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(false);
 
     // when
     chatService.leaveChatRoomForChatRoomIdAndUserId(testChatRoom.getId(), testUser.getId());
@@ -255,8 +441,7 @@ public class ChatServiceTest {
     Meeting meeting = Meeting.builder().id(1L).build();
 
     when(chatRoomRepository.findByMeeting(eq(meeting))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.ENTER).build()));
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(true);
 
     // when
     chatService.enteredChatRoom(testUser, meeting);
@@ -281,8 +466,7 @@ public class ChatServiceTest {
     when(chatRoomRepository.findByMeeting(eq(meeting))).thenReturn(Optional.empty());
     when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(testChatRoom);
 
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.LEAVE).build()));
+    when(chatRoomMembership.isMember(testChatRoom.getId(), testUser.getId())).thenReturn(false);
 
     when(chatRepository.save(any(Chat.class))).thenReturn(newChat);
 
@@ -319,10 +503,8 @@ public class ChatServiceTest {
         .content("내용")
         .build();
 
-    when(userRepository.findByIdAndDeletedAtIsNull(eq(testUser.getId()))).thenReturn(Optional.of(testUser));
-    when(chatRoomRepository.findById(eq(testChatRoom.getId()))).thenReturn(Optional.of(testChatRoom));
-    when(chatRepository.findTopByChatRoomAndUserOrderByCreatedAtDesc(eq(testChatRoom), eq(testUser)))
-        .thenReturn(Optional.of(Chat.builder().type(ChatType.LEAVE).build()));
+    when(chatRoomMembership.getMember(testChatRoom.getId(), testUser.getId()))
+        .thenReturn(Optional.empty());
 
     // when
     CustomException exception = assertThrows(CustomException.class, () ->
@@ -334,4 +516,48 @@ public class ChatServiceTest {
     verify(chatRepository, Mockito.never()).save(any(Chat.class));
     verify(messagingTemplate, Mockito.never()).convertAndSend(any(String.class), any(Information.class));
   }
+
+  private History history(Long chatId, String content) {
+    return new History() {
+      @Override
+      public Long getChatId() {
+        return chatId;
+      }
+
+      @Override
+      public Long getSenderId() {
+        return testUser.getId();
+      }
+
+      @Override
+      public String getNickname() {
+        return testUser.getNickname();
+      }
+
+      @Override
+      public String getProfileImage() {
+        return testUser.getImage();
+      }
+
+      @Override
+      public ChatType getType() {
+        return ChatType.CHAT;
+      }
+
+      @Override
+      public String getContent() {
+        return content;
+      }
+
+      @Override
+      public LocalDateTime getCreatedAt() {
+        return null;
+      }
+
+      @Override
+      public LocalDateTime getUpdatedAt() {
+        return null;
+      }
+    };
+  }
 }
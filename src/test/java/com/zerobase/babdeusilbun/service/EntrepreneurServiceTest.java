@@ -8,6 +8,7 @@ import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.dto.EntrepreneurDto;
 import com.zerobase.babdeusilbun.dto.UserDto;
 import com.zerobase.babdeusilbun.repository.EntrepreneurRepository;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
 import com.zerobase.babdeusilbun.service.impl.EntrepreneurServiceImpl;
 import com.zerobase.babdeusilbun.util.TestEntrepreneurUtility;
 import com.zerobase.babdeusilbun.util.TestUserUtility;
@@ -43,6 +44,9 @@ public class EntrepreneurServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private EntrepreneurServiceImpl entrepreneurService;
 
@@ -1,7 +1,7 @@
 package com.zerobase.babdeusilbun.service;
 
+import com.zerobase.babdeusilbun.component.LookupIndex;
 import com.zerobase.babdeusilbun.dto.MajorDto;
-import com.zerobase.babdeusilbun.repository.MajorRepository;
 import com.zerobase.babdeusilbun.service.impl.MajorServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,7 +20,7 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class MajorServiceTest {
     @Mock
-    private MajorRepository majorRepository;
+    private LookupIndex lookupIndex;
 
     @InjectMocks
     private MajorServiceImpl majorService;
@@ -36,7 +36,7 @@ public class MajorServiceTest {
         Page<MajorDto.Information> expectedPage = new PageImpl<>(Collections.emptyList());
 
         //when
-        when(majorRepository.searchMajorNameByKeywords(keywords, page, size)).thenReturn(expectedPage);
+        when(lookupIndex.searchMajors(keywords, page, size)).thenReturn(expectedPage);
         Page<MajorDto.Information> result = majorService.searchMajor(search, page, size);
 
         //then
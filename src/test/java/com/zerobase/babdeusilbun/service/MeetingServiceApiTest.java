@@ -2,21 +2,28 @@ package com.zerobase.babdeusilbun.service;
 
 import static com.zerobase.babdeusilbun.enums.MeetingStatus.GATHERING;
 import static com.zerobase.babdeusilbun.enums.PurchaseType.DELIVERY_TOGETHER;
+import static com.zerobase.babdeusilbun.util.TestQueryCountUtility.assertOneFewerStatement;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.DeliveryAddressDto;
+import com.zerobase.babdeusilbun.dto.MeetingDto;
 import com.zerobase.babdeusilbun.dto.MetAddressDto;
 import com.zerobase.babdeusilbun.dto.MeetingRequest;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
-import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,7 +34,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @Transactional
 class MeetingServiceApiTest {
@@ -41,6 +48,10 @@ class MeetingServiceApiTest {
   private StoreRepository storeRepository;
   @Autowired
   private PurchaseRepository purchaseRepository;
+  @Autowired
+  private EntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
 
   @BeforeEach
   void init() {
@@ -176,6 +187,50 @@ class MeetingServiceApiTest {
     assertThat(findStoreB.getName()).isEqualTo("storeB");
   }
 
+  @Test
+  @DisplayName("모임 목록 카드 조회 - 페이지 크기와 관계없이 쿼리 수 고정")
+  void getAllMeetingDtoListQueryCount() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    for (int size : new int[]{1, 2, 4, 20}) {
+      entityManager.clear();
+      statistics.clear();
+
+      Page<MeetingDto> page = meetingService.getAllMeetingDtoList(
+          null, 1L, "deadline", "", null, PageRequest.of(0, size));
+
+      assertThat(page.getContent()).isNotEmpty();
+      assertThat(page.getTotalElements()).isEqualTo(3);
+      // 모임(+상점) 목록 1회 + 상점 이미지 1회 + 개수 1회 (마지막 페이지면 생략)
+      assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+  }
+
+  @Test
+  @DisplayName("모임 목록 커서 조회 - 중복/누락 없이 끝까지 조회")
+  void getAllMeetingDtoListByCursor() {
+    for (String sortCriteria : new String[]{"deadline", "delivery-time", "delivery-fee", "min-price"}) {
+      List<Long> meetingIds = new ArrayList<>();
+      String cursor = null;
+
+      CursorDto.Response<MeetingDto> response;
+      do {
+        response = meetingService.getAllMeetingDtoListByCursor(
+            null, 1L, sortCriteria, "", null, cursor, 1, cursor == null);
+        response.getContent().forEach(meetingDto -> meetingIds.add(meetingDto.getMeetingId()));
+
+        if (cursor == null) {
+          assertThat(response.getApproximateTotal()).isEqualTo(3);
+        } else {
+          assertThat(response.getApproximateTotal()).isNull();
+        }
+        cursor = response.getNextCursor();
+      } while (response.isHasNext());
+
+      assertThat(meetingIds).hasSize(3).doesNotHaveDuplicates();
+    }
+  }
+
   @Test
   @DisplayName("모임 정보 조회")
   void getMeetingInfo() {
@@ -250,7 +305,23 @@ class MeetingServiceApiTest {
         .isEqualTo(metAddressDto.getMetDetailAddress());
   }
 
+  @Test
+  @DisplayName("모임 생성 - 인증된 회원 본인이면 회원 조회 쿼리 생략")
+  void createMeetingByCurrentActorQueryCount() {
+    MeetingRequest.Create request = MeetingRequest.Create.builder()
+        .storeId(1L)
+        .purchaseType(DELIVERY_TOGETHER)
+        .minHeadcount(10)
+        .maxHeadcount(20)
+        .isEarlyPaymentAvailable(true)
+        .paymentAvailableAt(LocalDateTime.now())
+        .deliveryAddress(DeliveryAddressDto.builder()
+            .deliveryPostal("dp").deliveryStreetAddress("ds").deliveryDetailAddress("dd").build())
+        .metAddress(MetAddressDto.builder()
+            .metPostal("mp").metDetailAddress("md").metStreetAddress("ms").build())
+        .build();
 
-
-
-}
\ No newline at end of file
+    assertOneFewerStatement(entityManager, 1L,
+        () -> meetingService.createMeeting(1L, request));
+  }
+}
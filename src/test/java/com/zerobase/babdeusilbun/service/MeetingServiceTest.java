@@ -11,21 +11,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.zerobase.babdeusilbun.component.AlarmPublisher;
+import com.zerobase.babdeusilbun.component.StoreSearchIndex;
 import com.zerobase.babdeusilbun.domain.Address;
 import com.zerobase.babdeusilbun.domain.ChatRoom;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Purchase;
 import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.domain.StoreImage;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.DeliveryAddressDto;
+import com.zerobase.babdeusilbun.dto.MeetingDto;
 import com.zerobase.babdeusilbun.dto.MeetingRequest;
 import com.zerobase.babdeusilbun.dto.MeetingRequest.Create;
 import com.zerobase.babdeusilbun.dto.MetAddressDto;
@@ -35,15 +43,18 @@ import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.repository.ChatRoomRepository;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import com.zerobase.babdeusilbun.repository.StoreImageRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
-import com.zerobase.babdeusilbun.scheduler.MeetingScheduler;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
 import com.zerobase.babdeusilbun.service.impl.ChatServiceImpl;
 import com.zerobase.babdeusilbun.service.impl.MeetingServiceImpl;
+import com.zerobase.babdeusilbun.util.CursorUtility;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,6 +63,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +78,9 @@ public class MeetingServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private CurrentActor currentActor;
+
   @Mock
   private StoreRepository storeRepository;
 
@@ -73,15 +88,24 @@ public class MeetingServiceTest {
   private PurchaseRepository purchaseRepository;
 
 
-  @Mock
-  private MeetingScheduler meetingScheduler;
-
   @Mock
   private ChatServiceImpl chatService;
 
   @Mock
   private ChatRoomRepository chatRoomRepository;
 
+  @Mock
+  private StoreSearchIndex storeSearchIndex;
+
+  @Mock
+  private AlarmPublisher alarmPublisher;
+
+  @Mock
+  private SettlementService settlementService;
+
+  @Mock
+  private StoreImageRepository storeImageRepository;
+
 
   @Test
   @DisplayName("모임 정보 조회 - 성공 - 페이징")
@@ -110,7 +134,8 @@ public class MeetingServiceTest {
         .build();
     Page<Meeting> meetings = new PageImpl<>(List.of(meeting));
 
-    when(meetingRepository.findFilteredMeetingList(schoolId, sortCriteria, searchMenu,
+    when(storeSearchIndex.search(searchMenu)).thenReturn(Set.of(1L));
+    when(meetingRepository.findFilteredMeetingList(schoolId, sortCriteria, Set.of(1L),
         categoryFilter, pageable))
         .thenReturn(meetings);
 //    when(storeImageRepository.findAllByStoreOrderBySequenceAsc(store))
@@ -123,7 +148,76 @@ public class MeetingServiceTest {
     // Then
     assertEquals(1, result.getTotalElements());
     verify(meetingRepository, times(1)).findFilteredMeetingList(schoolId, sortCriteria,
-        searchMenu, categoryFilter, pageable);
+        Set.of(1L), categoryFilter, pageable);
+  }
+
+  @Test
+  @DisplayName("모임 목록 커서 조회 - 성공")
+  void getAllMeetingDtoListByCursor_success() {
+    // Given
+    Store store = Store.builder().id(1L).name("Test Store").deliveryPrice(3000L).build();
+    List<Meeting> meetings = List.of(
+        listedMeeting(1L, store), listedMeeting(2L, store), listedMeeting(3L, store));
+
+    when(meetingRepository.findFilteredMeetingListByCursor(
+        eq(1L), eq("delivery-fee"), isNull(), isNull(), isNull(), eq(3)))
+        .thenReturn(meetings);
+    when(meetingRepository.countFilteredMeetingListUpTo(eq(1L), isNull(), isNull(), anyInt()))
+        .thenReturn(10L);
+    when(storeImageRepository.findAllByStoreInOrderBySequenceAsc(List.of(store)))
+        .thenReturn(List.of(StoreImage.builder().id(1L).store(store).url("url").sequence(0).build()));
+
+    // When
+    CursorDto.Response<MeetingDto> result = meetingService.getAllMeetingDtoListByCursor(
+        null, 1L, "delivery-fee", "", null, null, 2, true);
+
+    // Then
+    assertThat(result.getContent()).extracting(MeetingDto::getMeetingId).containsExactly(1L, 2L);
+    assertThat(result.getContent().getFirst().getStoreImage()).hasSize(1);
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(result.getApproximateTotal()).isEqualTo(10L);
+    assertThat(CursorUtility.decode(result.getNextCursor()))
+        .isEqualTo(new CursorDto.Key("3000", 2L));
+  }
+
+  @Test
+  @DisplayName("모임 목록 커서 조회 - 이어지는 페이지에서는 개수를 세지 않음")
+  void getAllMeetingDtoListByCursor_skipCountAfterFirstPage() {
+    // Given
+    String cursor = CursorUtility.encode(3000L, 2L);
+
+    when(meetingRepository.findFilteredMeetingListByCursor(
+        eq(1L), eq("delivery-fee"), isNull(), isNull(),
+        eq(new CursorDto.Key("3000", 2L)), eq(3)))
+        .thenReturn(List.of());
+
+    // When
+    CursorDto.Response<MeetingDto> result = meetingService.getAllMeetingDtoListByCursor(
+        null, 1L, "delivery-fee", "", null, cursor, 2, true);
+
+    // Then
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.getNextCursor()).isNull();
+    assertThat(result.getApproximateTotal()).isNull();
+    verify(meetingRepository, never())
+        .countFilteredMeetingListUpTo(anyLong(), any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("모임 정보 조회 - 검색 결과 없음")
+  void getAllMeetingList_noSearchResult() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 10);
+    when(storeSearchIndex.search("없는메뉴")).thenReturn(Set.of());
+
+    // When
+    Page<Meeting> result = meetingService.getAllMeetingList
+        (1L, "deadline", "없는메뉴", null, pageable);
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    verify(meetingRepository, never())
+        .findFilteredMeetingList(anyLong(), any(), any(), any(), any());
   }
 
   @Test
@@ -194,7 +288,7 @@ public class MeetingServiceTest {
 
 //    when(userDetails.getUsername()).thenReturn(user.getEmail());
 //    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-    when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+    when(currentActor.getUser(anyLong())).thenReturn(user);
     when(storeRepository.findById(any(Long.class))).thenReturn(Optional.of(store));
     when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
 
@@ -237,7 +331,7 @@ public class MeetingServiceTest {
 //    ChatRoom chatRoom = getChatRoom(meeting);
 
 //    when(userDetails.getId()).thenReturn(user.getId());
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(meeting));
 //    when(chatRoomRepository.findByMeeting(meeting)).thenReturn(Optional.of(chatRoom));
 
@@ -262,7 +356,7 @@ public class MeetingServiceTest {
         .build();
 
     when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(meeting));
-    when(userRepository.findById(1L)).thenReturn(Optional.of(leader));
+    when(currentActor.getUser(1L)).thenReturn(leader);
     when(chatRoomRepository.findByMeeting(eq(meeting))).thenReturn(Optional.of(chatRoom));
     when(purchaseRepository.findAllByMeeting(any())).thenReturn(List.of(new Purchase()));
 //    doNothing().when(chatService).leaveChatRoom(eq(chatRoom), eq(leader));
@@ -288,7 +382,7 @@ public class MeetingServiceTest {
     ChatRoom chatRoom = getChatRoom(meeting);
 
     when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(meeting));
-    when(userRepository.findById(1L)).thenReturn(Optional.of(leader));
+    when(currentActor.getUser(1L)).thenReturn(leader);
     when(purchaseRepository.findAllByMeeting(any())).thenReturn(List.of(new Purchase(), new Purchase()));
     when(chatRoomRepository.findByMeeting(meeting)).thenReturn(Optional.of(chatRoom));
 
@@ -317,7 +411,7 @@ public class MeetingServiceTest {
     ChatRoom chatRoom = getChatRoom(meeting);
 
     when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(meeting));
-    when(userRepository.findById(1L)).thenReturn(Optional.of(leader));
+    when(currentActor.getUser(1L)).thenReturn(leader);
     when(chatRoomRepository.findByMeeting(meeting)).thenReturn(Optional.of(chatRoom));
 
     // when
@@ -346,7 +440,7 @@ public class MeetingServiceTest {
     Purchase purchase = Purchase.builder().meeting(meeting).status(PurchaseStatus.PROGRESS).build();
 
     when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(meeting));
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(purchaseRepository.findByMeetingAndUser(any(), any())).thenReturn(Optional.of(purchase));
     when(chatRoomRepository.findByMeeting(meeting)).thenReturn(Optional.of(chatRoom));
 
@@ -372,7 +466,7 @@ public class MeetingServiceTest {
     ChatRoom chatRoom = getChatRoom(meeting);
 
     when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(meeting));
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(chatRoomRepository.findByMeeting(meeting)).thenReturn(Optional.of(chatRoom));
 
     // when
@@ -394,13 +488,15 @@ public class MeetingServiceTest {
 
 
 
-}
-
-
-
-
-
-
-
-
 
+  private Meeting listedMeeting(Long id, Store store) {
+    return Meeting.builder()
+        .id(id)
+        .store(store)
+        .minHeadcount(2)
+        .maxHeadcount(5)
+        .deliveredAddress(Address.builder().postal("").detailAddress("").streetAddress("").build())
+        .metAddress(Address.builder().postal("").detailAddress("").streetAddress("").build())
+        .build();
+  }
+}
@@ -1,6 +1,7 @@
 package com.zerobase.babdeusilbun.service;
 
 import com.zerobase.babdeusilbun.component.ImageComponent;
+import com.zerobase.babdeusilbun.component.StoreSearchIndex;
 import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.Menu;
 import com.zerobase.babdeusilbun.domain.Store;
@@ -45,6 +46,9 @@ public class MenuServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private StoreSearchIndex storeSearchIndex;
+
     @Mock
     private ImageComponent imageComponent;
 
@@ -0,0 +1,181 @@
+package com.zerobase.babdeusilbun.service;
+
+import static com.zerobase.babdeusilbun.enums.MeetingStatus.GATHERING;
+import static com.zerobase.babdeusilbun.enums.PaymentMethod.KAKAOPAY;
+import static com.zerobase.babdeusilbun.enums.PaymentStatus.FAILED;
+import static com.zerobase.babdeusilbun.enums.PaymentStatus.PAID;
+import static com.zerobase.babdeusilbun.enums.PurchaseStatus.PAYMENT_FAILED;
+import static com.zerobase.babdeusilbun.enums.PurchaseStatus.PRE_PURCHASE;
+import static com.zerobase.babdeusilbun.enums.PurchaseType.DINING_TOGETHER;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PURCHASE_STATUS_INVALID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.component.PendingPaymentStore;
+import com.zerobase.babdeusilbun.component.PointLedger;
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Purchase;
+import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmResponse;
+import com.zerobase.babdeusilbun.dto.PaymentDto.Temporary;
+import com.zerobase.babdeusilbun.enums.PaymentGateway;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.IndividualPurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.IndividualPurchaseRepository;
+import com.zerobase.babdeusilbun.repository.MeetingRepository;
+import com.zerobase.babdeusilbun.repository.PaymentRepository;
+import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import com.zerobase.babdeusilbun.repository.TeamPurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
+import com.zerobase.babdeusilbun.service.impl.ChatServiceImpl;
+import com.zerobase.babdeusilbun.service.impl.PaymentConfirmProcessor;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmProcessorTest {
+
+  @InjectMocks
+  private PaymentConfirmProcessor paymentConfirmProcessor;
+  @Mock
+  private CurrentActor currentActor;
+  @Mock
+  private MeetingRepository meetingRepository;
+  @Mock
+  private PaymentRepository paymentRepository;
+  @Mock
+  private PurchaseRepository purchaseRepository;
+  @Mock
+  private PurchasePaymentRepository purchasePaymentRepository;
+  @Mock
+  private TeamPurchaseRepository teamPurchaseRepository;
+  @Mock
+  private TeamPurchasePaymentRepository teamPurchasePaymentRepository;
+  @Mock
+  private IndividualPurchaseRepository individualPurchaseRepository;
+  @Mock
+  private IndividualPurchasePaymentRepository individualPurchasePaymentRepository;
+  @Mock
+  private PendingPaymentStore pendingPaymentStore;
+  @Mock
+  private PointLedger pointLedger;
+  @Mock
+  private ChatServiceImpl chatService;
+
+  private User user;
+  private Meeting meeting;
+  private Purchase purchase;
+  private Temporary temporary;
+
+  @BeforeEach
+  void setUp() {
+    user = User.builder().id(1L).point(1000L).build();
+    Store store = Store.builder().id(1L).deliveryPrice(1000L).build();
+    meeting = Meeting.builder().id(1L)
+        .store(store)
+        .purchaseType(DINING_TOGETHER).status(GATHERING).minHeadcount(3)
+        .build();
+    purchase = Purchase.builder().id(1L)
+        .meeting(meeting).status(PRE_PURCHASE)
+        .build();
+    temporary = Temporary.builder()
+        .pg(PaymentGateway.KAKAOPAY)
+        .point(1000L)
+        .transactionId("transaction")
+        .payMethod(KAKAOPAY)
+        .price(10000L)
+        .name("name")
+        .build();
+
+    when(currentActor.getActiveUser(1L)).thenReturn(user);
+    when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
+    when(purchaseRepository.findById(1L)).thenReturn(Optional.of(purchase));
+    when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
+  }
+
+  @Test
+  @DisplayName("결제 성공 반영")
+  void applyPaid() throws Exception {
+    // given
+    doNothing().when(chatService).enteredChatRoom(eq(user), eq(meeting));
+
+    // when
+    ConfirmResponse confirmResponse =
+        paymentConfirmProcessor.apply(1L, 1L, 1L, "port", temporary, PAID);
+
+    // then
+    verify(chatService, times(1)).enteredChatRoom(eq(user), eq(meeting));
+    verify(pendingPaymentStore, times(1)).remove("transaction");
+    // 포인트는 결제 요청 때 차감되었으므로 다시 차감하지 않음
+    verifyNoInteractions(pointLedger);
+    assertThat(purchase.getStatus()).isNotEqualTo(PRE_PURCHASE);
+    assertThat(confirmResponse.getSuccess()).isTrue();
+    assertThat(confirmResponse.getTransactionId()).isEqualTo("transaction");
+  }
+
+  @Test
+  @DisplayName("결제 실패 반영 시 포인트 복구")
+  void applyFailed() throws Exception {
+    // when
+    ConfirmResponse confirmResponse =
+        paymentConfirmProcessor.apply(1L, 1L, 1L, "port", temporary, FAILED);
+
+    // then
+    verify(pointLedger, times(1)).earn(user, 1000L, "name");
+    verify(paymentRepository, times(1)).save(any());
+    verify(chatService, never()).enteredChatRoom(any(), any());
+    verify(pendingPaymentStore, times(1)).remove("transaction");
+    assertThat(confirmResponse.getTransactionId()).isEqualTo("transaction");
+  }
+
+  @Test
+  @DisplayName("결제 정보가 다른 결제 거절 시 포인트 복구")
+  void reject() throws Exception {
+    // when
+    ConfirmResponse confirmResponse =
+        paymentConfirmProcessor.reject(1L, 1L, 1L, "port", temporary);
+
+    // then
+    verify(pointLedger, times(1)).earn(user, 1000L, "name");
+    verify(paymentRepository, times(1)).save(any());
+    verify(chatService, never()).enteredChatRoom(any(), any());
+    verify(pendingPaymentStore, times(1)).remove("transaction");
+    assertEquals(PAYMENT_FAILED, purchase.getStatus());
+    assertThat(confirmResponse.getSuccess()).isFalse();
+    assertThat(confirmResponse.getTransactionId()).isEqualTo("transaction");
+  }
+
+  @Test
+  @DisplayName("이미 반영된 결제는 다시 반영하지 않음")
+  void applyAlreadyConfirmed() throws Exception {
+    // given
+    purchase.successPayment();
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> paymentConfirmProcessor.apply(1L, 1L, 1L, "port", temporary, PAID));
+
+    // then
+    assertEquals(PURCHASE_STATUS_INVALID, exception.getErrorCode());
+    verify(paymentRepository, never()).save(any());
+    verifyNoInteractions(pointLedger);
+  }
+}
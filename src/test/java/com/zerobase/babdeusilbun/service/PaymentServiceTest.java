@@ -2,60 +2,58 @@ package com.zerobase.babdeusilbun.service;
 
 import static com.zerobase.babdeusilbun.enums.MeetingStatus.GATHERING;
 import static com.zerobase.babdeusilbun.enums.PaymentMethod.KAKAOPAY;
+import static com.zerobase.babdeusilbun.enums.PaymentStatus.PAID;
 import static com.zerobase.babdeusilbun.enums.PurchaseStatus.PRE_PURCHASE;
 import static com.zerobase.babdeusilbun.enums.PurchaseType.DINING_TOGETHER;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PAYMENT_INFORMATION_NOT_MATCH;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PURCHASE_CART_EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.siot.IamportRestClient.IamportClient;
-import com.siot.IamportRestClient.response.IamportResponse;
-import com.siot.IamportRestClient.response.Payment;
+import com.zerobase.babdeusilbun.component.IamportGateway;
+import com.zerobase.babdeusilbun.component.PendingPaymentStore;
+import com.zerobase.babdeusilbun.component.PointLedger;
+import com.zerobase.babdeusilbun.component.RedisCart;
 import com.zerobase.babdeusilbun.domain.Meeting;
-import com.zerobase.babdeusilbun.domain.Menu;
-import com.zerobase.babdeusilbun.domain.Point;
 import com.zerobase.babdeusilbun.domain.Purchase;
 import com.zerobase.babdeusilbun.domain.Store;
-import com.zerobase.babdeusilbun.domain.TeamPurchase;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmRequest;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ConfirmResponse;
+import com.zerobase.babdeusilbun.dto.PaymentDto.Pending;
+import com.zerobase.babdeusilbun.dto.PaymentDto.PgPayment;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ProcessRequest;
 import com.zerobase.babdeusilbun.dto.PaymentDto.ProcessResponse;
 import com.zerobase.babdeusilbun.dto.PaymentDto.Temporary;
+import com.zerobase.babdeusilbun.dto.PaymentDto.WebhookRequest;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
 import com.zerobase.babdeusilbun.enums.PaymentGateway;
-import com.zerobase.babdeusilbun.enums.PointType;
-import com.zerobase.babdeusilbun.repository.IndividualPurchaseRepository;
+import com.zerobase.babdeusilbun.exception.CustomException;
 import com.zerobase.babdeusilbun.repository.MeetingRepository;
-import com.zerobase.babdeusilbun.repository.PaymentRepository;
-import com.zerobase.babdeusilbun.repository.PointRepository;
-import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
-import com.zerobase.babdeusilbun.repository.TeamPurchasePaymentRepository;
-import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
-import com.zerobase.babdeusilbun.repository.UserRepository;
-import com.zerobase.babdeusilbun.service.impl.ChatServiceImpl;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
+import com.zerobase.babdeusilbun.service.impl.CartMaterializer;
+import com.zerobase.babdeusilbun.service.impl.PaymentConfirmProcessor;
 import com.zerobase.babdeusilbun.service.impl.PaymentServiceImpl;
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.RedissonLock;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -63,33 +61,28 @@ class PaymentServiceTest {
   @InjectMocks
   private PaymentServiceImpl paymentService;
   @Mock
-  private UserRepository userRepository;
+  private CurrentActor currentActor;
   @Mock
   private StoreRepository storeRepository;
   @Mock
   private MeetingRepository meetingRepository;
   @Mock
-  private PaymentRepository paymentRepository;
-  @Mock
   private PurchaseRepository purchaseRepository;
+
   @Mock
-  private PurchasePaymentRepository purchasePaymentRepository;
-  @Mock
-  private TeamPurchaseRepository teamPurchaseRepository;
+  private IamportGateway iamportGateway;
   @Mock
-  private TeamPurchasePaymentRepository teamPurchasePaymentRepository;
+  private PendingPaymentStore pendingPaymentStore;
   @Mock
-  private IndividualPurchaseRepository individualPurchaseRepository;
+  private PaymentConfirmProcessor paymentConfirmProcessor;
   @Mock
-  private PointRepository pointRepository;
+  private ThreadPoolTaskExecutor paymentWebhookExecutor;
   @Mock
-  private ChatServiceImpl chatService;
-
+  private PointLedger pointLedger;
   @Mock
-  private RedissonClient redissonClient;
-
+  private RedisCart redisCart;
   @Mock
-  private IamportClient iamportClient;
+  private CartMaterializer cartMaterializer;
 
   @Test
   @DisplayName("모임장, 모임원의 결제 진행 요청")
@@ -97,104 +90,261 @@ class PaymentServiceTest {
     // given
     User user = User.builder().id(1L).point(1000L).build();
     Store store = Store.builder().id(1L).deliveryPrice(1000L).build();
+    // 담긴 메뉴: menu1 1000원 * 5, menu2 2000원 * 1
     Meeting meeting = Meeting.builder().id(1L)
         .store(store)
         .purchaseType(DINING_TOGETHER).status(GATHERING).minHeadcount(3)
+        .teamItemCount(2).teamTotalPrice(7000L).teamFirstItemName("menu1")
         .build();
     Purchase purchase = Purchase.builder().id(1L)
         .meeting(meeting).status(PRE_PURCHASE)
         .build();
-    Menu menu1 = Menu.builder().id(1L).name("menu1").price(1000L).build();
-    Menu menu2 = Menu.builder().id(2L).name("menu2").price(2000L).build();
-    TeamPurchase teamPurchase1 = TeamPurchase.builder()
-        .menu(menu1).quantity(5).meeting(meeting)
-        .build();
-    TeamPurchase teamPurchase2 = TeamPurchase.builder()
-        .menu(menu2).quantity(1).meeting(meeting)
-        .build();
 
     ProcessRequest processRequest = ProcessRequest.builder().point(200L).payMethod(KAKAOPAY)
         .build();
 
-    RLock lock = Mockito.mock(RedissonLock.class);
-
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getActiveUser(1L)).thenReturn(user);
     when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findById(1L)).thenReturn(Optional.of(purchase));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
-    when(teamPurchaseRepository.findAllByMeeting(meeting))
-        .thenReturn(List.of(teamPurchase1, teamPurchase2));
-    when(redissonClient.getLock(anyString())).thenReturn(lock);
-    when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
 
     // when
     ProcessResponse processResponse = paymentService.requestPayment(1L, 1L, 1L, processRequest);
 
     // then
-    assertThat(user.getPoint()).isEqualTo(800L);
+    verify(pointLedger, times(1)).use(user, 200L, "menu1 외 1건");
     assertThat(processResponse.getName()).isEqualTo("menu1 외 1건");
     assertThat(processResponse.getPrice()).isEqualTo(2460L);
+    verify(pendingPaymentStore, times(1)).save(any(Pending.class));
   }
 
   @Test
-  @DisplayName("결제 진행 후 결제 성공 확인 요청")
-  void confirmPayment() throws Exception {
+  @DisplayName("모임장, 모임원의 결제 진행 요청 - Redis 장바구니를 저장한 목록으로 계산")
+  void requestPayment_redis_cart() throws Exception {
     // given
     User user = User.builder().id(1L).point(1000L).build();
     Store store = Store.builder().id(1L).deliveryPrice(1000L).build();
+    // 모임의 장바구니 합계는 쓰지 않음
     Meeting meeting = Meeting.builder().id(1L)
         .store(store)
         .purchaseType(DINING_TOGETHER).status(GATHERING).minHeadcount(3)
+        .teamItemCount(0).teamTotalPrice(0L)
         .build();
     Purchase purchase = Purchase.builder().id(1L)
         .meeting(meeting).status(PRE_PURCHASE)
         .build();
-    Point point = Point.builder().id(1L).amount(1000L).type(PointType.MINUS).content("name")
-        .user(user).build();
 
-    Temporary temporary = Temporary.builder()
-        .pg(PaymentGateway.KAKAOPAY)
-        .point(1000L)
-        .transactionId("transaction")
-        .payMethod(KAKAOPAY)
-        .price(10000L)
-        .name("name")
+    ProcessRequest processRequest = ProcessRequest.builder().point(200L).payMethod(KAKAOPAY)
         .build();
 
-    ConfirmRequest request =
-        ConfirmRequest.builder().portoneUid("port").transactionId("transaction").build();
+    when(currentActor.getActiveUser(1L)).thenReturn(user);
+    when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
+    when(purchaseRepository.findById(1L)).thenReturn(Optional.of(purchase));
+    when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
+    when(redisCart.isEnabled()).thenReturn(true);
+    when(cartMaterializer.materializeTeamCart(1L)).thenReturn(List.of(
+        CartLine.builder().menuId(1L).name("menu1").price(1000L).quantity(5).build(),
+        CartLine.builder().menuId(2L).name("menu2").price(2000L).quantity(1).build()));
 
+    // when
+    ProcessResponse processResponse = paymentService.requestPayment(1L, 1L, 1L, processRequest);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    // then
+    verify(pointLedger, times(1)).use(user, 200L, "menu1 외 1건");
+    assertThat(processResponse.getName()).isEqualTo("menu1 외 1건");
+    assertThat(processResponse.getPrice()).isEqualTo(2460L);
+    verify(pendingPaymentStore, times(1)).save(any(Pending.class));
+  }
+
+  @Test
+  @DisplayName("모임장, 모임원의 결제 진행 요청 - 실패 - 장바구니가 비어 있음")
+  void requestPayment_cart_empty() throws Exception {
+    // given
+    User user = User.builder().id(1L).point(1000L).build();
+    Store store = Store.builder().id(1L).deliveryPrice(1000L).build();
+    Meeting meeting = Meeting.builder().id(1L)
+        .store(store)
+        .purchaseType(DINING_TOGETHER).status(GATHERING).minHeadcount(3)
+        .teamItemCount(0).teamTotalPrice(0L)
+        .build();
+    Purchase purchase = Purchase.builder().id(1L)
+        .meeting(meeting).status(PRE_PURCHASE)
+        .build();
+
+    ProcessRequest processRequest = ProcessRequest.builder().point(200L).payMethod(KAKAOPAY)
+        .build();
+
+    when(currentActor.getActiveUser(1L)).thenReturn(user);
     when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findById(1L)).thenReturn(Optional.of(purchase));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
-    when(pointRepository.save(any())).thenReturn(point);
 
-    IamportResponse response = Mockito.mock(IamportResponse.class);
-    Payment payment = Mockito.mock(Payment.class);
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> paymentService.requestPayment(1L, 1L, 1L, processRequest));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PURCHASE_CART_EMPTY);
+    verify(pointLedger, never()).use(any(), any(), any());
+    verify(pendingPaymentStore, never()).save(any());
+  }
 
-    when(iamportClient.paymentByImpUid(request.getPortoneUid())).thenReturn(response);
-    doNothing().when(chatService).enteredChatRoom(eq(user), eq(meeting));
+  @Test
+  @DisplayName("결제 진행 후 결제 성공 확인 요청")
+  void confirmPayment() throws Exception {
+    // given
+    Temporary temporary = createTemporary();
+    ConfirmRequest request =
+        ConfirmRequest.builder().portoneUid("port").transactionId("transaction").build();
 
-    when(response.getCode()).thenReturn(0);
-    when(response.getResponse()).thenReturn(payment);
-    when(payment.getPayMethod()).thenReturn("kakaopay");
-    when(payment.getPgProvider()).thenReturn("kakaopay");
-    when(payment.getStatus()).thenReturn("paid");
-    when(payment.getAmount()).thenReturn(BigDecimal.valueOf(10000));
-    when(payment.getName()).thenReturn("name");
-//    when(payment.getImpUid()).thenReturn("port");
+    when(iamportGateway.getPayment("port")).thenReturn(createPgPayment(10000L));
+    when(paymentConfirmProcessor.apply(1L, 1L, 1L, "port", temporary, PAID))
+        .thenReturn(ConfirmResponse.createWhenSuccess("transaction"));
 
     // when
     ConfirmResponse confirmResponse =
         paymentService.confirmPayment(1L, 1L, 1L, request, temporary);
 
     // then
-    verify(chatService, times(1)).enteredChatRoom(eq(user), eq(meeting));
+    // PG 사 조회가 끝난 뒤 반영
+    InOrder inOrder = inOrder(paymentConfirmProcessor, iamportGateway);
+    inOrder.verify(paymentConfirmProcessor).verifyConfirmable(1L, 1L, 1L);
+    inOrder.verify(iamportGateway).getPayment("port");
+    inOrder.verify(paymentConfirmProcessor).apply(1L, 1L, 1L, "port", temporary, PAID);
     assertThat(confirmResponse.getSuccess()).isTrue();
     assertThat(confirmResponse.getTransactionId()).isEqualTo(request.getTransactionId());
   }
 
+  @Test
+  @DisplayName("결제 확인 요청 시 결제 정보가 다르면 결제 실패 처리")
+  void confirmPaymentInformationNotMatch() throws Exception {
+    // given
+    Temporary temporary = createTemporary();
+    ConfirmRequest request =
+        ConfirmRequest.builder().portoneUid("port").transactionId("transaction").build();
+
+    when(iamportGateway.getPayment("port")).thenReturn(createPgPayment(5000L));
+    when(paymentConfirmProcessor.reject(1L, 1L, 1L, "port", temporary))
+        .thenReturn(ConfirmResponse.createWhenFail("transaction"));
+
+    // when
+    ConfirmResponse confirmResponse =
+        paymentService.confirmPayment(1L, 1L, 1L, request, temporary);
+
+    // then
+    verify(paymentConfirmProcessor, never()).apply(any(), any(), any(), any(), any(), any());
+    verify(paymentConfirmProcessor).reject(1L, 1L, 1L, "port", temporary);
+    assertThat(confirmResponse.getSuccess()).isFalse();
+  }
+
+  @Test
+  @DisplayName("결제 확인 요청 시 트랜잭션 id가 다르면 PG 사에 조회하지 않음")
+  void confirmPaymentTransactionIdNotMatch() throws Exception {
+    // given
+    ConfirmRequest request =
+        ConfirmRequest.builder().portoneUid("port").transactionId("other").build();
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> paymentService.confirmPayment(1L, 1L, 1L, request, createTemporary()));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PAYMENT_INFORMATION_NOT_MATCH);
+    verify(iamportGateway, never()).getPayment(anyString());
+  }
+
+  @Test
+  @DisplayName("웹훅으로 결제 확인")
+  void receiveWebhook() throws Exception {
+    // given
+    Temporary temporary = createTemporary();
+    Pending pending = Pending.builder()
+        .userId(1L).meetingId(1L).purchaseId(1L).temporary(temporary)
+        .build();
+    WebhookRequest request = WebhookRequest.builder()
+        .impUid("port").merchantUid("transaction").status("paid")
+        .build();
+
+    runWebhookImmediately();
+    when(pendingPaymentStore.get("transaction")).thenReturn(Optional.of(pending));
+    when(iamportGateway.getPayment("port")).thenReturn(createPgPayment(10000L));
+
+    // when
+    paymentService.receiveWebhook(request);
+
+    // then
+    verify(paymentConfirmProcessor).verifyConfirmable(1L, 1L, 1L);
+    verify(paymentConfirmProcessor).apply(1L, 1L, 1L, "port", temporary, PAID);
+  }
+
+  @Test
+  @DisplayName("이미 확인된 결제의 웹훅은 무시")
+  void receiveWebhookAlreadyConfirmed() throws Exception {
+    // given
+    WebhookRequest request = WebhookRequest.builder()
+        .impUid("port").merchantUid("transaction").status("paid")
+        .build();
+
+    runWebhookImmediately();
+    when(pendingPaymentStore.get("transaction")).thenReturn(Optional.empty());
+
+    // when
+    paymentService.receiveWebhook(request);
+
+    // then
+    verify(iamportGateway, never()).getPayment(anyString());
+    verify(paymentConfirmProcessor, never()).apply(any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("다른 결제의 imp_uid 로 들어온 웹훅은 반영하지 않음")
+  void receiveWebhookMerchantUidNotMatch() throws Exception {
+    // given
+    Pending pending = Pending.builder()
+        .userId(1L).meetingId(1L).purchaseId(1L).temporary(createTemporary())
+        .build();
+    WebhookRequest request = WebhookRequest.builder()
+        .impUid("other-port").merchantUid("transaction").status("paid")
+        .build();
+    PgPayment otherPayment = PgPayment.builder()
+        .impUid("other-port").merchantUid("other-transaction").name("name").amount(10000L)
+        .pgProvider("kakaopay").payMethod("kakaopay").status("paid")
+        .build();
+
+    runWebhookImmediately();
+    when(pendingPaymentStore.get("transaction")).thenReturn(Optional.of(pending));
+    when(iamportGateway.getPayment("other-port")).thenReturn(otherPayment);
+
+    // when
+    paymentService.receiveWebhook(request);
+
+    // then
+    verify(paymentConfirmProcessor, never()).apply(any(), any(), any(), any(), any(), any());
+  }
+
+  private void runWebhookImmediately() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(paymentWebhookExecutor).execute(any(Runnable.class));
+  }
+
+  private Temporary createTemporary() {
+    return Temporary.builder()
+        .pg(PaymentGateway.KAKAOPAY)
+        .point(1000L)
+        .transactionId("transaction")
+        .payMethod(KAKAOPAY)
+        .price(10000L)
+        .name("name")
+        .build();
+  }
+
+  private PgPayment createPgPayment(Long amount) {
+    return PgPayment.builder()
+        .impUid("port").merchantUid("transaction").name("name").amount(amount)
+        .pgProvider("kakaopay").payMethod("kakaopay").status("paid")
+        .build();
+  }
 
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.zerobase.babdeusilbun.component.PointLedger;
 import com.zerobase.babdeusilbun.domain.Point;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.User;
@@ -48,6 +49,8 @@ class PointServiceTest {
   private UserRepository userRepository;
   @Mock
   private StoreRepository storeRepository;
+  @Mock
+  private PointLedger pointLedger;
 
   @Captor
   private ArgumentCaptor<Point> pointArgumentCaptor;
@@ -98,19 +101,15 @@ class PointServiceTest {
         .build();
 
     when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(pointRepository.save(any())).thenReturn(point);
+    when(pointLedger.use(user, 100L, "포인트 인출")).thenReturn(point);
 
     // when
     Point result = pointService.withdrawalPoint(1L, request);
 
     // then
-    verify(pointRepository).save(pointArgumentCaptor.capture());
-    Point captor = pointArgumentCaptor.getValue();
-    assertThat(captor.getUser()).isEqualTo(user);
-    assertThat(captor.getType()).isEqualTo(MINUS);
-    assertThat(captor.getAmount()).isEqualTo(request.getAmount().longValue());
-    assertThat(captor.getContent()).isEqualTo("포인트 인출");
-    assertThat(user.getPoint()).isEqualTo(900L);
+    assertThat(result.getType()).isEqualTo(MINUS);
+    assertThat(result.getAmount()).isEqualTo(100L);
+    assertThat(result.getContent()).isEqualTo("포인트 인출");
   }
 
   @Test
@@ -121,6 +120,8 @@ class PointServiceTest {
     WithdrawalRequest request = WithdrawalRequest.builder().amount(101).build();
 
     when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(pointLedger.use(user, 101L, "포인트 인출"))
+        .thenThrow(new CustomException(POINT_SHORTAGE));
 
     // when
     CustomException customException = assertThrows(CustomException.class,
@@ -128,7 +129,6 @@ class PointServiceTest {
 
     // then
     assertThat(customException.getErrorCode()).isEqualTo(POINT_SHORTAGE);
-    assertThat(user.getPoint()).isEqualTo(100L);
   }
 
   private Point getPoint(User user, Integer i, PointType type) {
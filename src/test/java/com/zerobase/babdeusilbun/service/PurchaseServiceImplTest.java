@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.zerobase.babdeusilbun.component.RedisCart;
 import com.zerobase.babdeusilbun.domain.IndividualPurchase;
 import com.zerobase.babdeusilbun.domain.Meeting;
 import com.zerobase.babdeusilbun.domain.Menu;
@@ -16,6 +17,7 @@ import com.zerobase.babdeusilbun.domain.Purchase;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.TeamPurchase;
 import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.PurchaseDto.CartLine;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.DeliveryFeeResponse;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.PurchaseResponse;
 import com.zerobase.babdeusilbun.dto.PurchaseDto.PurchaseResponse.Item;
@@ -26,7 +28,7 @@ import com.zerobase.babdeusilbun.repository.MeetingRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
 import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
-import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.impl.PurchaseServiceImpl;
 import java.util.List;
 import java.util.Optional;
@@ -47,7 +49,7 @@ class PurchaseServiceImplTest {
   @InjectMocks
   private PurchaseServiceImpl purchaseService;
   @Mock
-  private UserRepository userRepository;
+  private CurrentActor currentActor;
   @Mock
   private MeetingRepository meetingRepository;
   @Mock
@@ -58,13 +60,15 @@ class PurchaseServiceImplTest {
   private TeamPurchaseRepository teamPurchaseRepository;
   @Mock
   private StoreRepository storeRepository;
+  @Mock
+  private RedisCart redisCart;
 
   @Test
   @DisplayName("주문 전 공동 주문 장바구니 조회 - 성공")
   void successGetTeamOrderCart() throws Exception {
     // given
     Meeting meeting = Meeting.builder().id(1L).status(GATHERING).purchaseType(DINING_TOGETHER)
-        .build();
+        .teamItemCount(1).teamTotalPrice(2000L).build();
     Menu menu = Menu.builder().id(1L).price(1000L).build();
     TeamPurchase teamPurchase =
         TeamPurchase.builder().id(1L).meeting(meeting).quantity(2).menu(menu).build();
@@ -94,6 +98,33 @@ class PurchaseServiceImplTest {
     assertThat(item.getQuantity()).isEqualTo(2);
   }
 
+  @Test
+  @DisplayName("주문 전 공동 주문 장바구니 조회 - 성공 - Redis 장바구니")
+  void successGetTeamOrderCart_redis_cart() throws Exception {
+    // given
+    Meeting meeting = Meeting.builder().id(1L).status(GATHERING).purchaseType(DINING_TOGETHER)
+        .build();
+    List<CartLine> lines = List.of(
+        CartLine.builder().lineId(1L).menuId(1L).name("menu1").price(1000L).quantity(2).build(),
+        CartLine.builder().lineId(2L).menuId(2L).name("menu2").price(3000L).quantity(1).build(),
+        CartLine.builder().lineId(3L).menuId(3L).name("menu3").price(500L).quantity(4).build());
+    Pageable pageable = PageRequest.of(1, 2);
+
+    when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+    when(redisCart.isEnabled()).thenReturn(true);
+    when(redisCart.getTeamLines(1L)).thenReturn(lines);
+
+    // when
+    PurchaseResponse result = purchaseService.getTeamPurchaseCart(1L, pageable);
+    Page<Item> itemPage = result.getItems();
+
+    // then
+    assertThat(result.getTotalFee()).isEqualTo(7000);
+    assertThat(itemPage.getTotalElements()).isEqualTo(3);
+    assertThat(itemPage.getContent()).extracting(Item::getPurchaseId).containsExactly(3L);
+    assertThat(itemPage.getContent().getFirst().getQuantity()).isEqualTo(4);
+  }
+
   @Test
   @DisplayName("주문 전 공동 주문 장바구니 조회 - 실패 - 함께 식사 모임 아님")
   void failGetTeamOrderCart_not_dining_together() throws Exception {
@@ -147,7 +178,7 @@ class PurchaseServiceImplTest {
     // given
     User user = User.builder().id(1L).build();
     Meeting meeting = Meeting.builder().id(1L).status(GATHERING).purchaseType(DELIVERY_TOGETHER)
-        .build();
+        .individualTotalPrice(2000L).build();
     Menu menu = Menu.builder().id(1L).price(1000L).build();
     Purchase purchase = Purchase.builder().id(1L).meeting(meeting).user(user).build();
     IndividualPurchase individualPurchase =
@@ -155,7 +186,7 @@ class PurchaseServiceImplTest {
     Pageable pageable = PageRequest.of(0, 3);
     Page<IndividualPurchase> page = new PageImpl<>(List.of(individualPurchase), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
     when(individualPurchaseRepository.findAllByPurchase(purchase, pageable)).thenReturn(page);
@@ -194,7 +225,7 @@ class PurchaseServiceImplTest {
     Pageable pageable = PageRequest.of(0, 3);
     Page<IndividualPurchase> page = new PageImpl<>(List.of(individualPurchase), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(false);
@@ -222,7 +253,7 @@ class PurchaseServiceImplTest {
     Pageable pageable = PageRequest.of(0, 3);
     Page<IndividualPurchase> page = new PageImpl<>(List.of(individualPurchase), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
@@ -250,7 +281,7 @@ class PurchaseServiceImplTest {
     Pageable pageable = PageRequest.of(0, 3);
     Page<IndividualPurchase> page = new PageImpl<>(List.of(individualPurchase), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
@@ -279,7 +310,7 @@ class PurchaseServiceImplTest {
     Pageable pageable = PageRequest.of(0, 3);
     Page<IndividualPurchase> page = new PageImpl<>(List.of(individualPurchase), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
@@ -304,7 +335,7 @@ class PurchaseServiceImplTest {
     Purchase purchase = Purchase.builder().id(1L).meeting(meeting).user(user).build();
 
     // when
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
 //    when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
@@ -328,7 +359,7 @@ class PurchaseServiceImplTest {
     Purchase purchase = Purchase.builder().id(1L).meeting(meeting).user(user).build();
 
     // when
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
 //    when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
 //    when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
@@ -352,7 +383,7 @@ class PurchaseServiceImplTest {
     Purchase purchase = Purchase.builder().id(1L).meeting(meeting).user(user).build();
 
     // when
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findWithStoreById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(false);
 //    when(purchaseRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(purchase));
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import com.zerobase.babdeusilbun.component.LookupIndex;
 import com.zerobase.babdeusilbun.domain.School;
 import com.zerobase.babdeusilbun.domain.User;
 import com.zerobase.babdeusilbun.dto.SchoolDto.Information;
@@ -33,6 +34,9 @@ public class SchoolServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private LookupIndex lookupIndex;
+
   @InjectMocks
   private SchoolServiceImpl schoolService;
 
@@ -49,7 +53,7 @@ public class SchoolServiceTest {
     Page<Information> expectedPage = new PageImpl<>(Collections.emptyList());
 
     //when
-    when(schoolRepository.searchSchoolNameByKeywords(keywords, page, size)).thenReturn(expectedPage);
+    when(lookupIndex.searchSchools(keywords, page, size)).thenReturn(expectedPage);
     Page<Information> result = schoolService.searchSchoolAndCampus(search, page, size);
 
     //then
@@ -73,7 +77,7 @@ public class SchoolServiceTest {
 
     //when
     when(schoolRepository.findById(schoolId)).thenReturn(Optional.ofNullable(school));
-    when(schoolRepository.searchCampusBySchool(info, 0, 10)).thenReturn(expectedPage);
+    when(lookupIndex.searchCampuses(info, 0, 10)).thenReturn(expectedPage);
 
     Page<Information> result = schoolService.searchCampusBySchool(testUser, schoolId, 0, 10);
 
@@ -102,7 +106,7 @@ public class SchoolServiceTest {
     // when
     when(userRepository.findById(userDetails.getId())).thenReturn(Optional.of(user));
     when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(school));
-    when(schoolRepository.searchCampusBySchool(info, 0, 10)).thenReturn(expectedPage);
+    when(lookupIndex.searchCampuses(info, 0, 10)).thenReturn(expectedPage);
 
     Page<Information> result = schoolService.searchCampusBySchool(userDetails, null, 0, 10);
 
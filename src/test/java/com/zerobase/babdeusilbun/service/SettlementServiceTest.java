@@ -0,0 +1,172 @@
+package com.zerobase.babdeusilbun.service;
+
+import static com.zerobase.babdeusilbun.enums.PointType.PLUS;
+import static com.zerobase.babdeusilbun.enums.PurchaseStatus.CANCEL;
+import static com.zerobase.babdeusilbun.enums.PurchaseStatus.PAYMENT_COMPLETED;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PURCHASE_PAYMENT_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.domain.Meeting;
+import com.zerobase.babdeusilbun.domain.Purchase;
+import com.zerobase.babdeusilbun.domain.PurchasePayment;
+import com.zerobase.babdeusilbun.domain.User;
+import com.zerobase.babdeusilbun.dto.SettlementDto;
+import com.zerobase.babdeusilbun.exception.CustomException;
+import com.zerobase.babdeusilbun.repository.PointBulkRepository;
+import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
+import com.zerobase.babdeusilbun.repository.PurchaseRepository;
+import com.zerobase.babdeusilbun.service.impl.SettlementServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementServiceTest {
+
+  private static final int HEAD_COUNT = 50;
+
+  @InjectMocks
+  private SettlementServiceImpl settlementService;
+  @Mock
+  private PurchaseRepository purchaseRepository;
+  @Mock
+  private PurchasePaymentRepository purchasePaymentRepository;
+  @Mock
+  private PointBulkRepository pointBulkRepository;
+
+  @Captor
+  private ArgumentCaptor<Map<Long, Long>> deltaCaptor;
+
+  private final Meeting meeting = Meeting.builder().id(1L).build();
+
+  @Test
+  @DisplayName("50명 모임 주문 승인 정산 - 참여자 수와 관계없이 조회 2회, 쓰기 2회")
+  void settleConfirmedMeetingOf50() {
+    // given
+    givenPayments(paymentsOf(HEAD_COUNT));
+
+    // when
+    SettlementDto.Summary summary = settlementService.settleConfirmedMeeting(meeting);
+
+    // then
+    // 환급액 = 배달비(5000) + 공동 주문비(10000) - (배달 금액 5000 + 공동 주문 금액 10000) / 50
+    assertEquals(HEAD_COUNT, summary.getParticipantCount());
+    assertThat(summary.getRefunds()).allMatch(refund -> refund.getAmount() == 14700L);
+    assertEquals(14700L * HEAD_COUNT, summary.getTotalRefund());
+    assertEquals(15000L + 8000L * HEAD_COUNT, summary.getStorePaymentAmount());
+
+    verify(purchasePaymentRepository, times(1)).findAllByMeetingAndPurchaseStatus(meeting, PAYMENT_COMPLETED);
+    verify(purchaseRepository, times(1)).countByMeetingAndStatus(meeting, PAYMENT_COMPLETED);
+    // 잔액을 먼저 갱신한 뒤 포인트 내역 저장
+    InOrder inOrder = inOrder(pointBulkRepository);
+    inOrder.verify(pointBulkRepository, times(1)).addUserPoints(deltaCaptor.capture(), any());
+    inOrder.verify(pointBulkRepository, times(1)).insertRefundPoints(eq(summary.getRefunds()), eq(PLUS), any());
+    assertEquals(HEAD_COUNT, deltaCaptor.getValue().size());
+    verify(purchaseRepository, never()).updateStatusByMeeting(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("50명 모임 주문 거절 정산 - 전액 환급, 주문 일괄 취소")
+  void settleDeniedMeetingOf50() {
+    // given
+    givenPayments(paymentsOf(HEAD_COUNT));
+
+    // when
+    SettlementDto.Summary summary = settlementService.settleDeniedMeeting(meeting);
+
+    // then
+    // 환급액 = 개인 주문 금액(8000) + 배달비(5000) + 공동 주문비(10000)
+    assertThat(summary.getRefunds()).allMatch(refund -> refund.getAmount() == 23000L);
+    assertEquals(23000L * HEAD_COUNT, summary.getTotalRefund());
+    assertEquals(0L, summary.getStorePaymentAmount());
+
+    verify(pointBulkRepository, times(1)).insertRefundPoints(anyList(), eq(PLUS), any());
+    verify(pointBulkRepository, times(1)).addUserPoints(anyMap(), any());
+    verify(purchaseRepository, times(1)).updateStatusByMeeting(eq(meeting), eq(PAYMENT_COMPLETED), eq(CANCEL), any());
+  }
+
+  @Test
+  @DisplayName("주문별 최신 결제 스냅샷만 정산")
+  void settleWithLatestPaymentOnly() {
+    // given
+    List<PurchasePayment> payments = paymentsOf(2);
+    // 1번 주문의 이전 스냅샷 (최신 스냅샷 뒤에 정렬되어 조회됨)
+    payments.add(1, payment(100L, payments.getFirst().getPurchase()));
+    when(purchasePaymentRepository.findAllByMeetingAndPurchaseStatus(meeting, PAYMENT_COMPLETED))
+        .thenReturn(payments);
+    when(purchaseRepository.countByMeetingAndStatus(meeting, PAYMENT_COMPLETED)).thenReturn(2L);
+
+    // when
+    SettlementDto.Summary summary = settlementService.settleDeniedMeeting(meeting);
+
+    // then
+    assertEquals(2, summary.getParticipantCount());
+    assertEquals(1L, summary.getRefunds().getFirst().getPurchasePaymentId());
+  }
+
+  @Test
+  @DisplayName("결제 스냅샷이 없는 주문이 있으면 정산 실패")
+  void settleFailWhenPaymentMissing() {
+    // given
+    when(purchasePaymentRepository.findAllByMeetingAndPurchaseStatus(meeting, PAYMENT_COMPLETED))
+        .thenReturn(paymentsOf(2));
+    when(purchaseRepository.countByMeetingAndStatus(meeting, PAYMENT_COMPLETED)).thenReturn(3L);
+
+    // when
+    CustomException exception =
+        assertThrows(CustomException.class, () -> settlementService.settleConfirmedMeeting(meeting));
+
+    // then
+    assertEquals(PURCHASE_PAYMENT_NOT_FOUND, exception.getErrorCode());
+    verify(pointBulkRepository, never()).insertRefundPoints(anyList(), any(), any());
+  }
+
+  private void givenPayments(List<PurchasePayment> payments) {
+    when(purchasePaymentRepository.findAllByMeetingAndPurchaseStatus(meeting, PAYMENT_COMPLETED))
+        .thenReturn(payments);
+    when(purchaseRepository.countByMeetingAndStatus(meeting, PAYMENT_COMPLETED))
+        .thenReturn((long) payments.size());
+  }
+
+  private List<PurchasePayment> paymentsOf(int headCount) {
+    List<PurchasePayment> payments = new ArrayList<>();
+    for (long i = 1; i <= headCount; i++) {
+      Purchase purchase = Purchase.builder()
+          .id(i).meeting(meeting).user(User.builder().id(i).build())
+          .status(PAYMENT_COMPLETED)
+          .build();
+      payments.add(payment(i, purchase));
+    }
+    return payments;
+  }
+
+  private PurchasePayment payment(Long id, Purchase purchase) {
+    return PurchasePayment.builder()
+        .id(id).purchase(purchase)
+        .deliveryPrice(5000L).deliveryFee(5000L)
+        .teamPurchasePrice(10000L).teamPurchaseFee(10000L)
+        .individualPurchasePrice(8000L)
+        .point(0L)
+        .build();
+  }
+}
@@ -0,0 +1,30 @@
+package com.zerobase.babdeusilbun.service;
+
+import static com.zerobase.babdeusilbun.util.TestQueryCountUtility.assertOneFewerStatement;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class SnapshotServiceApiTest {
+
+  @Autowired
+  private SnapshotService snapshotService;
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  @DisplayName("포인트 스냅샷 리스트 조회 - 인증된 회원 본인이면 회원 조회 쿼리 생략")
+  void getPointSnapshotListByCurrentActorQueryCount() {
+    assertOneFewerStatement(entityManager, 1L,
+        () -> snapshotService.getPointSnapshotList(1L, PageRequest.of(0, 10)));
+  }
+}
@@ -28,7 +28,7 @@ import com.zerobase.babdeusilbun.repository.PurchasePaymentRepository;
 import com.zerobase.babdeusilbun.repository.PurchaseRepository;
 import com.zerobase.babdeusilbun.repository.TeamPurchasePaymentRepository;
 import com.zerobase.babdeusilbun.repository.TeamPurchaseRepository;
-import com.zerobase.babdeusilbun.repository.UserRepository;
+import com.zerobase.babdeusilbun.security.component.CurrentActor;
 import com.zerobase.babdeusilbun.service.impl.SnapshotServiceImpl;
 import java.util.List;
 import java.util.Optional;
@@ -49,7 +49,7 @@ class SnapshotServiceImplTest {
   @InjectMocks
   private SnapshotServiceImpl snapshotService;
   @Mock
-  private UserRepository userRepository;
+  private CurrentActor currentActor;
   @Mock
   private MeetingRepository meetingRepository;
   @Mock
@@ -77,7 +77,7 @@ class SnapshotServiceImplTest {
 
     Page<TeamPurchasePayment> page = new PageImpl<>(List.of(teamPurchasePayment), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
     when(teamPurchasePaymentRepository.findByMeeting(meeting, pageable)).thenReturn(page);
@@ -106,7 +106,7 @@ class SnapshotServiceImplTest {
 
     Page<TeamPurchasePayment> page = new PageImpl<>(List.of(teamPurchasePayment), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(false);
 //    when(teamPurchasePaymentRepository.findByMeeting(meeting, pageable)).thenReturn(page);
@@ -133,7 +133,7 @@ class SnapshotServiceImplTest {
 
     Page<TeamPurchasePayment> page = new PageImpl<>(List.of(teamPurchasePayment), pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
 //    when(teamPurchasePaymentRepository.findByMeeting(meeting, pageable)).thenReturn(page);
@@ -162,7 +162,7 @@ class SnapshotServiceImplTest {
     Page<IndividualPurchasePayment> page = new PageImpl<>(List.of(individualPurchasePayment),
         pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
     when(individualPurchasePaymentRepository.findAllByUserAndMeeting(user, meeting,
@@ -194,7 +194,7 @@ class SnapshotServiceImplTest {
     Page<IndividualPurchasePayment> page = new PageImpl<>(List.of(individualPurchasePayment),
         pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(false);
 //    when(individualPurchasePaymentRepository.findAllByUserAndMeeting(user, meeting, pageable)).thenReturn(page);
@@ -223,7 +223,7 @@ class SnapshotServiceImplTest {
     Page<IndividualPurchasePayment> page = new PageImpl<>(List.of(individualPurchasePayment),
         pageable, 1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
 //    when(individualPurchasePaymentRepository.findAllByUserAndMeeting(user, meeting, pageable)).thenReturn(page);
@@ -245,7 +245,7 @@ class SnapshotServiceImplTest {
 
     PurchasePayment purchasePayment = PurchasePayment.builder().id(1L).build();
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
     when(purchasePaymentRepository.findByMeetingAndUser(meeting, user))
@@ -268,7 +268,7 @@ class SnapshotServiceImplTest {
 
     PurchasePayment purchasePayment = PurchasePayment.builder().id(1L).build();
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(false);
 //    when(purchasePaymentRepository.findByMeetingAndUser(meeting, user))
@@ -290,7 +290,7 @@ class SnapshotServiceImplTest {
     Meeting meeting = Meeting.builder().id(1L).purchaseType(DINING_TOGETHER).build();
     Payment payment = Payment.builder().id(1L).build();
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(true);
     when(paymentRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(payment));
@@ -312,7 +312,7 @@ class SnapshotServiceImplTest {
 
     PurchasePayment purchasePayment = PurchasePayment.builder().id(1L).build();
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(currentActor.getUser(1L)).thenReturn(user);
     when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
     when(purchaseRepository.existsByMeetingAndUser(meeting, user)).thenReturn(false);
 //    when(paymentRepository.findByMeetingAndUser(meeting, user)).thenReturn(Optional.of(payment));
@@ -0,0 +1,136 @@
+package com.zerobase.babdeusilbun.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zerobase.babdeusilbun.domain.Store;
+import com.zerobase.babdeusilbun.domain.StoreCard;
+import com.zerobase.babdeusilbun.domain.StoreCardCategory;
+import com.zerobase.babdeusilbun.repository.StoreCardCategoryRepository;
+import com.zerobase.babdeusilbun.repository.StoreCardRepository;
+import com.zerobase.babdeusilbun.repository.StoreCategoryRepository;
+import com.zerobase.babdeusilbun.repository.StoreImageRepository;
+import com.zerobase.babdeusilbun.repository.StoreRepository;
+import com.zerobase.babdeusilbun.repository.StoreSchoolRepository;
+import com.zerobase.babdeusilbun.service.impl.StoreCardServiceImpl;
+import com.zerobase.babdeusilbun.util.TestStoreUtility;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class StoreCardServiceTest {
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private StoreCardRepository storeCardRepository;
+
+  @Mock
+  private StoreCardCategoryRepository storeCardCategoryRepository;
+
+  @Mock
+  private StoreSchoolRepository storeSchoolRepository;
+
+  @Mock
+  private StoreCategoryRepository storeCategoryRepository;
+
+  @Mock
+  private StoreImageRepository imageRepository;
+
+  @InjectMocks
+  private StoreCardServiceImpl storeCardService;
+
+  @Test
+  @DisplayName("매장 카드 재생성 - 학교별 카드와 카드별 카테고리 생성")
+  void refreshStoreSuccess() {
+    //given
+    Store store = TestStoreUtility.getStore();
+
+    when(storeSchoolRepository.findSchoolIdsByStore(store)).thenReturn(List.of(1L, 2L));
+    when(storeCategoryRepository.findCategoryIdsByStore(store)).thenReturn(List.of(3L, 4L));
+    when(imageRepository.findFirstByStoreAndIsRepresentativeTrue(store)).thenReturn(Optional.empty());
+    when(storeCardRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    storeCardService.refreshStore(store);
+
+    //then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<StoreCard>> captor = ArgumentCaptor.forClass(List.class);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<StoreCardCategory>> categoryCaptor = ArgumentCaptor.forClass(List.class);
+    verify(storeCardCategoryRepository).deleteAllByStoreId(store.getId());
+    verify(storeCardRepository).deleteAllByStoreId(store.getId());
+    verify(storeCardRepository).saveAll(captor.capture());
+    verify(storeCardCategoryRepository).saveAll(categoryCaptor.capture());
+
+    List<StoreCard> cards = captor.getValue();
+    assertEquals(2, cards.size());
+    assertEquals(1L, cards.get(0).getSchoolId());
+    assertEquals(2L, cards.get(1).getSchoolId());
+    assertEquals(store.getName(), cards.get(0).getName());
+    assertNull(cards.get(0).getThumbnailUrl());
+
+    List<StoreCardCategory> categories = categoryCaptor.getValue();
+    assertEquals(4, categories.size());
+    assertEquals(1L, categories.get(0).getSchoolId());
+    assertEquals(3L, categories.get(0).getCategoryId());
+    assertEquals(2L, categories.get(3).getSchoolId());
+    assertEquals(4L, categories.get(3).getCategoryId());
+  }
+
+  @Test
+  @DisplayName("카테고리 변경 - 기존 카드의 카테고리만 다시 생성")
+  void refreshCategoriesSuccess() {
+    //given
+    Store store = TestStoreUtility.getStore();
+    StoreCard card = StoreCard.builder().id(10L).storeId(store.getId()).schoolId(1L).build();
+
+    when(storeCardRepository.findAllByStoreId(store.getId())).thenReturn(List.of(card));
+    when(storeCategoryRepository.findCategoryIdsByStore(store)).thenReturn(List.of(3L));
+
+    //when
+    storeCardService.refreshCategories(store);
+
+    //then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<StoreCardCategory>> categoryCaptor = ArgumentCaptor.forClass(List.class);
+    verify(storeCardCategoryRepository).deleteAllByStoreId(store.getId());
+    verify(storeCardCategoryRepository).saveAll(categoryCaptor.capture());
+
+    StoreCardCategory category = categoryCaptor.getValue().get(0);
+    assertEquals(10L, category.getStoreCardId());
+    assertEquals(1L, category.getSchoolId());
+    assertEquals(3L, category.getCategoryId());
+  }
+
+  @Test
+  @DisplayName("매장 카드 재생성 - 배달 가능 학교가 없으면 카드 삭제만 수행")
+  void refreshStoreWithoutSchool() {
+    //given
+    Store store = TestStoreUtility.getStore();
+
+    when(storeSchoolRepository.findSchoolIdsByStore(store)).thenReturn(Collections.emptyList());
+
+    //when
+    storeCardService.refreshStore(store);
+
+    //then
+    verify(storeCardCategoryRepository).deleteAllByStoreId(store.getId());
+    verify(storeCardRepository).deleteAllByStoreId(store.getId());
+    verify(storeCardRepository, never()).saveAll(any());
+  }
+}
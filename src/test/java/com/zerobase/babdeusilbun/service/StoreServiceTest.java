@@ -5,6 +5,7 @@ import static com.zerobase.babdeusilbun.exception.ErrorCode.ENTREPRENEUR_NOT_FOU
 import static com.zerobase.babdeusilbun.exception.ErrorCode.FAILED_DELETE_FILE;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.NO_AUTH_ON_STORE;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.NO_IMAGE_ON_STORE;
+import static com.zerobase.babdeusilbun.exception.ErrorCode.PARAMETER_INVALID;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.STORE_IMAGE_NOT_FOUND;
 import static com.zerobase.babdeusilbun.exception.ErrorCode.STORE_NOT_FOUND;
 import static com.zerobase.babdeusilbun.util.ImageUtility.STORE_IMAGE_FOLDER;
@@ -15,23 +16,28 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 import com.zerobase.babdeusilbun.component.ImageComponent;
+import com.zerobase.babdeusilbun.component.StoreSearchIndex;
 import com.zerobase.babdeusilbun.domain.Category;
 import com.zerobase.babdeusilbun.domain.Entrepreneur;
 import com.zerobase.babdeusilbun.domain.Holiday;
 import com.zerobase.babdeusilbun.domain.School;
 import com.zerobase.babdeusilbun.domain.Store;
 import com.zerobase.babdeusilbun.domain.StoreCategory;
+import com.zerobase.babdeusilbun.domain.StoreCard;
 import com.zerobase.babdeusilbun.domain.StoreImage;
 import com.zerobase.babdeusilbun.domain.StoreSchool;
 import com.zerobase.babdeusilbun.dto.AddressDto;
 import com.zerobase.babdeusilbun.dto.CategoryDto.IdsRequest;
+import com.zerobase.babdeusilbun.dto.CursorDto;
 import com.zerobase.babdeusilbun.dto.CategoryDto.Information;
 import com.zerobase.babdeusilbun.dto.EntrepreneurDto;
 import com.zerobase.babdeusilbun.dto.HolidayDto;
@@ -51,11 +57,13 @@ import com.zerobase.babdeusilbun.repository.EntrepreneurRepository;
 import com.zerobase.babdeusilbun.repository.HolidayRepository;
 import com.zerobase.babdeusilbun.repository.MenuRepository;
 import com.zerobase.babdeusilbun.repository.SchoolRepository;
+import com.zerobase.babdeusilbun.repository.StoreCardRepository;
 import com.zerobase.babdeusilbun.repository.StoreCategoryRepository;
 import com.zerobase.babdeusilbun.repository.StoreImageRepository;
 import com.zerobase.babdeusilbun.repository.StoreRepository;
 import com.zerobase.babdeusilbun.repository.StoreSchoolRepository;
 import com.zerobase.babdeusilbun.service.impl.StoreServiceImpl;
+import com.zerobase.babdeusilbun.util.CursorUtility;
 import com.zerobase.babdeusilbun.util.TestEntrepreneurUtility;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -105,6 +113,15 @@ public class StoreServiceTest {
   @Mock
   private MenuRepository menuRepository;
 
+  @Mock
+  private StoreCardRepository storeCardRepository;
+
+  @Mock
+  private StoreCardService storeCardService;
+
+  @Mock
+  private StoreSearchIndex storeSearchIndex;
+
   @Mock
   private ImageComponent imageComponent;
 
@@ -1603,4 +1620,62 @@ public class StoreServiceTest {
         CustomException.class, () -> storeService.getThumbnail(1L));
     assertEquals(STORE_NOT_FOUND, exception.getErrorCode());
   }
+
+  @DisplayName("주문 가능 가게 커서 조회 성공(다음 커서 존재)")
+  @Test
+  void getAvailStoreListByCursorSuccess() {
+    //given
+    List<StoreCard> storeCards = List.of(
+        cursorStoreCard(1L, 1000L), cursorStoreCard(2L, 1000L), cursorStoreCard(3L, 2000L));
+
+    //when
+    when(storeCardRepository.getAvailStoreCardListByCursor(
+        eq(Collections.emptyList()), isNull(), eq(1L), eq("delivery-fee"), isNull(), eq(3)))
+        .thenReturn(storeCards);
+
+    //then
+    CursorDto.Response<StoreDto.Information> result = storeService.getAvailStoreListByCursor(
+        1L, null, null, 1L, "delivery-fee", null, 2);
+
+    assertEquals(2, result.getSize());
+    assertTrue(result.isHasNext());
+    assertNotNull(result.getNextCursor());
+
+    CursorDto.Key key = CursorUtility.decode(result.getNextCursor());
+    assertEquals(1000L, key.longValue());
+    assertEquals(2L, key.id());
+    verify(imageRepository, never()).findAllByStoreInOrderBySequenceAsc(any());
+  }
+
+  @DisplayName("주문 가능 가게 커서 조회 실패(잘못된 커서)")
+  @Test
+  void getAvailStoreListByCursorFailedInvalidCursor() {
+    //given
+
+    //when
+
+    //then
+    CustomException exception = assertThrows(CustomException.class,
+        () -> storeService.getAvailStoreListByCursor(
+            1L, null, null, 1L, "delivery-fee", "invalid-cursor", 2));
+    assertEquals(PARAMETER_INVALID, exception.getErrorCode());
+  }
+
+  private StoreCard cursorStoreCard(Long storeId, Long deliveryPrice) {
+    return StoreCard.builder()
+        .storeId(storeId)
+        .schoolId(1L)
+        .entrepreneurId(1L)
+        .name("가게" + storeId)
+        .description("설명")
+        .minPurchaseAmount(10000L)
+        .deliveryPrice(deliveryPrice)
+        .minDeliveryTime(30)
+        .maxDeliveryTime(60)
+        .address(createRequest.getAddress().toEntity())
+        .phoneNumber("01012345678")
+        .openTime(LocalTime.of(9, 0))
+        .closeTime(LocalTime.of(21, 0))
+        .build();
+  }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import com.zerobase.babdeusilbun.component.ChatRoomMembership;
 import com.zerobase.babdeusilbun.component.ImageComponent;
 import com.zerobase.babdeusilbun.domain.*;
 import com.zerobase.babdeusilbun.dto.UserDto.UpdateAccount;
@@ -15,6 +16,7 @@ import com.zerobase.babdeusilbun.repository.MajorRepository;
 import com.zerobase.babdeusilbun.repository.SchoolRepository;
 import com.zerobase.babdeusilbun.repository.UserRepository;
 import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import com.zerobase.babdeusilbun.security.component.PrincipalCache;
 import com.zerobase.babdeusilbun.service.impl.UserServiceImpl;
 import com.zerobase.babdeusilbun.util.TestUserUtility;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +47,12 @@ public class UserServiceTest {
   @Mock
   private PasswordEncoder passwordEncoder;
 
+  @Mock
+  private PrincipalCache principalCache;
+
+  @Mock
+  private ChatRoomMembership chatRoomMembership;
+
   @InjectMocks
   private UserServiceImpl userService;
 
@@ -0,0 +1,46 @@
+package com.zerobase.babdeusilbun.util;
+
+import static com.zerobase.babdeusilbun.security.type.Role.ROLE_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zerobase.babdeusilbun.security.dto.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class TestQueryCountUtility {
+
+  /**
+   * 인증된 회원 본인이 요청하면 회원 조회 쿼리 한 번이 생략되는지 확인
+   * (hibernate.generate_statistics=true 필요)
+   */
+  public static void assertOneFewerStatement(
+      EntityManager entityManager, Long userId, Runnable action) {
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    CustomUserDetails userDetails =
+        new CustomUserDetails(userId, "ROLE_USER:testuser@test.com", ROLE_USER);
+
+    // 인증 정보 없음 (회원 조회)
+    entityManager.clear();
+    statistics.clear();
+    action.run();
+    long withoutActor = statistics.getPrepareStatementCount();
+
+    // 인증된 회원 본인 (참조만 사용)
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    try {
+      entityManager.clear();
+      statistics.clear();
+      action.run();
+
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(withoutActor - 1);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 두 서버 간 전파 처리량 측정 (-Dbenchmark=true 일 때만 실행)
+ * 전송 계층은 InMemoryBrokerFanOut 이므로 네트워크를 제외한 직렬화/브로커 처리 비용만 측정된다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BrokerFanOutBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(BrokerFanOutBenchmarkTest.class);
+
+  private static final int ROOM_COUNT = 100;
+  private static final int SUBSCRIBERS_PER_ROOM = 5;
+  private static final int WARM_UP_MESSAGES = 20_000;
+  private static final int MESSAGES = 200_000;
+
+  @Test
+  @DisplayName("두 서버 간 초당 메시지 처리량")
+  void messagesPerSecondAcrossTwoNodes() {
+    InMemoryBrokerFanOut brokerFanOut = new InMemoryBrokerFanOut();
+    EmbeddedStompNode nodeA = new EmbeddedStompNode(brokerFanOut, false);
+    EmbeddedStompNode nodeB = new EmbeddedStompNode(brokerFanOut, false);
+
+    for (int room = 0; room < ROOM_COUNT; room++) {
+      for (int subscriber = 0; subscriber < SUBSCRIBERS_PER_ROOM; subscriber++) {
+        nodeB.subscribe("session-" + room + "-" + subscriber, destination(room));
+      }
+    }
+
+    send(nodeA, WARM_UP_MESSAGES);
+
+    long startDeliveredCount = nodeB.getDeliveredCount();
+    long start = System.nanoTime();
+    send(nodeA, MESSAGES);
+    long elapsedNanos = System.nanoTime() - start;
+
+    long delivered = nodeB.getDeliveredCount() - startDeliveredCount;
+    double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+
+    log.info("fan-out benchmark: {} messages in {}s ({} msg/s, {} deliveries/s)",
+        MESSAGES, String.format("%.2f", seconds), Math.round(MESSAGES / seconds),
+        Math.round(delivered / seconds));
+
+    assertThat(delivered).isEqualTo((long) MESSAGES * SUBSCRIBERS_PER_ROOM);
+
+    nodeA.stop();
+    nodeB.stop();
+  }
+
+  private void send(EmbeddedStompNode node, int count) {
+    for (int i = 0; i < count; i++) {
+      node.send(destination(i % ROOM_COUNT), Map.of("content", "message-" + i));
+    }
+  }
+
+  private String destination(int room) {
+    return "/meeting/chat-rooms/" + room;
+  }
+}
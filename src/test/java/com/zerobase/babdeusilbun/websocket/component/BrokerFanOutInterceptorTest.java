@@ -0,0 +1,79 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+class BrokerFanOutInterceptorTest {
+
+  private static final String DESTINATION = "/meeting/chat-rooms/1";
+
+  private InMemoryBrokerFanOut brokerFanOut;
+  private EmbeddedStompNode nodeA;
+  private EmbeddedStompNode nodeB;
+
+  @BeforeEach
+  void setUp() {
+    brokerFanOut = new InMemoryBrokerFanOut();
+    nodeA = new EmbeddedStompNode(brokerFanOut);
+    nodeB = new EmbeddedStompNode(brokerFanOut);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.stop();
+    nodeB.stop();
+  }
+
+  @Test
+  @DisplayName("다른 서버에 연결된 구독자에게 한 번씩 전달")
+  void fanOutToOtherNode() {
+    // given
+    nodeA.subscribe("session-a", DESTINATION);
+    nodeB.subscribe("session-b", DESTINATION);
+
+    // when
+    nodeA.send(DESTINATION, Map.of("content", "hello"));
+
+    // then
+    assertThat(nodeA.getDeliveredMessages()).hasSize(1);
+    assertThat(nodeB.getDeliveredMessages()).hasSize(1);
+    assertThat(brokerFanOut.getPublishedCount()).isEqualTo(1);
+
+    Message<?> delivered = nodeB.getDeliveredMessages().getFirst();
+    assertThat(SimpMessageHeaderAccessor.getSessionId(delivered.getHeaders())).isEqualTo("session-b");
+    assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo(DESTINATION);
+    assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"content\":\"hello\"}");
+  }
+
+  @Test
+  @DisplayName("구독하지 않은 방의 메시지는 전달하지 않음")
+  void fanOutOnlyToSubscribers() {
+    // given
+    nodeB.subscribe("session-b", "/meeting/chat-rooms/2");
+
+    // when
+    nodeA.send(DESTINATION, Map.of("content", "hello"));
+
+    // then
+    assertThat(nodeB.getDeliveredMessages()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("브로커 접두사 외의 목적지는 전파하지 않음")
+  void notFanOutOtherPrefix() {
+    // when
+    nodeA.send("/socket/chat-rooms/1", Map.of("content", "hello"));
+
+    // then
+    assertThat(brokerFanOut.getPublishedCount()).isZero();
+  }
+}
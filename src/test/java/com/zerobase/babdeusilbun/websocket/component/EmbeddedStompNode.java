@@ -0,0 +1,84 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import static com.zerobase.babdeusilbun.util.ChatUtility.SEND_TO_CLIENT_PREFIX;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * 테스트용 서버 한 대의 STOMP 브로커 구성
+ * (브로커 채널 + 전파 인터셉터 + simple broker, 클라이언트로 나가는 메시지는 수집)
+ */
+public class EmbeddedStompNode {
+
+  private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+  private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+  private final SimpleBrokerMessageHandler broker;
+  private final SimpMessagingTemplate messagingTemplate;
+
+  private final List<Message<?>> deliveredMessages = new CopyOnWriteArrayList<>();
+  private final AtomicLong deliveredCount = new AtomicLong();
+  private final boolean recordMessages;
+
+  public EmbeddedStompNode(BrokerFanOut brokerFanOut) {
+    this(brokerFanOut, true);
+  }
+
+  public EmbeddedStompNode(BrokerFanOut brokerFanOut, boolean recordMessages) {
+    this.recordMessages = recordMessages;
+
+    BrokerFanOutInterceptor interceptor = new BrokerFanOutInterceptor(brokerFanOut, brokerChannel);
+    brokerChannel.addInterceptor(interceptor);
+
+    clientOutboundChannel.subscribe(message -> {
+      deliveredCount.incrementAndGet();
+      if (this.recordMessages) {
+        deliveredMessages.add(message);
+      }
+    });
+
+    broker = new SimpleBrokerMessageHandler(
+        new ExecutorSubscribableChannel(), clientOutboundChannel, brokerChannel,
+        List.of(SEND_TO_CLIENT_PREFIX));
+    broker.start();
+
+    messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+    messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+    interceptor.subscribe();
+  }
+
+  public void subscribe(String sessionId, String destination) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId("sub-" + sessionId);
+    accessor.setDestination(destination);
+
+    broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+  }
+
+  public void send(String destination, Object payload) {
+    messagingTemplate.convertAndSend(destination, payload);
+  }
+
+  public void stop() {
+    broker.stop();
+  }
+
+  public List<Message<?>> getDeliveredMessages() {
+    return deliveredMessages;
+  }
+
+  public long getDeliveredCount() {
+    return deliveredCount.get();
+  }
+}
@@ -0,0 +1,43 @@
+package com.zerobase.babdeusilbun.websocket.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.babdeusilbun.websocket.dto.BrokerMessage;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 전파 브로커 (Redis pub/sub 대체)
+ * 여러 노드가 같은 인스턴스를 공유하며, Redis 와 같이 json 으로 직렬화해 모든 구독자에게 전달한다.
+ */
+public class InMemoryBrokerFanOut implements BrokerFanOut {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<Consumer<BrokerMessage>> consumers = new CopyOnWriteArrayList<>();
+  private final AtomicLong publishedCount = new AtomicLong();
+
+  @Override
+  public void publish(BrokerMessage message) {
+    publishedCount.incrementAndGet();
+
+    try {
+      String body = objectMapper.writeValueAsString(message);
+      for (Consumer<BrokerMessage> consumer : consumers) {
+        consumer.accept(objectMapper.readValue(body, BrokerMessage.class));
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<BrokerMessage> consumer) {
+    consumers.add(consumer);
+  }
+
+  public long getPublishedCount() {
+    return publishedCount.get();
+  }
+}